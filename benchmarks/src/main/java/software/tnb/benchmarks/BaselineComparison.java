@@ -0,0 +1,131 @@
+package software.tnb.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the JMH results (in the JSON format) with the baseline results.
+ * <p>
+ * A benchmark is considered regressed when its score is worse than the baseline score by more than the threshold (in percent) and the
+ * difference is bigger than the sum of the score errors of both runs, so that the noisy benchmarks are not reported. The benchmarks
+ * are matched by their name, mode and parameters; the benchmarks that are only in one of the results are ignored.
+ */
+public final class BaselineComparison {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private BaselineComparison() {
+    }
+
+    /**
+     * Reads the results written by JMH with the JSON result format.
+     *
+     * @param file results file
+     * @return list of results
+     */
+    public static List<Result> read(Path file) {
+        try {
+            final List<Result> results = new ArrayList<>();
+            for (JsonNode node : MAPPER.readTree(file.toFile())) {
+                final Map<String, String> params = new TreeMap<>();
+                if (node.has("params")) {
+                    for (Iterator<Map.Entry<String, JsonNode>> it = node.get("params").fields(); it.hasNext();) {
+                        final Map.Entry<String, JsonNode> param = it.next();
+                        params.put(param.getKey(), param.getValue().asText());
+                    }
+                }
+                final JsonNode metric = node.get("primaryMetric");
+                results.add(new Result(node.get("benchmark").asText(), node.get("mode").asText(), params, metric.get("score").asDouble(),
+                    metric.path("scoreError").asDouble(0), metric.get("scoreUnit").asText()));
+            }
+            return results;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read benchmark results from " + file, e);
+        }
+    }
+
+    /**
+     * Compares the current results with the baseline.
+     *
+     * @param baseline baseline results
+     * @param current current results
+     * @param threshold allowed slowdown in percent
+     * @return comparison of each benchmark present in both results
+     */
+    public static List<Comparison> compare(List<Result> baseline, List<Result> current, double threshold) {
+        final Map<String, Result> baselineByKey = new LinkedHashMap<>();
+        baseline.forEach(r -> baselineByKey.put(r.key(), r));
+
+        final List<Comparison> comparisons = new ArrayList<>();
+        for (Result result : current) {
+            final Result base = baselineByKey.get(result.key());
+            if (base == null || !base.unit().equals(result.unit())) {
+                continue;
+            }
+            // positive change is always a slowdown, regardless of whether lower or higher score is better
+            final double change = (result.score() - base.score()) / base.score() * 100 * (result.higherIsBetter() ? -1 : 1);
+            final double errors = sanitize(base.error()) + sanitize(result.error());
+            final boolean regression = change > threshold && Math.abs(result.score() - base.score()) > errors;
+            comparisons.add(new Comparison(base, result, change, regression));
+        }
+        return comparisons;
+    }
+
+    /**
+     * Creates a human-readable report of the comparison.
+     *
+     * @param comparisons comparisons
+     * @return report
+     */
+    public static String report(List<Comparison> comparisons) {
+        final StringBuilder sb = new StringBuilder();
+        for (Comparison c : comparisons) {
+            sb.append(String.format("%-10s %-90s %14.3f -> %14.3f %-8s %+7.1f%%%n", c.regression() ? "REGRESSION" : "ok", c.current().key(),
+                c.baseline().score(), c.current().score(), c.current().unit(), c.change()));
+        }
+        return sb.toString();
+    }
+
+    private static double sanitize(double error) {
+        return Double.isNaN(error) ? 0 : error;
+    }
+
+    /**
+     * Single benchmark result.
+     *
+     * @param benchmark benchmark method name
+     * @param mode benchmark mode (thrpt, avgt, sample, ss)
+     * @param params benchmark parameters
+     * @param score score
+     * @param error score error
+     * @param unit score unit
+     */
+    public record Result(String benchmark, String mode, Map<String, String> params, double score, double error, String unit) {
+        public String key() {
+            return benchmark + (params.isEmpty() ? "" : params.toString()) + " (" + mode + ")";
+        }
+
+        public boolean higherIsBetter() {
+            return "thrpt".equals(mode);
+        }
+    }
+
+    /**
+     * Comparison of the current result with the baseline result.
+     *
+     * @param baseline baseline result
+     * @param current current result
+     * @param change slowdown in percent, negative values mean speedup
+     * @param regression whether the slowdown is a regression
+     */
+    public record Comparison(Result baseline, Result current, double change, boolean regression) {
+    }
+}
@@ -0,0 +1,60 @@
+package software.tnb.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Runs the benchmarks and optionally compares the results with the baseline.
+ * <p>
+ * Configuration (system properties):
+ * <ul>
+ *     <li>benchmark.include - regular expression selecting the benchmarks to run, all benchmarks by default</li>
+ *     <li>benchmark.results - path to the JSON results file, target/benchmarks/results.json by default</li>
+ *     <li>benchmark.baseline - path to the JSON results file of the baseline run, if not set, no comparison is done</li>
+ *     <li>benchmark.threshold - allowed slowdown in percent, 10 by default</li>
+ * </ul>
+ * The process exits with a non-zero code when a regression is detected.
+ * <p>
+ * Usage: {@code mvn -pl benchmarks -am package -Pbenchmark -Dbenchmark.include=LogBenchmark -Dbenchmark.baseline=baseline.json}
+ */
+public final class BenchmarkRunner {
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        final Path results = Path.of(System.getProperty("benchmark.results", "target/benchmarks/results.json"));
+        Files.createDirectories(results.toAbsolutePath().getParent());
+
+        final Options options = new OptionsBuilder()
+            .include(System.getProperty("benchmark.include", ".*"))
+            .resultFormat(ResultFormatType.JSON)
+            .result(results.toString())
+            .build();
+        new Runner(options).run();
+        System.out.println("Benchmark results written to " + results.toAbsolutePath());
+
+        final String baseline = System.getProperty("benchmark.baseline", "");
+        if (baseline.isBlank()) {
+            return;
+        }
+        final double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "10"));
+        final List<BaselineComparison.Comparison> comparisons =
+            BaselineComparison.compare(BaselineComparison.read(Path.of(baseline)), BaselineComparison.read(results), threshold);
+        System.out.println("Comparison with the baseline " + baseline + " (threshold " + threshold + "%):");
+        System.out.print(BaselineComparison.report(comparisons));
+
+        final long regressions = comparisons.stream().filter(BaselineComparison.Comparison::regression).count();
+        if (regressions > 0) {
+            System.out.println(regressions + " benchmark(s) regressed");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package software.tnb.benchmarks;
+
+import software.tnb.benchmarks.service.BenchmarkAccount;
+import software.tnb.common.account.loader.CachingCredentialsLoader;
+import software.tnb.common.account.loader.CredentialsLoader;
+import software.tnb.common.account.loader.YamlCredentialsLoader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link CredentialsLoader#get(List, Class)} with the credentials file containing 200 services. The account is created from
+ * two credentials ids (the second one updates the account created from the first one), the same way as the accounts with parent ids.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class CredentialsLoaderBenchmark {
+    private static final List<String> IDS = List.of("service-10", "service-150");
+
+    @Param({"false", "true"})
+    private boolean caching;
+
+    private CredentialsLoader loader;
+
+    @Setup
+    public void setup() throws Exception {
+        final CredentialsLoader yaml = new YamlCredentialsLoader(SyntheticData.credentials(200));
+        loader = caching ? new CachingCredentialsLoader(yaml) : yaml;
+    }
+
+    @Benchmark
+    public BenchmarkAccount get() {
+        return loader.get(IDS, BenchmarkAccount.class);
+    }
+}
@@ -0,0 +1,79 @@
+package software.tnb.benchmarks;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.utils.IOUtils;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link IOUtils} methods used when deploying the integrations (the tar is used for the binary openshift builds).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class IOUtilsBenchmark {
+    // number of files in the project
+    @Param({"50", "500"})
+    private int files;
+
+    private Path dir;
+    private Path project;
+    private Path template;
+    private Path output;
+    private Properties variables;
+
+    @Setup
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("tnb-io-benchmark");
+        project = dir.resolve("project");
+        SyntheticData.project(project, files, 4 * 1024);
+        template = dir.resolve("template.yaml");
+        variables = SyntheticData.template(template, files, 64 * 1024);
+        output = dir.resolve("output.yaml");
+        System.setProperty(TestConfiguration.APP_LOCATION, dir.toString());
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.clearProperty(TestConfiguration.APP_LOCATION);
+        FileUtils.deleteQuietly(dir.toFile());
+    }
+
+    @Benchmark
+    public long createTar() throws IOException {
+        final Path tar = IOUtils.createTar(project);
+        final long size = Files.size(tar);
+        Files.delete(tar);
+        return size;
+    }
+
+    /**
+     * Replaces the variables (the number of variables is the same as the number of files) in a 64kB template.
+     */
+    @Benchmark
+    public Path replaceVariables() {
+        IOUtils.replaceVariables(template, variables, output);
+        return output;
+    }
+}
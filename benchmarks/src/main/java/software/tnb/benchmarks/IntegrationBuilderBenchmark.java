@@ -0,0 +1,41 @@
+package software.tnb.benchmarks;
+
+import software.tnb.benchmarks.routes.NestedRoutes;
+import software.tnb.benchmarks.routes.SampleRouteBuilder;
+import software.tnb.product.integration.builder.IntegrationBuilder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IntegrationBuilder#fromRouteBuilder}, that parses the route builder source using JavaParser.
+ * <p>
+ * The sources are resolved from the module root of the route builder class, so the benchmarks must run from the compiled classes
+ * (not from a jar).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class IntegrationBuilderBenchmark {
+    @Benchmark
+    public IntegrationBuilder fromTopLevelRouteBuilder() {
+        return new IntegrationBuilder("benchmark").fromRouteBuilder(new SampleRouteBuilder());
+    }
+
+    @Benchmark
+    public IntegrationBuilder fromNestedRouteBuilder() {
+        return new IntegrationBuilder("benchmark").fromRouteBuilder(new NestedRoutes.NestedRouteBuilder());
+    }
+}
@@ -0,0 +1,99 @@
+package software.tnb.benchmarks;
+
+import software.tnb.benchmarks.routes.NestedRoutes;
+import software.tnb.benchmarks.routes.SampleRouteBuilder;
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.product.cq.configuration.QuarkusConfiguration;
+import software.tnb.product.integration.Resource;
+import software.tnb.product.integration.builder.IntegrationBuilder;
+import software.tnb.product.integration.generator.IntegrationGenerator;
+
+import org.apache.commons.io.FileUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link IntegrationGenerator#createFiles} - writing the route builder, additional classes, resources and application
+ * properties to the generated application.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class IntegrationGeneratorBenchmark {
+    @Param({"camelquarkus", "camelspringboot"})
+    private String product;
+
+    private Path dir;
+    private Path appDir;
+    private IntegrationBuilder integrationBuilder;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        System.setProperty(TestConfiguration.PRODUCT, product);
+        // the same defaults as the unit tests use, so that no test.properties file is needed
+        setIfAbsent(QuarkusConfiguration.QUARKUS_VERSION, QuarkusConfiguration.DEFAULT_QUARKUS_VERSION);
+        setIfAbsent(QuarkusConfiguration.QUARKUS_PLATFORM_GROUP_ID, QuarkusConfiguration.DEFAULT_QUARKUS_PLATFORM_GROUP_ID);
+        setIfAbsent(QuarkusConfiguration.QUARKUS_PLATFORM_ARTIFACT_ID, QuarkusConfiguration.DEFAULT_QUARKUS_PLATFORM_ARTIFACT_ID);
+        setIfAbsent(QuarkusConfiguration.QUARKUS_PLATFORM_VERSION, QuarkusConfiguration.DEFAULT_QUARKUS_VERSION);
+        setIfAbsent(QuarkusConfiguration.CAMEL_QUARKUS_VERSION, QuarkusConfiguration.DEFAULT_CAMEL_QUARKUS_VERSION);
+        setIfAbsent(QuarkusConfiguration.CAMEL_QUARKUS_PLATFORM_GROUP_ID, QuarkusConfiguration.DEFAULT_CAMEL_QUARKUS_PLATFORM_GROUP_ID);
+        setIfAbsent(QuarkusConfiguration.CAMEL_QUARKUS_PLATFORM_ARTIFACT_ID, QuarkusConfiguration.DEFAULT_CAMEL_QUARKUS_PLATFORM_ARTIFACT_ID);
+        setIfAbsent(QuarkusConfiguration.CAMEL_QUARKUS_PLATFORM_VERSION, QuarkusConfiguration.DEFAULT_CAMEL_QUARKUS_VERSION);
+        dir = Files.createTempDirectory("tnb-generator-benchmark");
+    }
+
+    @Setup(Level.Invocation)
+    public void createIntegrationBuilder() throws IOException {
+        // the builder is modified by the generator (customizers), so each invocation needs a new one
+        integrationBuilder = new IntegrationBuilder("benchmark")
+            .fromRouteBuilder(new SampleRouteBuilder())
+            .addClass(NestedRoutes.class)
+            .dependencies("kafka", "jms", "rest", "jackson");
+        for (int i = 0; i < 20; i++) {
+            integrationBuilder.addResource(new Resource("data/resource-" + i + ".txt", SyntheticData.log(50)));
+        }
+        for (int i = 0; i < 100; i++) {
+            integrationBuilder.addToApplicationProperties("benchmark.property." + i, "value-" + i);
+        }
+        appDir = dir.resolve("app");
+        FileUtils.deleteDirectory(appDir.toFile());
+        Files.createDirectories(appDir.resolve("src/main/resources"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        System.clearProperty(TestConfiguration.PRODUCT);
+        FileUtils.deleteQuietly(dir.toFile());
+    }
+
+    private static void setIfAbsent(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    @Benchmark
+    public Path createFiles() {
+        IntegrationGenerator.createFiles(integrationBuilder, appDir);
+        return appDir;
+    }
+}
@@ -0,0 +1,94 @@
+package software.tnb.benchmarks;
+
+import software.tnb.product.log.Log;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the {@link Log} queries used while waiting for the integration to start.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class LogBenchmark {
+    private static final String STARTED = ".*Apache Camel .* started in .*";
+
+    @Param({"10000", "100000"})
+    private int lines;
+
+    private String content;
+    private Log polledLog;
+
+    @Setup
+    public void setup() {
+        content = SyntheticData.log(lines);
+        polledLog = new InMemoryLog(content);
+        polledLog.containsRegex(STARTED);
+    }
+
+    /**
+     * The first query of the log - the whole content is split into lines and scanned.
+     */
+    @Benchmark
+    public boolean containsRegexFirstQuery() {
+        return new InMemoryLog(content).containsRegex(STARTED);
+    }
+
+    /**
+     * Repeated query of the log that didn't change since the last query (the typical wait loop).
+     */
+    @Benchmark
+    public boolean containsRegexRepeatedQuery() {
+        return polledLog.containsRegex(STARTED);
+    }
+
+    /**
+     * The first query of the log with a plain message.
+     */
+    @Benchmark
+    public boolean containsFirstQuery() {
+        return new InMemoryLog(content).contains("Apache Camel started");
+    }
+
+    private static final class InMemoryLog extends Log {
+        private final String content;
+        private boolean read;
+
+        private InMemoryLog(String content) {
+            this.content = content;
+        }
+
+        @Override
+        protected String readAppended() {
+            if (read) {
+                return "";
+            }
+            read = true;
+            return content;
+        }
+
+        @Override
+        public String toString() {
+            return content;
+        }
+
+        @Override
+        public void save() {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package software.tnb.benchmarks;
+
+import software.tnb.benchmarks.service.BenchmarkService;
+import software.tnb.benchmarks.service.LocalBenchmarkService;
+import software.tnb.common.service.ServiceFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link ServiceFactory#create(Class)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j.level=WARN")
+public class ServiceFactoryBenchmark {
+    /**
+     * Abstract service - the implementation is looked up using the service loader and selected by the priority.
+     */
+    @Benchmark
+    public BenchmarkService createFromServiceLoader() {
+        return ServiceFactory.create(BenchmarkService.class);
+    }
+
+    /**
+     * Concrete service - the class is instantiated directly.
+     */
+    @Benchmark
+    public BenchmarkService createConcrete() {
+        return ServiceFactory.create(LocalBenchmarkService.class);
+    }
+
+    @Benchmark
+    public BenchmarkService createWithConfiguration() {
+        return ServiceFactory.create(BenchmarkService.class, c -> c.replicas(3));
+    }
+}
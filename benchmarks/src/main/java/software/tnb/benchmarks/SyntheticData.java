@@ -0,0 +1,106 @@
+package software.tnb.benchmarks;
+
+import software.tnb.common.utils.IOUtils;
+
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * Generates the synthetic inputs for the benchmarks. The data is generated from a fixed seed, so that each run uses the same inputs.
+ */
+public final class SyntheticData {
+    private static final String[] LEVELS = {"INFO ", "DEBUG", "WARN ", "TRACE"};
+    private static final String[] LOGGERS = {"io.quarkus", "org.apache.camel.impl.engine.AbstractCamelContext", "route1", "io.vertx.core",
+        "org.apache.kafka.clients.consumer.ConsumerConfig", "org.apache.camel.component.kafka.KafkaConsumer"};
+
+    private SyntheticData() {
+    }
+
+    /**
+     * Generates the integration log similar to the log of the running camel application - colored level, logger and a message.
+     *
+     * @param lines number of lines
+     * @return log content
+     */
+    public static String log(int lines) {
+        final Random random = new Random(lines);
+        final StringBuilder sb = new StringBuilder(lines * 120);
+        for (int i = 0; i < lines; i++) {
+            sb.append(String.format("2024-01-01 10:%02d:%02d,%03d \u001B[32m%s\u001B[0m [%s] (executor-thread-%d) Exchange[ExchangePattern: InOnly, "
+                    + "BodyType: String, Body: message-%d-%08x]%n", i / 60 % 60, i % 60, i % 1000, LEVELS[random.nextInt(LEVELS.length)],
+                LOGGERS[random.nextInt(LOGGERS.length)], random.nextInt(16), i, random.nextInt()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Generates a directory structure similar to the generated maven project.
+     *
+     * @param dir target directory
+     * @param files number of files
+     * @param fileSize size of each file in bytes
+     */
+    public static void project(Path dir, int files, int fileSize) {
+        final Random random = new Random(files);
+        IOUtils.writeFile(dir.resolve("pom.xml"), text(random, fileSize));
+        for (int i = 1; i < files; i++) {
+            final Path file = i % 3 == 0
+                ? dir.resolve("src/main/resources/resource-" + i + ".properties")
+                : dir.resolve("src/main/java/com/test/pkg" + (i % 10) + "/Class" + i + ".java");
+            IOUtils.writeFile(file, text(random, fileSize));
+        }
+    }
+
+    /**
+     * Generates a template with the variable placeholders and the properties with their values.
+     *
+     * @param template template file
+     * @param variables number of variables
+     * @param size template size in bytes
+     * @return properties with the variable values
+     */
+    public static Properties template(Path template, int variables, int size) {
+        final Random random = new Random(variables);
+        final StringBuilder sb = new StringBuilder(size);
+        final Properties properties = new Properties();
+        for (int i = 0; i < variables; i++) {
+            properties.setProperty("variable." + i, "value-" + i);
+        }
+        while (sb.length() < size) {
+            sb.append(text(random, 80)).append(" ${variable.").append(random.nextInt(variables)).append("}\n");
+        }
+        IOUtils.writeFile(template, sb.toString());
+        return properties;
+    }
+
+    /**
+     * Generates the credentials yaml file in the format used by the YamlCredentialsLoader.
+     *
+     * @param services number of services
+     * @return credentials yaml
+     */
+    public static String credentials(int services) {
+        final StringBuilder sb = new StringBuilder("services:\n");
+        for (int i = 0; i < services; i++) {
+            sb.append("  service-").append(i).append(":\n")
+                .append("    credentials:\n")
+                .append("      username: user-").append(i).append('\n')
+                .append("      password: password-").append(i).append('\n')
+                .append("      url: https://service-").append(i).append(".example.com:8443/api/v1\n")
+                .append("      region: eu-west-").append(i % 3 + 1).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String text(Random random, int length) {
+        final StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append((char) ('a' + random.nextInt(26)));
+            if (random.nextInt(8) == 0) {
+                sb.append(random.nextInt(12) == 0 ? '\n' : ' ');
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,28 @@
+package software.tnb.benchmarks.routes;
+
+import software.tnb.benchmarks.SyntheticData;
+
+import org.apache.camel.builder.RouteBuilder;
+
+/**
+ * Class containing the route builder as a nested class, the same way as it is usually written in the tests.
+ */
+public class NestedRoutes {
+    private static final int LINES = 10;
+
+    public String log() {
+        return SyntheticData.log(LINES);
+    }
+
+    public static class NestedRouteBuilder extends RouteBuilder {
+        private final String endpoint = "direct:start";
+
+        @Override
+        public void configure() throws Exception {
+            from(endpoint)
+                .routeId("nested")
+                .log("${body}")
+                .to("mock:result");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package software.tnb.benchmarks.routes;
+
+import software.tnb.benchmarks.SyntheticData;
+
+import org.apache.camel.LoggingLevel;
+import org.apache.camel.builder.RouteBuilder;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route builder of a size similar to the route builders in the test suites - several routes, imports that are removed and final fields
+ * that are replaced by their runtime values.
+ */
+public class SampleRouteBuilder extends RouteBuilder {
+    private final String topic = "benchmark-topic";
+    private final int batchSize = 100;
+    private final String[] queues = new String[] {"queue-a", "queue-b", "queue-c"};
+    private final Class<?> bodyType = Map.class;
+
+    public SampleRouteBuilder() {
+    }
+
+    public SampleRouteBuilder(String unused) {
+        SyntheticData.log(1);
+    }
+
+    @Override
+    public void configure() throws Exception {
+        onException(IllegalArgumentException.class)
+            .handled(true)
+            .log(LoggingLevel.ERROR, "Unable to process ${body}: ${exception.message}")
+            .to("direct:errors");
+
+        from("timer:tick?period=1000")
+            .routeId("producer")
+            .setBody(simple("message-${date:now:yyyyMMddHHmmssSSS}"))
+            .to("kafka:" + topic);
+
+        from("kafka:" + topic + "?groupId=benchmark&autoOffsetReset=earliest")
+            .routeId("consumer")
+            .convertBodyTo(String.class)
+            .choice()
+                .when(body().contains("error"))
+                    .to("direct:errors")
+                .when(header("priority").isEqualTo("high"))
+                    .to("jms:queue:" + queues[0])
+                .otherwise()
+                    .to("jms:queue:" + queues[1])
+            .end();
+
+        from("jms:queue:" + queues[0])
+            .routeId("aggregator")
+            .aggregate(constant(true), (oldExchange, newExchange) -> {
+                if (oldExchange == null) {
+                    return newExchange;
+                }
+                oldExchange.getIn().setBody(oldExchange.getIn().getBody(String.class) + "," + newExchange.getIn().getBody(String.class));
+                return oldExchange;
+            })
+            .completionSize(batchSize)
+            .completionTimeout(5000)
+            .to("direct:store");
+
+        from("jms:queue:" + queues[1])
+            .routeId("splitter")
+            .split(body().tokenize(","))
+                .parallelProcessing()
+                .to("direct:store")
+            .end();
+
+        from("direct:store")
+            .routeId("store")
+            .setHeader("CamelFileName", simple("${exchangeId}.txt"))
+            .to("file:target/store");
+
+        from("direct:errors")
+            .routeId("errors")
+            .log(LoggingLevel.WARN, "Error message: ${body}")
+            .to("jms:queue:" + queues[2]);
+
+        from("rest:get:/messages/{id}")
+            .routeId("rest")
+            .process(exchange -> exchange.getIn().setBody(List.of(exchange.getIn().getHeader("id"), bodyType.getSimpleName())))
+            .marshal().json();
+    }
+}
@@ -0,0 +1,42 @@
+package software.tnb.benchmarks.service;
+
+import software.tnb.common.account.Account;
+
+public class BenchmarkAccount implements Account {
+    private String username;
+    private String password;
+    private String url;
+    private String region;
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String username() {
+        return username;
+    }
+
+    public String password() {
+        return password;
+    }
+
+    public String url() {
+        return url;
+    }
+
+    public String region() {
+        return region;
+    }
+}
@@ -0,0 +1,16 @@
+package software.tnb.benchmarks.service;
+
+import software.tnb.common.service.configuration.ServiceConfiguration;
+
+public class BenchmarkConfiguration extends ServiceConfiguration {
+    private static final String REPLICAS = "replicas";
+
+    public BenchmarkConfiguration replicas(int replicas) {
+        set(REPLICAS, replicas);
+        return this;
+    }
+
+    public int replicas() {
+        return get(REPLICAS, Integer.class);
+    }
+}
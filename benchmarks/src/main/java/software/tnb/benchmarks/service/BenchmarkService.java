@@ -0,0 +1,34 @@
+package software.tnb.benchmarks.service;
+
+import software.tnb.common.client.NoClient;
+import software.tnb.common.deployment.Deployable;
+import software.tnb.common.service.ConfigurableService;
+import software.tnb.common.validation.NoValidation;
+
+/**
+ * Service used in the {@link software.tnb.common.service.ServiceFactory} benchmarks, it has two implementations with different priority,
+ * so the service loader lookup and the priority sorting is exercised the same way as for the real services.
+ */
+public abstract class BenchmarkService extends ConfigurableService<BenchmarkAccount, NoClient, NoValidation, BenchmarkConfiguration>
+    implements Deployable {
+    @Override
+    public void deploy() {
+    }
+
+    @Override
+    public void undeploy() {
+    }
+
+    @Override
+    public void openResources() {
+    }
+
+    @Override
+    public void closeResources() {
+    }
+
+    @Override
+    protected void defaultConfiguration() {
+        getConfiguration().replicas(1);
+    }
+}
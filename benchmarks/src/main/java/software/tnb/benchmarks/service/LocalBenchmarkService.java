@@ -0,0 +1,7 @@
+package software.tnb.benchmarks.service;
+
+import com.google.auto.service.AutoService;
+
+@AutoService(BenchmarkService.class)
+public class LocalBenchmarkService extends BenchmarkService {
+}
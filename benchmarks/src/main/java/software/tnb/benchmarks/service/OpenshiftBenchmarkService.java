@@ -0,0 +1,16 @@
+package software.tnb.benchmarks.service;
+
+import com.google.auto.service.AutoService;
+
+@AutoService(BenchmarkService.class)
+public class OpenshiftBenchmarkService extends BenchmarkService {
+    @Override
+    public boolean enabled() {
+        return false;
+    }
+
+    @Override
+    public int priority() {
+        return 1;
+    }
+}
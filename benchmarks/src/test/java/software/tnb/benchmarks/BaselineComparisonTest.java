@@ -0,0 +1,79 @@
+package software.tnb.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.utils.IOUtils;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@Tag("unit")
+public class BaselineComparisonTest {
+    @TempDir
+    private Path dir;
+
+    @Test
+    public void shouldReadJmhResultsTest() {
+        final List<BaselineComparison.Result> results = BaselineComparison.read(results("baseline.json", 100, 2));
+
+        assertThat(results).hasSize(2);
+        assertThat(results.get(0).benchmark()).isEqualTo("software.tnb.benchmarks.LogBenchmark.containsRegexFirstQuery");
+        assertThat(results.get(0).params()).containsEntry("lines", "10000");
+        assertThat(results.get(0).score()).isEqualTo(100);
+        assertThat(results.get(1).params()).isEmpty();
+    }
+
+    @Test
+    public void shouldFlagSlowdownOverThresholdTest() {
+        final List<BaselineComparison.Comparison> comparisons = BaselineComparison.compare(
+            BaselineComparison.read(results("baseline.json", 100, 2)), BaselineComparison.read(results("current.json", 120, 2)), 10);
+
+        assertThat(comparisons).hasSize(2);
+        final BaselineComparison.Comparison avgt = comparisons.get(0);
+        assertThat(avgt.change()).isEqualTo(20.0);
+        assertThat(avgt.regression()).isTrue();
+        // higher throughput is better
+        final BaselineComparison.Comparison thrpt = comparisons.get(1);
+        assertThat(thrpt.change()).isEqualTo(-20.0);
+        assertThat(thrpt.regression()).isFalse();
+        assertThat(BaselineComparison.report(comparisons)).contains("REGRESSION");
+    }
+
+    @Test
+    public void shouldNotFlagSlowdownWithinThresholdTest() {
+        assertThat(BaselineComparison.compare(
+            BaselineComparison.read(results("baseline.json", 100, 2)), BaselineComparison.read(results("current.json", 105, 2)), 10))
+            .noneMatch(BaselineComparison.Comparison::regression);
+    }
+
+    @Test
+    public void shouldNotFlagSlowdownWithinScoreErrorTest() {
+        assertThat(BaselineComparison.compare(
+            BaselineComparison.read(results("baseline.json", 100, 15)), BaselineComparison.read(results("current.json", 120, 15)), 10))
+            .noneMatch(BaselineComparison.Comparison::regression);
+    }
+
+    private Path results(String name, double score, double error) {
+        final Path file = dir.resolve(name);
+        IOUtils.writeFile(file, String.format("""
+            [
+                {
+                    "benchmark" : "software.tnb.benchmarks.LogBenchmark.containsRegexFirstQuery",
+                    "mode" : "avgt",
+                    "params" : {"lines" : "10000"},
+                    "primaryMetric" : {"score" : %1$s, "scoreError" : %2$s, "scoreUnit" : "us/op"}
+                },
+                {
+                    "benchmark" : "software.tnb.benchmarks.ServiceFactoryBenchmark.createConcrete",
+                    "mode" : "thrpt",
+                    "primaryMetric" : {"score" : %1$s, "scoreError" : %2$s, "scoreUnit" : "ops/us"}
+                }
+            ]
+            """, score, error));
+        return file;
+    }
+}
@@ -35,12 +35,24 @@ public class TestConfiguration extends Configuration {
     public static final String MAVEN_REPOSITORY_ID = "test.maven.repository.id";
     public static final String MAVEN_EXTRA_ARGS = "test.maven.extra.args";
     public static final String MAVEN_TRANSFER_PROGRESS = "test.maven.transfer.progress";
+    public static final String MAVEN_BACKEND = "test.maven.backend";
+    public static final String MAVEN_DAEMON_EXECUTABLE = "test.maven.daemon.executable";
+    public static final String BUILD_CACHE = "test.build.cache";
+    public static final String BUILD_CACHE_DIR = "test.build.cache.dir";
+    public static final String SCAFFOLD_CACHE = "test.scaffold.cache";
     public static final String REPORT_PORTAL = "test.report.portal.enabled";
     public static final String ODO_PATH = "odo.path";
     public static final String STREAM_LOGS = "stream.logs";
     public static final String JIRA_ALLOWED_RESOLUTIONS = "jira.allowed.resolutions";
     public static final String JIRA_ACCESS_TOKEN = "jira.token";
+    public static final String JIRA_CACHE_FILE = "jira.cache.file";
+    public static final String JIRA_CACHE_TTL = "jira.cache.ttl";
+    public static final String JIRA_STATES_FILE = "jira.states.file";
     public static final String PARALLEL = "test.parallel";
+    public static final String INTEGRATION_PARALLELISM = "test.integration.parallelism";
+    public static final String LOCAL_POOL = "test.local.pool";
+    public static final String LOCAL_POOL_IDLE_TIMEOUT = "test.local.pool.idle.timeout";
+    public static final String LOCAL_POOL_STATE_FILE = "test.local.pool.state.file";
     public static final String TEST_USE_GLOBAL_OPENSHIFT_KAFKA = "test.use.global.openshift.kafka";
 
     public static final String VARIABLE_PLACEHOLDER_START = "\\$\\{";
@@ -136,6 +148,32 @@ public class TestConfiguration extends Configuration {
         return getBoolean(MAVEN_TRANSFER_PROGRESS, false);
     }
 
+    /**
+     * Gets the backend used for the maven builds: "fork" (new maven process for each build), "daemon" (maven daemon - mvnd) or "embedded"
+     * (maven running inside the test JVM).
+     *
+     * @return maven backend name
+     */
+    public static String mavenBackend() {
+        return getProperty(MAVEN_BACKEND, "fork");
+    }
+
+    public static String mavenDaemonExecutable() {
+        return getProperty(MAVEN_DAEMON_EXECUTABLE, "mvnd");
+    }
+
+    public static boolean buildCache() {
+        return getBoolean(BUILD_CACHE, false);
+    }
+
+    public static Path buildCacheDir() {
+        return Paths.get(getProperty(BUILD_CACHE_DIR, Paths.get(System.getProperty("user.home"), ".tnb", "build-cache").toString()));
+    }
+
+    public static boolean scaffoldCache() {
+        return getBoolean(SCAFFOLD_CACHE, false);
+    }
+
     public static boolean isMavenMirror() {
         return getProperty(MAVEN_REPOSITORY, "").contains("@mirrorOf=");
     }
@@ -179,10 +217,55 @@ public class TestConfiguration extends Configuration {
         return getProperty(JIRA_ACCESS_TOKEN, "");
     }
 
+    public static Path jiraCacheFile() {
+        return Paths.get(getProperty(JIRA_CACHE_FILE, Paths.get(System.getProperty("user.home"), ".tnb", "jira-states.properties").toString()));
+    }
+
+    /**
+     * Gets for how long the jira states are cached on disk, zero disables the cache.
+     *
+     * @return duration
+     */
+    public static Duration jiraCacheTtl() {
+        return Duration.of(getInteger(JIRA_CACHE_TTL, 60), ChronoUnit.MINUTES);
+    }
+
+    public static Path jiraStatesFile() {
+        final String file = getProperty(JIRA_STATES_FILE);
+        return file == null ? null : Paths.get(file);
+    }
+
     public static boolean parallel() {
         return getBoolean(PARALLEL, false);
     }
 
+    /**
+     * Gets the number of integrations created and started at the same time by one createIntegration call. The default 1 creates and
+     * starts them one by one in the given order.
+     *
+     * @return integration parallelism
+     */
+    public static int integrationParallelism() {
+        return getInteger(INTEGRATION_PARALLELISM, 1);
+    }
+
+    public static boolean localPool() {
+        return getBoolean(LOCAL_POOL, false);
+    }
+
+    /**
+     * Gets for how long the pooled local containers are kept running when they are not used.
+     *
+     * @return duration
+     */
+    public static Duration localPoolIdleTimeout() {
+        return Duration.of(getInteger(LOCAL_POOL_IDLE_TIMEOUT, 120), ChronoUnit.MINUTES);
+    }
+
+    public static Path localPoolStateFile() {
+        return Paths.get(getProperty(LOCAL_POOL_STATE_FILE, Paths.get(System.getProperty("user.home"), ".tnb", "warm-pool.properties").toString()));
+    }
+
     public static boolean useGlobalOpenshiftKafka() {
         return getBoolean(TEST_USE_GLOBAL_OPENSHIFT_KAFKA, false);
     }
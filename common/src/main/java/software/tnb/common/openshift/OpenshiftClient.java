@@ -64,6 +64,7 @@ import okhttp3.Response;
 public class OpenshiftClient extends OpenShift {
     private static final Logger LOG = LoggerFactory.getLogger(OpenshiftClient.class);
     protected static OpenshiftClientWrapper clientWrapper;
+    private OpenshiftPodCache podCache;
 
     protected OpenshiftClient(OpenShiftConfig openShiftConfig) {
         super(openShiftConfig);
@@ -124,6 +125,45 @@ public class OpenshiftClient extends OpenShift {
         return clientWrapper.getClient();
     }
 
+    /**
+     * Uses the given client in the current thread.
+     * <p>
+     * In parallel runs each thread has its own client, so this needs to be called when a test delegates work that uses the client to
+     * other threads.
+     *
+     * @param client client to use, null to unset
+     */
+    public static synchronized void use(OpenshiftClient client) {
+        if (clientWrapper != null) {
+            clientWrapper.setClient(client);
+        }
+    }
+
+    /**
+     * Gets the cache of the pods in this client's namespace.
+     * <p>
+     * The cache is created lazily on first use and it is stopped when the client is closed.
+     *
+     * @return pod cache instance
+     */
+    public synchronized OpenshiftPodCache podCache() {
+        if (podCache == null) {
+            podCache = new OpenshiftPodCache(this);
+        }
+        return podCache;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (podCache != null) {
+                podCache.close();
+                podCache = null;
+            }
+        }
+        super.close();
+    }
+
     public String getOauthToken() {
         if (OpenshiftConfiguration.openshiftUrl() == null) {
             String token = OpenshiftClient.get().authorization().getConfiguration().getAutoOAuthToken();
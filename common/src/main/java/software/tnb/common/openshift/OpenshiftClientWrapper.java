@@ -34,6 +34,18 @@ public class OpenshiftClientWrapper {
         return TestConfiguration.parallel() ? threadLocalClient.get() : openshiftClient;
     }
 
+    /**
+     * Sets the client used by the current thread in parallel runs, so that the work delegated to other threads uses the namespace of
+     * the test that started it. Does nothing in non-parallel runs, as there is only one client.
+     *
+     * @param client client instance, null to unset
+     */
+    public void setClient(OpenshiftClient client) {
+        if (TestConfiguration.parallel()) {
+            threadLocalClient.set(client);
+        }
+    }
+
     public void closeClient() {
         if (TestConfiguration.parallel()) {
             LOG.trace("Closing OpenShift client in thread " + Thread.currentThread().getName());
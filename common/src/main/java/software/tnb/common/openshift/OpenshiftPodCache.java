@@ -0,0 +1,197 @@
+package software.tnb.common.openshift;
+
+import software.tnb.common.exception.TimeoutException;
+import software.tnb.common.utils.WaitSignal;
+import software.tnb.common.utils.WaitUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import cz.xtf.core.openshift.helpers.ResourceParsers;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.client.informers.ResourceEventHandler;
+import io.fabric8.kubernetes.client.informers.SharedIndexInformer;
+
+/**
+ * Cache of the pods in the client's namespace backed by a shared informer.
+ * <p>
+ * Instead of listing all pods in the namespace on every check, the informer watches the pods and keeps the local copy up to date.
+ * The pods are indexed by their labels, so the lookups using a {@link PodLabelSelector} don't need to iterate over all pods.
+ * <p>
+ * The listeners registered via {@link #addListener(Predicate, PodListener)} are notified when a matching pod becomes ready, fails or is
+ * deleted and {@link #waitFor(BooleanSupplier, Duration, String)} re-evaluates the condition whenever a pod changes.
+ */
+public class OpenshiftPodCache implements AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(OpenshiftPodCache.class);
+    private static final String LABEL_INDEX = "labels";
+    private static final long SYNC_TIMEOUT_SECONDS = 60;
+
+    private final OpenshiftClient client;
+    private final SharedIndexInformer<Pod> informer;
+    private final List<Registration> listeners = new CopyOnWriteArrayList<>();
+    private final WaitSignal changes = new WaitSignal();
+
+    OpenshiftPodCache(OpenshiftClient client) {
+        this.client = client;
+        LOG.debug("Starting pod informer in namespace {}", client.getNamespace());
+        informer = client.pods().withIndexers(Map.of(LABEL_INDEX, OpenshiftPodCache::labelIndex)).runnableInformer(0);
+        informer.addEventHandler(new ResourceEventHandler<>() {
+            @Override
+            public void onAdd(Pod pod) {
+                podChanged(null, pod);
+            }
+
+            @Override
+            public void onUpdate(Pod oldPod, Pod newPod) {
+                podChanged(oldPod, newPod);
+            }
+
+            @Override
+            public void onDelete(Pod pod, boolean deletedFinalStateUnknown) {
+                listeners.stream().filter(r -> r.selector.test(pod)).forEach(r -> r.listener.podDeleted(pod));
+                changes.signal();
+            }
+        });
+        try {
+            informer.start().toCompletableFuture().get(SYNC_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            informer.stop();
+            throw new RuntimeException("Unable to start pod informer in namespace " + client.getNamespace(), e);
+        }
+    }
+
+    /**
+     * Gets all pods in the namespace.
+     *
+     * @return list of pods
+     */
+    public List<Pod> getPods() {
+        return informer.getStore().list();
+    }
+
+    /**
+     * Gets the pods matching the given predicate. When the predicate is a {@link PodLabelSelector}, the pods are looked up in the label
+     * index.
+     *
+     * @param selector pod predicate
+     * @return list of pods
+     */
+    public List<Pod> getPods(Predicate<Pod> selector) {
+        final List<Pod> candidates;
+        if (selector instanceof PodLabelSelector labelSelector) {
+            final Map.Entry<String, String> first = labelSelector.labels().entrySet().iterator().next();
+            candidates = informer.getIndexer().byIndex(LABEL_INDEX, labelKey(first.getKey(), first.getValue()));
+        } else {
+            candidates = getPods();
+        }
+        return candidates.stream().filter(selector).collect(Collectors.toList());
+    }
+
+    /**
+     * Registers a listener for the pods matching the given selector.
+     * <p>
+     * If there already is a matching ready pod, the listener is notified immediately.
+     *
+     * @param selector pod predicate
+     * @param listener listener
+     * @return handle that unregisters the listener when closed
+     */
+    public Closeable addListener(Predicate<Pod> selector, PodListener listener) {
+        final Registration registration = new Registration(selector, listener);
+        listeners.add(registration);
+        getPods(selector).stream().filter(OpenshiftPodCache::isReady).forEach(listener::podReady);
+        return () -> listeners.remove(registration);
+    }
+
+    /**
+     * Waits until the condition is true. The condition is re-evaluated whenever any pod in the namespace changes and also periodically,
+     * as it may depend on other resources than pods.
+     *
+     * @param condition condition
+     * @param timeout timeout
+     * @param logMessage log message that will be printed out before waiting
+     * @throws TimeoutException when the condition isn't true after the time expires
+     */
+    public void waitFor(BooleanSupplier condition, Duration timeout, String logMessage) {
+        WaitUtils.waitFor(condition, changes, timeout, logMessage);
+    }
+
+    @Override
+    public void close() {
+        LOG.debug("Stopping pod informer in namespace {}", client.getNamespace());
+        informer.stop();
+        listeners.clear();
+    }
+
+    private void podChanged(Pod oldPod, Pod newPod) {
+        for (Registration r : listeners) {
+            if (!r.selector.test(newPod)) {
+                continue;
+            }
+            if (isReady(newPod) && (oldPod == null || !isReady(oldPod))) {
+                r.listener.podReady(newPod);
+            }
+            if (client.isPodFailed(newPod) && (oldPod == null || !client.isPodFailed(oldPod))) {
+                r.listener.podFailed(newPod);
+            }
+            if (newPod.getMetadata().getDeletionTimestamp() != null && (oldPod == null || oldPod.getMetadata().getDeletionTimestamp() == null)) {
+                r.listener.podDeleted(newPod);
+            }
+        }
+        changes.signal();
+    }
+
+    private static boolean isReady(Pod pod) {
+        return pod.getMetadata().getDeletionTimestamp() == null && ResourceParsers.isPodReady(pod);
+    }
+
+    private static List<String> labelIndex(Pod pod) {
+        if (pod.getMetadata().getLabels() == null) {
+            return List.of();
+        }
+        return pod.getMetadata().getLabels().entrySet().stream().map(e -> labelKey(e.getKey(), e.getValue())).collect(Collectors.toList());
+    }
+
+    private static String labelKey(String key, String value) {
+        return key + "=" + value;
+    }
+
+    /**
+     * Listener for the pod events.
+     */
+    public interface PodListener {
+        default void podReady(Pod pod) {
+        }
+
+        default void podFailed(Pod pod) {
+        }
+
+        /**
+         * Invoked when the pod is marked for deletion and again when it is deleted.
+         *
+         * @param pod pod
+         */
+        default void podDeleted(Pod pod) {
+        }
+    }
+
+    private static final class Registration {
+        private final Predicate<Pod> selector;
+        private final PodListener listener;
+
+        private Registration(Predicate<Pod> selector, PodListener listener) {
+            this.selector = selector;
+            this.listener = listener;
+        }
+    }
+}
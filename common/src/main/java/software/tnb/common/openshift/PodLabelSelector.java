@@ -0,0 +1,54 @@
+package software.tnb.common.openshift;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+import io.fabric8.kubernetes.api.model.Pod;
+
+/**
+ * Pod predicate that matches the pods by their labels.
+ * <p>
+ * It can be used anywhere a {@code Predicate<Pod>} is expected, but the {@link OpenshiftPodCache} recognizes it and looks the pods up
+ * in its label index instead of testing every pod in the namespace. Combining it using {@link #and(Predicate)} keeps the labels.
+ */
+public final class PodLabelSelector implements Predicate<Pod> {
+    private final Map<String, String> labels;
+    private final Predicate<Pod> filter;
+
+    private PodLabelSelector(Map<String, String> labels, Predicate<Pod> filter) {
+        if (labels.isEmpty()) {
+            throw new IllegalArgumentException("At least one label is required");
+        }
+        this.labels = Map.copyOf(labels);
+        this.filter = filter;
+    }
+
+    public static PodLabelSelector of(Map<String, String> labels) {
+        return new PodLabelSelector(labels, p -> true);
+    }
+
+    public static PodLabelSelector of(String key, String value) {
+        return of(Map.of(key, value));
+    }
+
+    public Map<String, String> labels() {
+        return labels;
+    }
+
+    @Override
+    public boolean test(Pod pod) {
+        final Map<String, String> podLabels = pod.getMetadata().getLabels();
+        return podLabels != null && labels.entrySet().stream().allMatch(e -> e.getValue().equals(podLabels.get(e.getKey())))
+            && filter.test(pod);
+    }
+
+    @Override
+    public PodLabelSelector and(Predicate<? super Pod> other) {
+        return new PodLabelSelector(labels, filter.and(other));
+    }
+
+    @Override
+    public String toString() {
+        return "PodLabelSelector" + labels;
+    }
+}
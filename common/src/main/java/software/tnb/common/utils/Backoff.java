@@ -0,0 +1,40 @@
+package software.tnb.common.utils;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Jittered exponential backoff.
+ * <p>
+ * Each delay is the previous delay multiplied by the multiplier (up to the maximum delay), randomly shifted by up to the jitter
+ * fraction in both directions, so that multiple concurrent waits don't poll in lockstep.
+ */
+public final class Backoff {
+    private static final double MULTIPLIER = 2.0;
+    private static final double JITTER = 0.2;
+
+    private final long maxDelay;
+    private double delay;
+
+    /**
+     * Creates a new backoff.
+     *
+     * @param initialDelay first delay in milliseconds
+     * @param maxDelay maximum delay in milliseconds
+     */
+    public Backoff(long initialDelay, long maxDelay) {
+        this.maxDelay = Math.max(1, maxDelay);
+        this.delay = Math.max(1, Math.min(initialDelay, this.maxDelay));
+    }
+
+    /**
+     * Returns the next delay.
+     *
+     * @return delay in milliseconds
+     */
+    public long nextDelay() {
+        final double jitter = 1 + ThreadLocalRandom.current().nextDouble(-JITTER, JITTER);
+        final long next = Math.max(1, Math.min(maxDelay, Math.round(delay * jitter)));
+        delay = Math.min(maxDelay, delay * MULTIPLIER);
+        return next;
+    }
+}
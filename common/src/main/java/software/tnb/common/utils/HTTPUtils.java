@@ -4,15 +4,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.net.ssl.SSLContext;
-import javax.net.ssl.TrustManager;
-import javax.net.ssl.X509TrustManager;
 
+import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
-import java.security.KeyManagementException;
-import java.security.NoSuchAlgorithmException;
-import java.security.cert.CertificateException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import okhttp3.Headers;
 import okhttp3.OkHttpClient;
@@ -23,13 +25,11 @@ import okhttp3.logging.HttpLoggingInterceptor;
 public final class HTTPUtils {
 
     private static final Logger LOG = LoggerFactory.getLogger(HTTPUtils.class);
-    private static HTTPUtils instance;
 
     private final OkHttpClient client;
 
     private boolean withRetry = false;
-    private List<Integer> retryCodes = List.of(503); //503 OCP route is not ready
-    private List<String> retryAllowedMethods = List.of("GET", "POST");
+    private RetryPolicy retryPolicy = RetryPolicy.defaults();
 
     private HTTPUtils(OkHttpClient client) {
         this.client = client;
@@ -79,20 +79,38 @@ public final class HTTPUtils {
         execute(new Request.Builder().url(url).delete().headers(Headers.of(headers)).build(), true);
     }
 
-    private Response execute(Request request, boolean throwError, int attempts) {
+    /**
+     * Executes the GET request without reading the response body, the returned response must be closed.
+     *
+     * @param url url
+     * @return response with the body stream
+     */
+    public StreamingResponse getStream(String url) {
+        return stream(new Request.Builder().get().url(url).build());
+    }
+
+    public StreamingResponse getStream(String url, Map<String, String> headers) {
+        return stream(new Request.Builder().get().url(url).headers(Headers.of(headers)).build());
+    }
+
+    /**
+     * Executes the request without reading the response body, so that large responses can be processed as a stream. The returned response
+     * must be closed.
+     *
+     * @param request request
+     * @return response with the body stream
+     */
+    public StreamingResponse stream(Request request) {
         try {
-            okhttp3.Response response = client.newCall(request).execute();
-            String responseBody = null;
-            if (response.body() != null) {
-                responseBody = response.body().string();
-                response.body().close();
-            }
-            if (withRetry && attempts > 0 && retryAllowedMethods.contains(request.method()) && this.retryCodes.contains(response.code())) {
-                LOG.warn("retrying the http call in 1 second");
-                WaitUtils.sleep(1000);
-                return execute(request, throwError, attempts - 1);
-            }
-            return new Response(response.code(), responseBody);
+            return new StreamingResponse(call(request));
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to execute request: ", e);
+        }
+    }
+
+    private Response execute(Request request, boolean throwError) {
+        try (okhttp3.Response response = call(request)) {
+            return new Response(response.code(), response.body() == null ? null : response.body().string());
         } catch (IOException e) {
             if (throwError) {
                 throw new RuntimeException("Unable to execute request: ", e);
@@ -103,30 +121,72 @@ public final class HTTPUtils {
         }
     }
 
-    private Response execute(Request request, boolean throwError) {
-        return execute(request, throwError, 5);
+    /**
+     * Executes the request and retries it according to the retry policy.
+     */
+    private okhttp3.Response call(Request request) throws IOException {
+        final RetryPolicy policy = withRetry ? retryPolicy : RetryPolicy.none();
+        final Backoff backoff = policy.backoff();
+        for (int attempt = 0; ; attempt++) {
+            final boolean canRetry = attempt < policy.maxRetries();
+            try {
+                final okhttp3.Response response = client.newCall(request).execute();
+                if (!canRetry || !policy.shouldRetry(request.method(), response.code())) {
+                    return response;
+                }
+                response.close();
+                LOG.debug("Request {} {} returned {}", request.method(), request.url(), response.code());
+            } catch (IOException e) {
+                if (!canRetry || !policy.shouldRetry(request.method(), e)) {
+                    throw e;
+                }
+                LOG.debug("Request {} {} failed: {}", request.method(), request.url(), e.getMessage());
+            }
+            final long delay = backoff.nextDelay();
+            LOG.warn("Retrying the http call in {} ms", delay);
+            HttpClients.metrics().retried();
+            WaitUtils.sleep(delay);
+        }
     }
 
+    /**
+     * Gets the shared instance using the shared client (see {@link HttpClients}).
+     *
+     * @return instance
+     */
     public static HTTPUtils getInstance() {
-        if (instance == null) {
-            instance = new HTTPUtils(new OkHttpClient());
-        }
-        return instance;
+        return Holder.INSTANCE;
     }
 
+    /**
+     * Creates an instance using the given client. To share the connections with the other clients, the client should be created from
+     * {@link HttpClients#newBuilder(HttpClients.Trust)}, {@link #trustAllSslClientBuilder()} or {@link OkHttpClientBuilder}.
+     *
+     * @param client http client
+     * @return instance
+     */
     public static HTTPUtils getInstance(OkHttpClient client) {
         return new HTTPUtils(client);
     }
 
     public HTTPUtils withRetry(List<Integer> codes, List<String> allowedMethods) {
-        this.withRetry = true;
-        this.retryCodes = codes;
-        this.retryAllowedMethods = allowedMethods;
-        return this;
+        return withRetry(RetryPolicy.defaults().statusCodes(codes).methods(allowedMethods));
     }
 
     public HTTPUtils withRetry() {
-        return withRetry(this.retryCodes, this.retryAllowedMethods);
+        return withRetry(this.retryPolicy);
+    }
+
+    /**
+     * Enables retrying the requests with the given policy.
+     *
+     * @param retryPolicy retry policy
+     * @return this
+     */
+    public HTTPUtils withRetry(RetryPolicy retryPolicy) {
+        this.withRetry = true;
+        this.retryPolicy = retryPolicy;
+        return this;
     }
 
     public static class Response {
@@ -151,59 +211,81 @@ public final class HTTPUtils {
         }
     }
 
-    private static final TrustManager[] trustAllCerts = new TrustManager[] {
-        new X509TrustManager() {
-            @Override
-            public void checkClientTrusted(java.security.cert.X509Certificate[] chain, String authType) throws CertificateException {
-            }
+    /**
+     * Response with the body that is read on demand.
+     */
+    public static class StreamingResponse implements Closeable {
+        private final okhttp3.Response response;
 
-            @Override
-            public void checkServerTrusted(java.security.cert.X509Certificate[] chain, String authType) throws CertificateException {
-            }
+        StreamingResponse(okhttp3.Response response) {
+            this.response = response;
+        }
 
-            @Override
-            public java.security.cert.X509Certificate[] getAcceptedIssuers() {
-                return new java.security.cert.X509Certificate[] {};
-            }
+        public int getResponseCode() {
+            return response.code();
         }
-    };
-    private static final SSLContext sslContext;
 
-    static {
-        try {
-            if (FIPSUtils.isFipsEnabled()) {
-                sslContext = SSLContext.getDefault();
-            } else {
-                sslContext = SSLContext.getInstance("SSL");
-                sslContext.init(null, trustAllCerts, new java.security.SecureRandom());
-            }
-        } catch (NoSuchAlgorithmException | KeyManagementException e) {
-            throw new RuntimeException(e);
+        public String getHeader(String name) {
+            return response.header(name);
+        }
+
+        public boolean isSuccessful() {
+            return response.isSuccessful();
         }
+
+        /**
+         * Gets the response body stream.
+         *
+         * @return body stream, empty if the response has no body
+         */
+        public InputStream getBody() {
+            return response.body() == null ? InputStream.nullInputStream() : response.body().byteStream();
+        }
+
+        /**
+         * Gets the lines of the response body, read lazily.
+         *
+         * @return lines
+         */
+        public Stream<String> lines() {
+            final Charset charset = response.body() == null || response.body().contentType() == null ? StandardCharsets.UTF_8
+                : response.body().contentType().charset(StandardCharsets.UTF_8);
+            return new BufferedReader(new InputStreamReader(getBody(), charset)).lines();
+        }
+
+        @Override
+        public void close() {
+            response.close();
+        }
+    }
+
+    private static final class Holder {
+        private static final HTTPUtils INSTANCE = new HTTPUtils(HttpClients.get());
     }
 
     public static SSLContext getSslContext() {
-        return sslContext;
+        return HttpClients.sslContext();
     }
 
     public static OkHttpClient.Builder trustAllSslClientBuilder() {
-        OkHttpClient.Builder builder = new OkHttpClient().newBuilder();
-        builder.sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0]);
-        builder.hostnameVerifier((hostname, session) -> true);
-        return builder;
+        return HttpClients.newBuilder(HttpClients.Trust.ALL);
     }
 
+    /**
+     * Gets the shared client that trusts all certificates.
+     *
+     * @return client
+     */
     public static OkHttpClient trustAllSslClient() {
-        return trustAllSslClientBuilder().build();
+        return HttpClients.get(HttpClients.Trust.ALL);
     }
-    
+
     public static class OkHttpClientBuilder {
     
-        private OkHttpClient.Builder builder = new OkHttpClient().newBuilder();
+        private OkHttpClient.Builder builder = HttpClients.newBuilder();
     
         public OkHttpClientBuilder trustAllSslClient() {
-            builder.sslSocketFactory(sslContext.getSocketFactory(), (X509TrustManager) trustAllCerts[0]);
-            builder.hostnameVerifier((hostname, session) -> true);
+            HttpClients.trustAll(builder);
             return this;
         }
         
@@ -0,0 +1,136 @@
+package software.tnb.common.utils;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLSocketFactory;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+import java.security.KeyManagementException;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Shared http clients.
+ * <p>
+ * All clients created here (and by {@link HTTPUtils}) share one connection pool and one dispatcher, so the connections to the same host
+ * are reused regardless of which client created them and the number of threads doesn't grow with the number of clients. The pool keeps
+ * the connections with a different TLS configuration apart, so sharing it between the trust modes is safe. Clients that need additional
+ * configuration (timeouts, interceptors, ...) should be created from {@link #newBuilder(Trust)} to keep sharing the pool.
+ */
+public final class HttpClients {
+    private static final int MAX_IDLE_CONNECTIONS = 16;
+    private static final long KEEP_ALIVE_MINUTES = 5;
+    private static final int MAX_REQUESTS_PER_HOST = 16;
+
+    private static final X509TrustManager TRUST_ALL = new X509TrustManager() {
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType) {
+        }
+
+        @Override
+        public X509Certificate[] getAcceptedIssuers() {
+            return new X509Certificate[] {};
+        }
+    };
+    private static final HostnameVerifier TRUST_ALL_HOSTNAMES = (hostname, session) -> true;
+    private static final SSLContext SSL_CONTEXT;
+    // okhttp reuses a pooled connection only for the same socket factory and hostname verifier instances, so they are created once
+    private static final SSLSocketFactory SSL_SOCKET_FACTORY;
+
+    private static final ConnectionPool POOL = new ConnectionPool(MAX_IDLE_CONNECTIONS, KEEP_ALIVE_MINUTES, TimeUnit.MINUTES);
+    private static final Dispatcher DISPATCHER = new Dispatcher();
+    private static final HttpMetrics METRICS = new HttpMetrics(POOL, DISPATCHER);
+    private static final OkHttpClient ROOT;
+    private static final Map<Trust, OkHttpClient> CLIENTS = new ConcurrentHashMap<>();
+
+    static {
+        try {
+            if (FIPSUtils.isFipsEnabled()) {
+                SSL_CONTEXT = SSLContext.getDefault();
+            } else {
+                SSL_CONTEXT = SSLContext.getInstance("SSL");
+                SSL_CONTEXT.init(null, new TrustManager[] {TRUST_ALL}, new SecureRandom());
+            }
+        } catch (NoSuchAlgorithmException | KeyManagementException e) {
+            throw new RuntimeException(e);
+        }
+        SSL_SOCKET_FACTORY = SSL_CONTEXT.getSocketFactory();
+        DISPATCHER.setMaxRequestsPerHost(MAX_REQUESTS_PER_HOST);
+        ROOT = new OkHttpClient.Builder()
+            .connectionPool(POOL)
+            .dispatcher(DISPATCHER)
+            .addInterceptor(METRICS.interceptor())
+            .build();
+    }
+
+    /**
+     * Trust configuration of the client.
+     */
+    public enum Trust {
+        /**
+         * Default JVM trust store and hostname verification.
+         */
+        DEFAULT,
+        /**
+         * All certificates and hostnames are trusted (unless running in FIPS mode, where the default SSL context is used).
+         */
+        ALL
+    }
+
+    private HttpClients() {
+    }
+
+    public static OkHttpClient get() {
+        return get(Trust.DEFAULT);
+    }
+
+    /**
+     * Gets the shared client with the given trust configuration.
+     *
+     * @param trust trust configuration
+     * @return client
+     */
+    public static OkHttpClient get(Trust trust) {
+        return CLIENTS.computeIfAbsent(trust, t -> newBuilder(t).build());
+    }
+
+    public static OkHttpClient.Builder newBuilder() {
+        return newBuilder(Trust.DEFAULT);
+    }
+
+    /**
+     * Creates a builder of a client sharing the connection pool, the dispatcher and the metrics with all other clients.
+     *
+     * @param trust trust configuration
+     * @return client builder
+     */
+    public static OkHttpClient.Builder newBuilder(Trust trust) {
+        final OkHttpClient.Builder builder = ROOT.newBuilder();
+        return trust == Trust.ALL ? trustAll(builder) : builder;
+    }
+
+    static OkHttpClient.Builder trustAll(OkHttpClient.Builder builder) {
+        return builder.sslSocketFactory(SSL_SOCKET_FACTORY, TRUST_ALL).hostnameVerifier(TRUST_ALL_HOSTNAMES);
+    }
+
+    public static HttpMetrics metrics() {
+        return METRICS;
+    }
+
+    static SSLContext sslContext() {
+        return SSL_CONTEXT;
+    }
+}
@@ -0,0 +1,103 @@
+package software.tnb.common.utils;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+/**
+ * Metrics of the http clients created by {@link HttpClients}.
+ * <p>
+ * The latency is measured from sending the request until the response headers are received, so it doesn't include reading a streamed
+ * body.
+ */
+public class HttpMetrics {
+    private final ConnectionPool pool;
+    private final Dispatcher dispatcher;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private volatile LatencyStats latency = new LatencyStats();
+
+    HttpMetrics(ConnectionPool pool, Dispatcher dispatcher) {
+        this.pool = pool;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Creates the interceptor that records the requests.
+     *
+     * @return interceptor
+     */
+    Interceptor interceptor() {
+        return chain -> {
+            final long start = System.nanoTime();
+            requests.incrementAndGet();
+            try {
+                final Response response = chain.proceed(chain.request());
+                latency.record(System.nanoTime() - start);
+                return response;
+            } catch (IOException | RuntimeException e) {
+                failures.incrementAndGet();
+                throw e;
+            }
+        };
+    }
+
+    void retried() {
+        retries.incrementAndGet();
+    }
+
+    public long requests() {
+        return requests.get();
+    }
+
+    /**
+     * Gets the number of requests that failed with an exception (a response with an error status code is not a failure).
+     *
+     * @return number of failed requests
+     */
+    public long failures() {
+        return failures.get();
+    }
+
+    public long retries() {
+        return retries.get();
+    }
+
+    public LatencyStats.Latency latency() {
+        return latency.snapshot();
+    }
+
+    public int connections() {
+        return pool.connectionCount();
+    }
+
+    public int idleConnections() {
+        return pool.idleConnectionCount();
+    }
+
+    public int runningCalls() {
+        return dispatcher.runningCallsCount();
+    }
+
+    public int queuedCalls() {
+        return dispatcher.queuedCallsCount();
+    }
+
+    public void reset() {
+        requests.set(0);
+        failures.set(0);
+        retries.set(0);
+        latency = new LatencyStats();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d requests (%d failed, %d retries), connections %d (%d idle), calls %d running / %d queued, latency %s",
+            requests(), failures(), retries(), connections(), idleConnections(), runningCalls(), queuedCalls(), latency());
+    }
+}
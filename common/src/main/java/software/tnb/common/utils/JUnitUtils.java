@@ -19,6 +19,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.Stack;
+import java.util.function.Predicate;
 
 public final class JUnitUtils {
     private static final Logger LOG = LoggerFactory.getLogger(JUnitUtils.class);
@@ -34,10 +35,41 @@ public final class JUnitUtils {
      * @return true if the extension is used in any of following tests, false otherwise
      */
     public static boolean isExtensionStillNeeded(ExtensionContext extensionContext, Class<?> extensionClass) {
-        if (TestConfiguration.parallel()) {
-            // In parallel, we can't guarantee that the extension will run in the same thread (== same namespace)
+        return isExtensionStillNeeded(extensionContext, extensionClass::isInstance, extensionClass.getSimpleName());
+    }
+
+    /**
+     * Checks if an extension matching the given predicate is used in any of the following tests.
+     * <p>
+     * When the test plan is tracked by the {@link TestPlanTracker}, all test classes that did not finish yet are checked (including the
+     * test classes running in parallel). Otherwise, the test classes scheduled after the current one are found in the junit descriptor
+     * tree, which is not possible in parallel runs.
+     *
+     * @param extensionContext junit extension context
+     * @param extension predicate matching the extension instances
+     * @param name name of the extension used in the log messages
+     * @return true if the extension is used in any of following tests, false otherwise
+     */
+    public static boolean isExtensionStillNeeded(ExtensionContext extensionContext, Predicate<Object> extension, String name) {
+        final boolean found;
+        if (TestPlanTracker.isActive()) {
+            found = TestPlanTracker.isUsedByOtherClasses(extensionContext, extension);
+        } else if (TestConfiguration.parallel()) {
+            // In parallel, we can't find out which tests are still running
             return false;
+        } else {
+            found = isUsedInFollowingClasses(extensionContext, extension);
+        }
+
+        if (!found) {
+            LOG.debug("JUnit: No more usages of {} found", name);
+        } else {
+            LOG.debug("JUnit: {} will be used in next tests", name);
         }
+        return found;
+    }
+
+    private static boolean isUsedInFollowingClasses(ExtensionContext extensionContext, Predicate<Object> extension) {
         try {
             Field f = Class.forName("org.junit.jupiter.engine.descriptor.AbstractExtensionContext").getDeclaredField("testDescriptor");
             // Get the root descriptor that has all the scheduled test classes
@@ -67,17 +99,11 @@ public final class JUnitUtils {
                 }
             }
             //Check all classes - nested and containers
-            boolean found = testClasses.stream()
+            return testClasses.stream()
                 .anyMatch(it -> AnnotationSupport.findAnnotatedFieldValues(it.getTestClass(), RegisterExtension.class)
                     .stream()
-                    .anyMatch(extensionClass::isInstance)
+                    .anyMatch(extension)
                 );
-            if (!found) {
-                LOG.debug("JUnit: No more usages of {} found", extensionClass.getSimpleName());
-            } else {
-                LOG.debug("JUnit: {} will be used in next tests", extensionClass.getSimpleName());
-            }
-            return found;
         } catch (Exception e) {
             LOG.debug("JUnit: Unable to check for extension class usages, returning false");
             LOG.trace("Exception while checking: ", e);
@@ -0,0 +1,79 @@
+package software.tnb.common.utils;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Thread-safe recorder of latencies that computes the percentiles.
+ * <p>
+ * All recorded values are kept, which is fine for the number of records the tests work with.
+ */
+public class LatencyStats {
+    private long[] values = new long[1024];
+    private int count;
+
+    /**
+     * Records the latency.
+     *
+     * @param nanos latency in nanoseconds
+     */
+    public synchronized void record(long nanos) {
+        if (count == values.length) {
+            values = Arrays.copyOf(values, values.length * 2);
+        }
+        values[count++] = Math.max(0, nanos);
+    }
+
+    public void record(Duration latency) {
+        record(latency.toNanos());
+    }
+
+    public synchronized int count() {
+        return count;
+    }
+
+    /**
+     * Computes the percentiles of the recorded latencies.
+     *
+     * @return latency percentiles, with all values zero if nothing was recorded
+     */
+    public Latency snapshot() {
+        final long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(values, count);
+        }
+        if (sorted.length == 0) {
+            return new Latency(0, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO, Duration.ZERO);
+        }
+        Arrays.sort(sorted);
+        final long sum = Arrays.stream(sorted).sum();
+        return new Latency(sorted.length, Duration.ofNanos(sum / sorted.length), percentile(sorted, 50), percentile(sorted, 90),
+            percentile(sorted, 99), Duration.ofNanos(sorted[sorted.length - 1]));
+    }
+
+    private static Duration percentile(long[] sorted, double percentile) {
+        final int index = (int) Math.ceil(percentile / 100 * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(sorted.length - 1, index))]);
+    }
+
+    /**
+     * Latency percentiles.
+     *
+     * @param count number of recorded values
+     * @param mean mean latency
+     * @param p50 median
+     * @param p90 90th percentile
+     * @param p99 99th percentile
+     * @param max maximum latency
+     */
+    public record Latency(int count, Duration mean, Duration p50, Duration p90, Duration p99, Duration max) {
+        @Override
+        public String toString() {
+            return String.format("p50=%.1f ms, p90=%.1f ms, p99=%.1f ms, max=%.1f ms", millis(p50), millis(p90), millis(p99), millis(max));
+        }
+
+        private static double millis(Duration duration) {
+            return duration.toNanos() / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package software.tnb.common.utils;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Computes the rates reported by the validations (messages, records or bytes per second).
+ * <p>
+ * The rates are computed from nanoseconds, the durations of the fast operations are often shorter than a millisecond.
+ */
+public final class RateUtils {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateUtils() {
+    }
+
+    /**
+     * Computes the number of items per second.
+     *
+     * @param count number of items
+     * @param duration duration
+     * @return items per second, 0 if the duration is zero or negative
+     */
+    public static double perSecond(double count, Duration duration) {
+        return perSecond(count, duration.toNanos());
+    }
+
+    /**
+     * Computes the number of items per second.
+     *
+     * @param count number of items
+     * @param nanos duration in nanoseconds
+     * @return items per second, 0 if the duration is zero or negative
+     */
+    public static double perSecond(double count, long nanos) {
+        return nanos <= 0 ? 0 : count * NANOS_PER_SECOND / nanos;
+    }
+}
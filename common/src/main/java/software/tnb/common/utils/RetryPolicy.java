@@ -0,0 +1,105 @@
+package software.tnb.common.utils;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Policy of retrying the http requests.
+ * <p>
+ * A request is retried when its method is allowed and either the response has one of the retry status codes or the call failed with one
+ * of the retry exceptions. The delay between the attempts grows exponentially with a random jitter (see {@link Backoff}).
+ */
+public class RetryPolicy {
+    private int maxRetries = 5;
+    private long initialDelay = 1000L;
+    private long maxDelay = 5000L;
+    private Set<Integer> statusCodes = Set.of(503);
+    private Set<String> methods = Set.of("GET", "POST");
+    private List<Class<? extends IOException>> exceptions = List.of();
+
+    /**
+     * Creates the default policy - up to 5 retries of GET and POST requests that returned 503 (e.g. an OpenShift route that is not ready
+     * yet), starting with 1 second delay.
+     *
+     * @return new policy
+     */
+    public static RetryPolicy defaults() {
+        return new RetryPolicy();
+    }
+
+    /**
+     * Creates a policy that never retries.
+     *
+     * @return new policy
+     */
+    public static RetryPolicy none() {
+        return new RetryPolicy().maxRetries(0);
+    }
+
+    public RetryPolicy maxRetries(int maxRetries) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Number of retries can't be negative");
+        }
+        this.maxRetries = maxRetries;
+        return this;
+    }
+
+    /**
+     * Sets the delays between the attempts.
+     *
+     * @param initialDelay delay before the first retry in milliseconds
+     * @param maxDelay maximum delay in milliseconds
+     * @return this
+     */
+    public RetryPolicy delay(long initialDelay, long maxDelay) {
+        this.initialDelay = initialDelay;
+        this.maxDelay = maxDelay;
+        return this;
+    }
+
+    public RetryPolicy statusCodes(Collection<Integer> statusCodes) {
+        this.statusCodes = Set.copyOf(statusCodes);
+        return this;
+    }
+
+    public RetryPolicy methods(Collection<String> methods) {
+        this.methods = Set.copyOf(methods);
+        return this;
+    }
+
+    /**
+     * Sets the exceptions that are retried, e.g. {@link java.net.ConnectException} while the service is still starting.
+     *
+     * @param exceptions exception types, subclasses are retried as well
+     * @return this
+     */
+    @SafeVarargs
+    public final RetryPolicy exceptions(Class<? extends IOException>... exceptions) {
+        this.exceptions = List.of(exceptions);
+        return this;
+    }
+
+    public int maxRetries() {
+        return maxRetries;
+    }
+
+    public Backoff backoff() {
+        return new Backoff(initialDelay, maxDelay);
+    }
+
+    public boolean shouldRetry(String method, int statusCode) {
+        return methods.contains(method) && statusCodes.contains(statusCode);
+    }
+
+    public boolean shouldRetry(String method, IOException e) {
+        return methods.contains(method) && exceptions.stream().anyMatch(type -> type.isInstance(e));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy[maxRetries=%d, delay=%d-%d ms, statusCodes=%s, methods=%s, exceptions=%s]", maxRetries, initialDelay,
+            maxDelay, statusCodes, methods, exceptions.stream().map(Class::getSimpleName).toList());
+    }
+}
@@ -0,0 +1,64 @@
+package software.tnb.common.utils;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherSession;
+import org.junit.platform.launcher.LauncherSessionListener;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import com.google.auto.service.AutoService;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Registers the test plan in the {@link TestPlanTracker} and marks the test classes as finished.
+ */
+@AutoService(LauncherSessionListener.class)
+public class TestPlanListener implements LauncherSessionListener {
+    @Override
+    public void launcherSessionOpened(LauncherSession session) {
+        session.getLauncher().registerTestExecutionListeners(new TestExecutionListener() {
+            @Override
+            public void testPlanExecutionStarted(TestPlan testPlan) {
+                final Map<String, Set<Class<?>>> classes = new HashMap<>();
+                for (TestIdentifier engine : testPlan.getRoots()) {
+                    for (TestIdentifier child : testPlan.getChildren(engine)) {
+                        if (isClass(child)) {
+                            final Set<Class<?>> testClasses = new LinkedHashSet<>();
+                            testClasses.add(((ClassSource) child.getSource().get()).getJavaClass());
+                            // nested classes
+                            testPlan.getDescendants(child).stream().filter(TestPlanListener::isClass)
+                                .forEach(nested -> testClasses.add(((ClassSource) nested.getSource().get()).getJavaClass()));
+                            classes.put(child.getUniqueId(), testClasses);
+                        }
+                    }
+                }
+                TestPlanTracker.planStarted(classes);
+            }
+
+            @Override
+            public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+                TestPlanTracker.finished(testIdentifier.getUniqueId());
+            }
+
+            @Override
+            public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+                TestPlanTracker.finished(testIdentifier.getUniqueId());
+            }
+
+            @Override
+            public void testPlanExecutionFinished(TestPlan testPlan) {
+                TestPlanTracker.planFinished();
+            }
+        });
+    }
+
+    private static boolean isClass(TestIdentifier identifier) {
+        return identifier.isContainer() && identifier.getSource().filter(ClassSource.class::isInstance).isPresent();
+    }
+}
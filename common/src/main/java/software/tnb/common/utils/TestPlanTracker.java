@@ -0,0 +1,132 @@
+package software.tnb.common.utils;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Keeps track of the test classes in the current test plan that have not finished yet.
+ * <p>
+ * The plan is registered once when the test plan execution starts (see {@link TestPlanListener}) and each test class is marked as
+ * finished when its execution ends. The extensions registered in each test class (and its nested classes) are read lazily the first
+ * time they are needed and then remembered, so checking whether an extension is still needed doesn't walk the whole test plan every time.
+ */
+public final class TestPlanTracker {
+    private static final Logger LOG = LoggerFactory.getLogger(TestPlanTracker.class);
+    // top-level test classes by their unique id
+    private static final Map<String, PlannedClass> CLASSES = new ConcurrentHashMap<>();
+    private static volatile boolean active;
+
+    private TestPlanTracker() {
+    }
+
+    /**
+     * Registers the top-level test classes of the test plan.
+     *
+     * @param classes map of unique id of the top-level test class to the test class and its nested classes
+     */
+    static void planStarted(Map<String, Set<Class<?>>> classes) {
+        CLASSES.clear();
+        classes.forEach((id, testClasses) -> CLASSES.put(id, new PlannedClass(testClasses)));
+        active = true;
+        LOG.debug("Tracking {} test classes", CLASSES.size());
+    }
+
+    /**
+     * Marks the test class with given unique id as finished, does nothing if the id is not a top-level test class.
+     *
+     * @param uniqueId unique id of the test identifier
+     */
+    static void finished(String uniqueId) {
+        final PlannedClass plannedClass = CLASSES.get(uniqueId);
+        if (plannedClass != null) {
+            plannedClass.finish();
+        }
+    }
+
+    static void planFinished() {
+        active = false;
+        CLASSES.clear();
+    }
+
+    /**
+     * Returns true if the test plan is tracked, false when the tests were not started using the junit launcher.
+     *
+     * @return true if the test plan is tracked
+     */
+    public static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Checks if any extension matching the given predicate is registered in a test class that did not finish yet, except for the test
+     * class of the given extension context (that is about to finish). This includes the test classes that are currently running in
+     * parallel.
+     *
+     * @param extensionContext extension context of the current test class
+     * @param extension predicate matching the extension instances
+     * @return true if the extension is used in another test class that did not finish yet
+     */
+    public static boolean isUsedByOtherClasses(ExtensionContext extensionContext, Predicate<Object> extension) {
+        final String current = topLevelContext(extensionContext).getUniqueId();
+        return CLASSES.entrySet().stream()
+            .filter(e -> !e.getKey().equals(current))
+            .map(Map.Entry::getValue)
+            .filter(c -> !c.finished)
+            .anyMatch(c -> c.extensions().stream().anyMatch(extension));
+    }
+
+    private static ExtensionContext topLevelContext(ExtensionContext extensionContext) {
+        ExtensionContext context = extensionContext;
+        while (context.getParent().isPresent() && context.getParent().get().getParent().isPresent()) {
+            context = context.getParent().get();
+        }
+        return context;
+    }
+
+    private static final class PlannedClass {
+        private final Set<Class<?>> classes;
+        private volatile List<Object> extensions;
+        private volatile boolean finished;
+
+        private PlannedClass(Set<Class<?>> classes) {
+            this.classes = classes;
+        }
+
+        private void finish() {
+            finished = true;
+            extensions = List.of();
+        }
+
+        private Collection<Object> extensions() {
+            if (extensions == null) {
+                synchronized (this) {
+                    if (extensions == null) {
+                        extensions = classes.stream().flatMap(c -> registeredExtensions(c).stream()).toList();
+                    }
+                }
+            }
+            return extensions;
+        }
+
+        private static List<Object> registeredExtensions(Class<?> clazz) {
+            try {
+                return AnnotationSupport.findAnnotatedFieldValues(clazz, RegisterExtension.class);
+            } catch (Throwable t) {
+                // the class can't be initialized, the test class will fail anyway
+                LOG.debug("Unable to read the extensions of {}", clazz.getName(), t);
+                return List.of();
+            }
+        }
+    }
+}
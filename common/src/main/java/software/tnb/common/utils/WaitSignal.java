@@ -0,0 +1,45 @@
+package software.tnb.common.utils;
+
+/**
+ * Signal used by the condition sources (watches, log streams, ...) to notify the waiting threads that the condition may have changed.
+ * <p>
+ * See {@link WaitUtils#waitFor(java.util.function.BooleanSupplier, WaitSignal, java.time.Duration, String)}.
+ */
+public final class WaitSignal {
+    private long version = 0;
+
+    /**
+     * Wakes up all threads waiting for this signal.
+     */
+    public synchronized void signal() {
+        version++;
+        notifyAll();
+    }
+
+    /**
+     * Gets the number of signals so far.
+     *
+     * @return version
+     */
+    public synchronized long version() {
+        return version;
+    }
+
+    /**
+     * Waits until there is a signal newer than the given version or until the time expires.
+     *
+     * @param seenVersion last version seen by the caller
+     * @param timeout max time to wait in milliseconds
+     * @return true if there was a new signal
+     * @throws InterruptedException when interrupted
+     */
+    public synchronized boolean await(long seenVersion, long timeout) throws InterruptedException {
+        final long end = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (version == seenVersion && remaining > 0) {
+            wait(remaining);
+            remaining = end - System.currentTimeMillis();
+        }
+        return version != seenVersion;
+    }
+}
@@ -0,0 +1,104 @@
+package software.tnb.common.utils;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * Histograms of the wait times recorded by {@link WaitUtils} for each call site (the first method outside of the wait utilities).
+ */
+public final class WaitStats {
+    // upper bounds of the histogram buckets in milliseconds, the last bucket contains everything above the last bound
+    private static final long[] BUCKETS = {100, 500, 1_000, 5_000, 10_000, 30_000, 60_000, 300_000};
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private WaitStats() {
+    }
+
+    static void record(String callSite, long millis) {
+        HISTOGRAMS.computeIfAbsent(callSite, k -> new Histogram()).record(millis);
+    }
+
+    /**
+     * Gets the histograms for all call sites.
+     *
+     * @return map of call site to histogram
+     */
+    public static Map<String, Histogram> histograms() {
+        return new TreeMap<>(HISTOGRAMS);
+    }
+
+    public static void reset() {
+        HISTOGRAMS.clear();
+    }
+
+    /**
+     * Returns the summary of all histograms, one call site per line.
+     *
+     * @return summary
+     */
+    public static String report() {
+        return histograms().entrySet().stream().map(e -> e.getKey() + ": " + e.getValue()).collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Wait time histogram.
+     */
+    public static final class Histogram {
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKETS.length + 1);
+        private final AtomicLong total = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+
+        private void record(long millis) {
+            int bucket = 0;
+            while (bucket < BUCKETS.length && millis > BUCKETS[bucket]) {
+                bucket++;
+            }
+            counts.incrementAndGet(bucket);
+            total.addAndGet(millis);
+            max.accumulateAndGet(millis, Math::max);
+        }
+
+        public long count() {
+            long count = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                count += counts.get(i);
+            }
+            return count;
+        }
+
+        public long totalMillis() {
+            return total.get();
+        }
+
+        public long maxMillis() {
+            return max.get();
+        }
+
+        /**
+         * Gets the number of waits in each bucket.
+         *
+         * @return map of the bucket name ("<=100ms", ..., ">300000ms") to the number of waits
+         */
+        public Map<String, Long> buckets() {
+            final Map<String, Long> buckets = new LinkedHashMap<>();
+            for (int i = 0; i < BUCKETS.length; i++) {
+                buckets.put("<=" + BUCKETS[i] + "ms", counts.get(i));
+            }
+            buckets.put(">" + BUCKETS[BUCKETS.length - 1] + "ms", counts.get(BUCKETS.length));
+            return buckets;
+        }
+
+        @Override
+        public String toString() {
+            final long count = count();
+            return String.format("count=%d, total=%dms, avg=%dms, max=%dms, %s", count, totalMillis(), count == 0 ? 0 : totalMillis() / count,
+                maxMillis(), buckets().entrySet().stream().filter(e -> e.getValue() > 0).map(e -> e.getKey() + ": " + e.getValue())
+                    .collect(Collectors.joining(", ", "[", "]")));
+        }
+    }
+}
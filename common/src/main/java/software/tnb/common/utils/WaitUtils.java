@@ -8,16 +8,33 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BooleanSupplier;
 
+/**
+ * Utilities for waiting for conditions.
+ * <p>
+ * The conditions that need to be polled are checked with a jittered exponential backoff that starts at half of the requested wait time
+ * and never exceeds it, so that a condition that becomes true quickly is noticed sooner than with a fixed interval. Conditions that have a
+ * source that can signal a change (a {@link Future}, a {@link WaitSignal} fired by a watch or a log stream) are re-checked as soon as the
+ * source signals. The time spent in each wait is recorded in {@link WaitStats}.
+ */
 public final class WaitUtils {
     private static final Logger LOG = LoggerFactory.getLogger(WaitUtils.class);
-    private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(1);
+    private static final long INITIAL_DELAY_DIVISOR = 2;
+    private static final long MIN_INITIAL_DELAY = 50L;
+    private static final long SIGNAL_RECHECK_INTERVAL = 5000L;
+    private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+    private static final ExecutorService EXECUTOR_SERVICE = Executors.newCachedThreadPool(r -> {
+        final Thread t = new Thread(r, "tnb-wait-" + THREAD_COUNT.incrementAndGet());
+        t.setDaemon(true);
+        return t;
+    });
 
     private WaitUtils() {
     }
@@ -47,6 +64,10 @@ public final class WaitUtils {
 
     /**
      * Waits until the check return true.
+     * <p>
+     * The check is evaluated at least {@code retries + 1} times and the wait gives up only after sleeping for {@code retries * waitTime}
+     * milliseconds in total between the checks, so a slow check doesn't shorten the wait. The delay between the checks grows up to the
+     * waitTime.
      *
      * @param resourceCheck success condition
      * @param retries number of retries
@@ -56,19 +77,24 @@ public final class WaitUtils {
      */
     public static void waitFor(BooleanSupplier resourceCheck, int retries, long waitTime, String logMessage) throws TimeoutException {
         LOG.info(logMessage);
-        boolean state;
-        do {
-            state = resourceCheck.getAsBoolean();
-
-            if (!state) {
-                LOG.debug("Condition not met yet, sleeping for {}", waitTime);
-                retries--;
-                sleep(waitTime);
+        final long start = System.currentTimeMillis();
+        final long budget = retries * waitTime;
+        final Backoff backoff = backoff(waitTime);
+        long slept = 0;
+        int attempt = 0;
+        try {
+            while (!resourceCheck.getAsBoolean()) {
+                if (attempt >= retries && slept >= budget) {
+                    throw new TimeoutException("Timeout exceeded");
+                }
+                final long delay = slept < budget ? Math.min(backoff.nextDelay(), budget - slept) : backoff.nextDelay();
+                LOG.debug("Condition not met yet, sleeping for {}", delay);
+                sleep(delay);
+                slept += delay;
+                attempt++;
             }
-        } while (!state && retries > 0);
-
-        if (!state) {
-            throw new TimeoutException("Timeout exceeded");
+        } finally {
+            record(start);
         }
         LOG.debug("Done waiting");
     }
@@ -80,29 +106,96 @@ public final class WaitUtils {
      *
      * @param check booleansupplier instance
      * @param fail booleansupplier instance
-     * @param timeout wait time between the retries
+     * @param timeout max wait time between the retries
      * @param logMessage log message that will be printed out before waiting
      * @throws FailureConditionMetException when the fail condition is true
      */
     public static void waitFor(BooleanSupplier check, BooleanSupplier fail, long timeout, String logMessage) throws FailureConditionMetException {
         LOG.info(logMessage);
-        Instant start = Instant.now();
-        while (true) {
-            if (check.getAsBoolean()) {
-                break;
-            } else if (fail.getAsBoolean()) {
-                throw new FailureConditionMetException("Specified fail condition met");
-            } else if (Duration.between(start, Instant.now()).compareTo(TestConfiguration.testWaitKillTimeout()) > 0) {
-                LOG.error("Wait killed after {} minutes", TestConfiguration.testWaitKillTimeout().toMinutes());
-                break;
-            } else {
-                LOG.debug("Condition not met yet, sleeping for {}", timeout);
-                sleep(timeout);
+        final long start = System.currentTimeMillis();
+        final Backoff backoff = backoff(timeout);
+        try {
+            while (true) {
+                if (check.getAsBoolean()) {
+                    break;
+                } else if (fail.getAsBoolean()) {
+                    throw new FailureConditionMetException("Specified fail condition met");
+                } else if (Duration.ofMillis(System.currentTimeMillis() - start).compareTo(TestConfiguration.testWaitKillTimeout()) > 0) {
+                    LOG.error("Wait killed after {} minutes", TestConfiguration.testWaitKillTimeout().toMinutes());
+                    break;
+                } else {
+                    final long delay = backoff.nextDelay();
+                    LOG.debug("Condition not met yet, sleeping for {}", delay);
+                    sleep(delay);
+                }
+            }
+        } finally {
+            record(start);
+        }
+        LOG.debug("Done waiting");
+    }
+
+    /**
+     * Waits until the check returns true. The check is re-evaluated immediately when the signal is fired and periodically (with
+     * backoff up to {@value #SIGNAL_RECHECK_INTERVAL} ms) in case the condition depends on something the signal doesn't cover.
+     *
+     * @param check success condition
+     * @param signal signal fired when the condition may have changed
+     * @param timeout timeout
+     * @param logMessage log message that will be printed out before waiting
+     * @throws TimeoutException when the check isn't true after the time expires
+     */
+    public static void waitFor(BooleanSupplier check, WaitSignal signal, Duration timeout, String logMessage) throws TimeoutException {
+        LOG.info(logMessage);
+        final long start = System.currentTimeMillis();
+        final long end = start + timeout.toMillis();
+        final Backoff backoff = backoff(SIGNAL_RECHECK_INTERVAL);
+        try {
+            while (true) {
+                // remember the signal version before evaluating the check, so that a signal during the evaluation isn't missed
+                final long seen = signal.version();
+                if (check.getAsBoolean()) {
+                    break;
+                }
+                final long remaining = end - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new TimeoutException("Timeout exceeded");
+                }
+                try {
+                    signal.await(seen, Math.min(backoff.nextDelay(), remaining));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting", e);
+                }
             }
+        } finally {
+            record(start);
         }
         LOG.debug("Done waiting");
     }
 
+    /**
+     * Waits until the future completes.
+     *
+     * @param future future
+     * @param timeout timeout
+     * @param logMessage log message that will be printed out before waiting
+     * @param <T> result type
+     * @return future result
+     * @throws TimeoutException when the future isn't completed after the time expires
+     */
+    public static <T> T waitFor(Future<T> future, Duration timeout, String logMessage) throws TimeoutException {
+        LOG.info(logMessage);
+        final long start = System.currentTimeMillis();
+        try {
+            final T result = getResult(future, timeout);
+            LOG.debug("Done waiting");
+            return result;
+        } finally {
+            record(start);
+        }
+    }
+
     /**
      * Runs the given callable and aborts its execution if it takes too long.
      *
@@ -116,6 +209,8 @@ public final class WaitUtils {
 
     /**
      * Runs the given callable and aborts its execution if it takes too long.
+     * <p>
+     * Each callable runs in its own thread, so concurrent invocations don't wait for each other.
      *
      * @param callable callable to run
      * @param waitTime wait time
@@ -123,20 +218,45 @@ public final class WaitUtils {
      * @return callable result or TimeoutException
      */
     public static <T> T withTimeout(Callable<T> callable, Duration waitTime) {
-        Instant end = Instant.now().plus(waitTime);
-        final Future<T> future = EXECUTOR_SERVICE.submit(callable);
-        while (Instant.now().isBefore(end) && !future.isDone()) {
-            sleep(100L);
+        final long start = System.currentTimeMillis();
+        try {
+            return getResult(EXECUTOR_SERVICE.submit(callable), waitTime);
+        } finally {
+            record(start);
         }
-        if (!future.isDone()) {
+    }
+
+    private static <T> T getResult(Future<T> future, Duration timeout) {
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (java.util.concurrent.TimeoutException e) {
             future.cancel(true);
             throw new TimeoutException("Timeout exceeded");
-        } else {
-            try {
-                return future.get();
-            } catch (Exception e) {
-                throw new RuntimeException("Unable to get callable result: ", e);
-            }
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting", e);
+        } catch (Exception e) {
+            throw new RuntimeException("Unable to get callable result: ", e);
         }
     }
+
+    private static Backoff backoff(long maxDelay) {
+        return new Backoff(Math.max(MIN_INITIAL_DELAY, maxDelay / INITIAL_DELAY_DIVISOR), maxDelay);
+    }
+
+    private static void record(long start) {
+        WaitStats.record(callSite(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Gets the first stack frame outside of this class, skipping also other "waitFor" methods that delegate to this class.
+     */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+            .filter(f -> !f.getClassName().equals(WaitUtils.class.getName()) && !"waitFor".equals(f.getMethodName()))
+            .findFirst()
+            .map(f -> f.getClassName() + "." + f.getMethodName() + ":" + f.getLineNumber())
+            .orElse("unknown"));
+    }
 }
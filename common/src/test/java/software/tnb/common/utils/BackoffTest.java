@@ -0,0 +1,40 @@
+package software.tnb.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+public class BackoffTest {
+    @Test
+    public void shouldGrowDelayUpToMaximumTest() {
+        final Backoff backoff = new Backoff(100, 1000);
+
+        assertThat(backoff.nextDelay()).isBetween(80L, 120L);
+        assertThat(backoff.nextDelay()).isBetween(160L, 240L);
+        assertThat(backoff.nextDelay()).isBetween(320L, 480L);
+        assertThat(backoff.nextDelay()).isBetween(640L, 960L);
+        for (int i = 0; i < 20; i++) {
+            assertThat(backoff.nextDelay()).isBetween(800L, 1000L);
+        }
+    }
+
+    @Test
+    public void shouldNotStartAboveMaximumTest() {
+        final Backoff backoff = new Backoff(5000, 200);
+
+        for (int i = 0; i < 20; i++) {
+            assertThat(backoff.nextDelay()).isBetween(160L, 200L);
+        }
+    }
+
+    @Test
+    public void shouldAlwaysWaitTest() {
+        final Backoff backoff = new Backoff(0, 0);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(backoff.nextDelay()).isEqualTo(1L);
+        }
+    }
+}
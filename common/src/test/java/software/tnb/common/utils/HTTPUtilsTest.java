@@ -0,0 +1,127 @@
+package software.tnb.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import okhttp3.OkHttpClient;
+
+@Tag("unit")
+public class HTTPUtilsTest {
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private ExecutorService executor;
+    private HttpServer server;
+    private String url;
+
+    @BeforeEach
+    public void startServer() throws IOException {
+        executor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/flaky", exchange -> {
+            if (failuresLeft.getAndDecrement() > 0) {
+                respond(exchange, 503, "unavailable");
+            } else {
+                respond(exchange, 200, "ok");
+            }
+        });
+        server.createContext("/lines", exchange -> respond(exchange, 200, "first\nsecond\nthird\n"));
+        server.createContext("/port", exchange -> {
+            clientPorts.add(exchange.getRemoteAddress().getPort());
+            respond(exchange, 200, "ok");
+        });
+        server.setExecutor(executor);
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    public void stopServer() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void respond(HttpExchange exchange, int code, String body) throws IOException {
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(code, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+
+    @Test
+    public void shouldRetryFailedRequestTest() {
+        failuresLeft.set(2);
+        final long retries = HttpClients.metrics().retries();
+
+        final HTTPUtils.Response response = HTTPUtils.getInstance(HttpClients.newBuilder().build())
+            .withRetry(RetryPolicy.defaults().maxRetries(3).delay(10, 20).statusCodes(List.of(503)).methods(List.of("GET")))
+            .get(url + "/flaky", false);
+
+        assertThat(response.getResponseCode()).isEqualTo(200);
+        assertThat(response.getBody()).isEqualTo("ok");
+        assertThat(HttpClients.metrics().retries() - retries).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldReturnLastResponseWhenRetriesAreExhaustedTest() {
+        failuresLeft.set(5);
+
+        final HTTPUtils.Response response = HTTPUtils.getInstance(HttpClients.newBuilder().build())
+            .withRetry(RetryPolicy.defaults().maxRetries(1).delay(10, 20).statusCodes(List.of(503)).methods(List.of("GET")))
+            .get(url + "/flaky", false);
+
+        assertThat(response.getResponseCode()).isEqualTo(503);
+        assertThat(failuresLeft.get()).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldStreamLinesTest() {
+        try (HTTPUtils.StreamingResponse response = HTTPUtils.getInstance(HttpClients.newBuilder().build()).getStream(url + "/lines")) {
+            assertThat(response.isSuccessful()).isTrue();
+            assertThat(response.lines().collect(Collectors.toList())).containsExactly("first", "second", "third");
+        }
+    }
+
+    @Test
+    public void shouldShareConnectionsBetweenClientsTest() {
+        final HTTPUtils first = HTTPUtils.getInstance(HttpClients.newBuilder().build());
+        final HTTPUtils second = HTTPUtils.getInstance(new HTTPUtils.OkHttpClientBuilder().build());
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(first.get(url + "/port", false).isSuccessful()).isTrue();
+            assertThat(second.get(url + "/port", false).isSuccessful()).isTrue();
+        }
+
+        assertThat(clientPorts).hasSize(1);
+    }
+
+    @Test
+    public void shouldShareTlsConfigurationBetweenTrustAllClientsTest() {
+        final OkHttpClient first = new HTTPUtils.OkHttpClientBuilder().trustAllSslClient().build();
+        final OkHttpClient second = HttpClients.newBuilder(HttpClients.Trust.ALL).build();
+
+        // the pool reuses a connection only when the addresses are equal, which compares these by identity
+        assertThat(second.sslSocketFactory()).isSameAs(first.sslSocketFactory());
+        assertThat(second.hostnameVerifier()).isSameAs(first.hostnameVerifier());
+        assertThat(second.connectionPool()).isSameAs(first.connectionPool());
+    }
+}
@@ -0,0 +1,30 @@
+package software.tnb.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+@Tag("unit")
+public class RateUtilsTest {
+    @Test
+    public void shouldComputeRateTest() {
+        assertThat(RateUtils.perSecond(500, Duration.ofMillis(250))).isCloseTo(2000, within(0.001));
+        assertThat(RateUtils.perSecond(3, 1_500_000_000L)).isCloseTo(2, within(0.001));
+    }
+
+    @Test
+    public void shouldComputeRateOfSubMillisecondDurationTest() {
+        // a millisecond based computation would divide by zero
+        assertThat(RateUtils.perSecond(10, Duration.ofNanos(500_000))).isCloseTo(20_000, within(0.001));
+    }
+
+    @Test
+    public void shouldReturnZeroForEmptyDurationTest() {
+        assertThat(RateUtils.perSecond(10, Duration.ZERO)).isZero();
+        assertThat(RateUtils.perSecond(10, -1L)).isZero();
+    }
+}
@@ -0,0 +1,121 @@
+package software.tnb.common.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import software.tnb.common.exception.TimeoutException;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Tag("unit")
+public class WaitUtilsTest {
+    @Test
+    public void shouldCheckAtLeastRetriesTimesWithSlowCheckTest() {
+        final AtomicInteger checks = new AtomicInteger();
+
+        // each check takes longer than the whole sleep budget, the wait must still retry
+        assertThatThrownBy(() -> WaitUtils.waitFor(() -> {
+            checks.incrementAndGet();
+            WaitUtils.sleep(100);
+            return false;
+        }, 3, 10L, "Waiting for slow check")).isInstanceOf(TimeoutException.class);
+
+        // the jittered delays may fall a bit short of the budget, then there is one more retry
+        assertThat(checks.get()).isBetween(4, 5);
+    }
+
+    @Test
+    public void shouldNotCountCheckTimeToDeadlineTest() {
+        final AtomicInteger checks = new AtomicInteger();
+        final long start = System.currentTimeMillis();
+
+        // succeeds on the 4th check, while the checks alone take longer than retries * waitTime
+        WaitUtils.waitFor(() -> {
+            WaitUtils.sleep(100);
+            return checks.incrementAndGet() == 4;
+        }, 3, 50L, "Waiting for slow check");
+
+        assertThat(checks).hasValue(4);
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(400);
+    }
+
+    @Test
+    public void shouldSleepAtLeastRetriesTimesWaitTimeBeforeTimeoutTest() {
+        final AtomicInteger checks = new AtomicInteger();
+        final long start = System.currentTimeMillis();
+
+        assertThatThrownBy(() -> WaitUtils.waitFor(() -> {
+            checks.incrementAndGet();
+            return false;
+        }, 5, 100L, "Waiting for never true")).isInstanceOf(TimeoutException.class);
+
+        assertThat(System.currentTimeMillis() - start).isGreaterThanOrEqualTo(500);
+        assertThat(checks.get()).isGreaterThanOrEqualTo(6);
+    }
+
+    @Test
+    public void shouldStartPollingNearWaitTimeTest() {
+        final AtomicInteger checks = new AtomicInteger();
+        final long start = System.currentTimeMillis();
+
+        // the first delay is about a half of the wait time, so the second check isn't made right away
+        WaitUtils.waitFor(() -> checks.incrementAndGet() == 2, 3, 400L, "Waiting for second check");
+        assertThat(System.currentTimeMillis() - start).isBetween(150L, 400L);
+    }
+
+    @Test
+    public void shouldRecheckWhenSignaledTest() {
+        final WaitSignal signal = new WaitSignal();
+        final AtomicBoolean ready = new AtomicBoolean();
+        final AtomicInteger checks = new AtomicInteger();
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            executor.schedule(() -> {
+                ready.set(true);
+                signal.signal();
+            }, 200, TimeUnit.MILLISECONDS);
+            final long start = System.currentTimeMillis();
+
+            WaitUtils.waitFor(() -> {
+                checks.incrementAndGet();
+                return ready.get();
+            }, signal, Duration.ofSeconds(30), "Waiting for signal");
+
+            // the periodic recheck starts at seconds, so only the signal could have woken the wait up this soon
+            assertThat(System.currentTimeMillis() - start).isLessThan(2000);
+            assertThat(checks).hasValue(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldTimeoutWithoutSignalTest() {
+        final long start = System.currentTimeMillis();
+
+        assertThatThrownBy(() -> WaitUtils.waitFor(() -> false, new WaitSignal(), Duration.ofMillis(300), "Waiting for signal"))
+            .isInstanceOf(TimeoutException.class);
+        assertThat(System.currentTimeMillis() - start).isBetween(300L, 2000L);
+    }
+
+    @Test
+    public void shouldWaitForFutureTest() {
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            WaitUtils.sleep(100);
+            return "done";
+        });
+
+        assertThat(WaitUtils.waitFor(future, Duration.ofSeconds(5), "Waiting for future")).isEqualTo("done");
+        assertThatThrownBy(() -> WaitUtils.waitFor(new CompletableFuture<>(), Duration.ofMillis(100), "Waiting for future"))
+            .isInstanceOf(TimeoutException.class);
+    }
+}
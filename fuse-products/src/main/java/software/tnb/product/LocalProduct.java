@@ -10,6 +10,7 @@ public abstract class LocalProduct extends Product {
     }
 
     public void afterAll(ExtensionContext extensionContext) throws Exception {
+        reportBuildCache(extensionContext);
         teardownProduct();
     }
 
@@ -15,7 +15,10 @@ public abstract class OpenshiftProduct extends Product {
     }
 
     public void afterAll(ExtensionContext extensionContext) throws Exception {
-        if (!JUnitUtils.isExtensionStillNeeded(extensionContext, this.getClass()) && !TestConfiguration.skipTearDown()) {
+        reportBuildCache(extensionContext);
+        // in parallel runs each test class has its own namespace, so the product can't be reused
+        if ((TestConfiguration.parallel() || !JUnitUtils.isExtensionStillNeeded(extensionContext, this.getClass()))
+            && !TestConfiguration.skipTearDown()) {
             teardownProduct();
             OpenshiftClient.deleteNamespace();
         }
@@ -1,52 +1,151 @@
 package software.tnb.product;
 
+import software.tnb.common.config.OpenshiftConfiguration;
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.openshift.OpenshiftClient;
 import software.tnb.product.application.App;
+import software.tnb.product.application.Phase;
 import software.tnb.product.integration.builder.AbstractIntegrationBuilder;
+import software.tnb.product.util.maven.BuildCache;
 
 import org.junit.jupiter.api.extension.AfterAllCallback;
 import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 public abstract class Product implements BeforeAllCallback, AfterAllCallback {
+    private static final Logger LOG = LoggerFactory.getLogger(Product.class);
+
     // Use linkedhashmap so that we can stop the integration in reverse order
     protected Map<String, App> integrations = Collections.synchronizedMap(new LinkedHashMap<>());
+    private final BuildCache.Stats buildCacheStats = new BuildCache.Stats();
 
     public App createIntegration(AbstractIntegrationBuilder<?> integrationBuilder) {
-        if (integrations.containsKey(integrationBuilder.getIntegrationName())) {
-            throw new IllegalArgumentException("Integration with name " + integrationBuilder.getIntegrationName() + " is already running!");
-        }
+        checkNotRunning(integrationBuilder);
         try {
-            App app = createIntegrationApp(integrationBuilder);
+            BuildCache.recordTo(buildCacheStats);
+            App app = createApp(integrationBuilder);
             integrations.put(integrationBuilder.getIntegrationName(), app);
-            app.start();
-            app.waitUntilReady();
+            startApp(app);
             return app;
         } catch (Exception e) {
             // Print the stackstace as it is swallowed by junit somehow
             e.printStackTrace();
             throw e;
+        } finally {
+            BuildCache.recordTo(null);
         }
     }
 
+    /**
+     * Creates and starts all given integrations.
+     * <p>
+     * By default, the integrations are created and started one by one in the given order, so each integration is ready before the next
+     * one is built. With {@link TestConfiguration#integrationParallelism()} greater than 1, the integrations are created and started
+     * concurrently using at most that many threads: all of them are generated and built first and then they are all started, so they
+     * must not depend on each other. In both cases the integrations are registered in the given order, so they are stopped in the
+     * reverse order by {@link #removeIntegrations()}.
+     *
+     * @param integrationBuilder integration builder
+     * @param other other integration builders
+     * @return map of the integrations created in this invocation
+     */
     public Map<String, App> createIntegration(AbstractIntegrationBuilder<?> integrationBuilder, AbstractIntegrationBuilder<?>... other) {
         // Return only integrations created in this invocation, not all created integrations
         List<AbstractIntegrationBuilder<?>> integrationBuilders = new ArrayList<>();
         integrationBuilders.add(integrationBuilder);
         integrationBuilders.addAll(Arrays.asList(other));
-        return integrationBuilders.stream().collect(Collectors.toMap(AbstractIntegrationBuilder::getIntegrationName, this::createIntegration));
+
+        final Set<String> names = new HashSet<>();
+        for (AbstractIntegrationBuilder<?> builder : integrationBuilders) {
+            if (!names.add(builder.getIntegrationName())) {
+                throw new IllegalArgumentException("Integration with name " + builder.getIntegrationName() + " is specified multiple times!");
+            }
+            checkNotRunning(builder);
+        }
+
+        if (integrationBuilders.size() == 1 || TestConfiguration.integrationParallelism() <= 1) {
+            final Map<String, App> apps = new LinkedHashMap<>();
+            integrationBuilders.forEach(builder -> apps.put(builder.getIntegrationName(), createIntegration(builder)));
+            return apps;
+        }
+
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(integrationBuilders.size(),
+            TestConfiguration.integrationParallelism()), r -> {
+                Thread t = new Thread(r, Thread.currentThread().getName() + "-integration-" + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+        try {
+            final List<Future<App>> created = integrationBuilders.stream()
+                .map(builder -> executor.submit(inCurrentContext(() -> createApp(builder))))
+                .collect(Collectors.toList());
+            final Map<String, App> apps = new LinkedHashMap<>();
+            RuntimeException failure = null;
+            for (int i = 0; i < created.size(); i++) {
+                try {
+                    apps.put(integrationBuilders.get(i).getIntegrationName(), await(created.get(i)));
+                } catch (RuntimeException e) {
+                    failure = addFailure(failure, e);
+                }
+            }
+            integrations.putAll(apps);
+            if (failure != null) {
+                throw failure;
+            }
+
+            final List<Future<App>> started = apps.values().stream()
+                .map(app -> executor.submit(inCurrentContext(() -> {
+                    startApp(app);
+                    return app;
+                })))
+                .collect(Collectors.toList());
+            for (Future<App> future : started) {
+                try {
+                    await(future);
+                } catch (RuntimeException e) {
+                    failure = addFailure(failure, e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return apps;
+        } catch (Exception e) {
+            // Print the stackstace as it is swallowed by junit somehow
+            e.printStackTrace();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
     }
 
     protected abstract App createIntegrationApp(AbstractIntegrationBuilder<?> integrationBuilder);
 
     public void removeIntegrations() {
-        List<App> integrationsList = new ArrayList<>(integrations.values());
+        List<App> integrationsList;
+        synchronized (integrations) {
+            integrationsList = new ArrayList<>(integrations.values());
+        }
         Collections.reverse(integrationsList);
         integrationsList.forEach(App::stop);
         integrations.clear();
@@ -56,6 +155,81 @@ public abstract class Product implements BeforeAllCallback, AfterAllCallback {
         return integrations;
     }
 
+    /**
+     * Logs the build cache hits and misses of the integrations created in given test class.
+     *
+     * @param extensionContext extension context
+     */
+    protected void reportBuildCache(ExtensionContext extensionContext) {
+        if (BuildCache.isEnabled() && buildCacheStats.hits() + buildCacheStats.misses() > 0) {
+            LOG.info("Build cache for {}: {}", extensionContext.getRequiredTestClass().getSimpleName(), buildCacheStats);
+            buildCacheStats.reset();
+        }
+    }
+
+    private void checkNotRunning(AbstractIntegrationBuilder<?> integrationBuilder) {
+        if (integrations.containsKey(integrationBuilder.getIntegrationName())) {
+            throw new IllegalArgumentException("Integration with name " + integrationBuilder.getIntegrationName() + " is already running!");
+        }
+    }
+
+    private App createApp(AbstractIntegrationBuilder<?> integrationBuilder) {
+        final long start = System.currentTimeMillis();
+        final App app = createIntegrationApp(integrationBuilder);
+        LOG.debug("Integration {} created in {} ms", app.getName(), System.currentTimeMillis() - start);
+        return app;
+    }
+
+    private void startApp(App app) {
+        long start = System.currentTimeMillis();
+        app.start();
+        final long started = System.currentTimeMillis() - start;
+        start = System.currentTimeMillis();
+        app.waitUntilReady();
+        LOG.info("Integration {} timings: parse {} ms, generate {} ms, build {} ms, start {} ms, ready {} ms", app.getName(),
+            app.getDuration(Phase.PARSE), app.getDuration(Phase.GENERATE), app.getDuration(Phase.BUILD), started,
+            System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Wraps the task so that it runs with the same openshift client and build cache statistics as the current thread.
+     */
+    private <T> Callable<T> inCurrentContext(Callable<T> task) {
+        final OpenshiftClient client = OpenshiftConfiguration.isOpenshift() ? OpenshiftClient.get() : null;
+        return () -> {
+            OpenshiftClient.use(client);
+            BuildCache.recordTo(buildCacheStats);
+            try {
+                return task.call();
+            } finally {
+                BuildCache.recordTo(null);
+                OpenshiftClient.use(null);
+            }
+        };
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating the integrations", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static RuntimeException addFailure(RuntimeException failure, RuntimeException e) {
+        if (failure == null) {
+            return e;
+        }
+        failure.addSuppressed(e);
+        return failure;
+    }
+
     public abstract void setupProduct();
 
     public abstract void teardownProduct();
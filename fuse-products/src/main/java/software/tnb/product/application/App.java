@@ -27,8 +27,11 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -43,6 +46,7 @@ public abstract class App {
     protected LogStream logStream;
     protected Endpoint endpoint;
     protected boolean started = false;
+    private final Map<Phase, Long> durations = Collections.synchronizedMap(new EnumMap<>(Phase.class));
 
     private static final String JBANG_SCRIPT_NAME = "camel";
     protected static boolean camelInPath = false;
@@ -50,6 +54,7 @@ public abstract class App {
     public App(AbstractIntegrationBuilder<?> integrationBuilder) {
         this(integrationBuilder.getIntegrationName());
         this.integrationBuilder = integrationBuilder;
+        durations.put(Phase.PARSE, integrationBuilder.getParseDuration());
     }
 
     protected App(String name) {
@@ -93,6 +98,26 @@ public abstract class App {
         return integrationBuilder.getIntegrationName();
     }
 
+    /**
+     * Records the duration of the given phase.
+     *
+     * @param phase phase
+     * @param startMillis time when the phase started
+     */
+    protected void recordDuration(Phase phase, long startMillis) {
+        durations.merge(phase, System.currentTimeMillis() - startMillis, Long::sum);
+    }
+
+    /**
+     * Gets the duration of the given phase.
+     *
+     * @param phase phase
+     * @return duration in milliseconds, -1 if the phase was not recorded
+     */
+    public long getDuration(Phase phase) {
+        return durations.getOrDefault(phase, -1L);
+    }
+
     public Path getLogPath(Phase phase) {
         return TestConfiguration.appLocation().resolve(logFilePrefix + phase.name().toLowerCase() + ".log");
     }
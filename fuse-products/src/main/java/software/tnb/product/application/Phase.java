@@ -1,5 +1,5 @@
 package software.tnb.product.application;
 
 public enum Phase {
-    GENERATE, BUILD, DEPLOY, RUN, UNDEPLOY, DOWNLOAD
+    PARSE, GENERATE, BUILD, DEPLOY, RUN, UNDEPLOY, DOWNLOAD
 }
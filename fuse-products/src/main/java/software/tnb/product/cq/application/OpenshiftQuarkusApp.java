@@ -2,6 +2,7 @@ package software.tnb.product.cq.application;
 
 import software.tnb.common.config.TestConfiguration;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.HTTPUtils;
 import software.tnb.product.application.Phase;
 import software.tnb.product.cq.configuration.QuarkusConfiguration;
@@ -106,8 +107,7 @@ public class OpenshiftQuarkusApp extends QuarkusApp {
 
         endpoint = new Endpoint(() -> "http://" + OpenshiftClient.get().routes().withName(getName()).get().getSpec().getHost());
 
-        Predicate<Pod> podSelector = p -> p.getMetadata().getLabels() != null && p.getMetadata().getLabels().containsKey("app.kubernetes.io/name")
-            && getName().equals(p.getMetadata().getLabels().get("app.kubernetes.io/name"));
+        Predicate<Pod> podSelector = PodLabelSelector.of("app.kubernetes.io/name", getName());
         log = new OpenshiftLog(podSelector, getLogPath());
         logStream = new OpenshiftLogStream(podSelector, LogStream.marker(getName()));
     }
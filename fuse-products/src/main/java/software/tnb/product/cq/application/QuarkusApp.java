@@ -11,6 +11,7 @@ import software.tnb.product.integration.generator.IntegrationGenerator;
 import software.tnb.product.log.stream.LogStream;
 import software.tnb.product.util.maven.BuildRequest;
 import software.tnb.product.util.maven.Maven;
+import software.tnb.product.util.maven.ScaffoldCache;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.model.Dependency;
@@ -20,10 +21,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
@@ -37,6 +40,7 @@ public abstract class QuarkusApp extends App {
 
         this.integrationBuilder = integrationBuilder;
 
+        long start = System.currentTimeMillis();
         if (integrationBuilder.isJBang()) {
             createUsingJBang();
         } else {
@@ -45,6 +49,7 @@ public abstract class QuarkusApp extends App {
 
         customizeProject(integrationBuilder.getDependencies());
         customizePlugins(integrationBuilder.getPlugins());
+        recordDuration(Phase.GENERATE, start);
 
         Map<String, String> properties = new HashMap<>(Map.of(
             "skipTests", "true",
@@ -56,6 +61,7 @@ public abstract class QuarkusApp extends App {
             .withBaseDirectory(TestConfiguration.appLocation().resolve(getName()))
             .withGoals("clean", "package")
             .withProperties(properties)
+            .withCachedArtifacts("target/quarkus-app", "target/*-runner")
             .withLogFile(getLogPath(Phase.BUILD))
             .withLogMarker(LogStream.marker(getName(), Phase.BUILD));
         if (QuarkusConfiguration.isQuarkusNative() && !OpenshiftConfiguration.isOpenshift()) {
@@ -64,7 +70,9 @@ public abstract class QuarkusApp extends App {
         }
 
         LOG.info("Building {} application project ({})", getName(), QuarkusConfiguration.isQuarkusNative() ? "native" : "JVM");
+        start = System.currentTimeMillis();
         Maven.invoke(requestBuilder.build());
+        recordDuration(Phase.BUILD, start);
     }
 
     /**
@@ -87,36 +95,48 @@ public abstract class QuarkusApp extends App {
     }
 
     /**
-     * Creates the application skeleton using quarkus-maven-plugin.
+     * Creates the application skeleton using quarkus-maven-plugin, or copies it from the scaffold cache when enabled.
      */
     private void createWithMaven() {
         LOG.info("Creating Camel Quarkus application project for integration {}", getName());
 
+        final String extensions = OpenshiftConfiguration.isOpenshift() ? "openshift" : "";
+        if (ScaffoldCache.isEnabled()) {
+            final String key = ScaffoldCache.key("quarkus", QuarkusConfiguration.quarkusPlatformGroupId(),
+                QuarkusConfiguration.quarkusPlatformArtifactId(), QuarkusConfiguration.quarkusPlatformVersion(), extensions,
+                TestConfiguration.appGroupId(), TestConfiguration.appVersion(), new TreeMap<>(QuarkusConfiguration.fromSystemProperties()));
+            ScaffoldCache.create(key, getName(), dir -> generateWithMaven(dir, ScaffoldCache.PLACEHOLDER, extensions));
+        } else {
+            generateWithMaven(TestConfiguration.appLocation(), getName(), extensions);
+        }
+
+        IntegrationGenerator.createFiles(integrationBuilder, TestConfiguration.appLocation().resolve(getName()));
+    }
+
+    private void generateWithMaven(Path baseDirectory, String artifactId, String extensions) {
         String quarkusMavenPluginCreate = String.format("%s:%s:%s:create",
             QuarkusConfiguration.quarkusPlatformGroupId(), "quarkus-maven-plugin", QuarkusConfiguration.quarkusPlatformVersion());
 
         Map<String, String> properties = new HashMap<>(Map.of(
             "projectGroupId", TestConfiguration.appGroupId(),
-            "projectArtifactId", getName(),
+            "projectArtifactId", artifactId,
             "projectVersion", TestConfiguration.appVersion(),
             "platformGroupId", QuarkusConfiguration.quarkusPlatformGroupId(),
             "platformArtifactId", QuarkusConfiguration.quarkusPlatformArtifactId(),
             "platformVersion", QuarkusConfiguration.quarkusPlatformVersion(),
-            "extensions", OpenshiftConfiguration.isOpenshift() ? "openshift" : ""
+            "extensions", extensions
         ));
 
         properties.putAll(QuarkusConfiguration.fromSystemProperties());
 
         Maven.invoke(new BuildRequest.Builder()
-            .withBaseDirectory(TestConfiguration.appLocation())
+            .withBaseDirectory(baseDirectory)
             .withGoals(quarkusMavenPluginCreate)
             .withProperties(properties)
             .withLogFile(getLogPath(Phase.GENERATE))
             .withLogMarker(LogStream.marker(getName(), Phase.GENERATE))
             .build()
         );
-
-        IntegrationGenerator.createFiles(integrationBuilder, TestConfiguration.appLocation().resolve(getName()));
     }
 
     /**
@@ -64,7 +64,7 @@ public class OpenshiftSpringBootApp extends SpringBootApp {
     @Override
     public boolean isReady() {
         try {
-            final List<Pod> pods = OpenshiftClient.get().getPods().stream().filter(deploymentStrategy.podSelector()).toList();
+            final List<Pod> pods = OpenshiftClient.get().podCache().getPods(deploymentStrategy.podSelector());
             return !pods.isEmpty() && pods.stream()
                 .filter(pod -> !pod.isMarkedForDeletion())
                 .filter(pod -> !"Evicted".equals(pod.getStatus().getReason()))
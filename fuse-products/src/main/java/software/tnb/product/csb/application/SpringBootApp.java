@@ -15,6 +15,7 @@ import software.tnb.product.integration.generator.IntegrationGenerator;
 import software.tnb.product.log.stream.LogStream;
 import software.tnb.product.util.maven.BuildRequest;
 import software.tnb.product.util.maven.Maven;
+import software.tnb.product.util.maven.ScaffoldCache;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.maven.model.Dependency;
@@ -57,6 +58,7 @@ public abstract class SpringBootApp extends App {
                     , ((AbstractMavenGitIntegrationBuilder<?>) integrationBuilder).buildProject());
                 shouldRun = ((AbstractGitIntegrationBuilder<?>) integrationBuilder).runApplication();
             } else {
+                long start = System.currentTimeMillis();
                 if (integrationBuilder.isJBang()) {
                     createUsingJBang();
                 } else {
@@ -76,6 +78,7 @@ public abstract class SpringBootApp extends App {
                 customizeDependencies(integrationBuilder.getDependencies());
 
                 customizePlugins(integrationBuilder.getPlugins());
+                recordDuration(Phase.GENERATE, start);
 
                 BuildRequest.Builder requestBuilder = new BuildRequest.Builder()
                     .withBaseDirectory(basePath)
@@ -83,11 +86,14 @@ public abstract class SpringBootApp extends App {
                     .withProperties(Map.of(
                         "skipTests", "true"
                     ))
+                    .withCachedArtifacts("target/*.jar")
                     .withLogFile(getLogPath(Phase.BUILD))
                     .withLogMarker(LogStream.marker(getName(), Phase.BUILD));
 
                 LOG.info("Building {} application project", getName());
+                start = System.currentTimeMillis();
                 Maven.invoke(requestBuilder.build());
+                recordDuration(Phase.BUILD, start);
             }
         }
     }
@@ -119,19 +125,30 @@ public abstract class SpringBootApp extends App {
 
     private void createUsingMaven() {
         LOG.info("Creating Camel SpringBoot application project for integration {}", getName());
+        if (ScaffoldCache.isEnabled()) {
+            final String key = ScaffoldCache.key("spring-boot", SpringBootConfiguration.camelSpringBootArchetypeGroupId(),
+                SpringBootConfiguration.camelSpringBootArchetypeArtifactId(), SpringBootConfiguration.camelSpringBootArchetypeVersion(),
+                TestConfiguration.appGroupId(), TestConfiguration.appVersion());
+            ScaffoldCache.create(key, getName(), dir -> generateUsingMaven(dir, ScaffoldCache.PLACEHOLDER));
+        } else {
+            generateUsingMaven(TestConfiguration.appLocation(), getName());
+        }
+    }
+
+    private void generateUsingMaven(Path baseDirectory, String artifactId) {
         Map<String, String> properties = Map.of(
             "archetypeGroupId", SpringBootConfiguration.camelSpringBootArchetypeGroupId(),
             "archetypeArtifactId", SpringBootConfiguration.camelSpringBootArchetypeArtifactId(),
             "archetypeVersion", SpringBootConfiguration.camelSpringBootArchetypeVersion(),
             "groupId", TestConfiguration.appGroupId(),
-            "artifactId", getName(),
+            "artifactId", artifactId,
             "version", TestConfiguration.appVersion(),
             "package", TestConfiguration.appGroupId(),
             "archetypeCatalog", "internal"
         );
 
         Maven.invoke(new BuildRequest.Builder()
-            .withBaseDirectory(TestConfiguration.appLocation())
+            .withBaseDirectory(baseDirectory)
             .withGoals("archetype:generate")
             .withProperties(properties)
             .withLogFile(getLogPath(Phase.GENERATE))
@@ -3,6 +3,7 @@ package software.tnb.product.deploystrategy;
 import software.tnb.common.config.OpenshiftConfiguration;
 import software.tnb.common.config.TestConfiguration;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.IOUtils;
 import software.tnb.product.endpoint.Endpoint;
 import software.tnb.product.integration.builder.AbstractIntegrationBuilder;
@@ -58,9 +59,7 @@ public abstract class OpenshiftBaseDeployer implements OpenshiftDeployer, Opensh
 
     @Override
     public Predicate<Pod> podSelector() {
-        final String openshiftDeploymentLabel = OpenshiftConfiguration.openshiftDeploymentLabel();
-        return p -> p.getMetadata().getLabels() != null && p.getMetadata().getLabels().containsKey(openshiftDeploymentLabel)
-            && name.equals(p.getMetadata().getLabels().get(openshiftDeploymentLabel));
+        return PodLabelSelector.of(OpenshiftConfiguration.openshiftDeploymentLabel(), name);
     }
 
     @Override
@@ -190,7 +189,7 @@ public abstract class OpenshiftBaseDeployer implements OpenshiftDeployer, Opensh
     }
 
     protected boolean isIntegrationPodFailed() {
-        final Optional<Pod> integrationPod = OpenshiftClient.get().getPods().stream().filter(this.podSelector()).findFirst();
+        final Optional<Pod> integrationPod = OpenshiftClient.get().podCache().getPods(this.podSelector()).stream().findFirst();
         return integrationPod.isPresent() && OpenshiftClient.get().isPodFailed(integrationPod.get());
     }
 }
@@ -65,6 +65,7 @@ public class BinaryStrategy extends OpenshiftBaseDeployer {
             .withBaseDirectory(baseDirectory)
             .withGoals("clean", "package")
             .withProfiles("openshift")
+            .withCachedArtifacts("target/*.jar")
             .withLogFile(TestConfiguration.appLocation().resolve(name + "-build.log"))
             .withLogMarker(LogStream.marker(name, Phase.BUILD));
         Maven.invoke(requestBuilder.build());
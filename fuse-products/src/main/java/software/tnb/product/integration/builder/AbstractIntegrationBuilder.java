@@ -5,6 +5,7 @@ import software.tnb.common.utils.MapUtils;
 import software.tnb.product.customizer.Customizer;
 import software.tnb.product.deploystrategy.impl.custom.OpenshiftCustomDeployer;
 import software.tnb.product.integration.Resource;
+import software.tnb.product.util.jparser.CompilationUnitCache;
 import software.tnb.product.util.maven.Maven;
 
 import org.apache.camel.builder.RouteBuilder;
@@ -15,8 +16,6 @@ import org.apache.maven.model.Plugin;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.github.javaparser.JavaParser;
-import com.github.javaparser.ParseProblemException;
 import com.github.javaparser.StaticJavaParser;
 import com.github.javaparser.ast.CompilationUnit;
 import com.github.javaparser.ast.ImportDeclaration;
@@ -24,9 +23,6 @@ import com.github.javaparser.ast.Node;
 import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
 import com.github.javaparser.ast.visitor.ModifierVisitor;
 import com.github.javaparser.utils.CodeGenerationUtils;
-import com.github.javaparser.utils.ParserCollectionStrategy;
-import com.github.javaparser.utils.ProjectRoot;
-import com.github.javaparser.utils.SourceRoot;
 import com.github.javaparser.utils.StringEscapeUtils;
 
 import java.io.IOException;
@@ -40,11 +36,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 /**
@@ -80,6 +76,8 @@ public abstract class AbstractIntegrationBuilder<SELF extends AbstractIntegratio
 
     private boolean useJBang = false;
 
+    private final AtomicLong parseTime = new AtomicLong();
+
     public AbstractIntegrationBuilder(String name) {
         this.integrationName = name;
     }
@@ -264,23 +262,24 @@ public abstract class AbstractIntegrationBuilder<SELF extends AbstractIntegratio
         return self();
     }
 
-    private Stream<SourceRoot> getSourceRoots(Class<?> clazz) {
-        ProjectRoot projectRoot = new ParserCollectionStrategy().collect(CodeGenerationUtils.mavenModuleRoot(clazz));
-        return projectRoot.getSourceRoots().stream().filter(sr -> !sr.getRoot().toString().contains("target"));
-    }
-
+    /**
+     * Gets the compilation unit of the given class from the sources of its maven module.
+     * <p>
+     * The sources are parsed only once (see {@link CompilationUnitCache}), the returned compilation unit is a copy that can be modified.
+     *
+     * @param clazz class
+     * @return compilation unit
+     */
     public CompilationUnit getCompilationUnit(Class<?> clazz) {
-        return getSourceRoots(clazz).map(sr -> {
-                try {
-                    return sr.parse(clazz.getPackageName(), getClassName(clazz) + ".java");
-                } catch (ParseProblemException ex) {
-                    return null;
-                }
-            }).filter(Objects::nonNull).findFirst()
-            .orElseThrow(() -> new RuntimeException(String
-                .format("Couldn't parse class %s in source roots [%s]. Make sure the sources are available.", clazz.getName(),
-                    getSourceRoots(clazz).collect(
-                        Collectors.toList()))));
+        final long start = System.nanoTime();
+        try {
+            final List<Path> sourceRoots = CompilationUnitCache.sourceRoots(CodeGenerationUtils.mavenModuleRoot(clazz));
+            return CompilationUnitCache.find(sourceRoots, clazz.getPackageName(), getClassName(clazz) + ".java")
+                .orElseThrow(() -> new RuntimeException(String.format("Couldn't parse class %s in source roots %s. Make sure the sources are "
+                    + "available.", clazz.getName(), sourceRoots)));
+        } finally {
+            parseTime.addAndGet(System.nanoTime() - start);
+        }
     }
 
     private void processRouteBuilder(RouteBuilder routeBuilder, String className, CompilationUnit cu, Set<String> ignoredPackages) {
@@ -423,24 +422,27 @@ public abstract class AbstractIntegrationBuilder<SELF extends AbstractIntegratio
      * @return this
      */
     public SELF addClass(Path file) {
+        final long start = System.nanoTime();
         if (file.toFile().isDirectory()) {
             try (Stream<Path> files = Files.walk(file)) {
-                files.filter(f -> f.toString().toLowerCase().endsWith(".java")).forEach(this::addFile);
+                classesToAdd.addAll(CompilationUnitCache.getAll(files.filter(f -> f.toString().toLowerCase().endsWith(".java")).toList()));
             } catch (IOException e) {
                 throw new RuntimeException("Unable to walk files in " + file.toAbsolutePath(), e);
             }
         } else {
-            addFile(file);
+            classesToAdd.add(CompilationUnitCache.get(file).orElseThrow(() -> new RuntimeException("Unable to parse file " + file)));
         }
+        parseTime.addAndGet(System.nanoTime() - start);
         return self();
     }
 
-    private void addFile(Path file) {
-        try {
-            classesToAdd.add(new JavaParser().parse(file).getResult().get());
-        } catch (IOException e) {
-            throw new RuntimeException("Unable to parse file " + file, e);
-        }
+    /**
+     * Gets the time spent parsing the sources of the integration.
+     *
+     * @return parse time in milliseconds
+     */
+    public long getParseDuration() {
+        return TimeUnit.NANOSECONDS.toMillis(parseTime.get());
     }
 
     public SELF fileName(String fileName) {
@@ -1,12 +1,10 @@
 package software.tnb.product.junit;
 
-import static software.tnb.common.config.TestConfiguration.jiraAccessToken;
-
 import software.tnb.common.config.OpenshiftConfiguration;
 import software.tnb.common.config.TestConfiguration;
-import software.tnb.common.utils.HTTPUtils;
 import software.tnb.product.cq.configuration.QuarkusConfiguration;
 import software.tnb.product.junit.jira.Jira;
+import software.tnb.product.junit.jira.JiraStateResolver;
 import software.tnb.product.junit.jira.Jiras;
 import software.tnb.product.junit.product.RunOn;
 
@@ -17,8 +15,6 @@ import org.junit.jupiter.engine.descriptor.ClassTestDescriptor;
 import org.junit.platform.commons.support.AnnotationSupport;
 import org.junit.platform.commons.util.ReflectionUtils;
 
-import org.apache.commons.lang3.StringUtils;
-import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,12 +23,10 @@ import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public class RunConditions implements ExecutionCondition {
     private static final Logger LOG = LoggerFactory.getLogger(RunConditions.class);
-    private static final String JIRA_URL_PREFIX = "https://issues.redhat.com/rest/api/latest/issue/";
 
     @Override
     public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
@@ -104,21 +98,18 @@ public class RunConditions implements ExecutionCondition {
         if (!jira.configuration().isCurrentEnv()) {
             return ConditionEvaluationResult.enabled("Running");
         }
+        // fetch all keys of this annotation at once, in case they weren't prefetched
+        JiraStateResolver.getInstance().prefetch(List.of(jira.keys()));
         for (String jiraKey : jira.keys()) {
             LOG.trace("Checking JIRA {}, allowed resolutions: {}", jiraKey, TestConfiguration.jiraAllowedResolutions());
-            final Map<String, String> headers = StringUtils.isNotBlank(jiraAccessToken()) ? Map.of(
-                "Authorization", String.format("Bearer %s", jiraAccessToken())
-            ) : Map.of();
-            final HTTPUtils.Response response = HTTPUtils.getInstance().get(JIRA_URL_PREFIX + jiraKey, headers);
-            if (response.getResponseCode() == 200) {
-                final String status = new JSONObject(response.getBody()).getJSONObject("fields").getJSONObject("status").get("name")
-                    .toString().toLowerCase();
-                if (!TestConfiguration.jiraAllowedResolutions().contains(status)) {
-                    LOG.debug("Skipping {}, JIRA {} is in \"{}\" state", context.getDisplayName(), jiraKey, status);
-                    return ConditionEvaluationResult.disabled(String.format("JIRA %s is in %s state", jiraKey, status));
+            final Optional<String> status = JiraStateResolver.getInstance().getState(jiraKey);
+            if (status.isPresent()) {
+                if (!TestConfiguration.jiraAllowedResolutions().contains(status.get())) {
+                    LOG.debug("Skipping {}, JIRA {} is in \"{}\" state", context.getDisplayName(), jiraKey, status.get());
+                    return ConditionEvaluationResult.disabled(String.format("JIRA %s is in %s state", jiraKey, status.get()));
                 }
             } else {
-                LOG.warn("Jira response code was {}, not evaluating jira state", response.getResponseCode());
+                LOG.warn("Unable to get state of JIRA {}, not evaluating jira state", jiraKey);
             }
         }
         return ConditionEvaluationResult.enabled("Running");
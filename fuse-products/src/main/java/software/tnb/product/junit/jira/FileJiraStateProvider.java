@@ -0,0 +1,35 @@
+package software.tnb.product.junit.jira;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Jira state provider that reads the states from a local properties file ({@code ISSUE-1=Closed}), used instead of the Jira instance
+ * when the {@link software.tnb.common.config.TestConfiguration#JIRA_STATES_FILE} property is set.
+ */
+public class FileJiraStateProvider implements JiraStateProvider {
+    private final Map<String, String> states = new HashMap<>();
+
+    public FileJiraStateProvider(Path file) {
+        final Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            properties.load(is);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read jira states from " + file, e);
+        }
+        properties.stringPropertyNames().forEach(key -> states.put(key, properties.getProperty(key).trim().toLowerCase()));
+    }
+
+    @Override
+    public Map<String, String> getStates(Collection<String> keys) {
+        final Map<String, String> result = new HashMap<>();
+        keys.stream().filter(states::containsKey).forEach(key -> result.put(key, states.get(key)));
+        return result;
+    }
+}
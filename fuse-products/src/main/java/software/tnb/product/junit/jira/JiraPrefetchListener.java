@@ -0,0 +1,60 @@
+package software.tnb.product.junit.jira;
+
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.auto.service.AutoService;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Fetches the states of all jiras used in the {@link Jira} annotations in the test plan before the tests are executed, so that
+ * the run conditions are evaluated without contacting the Jira instance.
+ */
+@AutoService(TestExecutionListener.class)
+public class JiraPrefetchListener implements TestExecutionListener {
+    private static final Logger LOG = LoggerFactory.getLogger(JiraPrefetchListener.class);
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        final Set<String> keys = new LinkedHashSet<>();
+        for (TestIdentifier root : testPlan.getRoots()) {
+            for (TestIdentifier identifier : testPlan.getDescendants(root)) {
+                identifier.getSource().ifPresent(source -> collectKeys(source, keys));
+            }
+        }
+
+        if (!keys.isEmpty()) {
+            LOG.debug("Prefetching state of {} jiras", keys.size());
+            JiraStateResolver.getInstance().prefetch(keys);
+        }
+    }
+
+    private void collectKeys(TestSource source, Set<String> keys) {
+        try {
+            if (source instanceof MethodSource) {
+                collectKeys(((MethodSource) source).getJavaMethod(), keys);
+            } else if (source instanceof ClassSource) {
+                collectKeys(((ClassSource) source).getJavaClass(), keys);
+            }
+        } catch (Exception e) {
+            LOG.debug("Unable to get jira annotations from {}", source, e);
+        }
+    }
+
+    private void collectKeys(AnnotatedElement element, Set<String> keys) {
+        AnnotationSupport.findRepeatableAnnotations(element, Jira.class).stream()
+            .filter(jira -> jira.configuration().isCurrentEnv())
+            .forEach(jira -> keys.addAll(Set.of(jira.keys())));
+    }
+}
@@ -0,0 +1,17 @@
+package software.tnb.product.junit.jira;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Source of the Jira issue states.
+ */
+public interface JiraStateProvider {
+    /**
+     * Gets the states of the given issues.
+     *
+     * @param keys issue keys
+     * @return map of issue key to the lowercase state name, the issues whose state can't be determined are not present in the map
+     */
+    Map<String, String> getStates(Collection<String> keys);
+}
@@ -0,0 +1,173 @@
+package software.tnb.product.junit.jira;
+
+import software.tnb.common.config.TestConfiguration;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves and caches the states of the Jira issues.
+ * <p>
+ * The states are kept in memory for the whole test run and also stored in the
+ * {@link TestConfiguration#jiraCacheFile() cache file} for {@link TestConfiguration#jiraCacheTtl()}, so that the subsequent runs don't
+ * need to contact the Jira instance at all. All jira keys used in the test plan are prefetched by {@link JiraPrefetchListener} before the
+ * tests are executed.
+ */
+public final class JiraStateResolver {
+    private static final Logger LOG = LoggerFactory.getLogger(JiraStateResolver.class);
+    private static JiraStateResolver instance;
+
+    private final JiraStateProvider provider;
+    private final Path cacheFile;
+    private final Duration ttl;
+    private final Map<String, CachedState> cache = new ConcurrentHashMap<>();
+
+    JiraStateResolver(JiraStateProvider provider, Path cacheFile, Duration ttl) {
+        this.provider = provider;
+        this.cacheFile = cacheFile;
+        this.ttl = ttl;
+        if (cacheFile != null) {
+            final long now = System.currentTimeMillis();
+            read(cacheFile).forEach((key, state) -> {
+                if (state.isFresh(now, ttl)) {
+                    cache.put(key, state);
+                }
+            });
+            LOG.debug("Loaded {} jira states from {}", cache.size(), cacheFile);
+        }
+    }
+
+    public static synchronized JiraStateResolver getInstance() {
+        if (instance == null) {
+            if (TestConfiguration.jiraStatesFile() != null) {
+                LOG.info("Using jira states from {}", TestConfiguration.jiraStatesFile());
+                instance = new JiraStateResolver(new FileJiraStateProvider(TestConfiguration.jiraStatesFile()), null, Duration.ZERO);
+            } else {
+                final Duration ttl = TestConfiguration.jiraCacheTtl();
+                instance = new JiraStateResolver(new RestJiraStateProvider(), ttl.isZero() ? null : TestConfiguration.jiraCacheFile(), ttl);
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Fetches the states of the given issues that are not cached yet.
+     *
+     * @param keys issue keys
+     */
+    public synchronized void prefetch(Collection<String> keys) {
+        final Set<String> missing = keys.stream().filter(key -> !cache.containsKey(key)).collect(Collectors.toCollection(LinkedHashSet::new));
+        if (missing.isEmpty()) {
+            return;
+        }
+
+        LOG.debug("Fetching state of jiras {}", missing);
+        final Map<String, String> states = provider.getStates(missing);
+        final long now = System.currentTimeMillis();
+        final Map<String, CachedState> fetched = new HashMap<>();
+        for (String key : missing) {
+            final CachedState state = new CachedState(states.get(key), now);
+            cache.put(key, state);
+            // unknown states are remembered only for this run
+            if (state.state != null) {
+                fetched.put(key, state);
+            }
+        }
+        if (cacheFile != null && !fetched.isEmpty()) {
+            store(fetched);
+        }
+    }
+
+    /**
+     * Gets the state of the given issue.
+     *
+     * @param key issue key
+     * @return lowercase state name or empty optional if the state can't be determined
+     */
+    public Optional<String> getState(String key) {
+        CachedState state = cache.get(key);
+        if (state == null) {
+            prefetch(Set.of(key));
+            state = cache.get(key);
+        }
+        return Optional.ofNullable(state.state);
+    }
+
+    private void store(Map<String, CachedState> fetched) {
+        // merge with the current content, as the file may be shared by multiple test runs
+        final long now = System.currentTimeMillis();
+        final Map<String, CachedState> states = read(cacheFile);
+        states.values().removeIf(s -> !s.isFresh(now, ttl));
+        states.putAll(fetched);
+
+        final Properties properties = new Properties();
+        states.forEach((key, state) -> properties.setProperty(key, state.fetched + "," + state.state));
+        final Path tmp = cacheFile.resolveSibling(cacheFile.getFileName() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                properties.store(os, "Jira states cache");
+            }
+            Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Unable to store jira states to {}", cacheFile, e);
+            FileUtils.deleteQuietly(tmp.toFile());
+        }
+    }
+
+    private static Map<String, CachedState> read(Path file) {
+        final Map<String, CachedState> states = new HashMap<>();
+        if (!Files.exists(file)) {
+            return states;
+        }
+        final Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            properties.load(is);
+        } catch (IOException e) {
+            LOG.warn("Unable to read jira states from {}", file, e);
+            return states;
+        }
+        for (String key : properties.stringPropertyNames()) {
+            final String[] parts = properties.getProperty(key).split(",", 2);
+            try {
+                states.put(key, new CachedState(parts[1], Long.parseLong(parts[0])));
+            } catch (RuntimeException e) {
+                LOG.debug("Ignoring invalid jira cache entry {}", key);
+            }
+        }
+        return states;
+    }
+
+    private static final class CachedState {
+        private final String state;
+        private final long fetched;
+
+        private CachedState(String state, long fetched) {
+            this.state = state;
+            this.fetched = fetched;
+        }
+
+        private boolean isFresh(long now, Duration ttl) {
+            return now - fetched < ttl.toMillis();
+        }
+    }
+}
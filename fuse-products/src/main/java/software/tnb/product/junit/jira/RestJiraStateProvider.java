@@ -0,0 +1,90 @@
+package software.tnb.product.junit.jira;
+
+import static software.tnb.common.config.TestConfiguration.jiraAccessToken;
+
+import software.tnb.common.utils.HTTPUtils;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jira state provider that uses the Jira REST API.
+ * <p>
+ * The states are fetched using JQL searches for up to {@value #BATCH_SIZE} issues at once. If the search fails, the states are fetched one
+ * by one.
+ */
+public class RestJiraStateProvider implements JiraStateProvider {
+    private static final Logger LOG = LoggerFactory.getLogger(RestJiraStateProvider.class);
+    private static final String JIRA_URL_PREFIX = "https://issues.redhat.com/rest/api/latest/";
+    private static final int BATCH_SIZE = 50;
+
+    @Override
+    public Map<String, String> getStates(Collection<String> keys) {
+        final Map<String, String> states = new HashMap<>();
+        final List<String> all = new ArrayList<>(keys);
+        for (int i = 0; i < all.size(); i += BATCH_SIZE) {
+            final List<String> batch = all.subList(i, Math.min(i + BATCH_SIZE, all.size()));
+            if (!search(batch, states)) {
+                batch.forEach(key -> get(key, states));
+            }
+        }
+        return states;
+    }
+
+    private boolean search(List<String> keys, Map<String, String> states) {
+        // with validateQuery=warn the non-existing keys don't fail the whole query
+        final String jql = "key in (" + String.join(",", keys) + ")";
+        final String url = JIRA_URL_PREFIX + "search?fields=status&validateQuery=warn&maxResults=" + keys.size()
+            + "&jql=" + URLEncoder.encode(jql, StandardCharsets.UTF_8);
+        try {
+            final HTTPUtils.Response response = HTTPUtils.getInstance().get(url, headers());
+            if (response.getResponseCode() != 200) {
+                LOG.warn("Jira search response code was {}, fetching the jiras one by one", response.getResponseCode());
+                return false;
+            }
+            final JSONArray issues = new JSONObject(response.getBody()).getJSONArray("issues");
+            for (int i = 0; i < issues.length(); i++) {
+                final JSONObject issue = issues.getJSONObject(i);
+                states.put(issue.getString("key"), status(issue));
+            }
+            return true;
+        } catch (Exception e) {
+            LOG.warn("Unable to search jiras {}, fetching the jiras one by one", keys, e);
+            return false;
+        }
+    }
+
+    private void get(String key, Map<String, String> states) {
+        try {
+            final HTTPUtils.Response response = HTTPUtils.getInstance().get(JIRA_URL_PREFIX + "issue/" + key, headers());
+            if (response.getResponseCode() == 200) {
+                states.put(key, status(new JSONObject(response.getBody())));
+            } else {
+                LOG.warn("Jira response code for {} was {}", key, response.getResponseCode());
+            }
+        } catch (Exception e) {
+            LOG.warn("Unable to get jira {}", key, e);
+        }
+    }
+
+    private static String status(JSONObject issue) {
+        return issue.getJSONObject("fields").getJSONObject("status").get("name").toString().toLowerCase();
+    }
+
+    private static Map<String, String> headers() {
+        return StringUtils.isNotBlank(jiraAccessToken()) ? Map.of(
+            "Authorization", String.format("Bearer %s", jiraAccessToken())
+        ) : Map.of();
+    }
+}
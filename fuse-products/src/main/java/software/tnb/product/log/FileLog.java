@@ -4,10 +4,25 @@ import software.tnb.common.utils.IOUtils;
 import software.tnb.common.utils.StringUtils;
 import software.tnb.product.rp.Attachments;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 public class FileLog extends Log {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     private final Path logFile;
+    private final CharsetDecoder decoder = Charset.defaultCharset().newDecoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private long offset = 0;
 
     public FileLog(Path file) {
         this.logFile = file;
@@ -18,6 +33,50 @@ public class FileLog extends Log {
         return StringUtils.removeColorCodes(IOUtils.readFile(logFile));
     }
 
+    /**
+     * Reads the bytes appended to the log file since the last read.
+     * <p>
+     * Only the bytes that form complete characters are consumed, the rest is read again next time.
+     *
+     * @return appended content
+     */
+    @Override
+    protected synchronized String readAppended() {
+        if (!Files.exists(logFile)) {
+            return "";
+        }
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.READ)) {
+            if (channel.size() < offset) {
+                // file was truncated, start from the beginning
+                reset();
+                offset = 0;
+            }
+            if (channel.size() == offset) {
+                return "";
+            }
+
+            StringBuilder sb = new StringBuilder();
+            ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+            CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+            decoder.reset();
+            long position = offset;
+            int read;
+            while ((read = channel.read(bytes, position)) > 0) {
+                position += read;
+                bytes.flip();
+                decoder.decode(bytes, chars, false);
+                offset += bytes.position();
+                chars.flip();
+                sb.append(chars);
+                chars.clear();
+                bytes.compact();
+            }
+            return sb.toString();
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read file " + logFile, e);
+        }
+    }
+
     @Override
     public void save() {
         Attachments.addAttachment(logFile);
@@ -1,25 +1,128 @@
 package software.tnb.product.log;
 
+import software.tnb.common.utils.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 
+/**
+ * Integration log.
+ * <p>
+ * The content of the log is read incrementally - each implementation remembers the position it read up to and
+ * {@link #readAppended()} returns only the content appended since the last call. The appended content is split into lines (with the color
+ * codes removed) that are kept in memory and every query remembers how many lines it already scanned, so that repeated calls
+ * (for example while waiting for the integration to start) only check the newly appended lines.
+ */
 public abstract class Log {
+    private final List<String> lines = new ArrayList<>();
+    private final StringBuilder pending = new StringBuilder();
+    private final Map<String, Pattern> compiledPatterns = new HashMap<>();
+    private final Map<String, Scan> messageScans = new HashMap<>();
+    private final Map<Pattern, Scan> patternScans = new IdentityHashMap<>();
+
     public abstract String toString();
 
+    /**
+     * Reads the content appended to the log since the last invocation of this method.
+     * <p>
+     * If the underlying log was replaced (for example the file was truncated or there is a new pod), the implementation should call
+     * {@link #reset()} and return the whole new content.
+     *
+     * @return appended content, empty string if there is nothing new
+     */
+    protected abstract String readAppended();
+
+    /**
+     * Forgets all content read so far.
+     */
+    protected synchronized void reset() {
+        lines.clear();
+        pending.setLength(0);
+        messageScans.values().forEach(Scan::reset);
+        patternScans.values().forEach(Scan::reset);
+    }
+
     public boolean contains(String message) {
-        return toString().contains(message);
+        if (message.indexOf('\n') != -1) {
+            // multi-line message can't be matched line by line
+            return toString().contains(message);
+        }
+        return containsAfter(message, 0);
     }
 
     public boolean containsRegex(String regex) {
-        return containsRegex(Pattern.compile(regex));
+        final Pattern pattern;
+        synchronized (this) {
+            pattern = compiledPatterns.computeIfAbsent(regex, Pattern::compile);
+        }
+        return containsRegex(pattern);
     }
 
-    public boolean containsRegex(Pattern pattern) {
-        return toString().lines().anyMatch(s -> pattern.matcher(s).matches());
+    public synchronized boolean containsRegex(Pattern pattern) {
+        return find(patternScans.computeIfAbsent(pattern, p -> new Scan(s -> p.matcher(s).matches())), 0);
     }
 
-    public boolean containsAfter(String message, int skipLines) {
-        return toString().lines().skip(skipLines).anyMatch(s -> s.contains(message));
+    public synchronized boolean containsAfter(String message, int skipLines) {
+        return find(messageScans.computeIfAbsent(message, m -> new Scan(s -> s.contains(m))), skipLines);
     }
 
     public abstract void save();
+
+    /**
+     * Scans the lines that were not yet checked by given scan and returns true if there is a matching line after skipping given number
+     * of lines.
+     *
+     * @param scan scan
+     * @param skipLines number of lines to skip
+     * @return true if there is a matching line, false otherwise
+     */
+    private boolean find(Scan scan, int skipLines) {
+        update();
+        for (; scan.scanned < lines.size(); scan.scanned++) {
+            if (scan.predicate.test(lines.get(scan.scanned))) {
+                scan.lastMatch = scan.scanned;
+            }
+        }
+        if (scan.lastMatch >= skipLines) {
+            return true;
+        }
+        // the last line may not be complete yet, so it is checked every time, but it is not counted as scanned
+        return !pending.isEmpty() && lines.size() >= skipLines && scan.predicate.test(StringUtils.removeColorCodes(pending.toString()));
+    }
+
+    private void update() {
+        final String appended = readAppended();
+        if (appended == null || appended.isEmpty()) {
+            return;
+        }
+        pending.append(appended);
+        int start = 0;
+        int newLine;
+        while ((newLine = pending.indexOf("\n", start)) != -1) {
+            int end = newLine > start && pending.charAt(newLine - 1) == '\r' ? newLine - 1 : newLine;
+            lines.add(StringUtils.removeColorCodes(pending.substring(start, end)));
+            start = newLine + 1;
+        }
+        pending.delete(0, start);
+    }
+
+    private static final class Scan {
+        private final Predicate<String> predicate;
+        private int scanned = 0;
+        private int lastMatch = -1;
+
+        private Scan(Predicate<String> predicate) {
+            this.predicate = predicate;
+        }
+
+        private void reset() {
+            scanned = 0;
+            lastMatch = -1;
+        }
+    }
 }
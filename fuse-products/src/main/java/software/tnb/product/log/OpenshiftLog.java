@@ -4,13 +4,13 @@ import software.tnb.common.exception.TimeoutException;
 import software.tnb.common.openshift.OpenshiftClient;
 import software.tnb.common.utils.IOUtils;
 import software.tnb.common.utils.StringUtils;
-import software.tnb.common.utils.WaitUtils;
 import software.tnb.product.rp.Attachments;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -22,6 +22,8 @@ public class OpenshiftLog extends Log {
     private static final Logger LOG = LoggerFactory.getLogger(OpenshiftLog.class);
     private final Predicate<Pod> podPredicate;
     private final Path logPath;
+    private String podName;
+    private int offset = 0;
 
     public OpenshiftLog(Predicate<Pod> podPredicate, Path logPath) {
         this.podPredicate = podPredicate;
@@ -30,23 +32,60 @@ public class OpenshiftLog extends Log {
 
     @Override
     public String toString() {
+        return readyPod().map(this::getLogs).map(StringUtils::removeColorCodes).orElse("");
+    }
+
+    /**
+     * Returns the part of the pod log that wasn't read yet.
+     * <p>
+     * The kubernetes API doesn't allow to read the log from given offset, so the whole log is still fetched, but only the new part is
+     * returned and processed. If the pod changes (for example because of a restart), the log is read from the beginning.
+     *
+     * @return appended content
+     */
+    @Override
+    protected synchronized String readAppended() {
+        Optional<Pod> pod = readyPod();
+        if (pod.isEmpty()) {
+            return "";
+        }
+
+        final String name = pod.get().getMetadata().getName();
+        final String logs = getLogs(pod.get());
+        if (logs.isEmpty()) {
+            // don't start over because of a failed request
+            return "";
+        }
+        if (!name.equals(podName) || logs.length() < offset) {
+            reset();
+            podName = name;
+            offset = 0;
+        }
+
+        final String appended = logs.substring(offset);
+        offset = logs.length();
+        return appended;
+    }
+
+    private Optional<Pod> readyPod() {
         // This method is called when the integration is started correctly, so find such pod where all containers are ready
         // sometimes in case of knative integrations it's possible that it gets the pod that is in terminating state (due to auto scaling to 0)
         Predicate<Pod> readyPredicate = podPredicate.and(p ->
             "True".equals(p.getStatus().getConditions().stream().filter(c -> "ContainersReady".equals(c.getType())).findFirst()
                 .orElse(new PodConditionBuilder().withStatus("False").build()).getStatus()));
-        Optional<Pod> podOptional = OpenshiftClient.get().getPods().stream().filter(readyPredicate).findFirst();
-
+        Optional<Pod> podOptional = OpenshiftClient.get().podCache().getPods(readyPredicate).stream().findFirst();
         if (podOptional.isEmpty()) {
             LOG.trace("Specified pod doesn't exist (yet), returning empty string as logs");
+        }
+        return podOptional;
+    }
+
+    private String getLogs(Pod pod) {
+        try {
+            return OpenshiftClient.get().getLogs(pod);
+        } catch (Exception e) {
+            LOG.error("Exception while getting logs: " + e.getMessage() + ", returning empty string");
             return "";
-        } else {
-            try {
-                return StringUtils.removeColorCodes(OpenshiftClient.get().getLogs(podOptional.get()));
-            } catch (Exception e) {
-                LOG.error("Exception while getting logs: " + e.getMessage() + ", returning empty string");
-                return "";
-            }
         }
     }
 
@@ -55,24 +94,23 @@ public class OpenshiftLog extends Log {
             return toString();
         }
 
-        if (OpenshiftClient.get().getPods().stream().filter(podPredicate).findFirst().isEmpty()) {
+        if (OpenshiftClient.get().podCache().getPods(podPredicate).isEmpty()) {
             // It can happen that the integration wasn't built at all, so no pod will be present
             return "<No integration pod, probably the build of the integration failed>";
         }
 
         try {
-            WaitUtils.waitFor(
+            OpenshiftClient.get().podCache().waitFor(
                 () -> {
                     try {
-                        return OpenshiftClient.get().getPods().stream().filter(podPredicate).findFirst().filter(this::podFailed).isPresent();
+                        return OpenshiftClient.get().podCache().getPods(podPredicate).stream().findFirst().filter(this::podFailed).isPresent();
                     } catch (Exception ignored) {
                         return false;
                     }
                 },
-                60,
-                1000,
+                Duration.ofSeconds(60),
                 "Waiting until the pod is terminated to collect logs from failed integration");
-            Pod p = OpenshiftClient.get().getPods().stream().filter(podPredicate).findFirst().get();
+            Pod p = OpenshiftClient.get().podCache().getPods(podPredicate).stream().findFirst().get();
 
             return StringUtils.removeColorCodes(OpenshiftClient.get().pods().withName(p.getMetadata().getName())
                 .inContainer(OpenshiftClient.get().getIntegrationContainer(p)).terminated().getLog());
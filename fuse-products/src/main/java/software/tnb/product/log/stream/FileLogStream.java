@@ -1,26 +1,22 @@
 package software.tnb.product.log.stream;
 
 import software.tnb.common.config.TestConfiguration;
-import software.tnb.product.util.executor.Executor;
-
-import org.apache.commons.io.input.Tailer;
 
 import java.nio.file.Path;
 
 public class FileLogStream implements LogStream {
-    private Tailer tailer;
+    private LogStream stream;
 
     public FileLogStream(Path file, String marker) {
         if (TestConfiguration.streamLogs()) {
-            tailer = new Tailer(file.toFile(), new FileTailer(marker), 50);
-            Executor.get().submit(tailer);
+            stream = LogStreams.tail(file, new FileTailer(marker)::handle);
         }
     }
 
     @Override
     public void stop() {
-        if (tailer != null) {
-            tailer.stop();
+        if (stream != null) {
+            stream.stop();
         }
     }
 }
@@ -0,0 +1,342 @@
+package software.tnb.product.log.stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Runtime that streams the lines appended to the log files.
+ * <p>
+ * One reader thread tails all files: it is woken up by the {@link WatchService} when a file in a watched directory changes (and checks
+ * the files every {@value #POLL_INTERVAL} ms as a fallback for file systems without change notifications), reads the appended bytes and
+ * puts the lines to the bounded queue of the stream. One writer thread takes the lines from the queues and passes them to the consumers
+ * (the logger), so a slow appender never blocks the reading. A file is never read further than its queue can hold, the unread part stays
+ * in the file until the queue is drained. The number of threads doesn't depend on the number of streams, so no stream waits for a free
+ * thread.
+ * <p>
+ * A stopped stream reads the file until its current end, passes the remaining lines to the consumer and is removed.
+ */
+public final class LogStreams {
+    static final int QUEUE_CAPACITY = 16384;
+
+    private static final Logger LOG = LoggerFactory.getLogger(LogStreams.class);
+    // at most one line per byte, so a chunk always fits into the queue when it has this much free space
+    private static final int CHUNK_SIZE = 8192;
+    private static final long POLL_INTERVAL = 250L;
+    private static final long RATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+    private static final Set<TailedFile> STREAMS = ConcurrentHashMap.newKeySet();
+    private static final Map<Path, WatchKey> WATCHED_DIRECTORIES = new ConcurrentHashMap<>();
+    private static final Object SIGNAL = new Object();
+    private static final AtomicLong LINES = new AtomicLong();
+
+    private static WatchService watchService;
+    private static boolean started = false;
+    private static volatile double linesPerSecond;
+
+    private LogStreams() {
+    }
+
+    /**
+     * Starts streaming the lines of the file from its beginning, the file doesn't have to exist yet.
+     *
+     * @param file file to stream
+     * @param consumer consumer of the lines, invoked from the writer thread
+     * @return stream
+     */
+    public static TailedFile tail(Path file, Consumer<String> consumer) {
+        start();
+        final TailedFile stream = new TailedFile(file, consumer);
+        watch(file.toAbsolutePath().getParent());
+        STREAMS.add(stream);
+        return stream;
+    }
+
+    public static int activeStreams() {
+        return STREAMS.size();
+    }
+
+    /**
+     * Gets the number of lines read from all files that were not passed to the consumers yet.
+     *
+     * @return queue depth
+     */
+    public static int queueDepth() {
+        return STREAMS.stream().mapToInt(s -> s.queue.size()).sum();
+    }
+
+    /**
+     * Gets the number of lines passed to the consumers per second, measured over the last second.
+     *
+     * @return lines per second
+     */
+    public static double linesPerSecond() {
+        return linesPerSecond;
+    }
+
+    public static String report() {
+        return String.format("%d active streams, queue depth %d, %.1f lines/s, %d lines in total", activeStreams(), queueDepth(),
+            linesPerSecond(), LINES.get());
+    }
+
+    private static synchronized void start() {
+        if (started) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException e) {
+            LOG.debug("Unable to create the watch service, the log files will be polled", e);
+        }
+        daemon(LogStreams::readLoop, "tnb-log-reader").start();
+        daemon(LogStreams::writeLoop, "tnb-log-writer").start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> LOG.debug("Log streams: {}", report())));
+        started = true;
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        final Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static void watch(Path directory) {
+        if (watchService == null || directory == null || !Files.isDirectory(directory)) {
+            return;
+        }
+        WATCHED_DIRECTORIES.computeIfAbsent(directory, d -> {
+            try {
+                return d.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException e) {
+                LOG.debug("Unable to watch directory {}", d, e);
+                return null;
+            }
+        });
+    }
+
+    private static void readLoop() {
+        long sampleTime = System.nanoTime();
+        long sampleLines = 0;
+        while (true) {
+            try {
+                awaitChange();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean read = false;
+            for (TailedFile stream : STREAMS) {
+                read |= stream.read();
+            }
+            if (read) {
+                synchronized (SIGNAL) {
+                    SIGNAL.notifyAll();
+                }
+            }
+
+            final long now = System.nanoTime();
+            if (now - sampleTime >= RATE_INTERVAL) {
+                final long lines = LINES.get();
+                linesPerSecond = (lines - sampleLines) * (double) TimeUnit.SECONDS.toNanos(1) / (now - sampleTime);
+                sampleTime = now;
+                sampleLines = lines;
+            }
+        }
+    }
+
+    private static void awaitChange() throws InterruptedException {
+        if (watchService == null) {
+            Thread.sleep(POLL_INTERVAL);
+            return;
+        }
+        WatchKey key = watchService.poll(POLL_INTERVAL, TimeUnit.MILLISECONDS);
+        while (key != null) {
+            key.pollEvents();
+            key.reset();
+            key = watchService.poll();
+        }
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            boolean written = false;
+            for (TailedFile stream : STREAMS) {
+                written |= stream.drain();
+            }
+            if (!written) {
+                synchronized (SIGNAL) {
+                    try {
+                        SIGNAL.wait(POLL_INTERVAL);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stream of one file.
+     */
+    public static final class TailedFile implements LogStream {
+        private final Path file;
+        private final Consumer<String> consumer;
+        private final BlockingQueue<String> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        private final ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private FileChannel channel;
+        private long position;
+        private volatile boolean stopping;
+        private volatile boolean readerDone;
+
+        private TailedFile(Path file, Consumer<String> consumer) {
+            this.file = file;
+            this.consumer = consumer;
+        }
+
+        /**
+         * Reads the appended lines, invoked only from the reader thread.
+         *
+         * @return true if any line was read
+         */
+        private boolean read() {
+            if (readerDone) {
+                return false;
+            }
+            final int before = queue.size();
+            try {
+                if (channel == null) {
+                    if (!Files.exists(file)) {
+                        if (stopping) {
+                            finishReading();
+                        }
+                        return false;
+                    }
+                    channel = FileChannel.open(file, StandardOpenOption.READ);
+                }
+                final long size = channel.size();
+                if (size < position) {
+                    // the file was truncated, start from the beginning
+                    position = 0;
+                    line.reset();
+                }
+                while (position < size && queue.remainingCapacity() >= CHUNK_SIZE) {
+                    buffer.clear();
+                    final int count = channel.read(buffer, position);
+                    if (count <= 0) {
+                        break;
+                    }
+                    position += count;
+                    split(count);
+                }
+                if (stopping && position >= size) {
+                    if (line.size() > 0) {
+                        queue.offer(line.toString(Charset.defaultCharset()));
+                    }
+                    finishReading();
+                }
+            } catch (IOException e) {
+                LOG.debug("Unable to read log file {}", file, e);
+                if (stopping) {
+                    finishReading();
+                }
+            }
+            return queue.size() != before;
+        }
+
+        private void split(int count) {
+            final byte[] bytes = buffer.array();
+            for (int i = 0; i < count; i++) {
+                if (bytes[i] == '\n') {
+                    queue.offer(line.toString(Charset.defaultCharset()));
+                    line.reset();
+                } else if (bytes[i] != '\r') {
+                    line.write(bytes[i]);
+                }
+            }
+        }
+
+        private void finishReading() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException e) {
+                    LOG.debug("Unable to close log file {}", file, e);
+                }
+            }
+            readerDone = true;
+        }
+
+        /**
+         * Passes the queued lines to the consumer, invoked only from the writer thread.
+         *
+         * @return true if any line was passed
+         */
+        private boolean drain() {
+            // check before polling, so that the lines queued by the final read are never left behind
+            final boolean done = readerDone;
+            int count = 0;
+            String next;
+            while ((next = queue.poll()) != null) {
+                try {
+                    consumer.accept(next);
+                } catch (RuntimeException e) {
+                    LOG.debug("Log line consumer of {} failed", file, e);
+                }
+                count++;
+            }
+            LINES.addAndGet(count);
+            if (done) {
+                STREAMS.remove(this);
+                finished.countDown();
+            }
+            return count > 0;
+        }
+
+        /**
+         * Stops the stream, the lines already written to the file are still passed to the consumer.
+         */
+        @Override
+        public void stop() {
+            stopping = true;
+        }
+
+        /**
+         * Waits until all lines are passed to the consumer after the stream was stopped.
+         *
+         * @param timeout timeout
+         * @return true if the stream finished
+         */
+        public boolean awaitStopped(Duration timeout) {
+            try {
+                return finished.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+}
@@ -2,22 +2,20 @@ package software.tnb.product.log.stream;
 
 import software.tnb.common.config.TestConfiguration;
 import software.tnb.common.openshift.OpenshiftClient;
-import software.tnb.common.utils.WaitUtils;
-import software.tnb.product.util.executor.Executor;
+import software.tnb.common.openshift.OpenshiftPodCache;
+import software.tnb.common.utils.IOUtils;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.Marker;
 import org.apache.logging.log4j.MarkerManager;
 import org.apache.logging.log4j.io.IoBuilder;
 
+import java.io.Closeable;
 import java.time.Instant;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
-import cz.xtf.core.openshift.helpers.ResourceParsers;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.client.dsl.LogWatch;
 
@@ -25,11 +23,15 @@ public class OpenshiftLogStream implements LogStream {
     private final Predicate<Pod> podPredicate;
     private final Marker marker;
     private final Map<String, LogWatch> watchers;
+    private final OpenshiftClient client;
+    private Closeable listener;
     private boolean run = true;
 
     public OpenshiftLogStream(Predicate<Pod> podPredicate, String marker) {
         this.podPredicate = podPredicate;
         this.watchers = new HashMap<>();
+        // the listener is invoked from the informer thread, so keep the client of the current thread
+        this.client = OpenshiftClient.get();
 
         // Create a marker that will be printed in the logs
         this.marker = MarkerManager.getMarker(marker);
@@ -43,23 +45,24 @@ public class OpenshiftLogStream implements LogStream {
     }
 
     /**
-     * Runs a loop that checks the pods in the namespace, filtered by the given predicate.
-     * For each pod start/stop the log stream, depending on the pod state
+     * Registers a listener in the pod cache that starts/stops the log stream for each pod matching the predicate, depending on the pod state.
      */
     private void start() {
-        Executor.get().submit(() -> {
-            while (run) {
-                WaitUtils.sleep(1000);
-                List<Pod> pods = OpenshiftClient.get().pods().list().getItems().stream().filter(podPredicate).collect(Collectors.toList());
-                for (Pod p : pods) {
-                    if (p.getMetadata().getDeletionTimestamp() != null) {
-                        if (watchers.containsKey(p.getMetadata().getName())) {
-                            stopWatch(p);
-                        }
-                    } else {
-                        if (!watchers.containsKey(p.getMetadata().getName()) && ResourceParsers.isPodReady(p)) {
-                            startWatch(p);
-                        }
+        listener = client.podCache().addListener(podPredicate, new OpenshiftPodCache.PodListener() {
+            @Override
+            public void podReady(Pod pod) {
+                synchronized (watchers) {
+                    if (run && !watchers.containsKey(pod.getMetadata().getName())) {
+                        startWatch(pod);
+                    }
+                }
+            }
+
+            @Override
+            public void podDeleted(Pod pod) {
+                synchronized (watchers) {
+                    if (watchers.containsKey(pod.getMetadata().getName())) {
+                        stopWatch(pod);
                     }
                 }
             }
@@ -73,11 +76,11 @@ public class OpenshiftLogStream implements LogStream {
      * @param pod pod
      */
     private void startWatch(Pod pod) {
-        String container = OpenshiftClient.get().getIntegrationContainer(pod);
+        String container = client.getIntegrationContainer(pod);
 
         watchers.put(
             pod.getMetadata().getName(),
-            OpenshiftClient.get().pods().withName(pod.getMetadata().getName()).inContainer(container)
+            client.pods().withName(pod.getMetadata().getName()).inContainer(container)
                 .watchLog(IoBuilder.forLogger(OpenshiftLogStream.class).setMarker(marker).setLevel(Level.INFO).buildOutputStream())
         );
     }
@@ -85,9 +88,9 @@ public class OpenshiftLogStream implements LogStream {
     /**
      * Stop the watch for given pod name.
      *
-     * After stopping the log stream, don't remove the pod name from the map, so that the watcher isn't started back in the next loop step
-     * (for example, the log stream is stopped before the integration pod is stopped, so it is very likely, that the next loop step would see
-     * the integration pod as running and it would start the stream again)
+     * After stopping the log stream, don't remove the pod name from the map, so that the watcher isn't started back
+     * (for example, the log stream is stopped before the integration pod is stopped, so it is very likely, that the pod would still be reported
+     * as ready and it would start the stream again)
      *
      * @param podName pod name
      */
@@ -104,7 +107,12 @@ public class OpenshiftLogStream implements LogStream {
 
     @Override
     public void stop() {
-        run = false;
-        watchers.keySet().forEach(this::stopWatch);
+        synchronized (watchers) {
+            run = false;
+            if (listener != null) {
+                IOUtils.closeQuietly(listener);
+            }
+            watchers.keySet().forEach(this::stopWatch);
+        }
     }
 }
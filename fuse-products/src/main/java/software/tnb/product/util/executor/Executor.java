@@ -3,13 +3,23 @@ package software.tnb.product.util.executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
+/**
+ * Shared thread pool that used to run the log file tailers.
+ *
+ * @deprecated the log files are streamed by {@link software.tnb.product.log.stream.LogStreams} and this pool isn't used by the framework
+ * anymore, it is kept only for the existing users and will be removed in a future release, use your own executor instead
+ */
+@Deprecated
 public final class Executor {
-    private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
-
     private Executor() {
     }
 
     public static ExecutorService get() {
-        return EXECUTOR_SERVICE;
+        return Holder.EXECUTOR_SERVICE;
+    }
+
+    // the pool is created on first use, so the threads are not started when nobody uses it
+    private static final class Holder {
+        private static final ExecutorService EXECUTOR_SERVICE = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
     }
 }
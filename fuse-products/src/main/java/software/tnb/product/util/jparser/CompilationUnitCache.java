@@ -0,0 +1,126 @@
+package software.tnb.product.util.jparser;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.utils.ParserCollectionStrategy;
+import com.github.javaparser.utils.SourceRoot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Cache of the parsed java sources shared by all integration builders.
+ * <p>
+ * Each file is parsed once as long as its modification time and size don't change. The cached compilation units are never exposed,
+ * every caller gets its own copy that it can freely modify (the route builder processing and the customizers change the AST), so the
+ * cached snapshots stay untouched and can be copied concurrently.
+ */
+public final class CompilationUnitCache {
+    private static final Logger LOG = LoggerFactory.getLogger(CompilationUnitCache.class);
+    private static final Map<Path, Entry> UNITS = new ConcurrentHashMap<>();
+    private static final Map<Path, List<Path>> SOURCE_ROOTS = new ConcurrentHashMap<>();
+
+    private CompilationUnitCache() {
+    }
+
+    /**
+     * Gets the source roots of the given maven module, the directories under target are ignored.
+     *
+     * @param moduleRoot root directory of the maven module
+     * @return source root directories
+     */
+    public static List<Path> sourceRoots(Path moduleRoot) {
+        return SOURCE_ROOTS.computeIfAbsent(moduleRoot.toAbsolutePath().normalize(), root ->
+            new ParserCollectionStrategy().collect(root).getSourceRoots().stream()
+                .map(SourceRoot::getRoot)
+                .filter(sr -> !sr.toString().contains("target"))
+                .collect(Collectors.toUnmodifiableList()));
+    }
+
+    /**
+     * Parses the given file in all source roots in parallel and returns the first successfully parsed one in the order of the source roots.
+     *
+     * @param sourceRoots source roots
+     * @param packageName package name of the class
+     * @param fileName file name of the class
+     * @return copy of the compilation unit, empty if the file is not present or can't be parsed in any source root
+     */
+    public static Optional<CompilationUnit> find(List<Path> sourceRoots, String packageName, String fileName) {
+        final String packagePath = packageName.replace('.', '/');
+        return sourceRoots.parallelStream()
+            .map(sr -> get(sr.resolve(packagePath).resolve(fileName)))
+            .flatMap(Optional::stream)
+            .findFirst();
+    }
+
+    /**
+     * Parses the given files in parallel.
+     *
+     * @param files java files
+     * @return copies of the compilation units in the order of the files
+     */
+    public static List<CompilationUnit> getAll(List<Path> files) {
+        return files.parallelStream()
+            .map(f -> get(f).orElseThrow(() -> new RuntimeException("Unable to parse file " + f)))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Gets the compilation unit of the given file.
+     *
+     * @param file java file
+     * @return copy of the compilation unit, empty if the file doesn't exist or can't be parsed
+     */
+    public static Optional<CompilationUnit> get(Path file) {
+        final Path key = file.toAbsolutePath().normalize();
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(key, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+
+        Entry entry = UNITS.get(key);
+        if (entry == null || !entry.matches(attributes)) {
+            entry = new Entry(attributes.lastModifiedTime(), attributes.size(), parse(key));
+            UNITS.put(key, entry);
+        }
+        return entry.unit() == null ? Optional.empty() : Optional.of(entry.unit().clone());
+    }
+
+    private static CompilationUnit parse(Path file) {
+        try {
+            final ParseResult<CompilationUnit> result = new JavaParser().parse(file);
+            if (result.isSuccessful() && result.getResult().isPresent()) {
+                return result.getResult().get();
+            }
+            LOG.debug("Unable to parse {}: {}", file, result.getProblems());
+        } catch (IOException e) {
+            LOG.debug("Unable to read {}", file, e);
+        }
+        return null;
+    }
+
+    public static void clear() {
+        UNITS.clear();
+        SOURCE_ROOTS.clear();
+    }
+
+    private record Entry(FileTime modified, long size, CompilationUnit unit) {
+        boolean matches(BasicFileAttributes attributes) {
+            return modified.equals(attributes.lastModifiedTime()) && size == attributes.size();
+        }
+    }
+}
@@ -0,0 +1,312 @@
+package software.tnb.product.util.maven;
+
+import software.tnb.common.config.TestConfiguration;
+
+import org.apache.commons.io.FileUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local cache of the maven build artifacts.
+ * <p>
+ * The cache key is a hash of the generated project (all files in the base directory except the target directory - this covers the
+ * route sources, resources, application properties and the pom with the dependencies, plugins and product version) together with
+ * the build goals, profiles, properties and the maven settings. When the key is found in the cache, the artifacts are copied to the
+ * project instead of invoking maven. Note that the changes in the SNAPSHOT dependencies are not detected.
+ * <p>
+ * The cache is enabled by the {@link TestConfiguration#BUILD_CACHE} property and only the build requests with the cached artifacts
+ * specified are cached.
+ */
+public final class BuildCache {
+    private static final Logger LOG = LoggerFactory.getLogger(BuildCache.class);
+    private static final String ARTIFACTS_DIR = "artifacts";
+    private static final String METADATA_FILE = "build.properties";
+    private static final String BUILD_TIME = "build.time";
+    private static final ThreadLocal<Stats> STATS = new ThreadLocal<>();
+
+    private BuildCache() {
+    }
+
+    public static boolean isEnabled() {
+        return TestConfiguration.buildCache();
+    }
+
+    /**
+     * Sets the statistics to which the cache hits and misses in the current thread are recorded.
+     *
+     * @param stats stats instance, null to stop recording
+     */
+    public static void recordTo(Stats stats) {
+        if (stats == null) {
+            STATS.remove();
+        } else {
+            STATS.set(stats);
+        }
+    }
+
+    /**
+     * Restores the artifacts of the build request from the cache, or runs the build and stores the artifacts if they are not cached.
+     *
+     * @param request build request
+     * @param build function that runs the build
+     */
+    public static void build(BuildRequest request, Consumer<BuildRequest> build) {
+        final Path dir = request.getBaseDirectory().toPath();
+        final String key = key(request);
+        final Path entry = TestConfiguration.buildCacheDir().resolve(key);
+        final Stats stats = STATS.get();
+
+        if (Files.isDirectory(entry)) {
+            try {
+                final long start = System.currentTimeMillis();
+                final long saved = Math.max(0, restore(request, entry) - (System.currentTimeMillis() - start));
+                LOG.info("Build cache hit for {} ({}), saved {} ms", dir, key, saved);
+                closeOutput(request, "Build artifacts restored from the build cache entry " + entry.toAbsolutePath());
+                if (stats != null) {
+                    stats.hit(saved);
+                }
+                return;
+            } catch (Exception e) {
+                LOG.warn("Unable to restore cached build {}, building the project", key, e);
+            }
+        }
+
+        LOG.info("Build cache miss for {} ({})", dir, key);
+        final long start = System.currentTimeMillis();
+        build.accept(request);
+        final long buildTime = System.currentTimeMillis() - start;
+        if (stats != null) {
+            stats.miss();
+        }
+
+        try {
+            store(request, entry, buildTime);
+        } catch (Exception e) {
+            LOG.warn("Unable to store build {} in the build cache", key, e);
+        }
+    }
+
+    /**
+     * Computes the cache key of the given build request.
+     *
+     * @param request build request
+     * @return hex encoded sha-256 hash
+     */
+    static String key(BuildRequest request) {
+        final MessageDigest digest = sha256();
+        update(digest, "java=" + System.getProperty("java.version"));
+        update(digest, "product=" + TestConfiguration.product().getValue());
+        update(digest, "goals=" + request.getGoals());
+        update(digest, "profiles=" + request.getProfiles());
+        update(digest, "properties=" + new TreeMap<>(request.getProperties()));
+        update(digest, "artifacts=" + request.getCachedArtifacts());
+        update(digest, "repository=" + TestConfiguration.mavenRepository());
+        update(digest, "args=" + TestConfiguration.mavenExtraArgs());
+        if (TestConfiguration.mavenSettings() != null) {
+            updateWithFile(digest, Path.of(TestConfiguration.mavenSettings()));
+        }
+
+        final Path dir = request.getBaseDirectory().toPath();
+        final Path target = dir.resolve("target");
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.filter(f -> !f.startsWith(target) && Files.isRegularFile(f)).sorted().collect(Collectors.toList())) {
+                update(digest, "file=" + dir.relativize(file).toString().replace(File.separatorChar, '/'));
+                updateWithFile(digest, file);
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to compute the build cache key for " + dir, e);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Copies the cached artifacts to the project.
+     *
+     * @return the duration of the original build
+     */
+    private static long restore(BuildRequest request, Path entry) throws IOException {
+        final File dir = request.getBaseDirectory();
+        if (request.getGoals().contains("clean")) {
+            FileUtils.deleteDirectory(new File(dir, "target"));
+        }
+        FileUtils.copyDirectory(entry.resolve(ARTIFACTS_DIR).toFile(), dir);
+
+        final Properties metadata = new Properties();
+        try (InputStream is = Files.newInputStream(entry.resolve(METADATA_FILE))) {
+            metadata.load(is);
+        }
+        return Long.parseLong(metadata.getProperty(BUILD_TIME, "0"));
+    }
+
+    private static void store(BuildRequest request, Path entry, long buildTime) throws IOException {
+        final Path dir = request.getBaseDirectory().toPath();
+        final List<PathMatcher> matchers = request.getCachedArtifacts().stream()
+            .map(pattern -> FileSystems.getDefault().getPathMatcher("glob:" + pattern))
+            .collect(Collectors.toList());
+        final List<Path> artifacts = new ArrayList<>();
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path d, BasicFileAttributes attrs) {
+                if (matches(d)) {
+                    artifacts.add(d);
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (matches(file)) {
+                    artifacts.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            private boolean matches(Path path) {
+                final Path relative = dir.relativize(path);
+                return matchers.stream().anyMatch(m -> m.matches(relative));
+            }
+        });
+
+        if (artifacts.isEmpty()) {
+            LOG.warn("No artifacts matching {} found in {}, not caching the build", request.getCachedArtifacts(), dir);
+            return;
+        }
+
+        // copy everything to a temporary directory first, so that other builds never see an incomplete entry
+        final Path tmp = entry.resolveSibling(entry.getFileName() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            for (Path artifact : artifacts) {
+                final Path destination = tmp.resolve(ARTIFACTS_DIR).resolve(dir.relativize(artifact).toString());
+                if (Files.isDirectory(artifact)) {
+                    FileUtils.copyDirectory(artifact.toFile(), destination.toFile());
+                } else {
+                    FileUtils.copyFile(artifact.toFile(), destination.toFile());
+                }
+            }
+            final Properties metadata = new Properties();
+            metadata.setProperty(BUILD_TIME, String.valueOf(buildTime));
+            try (OutputStream os = Files.newOutputStream(tmp.resolve(METADATA_FILE))) {
+                metadata.store(os, null);
+            }
+            Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            LOG.debug("Stored {} artifacts of {} in the build cache", artifacts.size(), dir);
+        } catch (FileAlreadyExistsException e) {
+            LOG.debug("Build {} was already stored in the build cache", entry.getFileName());
+        } finally {
+            FileUtils.deleteQuietly(tmp.toFile());
+        }
+    }
+
+    private static void closeOutput(BuildRequest request, String message) {
+        if (request.getOutputHandler() == null) {
+            return;
+        }
+        try {
+            request.getOutputHandler().consumeLine(message);
+            if (request.getOutputHandler() instanceof Closeable) {
+                ((Closeable) request.getOutputHandler()).close();
+            }
+        } catch (IOException e) {
+            LOG.warn("Can't write to the build log file", e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static void updateWithFile(MessageDigest digest, Path file) {
+        try (InputStream is = new DigestInputStream(Files.newInputStream(file), digest)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to read file " + file, e);
+        }
+        digest.update((byte) 0);
+    }
+
+    /**
+     * Build cache statistics.
+     */
+    public static final class Stats {
+        private final AtomicInteger hits = new AtomicInteger();
+        private final AtomicInteger misses = new AtomicInteger();
+        private final AtomicLong timeSaved = new AtomicLong();
+
+        private void hit(long saved) {
+            hits.incrementAndGet();
+            timeSaved.addAndGet(saved);
+        }
+
+        private void miss() {
+            misses.incrementAndGet();
+        }
+
+        public int hits() {
+            return hits.get();
+        }
+
+        public int misses() {
+            return misses.get();
+        }
+
+        /**
+         * Returns the sum of the original build times of the restored builds minus the time spent restoring them.
+         *
+         * @return time saved in milliseconds
+         */
+        public long timeSaved() {
+            return timeSaved.get();
+        }
+
+        public void reset() {
+            hits.set(0);
+            misses.set(0);
+            timeSaved.set(0);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d hits, %d misses, %d ms saved", hits(), misses(), timeSaved());
+        }
+    }
+}
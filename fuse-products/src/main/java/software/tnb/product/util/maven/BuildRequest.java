@@ -28,6 +28,7 @@ public final class BuildRequest {
     private MavenOutputHandler outputHandler;
     private Path logFile;
     private String logMarker;
+    private List<String> cachedArtifacts = new ArrayList<>();
 
     private BuildRequest() {
         logFile = TestConfiguration.appLocation().resolve("maven-invocation-" + FORMATTER.format(Instant.now()) + ".log");
@@ -89,6 +90,14 @@ public final class BuildRequest {
         this.logMarker = logMarker;
     }
 
+    public List<String> getCachedArtifacts() {
+        return cachedArtifacts;
+    }
+
+    public void setCachedArtifacts(List<String> cachedArtifacts) {
+        this.cachedArtifacts = cachedArtifacts;
+    }
+
     public static class Builder {
         private final BuildRequest request;
 
@@ -131,6 +140,17 @@ public final class BuildRequest {
             return this;
         }
 
+        /**
+         * Marks the build as cacheable, see {@link BuildCache}.
+         *
+         * @param cachedArtifacts glob patterns of the build artifacts relative to the base directory, for example "target/*.jar"
+         * @return this
+         */
+        public Builder withCachedArtifacts(String... cachedArtifacts) {
+            request.setCachedArtifacts(Arrays.asList(cachedArtifacts));
+            return this;
+        }
+
         public BuildRequest build() {
             if (request.getLogFile() == null) {
                 throw new IllegalArgumentException("You need to specify a log file for a maven build request");
@@ -0,0 +1,117 @@
+package software.tnb.product.util.maven;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Durations of the maven invocations for each backend, so that the backends can be compared. The first invocation is tracked separately,
+ * as it includes the warm-up of the persistent backends.
+ */
+public final class BuildTimings {
+    private static final Logger LOG = LoggerFactory.getLogger(BuildTimings.class);
+    private static final Map<MavenBackend, Timing> TIMINGS = new EnumMap<>(MavenBackend.class);
+    private static boolean hookRegistered = false;
+
+    private BuildTimings() {
+    }
+
+    /**
+     * Records the duration of one maven invocation.
+     *
+     * @param backend backend that executed the invocation
+     * @param millis duration in milliseconds
+     */
+    public static synchronized void record(MavenBackend backend, long millis) {
+        if (!hookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> LOG.info("Maven invocations: {}", report())));
+            hookRegistered = true;
+        }
+        TIMINGS.computeIfAbsent(backend, b -> new Timing()).record(millis);
+    }
+
+    /**
+     * Gets the timings of all backends.
+     *
+     * @return map of backend to its timing
+     */
+    public static synchronized Map<MavenBackend, Timing> timings() {
+        return TIMINGS.entrySet().stream().collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().copy()));
+    }
+
+    public static synchronized void reset() {
+        TIMINGS.clear();
+    }
+
+    /**
+     * Returns the summary of all backends, one backend per line.
+     *
+     * @return summary
+     */
+    public static synchronized String report() {
+        return TIMINGS.entrySet().stream().map(e -> e.getKey().name().toLowerCase(Locale.ROOT) + ": " + e.getValue())
+            .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Invocation durations of one backend.
+     */
+    public static final class Timing {
+        private long count;
+        private long first;
+        private long total;
+        private long max;
+
+        private void record(long millis) {
+            if (count == 0) {
+                first = millis;
+            }
+            count++;
+            total += millis;
+            max = Math.max(max, millis);
+        }
+
+        private Timing copy() {
+            final Timing copy = new Timing();
+            copy.count = count;
+            copy.first = first;
+            copy.total = total;
+            copy.max = max;
+            return copy;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        public long firstMillis() {
+            return first;
+        }
+
+        public long totalMillis() {
+            return total;
+        }
+
+        public long maxMillis() {
+            return max;
+        }
+
+        /**
+         * Returns the average duration of the invocations after the first one.
+         *
+         * @return average duration in milliseconds, or 0 if there was only one invocation
+         */
+        public long warmAverageMillis() {
+            return count < 2 ? 0 : (total - first) / (count - 1);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, total=%dms, first=%dms, warm avg=%dms, max=%dms", count, total, first, warmAverageMillis(), max);
+        }
+    }
+}
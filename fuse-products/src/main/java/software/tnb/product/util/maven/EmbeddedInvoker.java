@@ -0,0 +1,265 @@
+package software.tnb.product.util.maven;
+
+import org.apache.maven.shared.invoker.CommandLineConfigurationException;
+import org.apache.maven.shared.invoker.InvocationOutputHandler;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.apache.maven.shared.invoker.Invoker;
+import org.apache.maven.shared.invoker.InvokerLogger;
+import org.apache.maven.shared.invoker.MavenCommandLineBuilder;
+import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.apache.maven.shared.invoker.PrintStreamLogger;
+import org.apache.maven.shared.utils.cli.CommandLineException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Invoker that runs the maven builds inside the test JVM using the maven CLI of the maven installation.
+ * <p>
+ * The maven classes are loaded once into a class loader isolated from the test classpath and the class loader is reused for all builds,
+ * so the builds don't pay for the JVM startup and the loading of the maven core again. The builds are executed one at a time, because the
+ * maven CLI sets the system properties and redirects the standard output of the whole JVM while it runs (so the output of other threads
+ * ends up in the build log in the meantime), which is why this invoker is not used for the parallel runs (see {@link MavenBackend}). The
+ * system properties are restored after each build, so the user properties of one build are not seen by the next build nor the tests.
+ * <p>
+ * A build can't be stopped nor get its own JVM or environment, so the requests with a timeout, java home or environment variables are
+ * refused, these need the fork backend.
+ */
+public class EmbeddedInvoker implements Invoker {
+    private static final Logger LOG = LoggerFactory.getLogger(EmbeddedInvoker.class);
+    private static final String MAVEN_CLI = "org.apache.maven.cli.MavenCli";
+    private static final String MULTI_MODULE_PROJECT_DIRECTORY = "maven.multiModuleProjectDirectory";
+    private static final String MAVEN_CONF = "maven.conf";
+    // maven's logging configuration caches the standard output of the first build, but each build has its own output
+    private static final String CACHE_OUTPUT_STREAM = "org.slf4j.simpleLogger.cacheOutputStream";
+    private static ClassLoader mavenClassLoader;
+
+    private File mavenHome;
+    private File mavenExecutable;
+    private File localRepositoryDirectory;
+    private File workingDirectory;
+    private InvokerLogger logger = new PrintStreamLogger();
+    private InvocationOutputHandler outputHandler = System.out::println;
+    private InvocationOutputHandler errorHandler = System.err::println;
+
+    @Override
+    public InvocationResult execute(InvocationRequest request) throws MavenInvocationException {
+        if (mavenHome == null && System.getProperty("maven.home") == null) {
+            throw new MavenInvocationException("Maven home is not set, the embedded maven needs a maven installation");
+        }
+        if (request.getJavaHome() != null || !request.getShellEnvironments().isEmpty()
+            || request.getTimeoutInSeconds() > InvocationRequest.NO_TIMEOUT) {
+            throw new MavenInvocationException("The embedded maven runs in the test JVM and doesn't support the java home, the environment"
+                + " variables nor the timeout of the build, use the fork maven backend for this build");
+        }
+        final File home = mavenHome != null ? mavenHome : new File(System.getProperty("maven.home"));
+        final MavenCommandLineBuilder builder = new MavenCommandLineBuilder();
+        builder.setMavenHome(home);
+        builder.setLocalRepositoryDirectory(localRepositoryDirectory);
+        builder.setBaseDirectory(workingDirectory);
+        builder.setLogger(logger);
+        final String[] args;
+        final File baseDirectory;
+        try {
+            args = builder.build(request).getArguments();
+            baseDirectory = builder.getBaseDirectory();
+        } catch (CommandLineConfigurationException e) {
+            throw new MavenInvocationException("Error configuring command line", e);
+        }
+
+        final int exitCode = run(home, args, baseDirectory, request.getOutputHandler(outputHandler), request.getErrorHandler(errorHandler));
+        return new InvocationResult() {
+            @Override
+            public CommandLineException getExecutionException() {
+                return null;
+            }
+
+            @Override
+            public int getExitCode() {
+                return exitCode;
+            }
+        };
+    }
+
+    private static synchronized int run(File home, String[] args, File baseDirectory, InvocationOutputHandler out,
+        InvocationOutputHandler err) throws MavenInvocationException {
+        final ClassLoader classLoader = mavenClassLoader(home);
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+        final Map<String, String> properties = Map.of(MULTI_MODULE_PROJECT_DIRECTORY, baseDirectory.getAbsolutePath(),
+            MAVEN_CONF, new File(home, "conf").getAbsolutePath(), CACHE_OUTPUT_STREAM, "false");
+        // the maven CLI sets every -D property of the build as a system property, so all of them are restored afterwards
+        final Properties previous = new Properties();
+        previous.putAll(System.getProperties());
+        try (PrintStream stdout = new PrintStream(new LineOutputStream(out), true, StandardCharsets.UTF_8);
+            PrintStream stderr = new PrintStream(new LineOutputStream(err), true, StandardCharsets.UTF_8)) {
+            thread.setContextClassLoader(classLoader);
+            properties.forEach(System::setProperty);
+            final Class<?> cli = classLoader.loadClass(MAVEN_CLI);
+            return (int) cli.getMethod("doMain", String[].class, String.class, PrintStream.class, PrintStream.class)
+                .invoke(cli.getConstructor().newInstance(), args, baseDirectory.getAbsolutePath(), stdout, stderr);
+        } catch (InvocationTargetException e) {
+            throw new MavenInvocationException("Error while executing embedded maven", e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new MavenInvocationException("Unable to invoke the maven CLI from " + home, e);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+            System.getProperties().keySet().removeIf(key -> !previous.containsKey(key));
+            System.getProperties().putAll(previous);
+        }
+    }
+
+    /**
+     * Creates the class loader with the maven libraries, the parent is the platform class loader so that the maven classes are not mixed
+     * with the versions on the test classpath.
+     */
+    private static ClassLoader mavenClassLoader(File home) throws MavenInvocationException {
+        if (mavenClassLoader == null) {
+            final List<URL> urls = new ArrayList<>();
+            for (String dir : List.of("boot", "lib")) {
+                final File[] jars = new File(home, dir).listFiles((d, name) -> name.endsWith(".jar"));
+                if (jars == null) {
+                    throw new MavenInvocationException("Maven installation " + home + " doesn't contain the " + dir + " directory");
+                }
+                for (File jar : jars) {
+                    try {
+                        urls.add(jar.toURI().toURL());
+                    } catch (MalformedURLException e) {
+                        throw new MavenInvocationException("Invalid maven library " + jar, e);
+                    }
+                }
+            }
+            try {
+                // the launcher script puts the logging configuration on the classpath
+                urls.add(new File(home, "conf/logging").toURI().toURL());
+            } catch (MalformedURLException e) {
+                throw new MavenInvocationException("Invalid maven logging configuration directory", e);
+            }
+            LOG.debug("Loading embedded maven from {}", home);
+            mavenClassLoader = new URLClassLoader("embedded-maven", urls.toArray(URL[]::new), ClassLoader.getPlatformClassLoader());
+        }
+        return mavenClassLoader;
+    }
+
+    @Override
+    public File getLocalRepositoryDirectory() {
+        return localRepositoryDirectory;
+    }
+
+    @Override
+    public File getWorkingDirectory() {
+        return workingDirectory;
+    }
+
+    @Override
+    public InvokerLogger getLogger() {
+        return logger;
+    }
+
+    @Override
+    public File getMavenHome() {
+        return mavenHome;
+    }
+
+    @Override
+    public Invoker setMavenHome(File mavenHome) {
+        this.mavenHome = mavenHome;
+        return this;
+    }
+
+    @Override
+    public File getMavenExecutable() {
+        return mavenExecutable;
+    }
+
+    @Override
+    public Invoker setMavenExecutable(File mavenExecutable) {
+        this.mavenExecutable = mavenExecutable;
+        return this;
+    }
+
+    @Override
+    public Invoker setLocalRepositoryDirectory(File localRepositoryDirectory) {
+        this.localRepositoryDirectory = localRepositoryDirectory;
+        return this;
+    }
+
+    @Override
+    public Invoker setLogger(InvokerLogger logger) {
+        this.logger = logger;
+        return this;
+    }
+
+    @Override
+    public Invoker setWorkingDirectory(File workingDirectory) {
+        this.workingDirectory = workingDirectory;
+        return this;
+    }
+
+    @Override
+    public Invoker setInputStream(InputStream inputStream) {
+        // the builds run in batch mode, the input is never read
+        return this;
+    }
+
+    @Override
+    public Invoker setOutputHandler(InvocationOutputHandler outputHandler) {
+        this.outputHandler = outputHandler;
+        return this;
+    }
+
+    @Override
+    public Invoker setErrorHandler(InvocationOutputHandler errorHandler) {
+        this.errorHandler = errorHandler;
+        return this;
+    }
+
+    /**
+     * Splits the maven output into lines and passes them to the output handler, like the forked invoker does.
+     */
+    private static final class LineOutputStream extends OutputStream {
+        private final InvocationOutputHandler handler;
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream();
+
+        LineOutputStream(InvocationOutputHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public synchronized void write(int b) throws IOException {
+            if (b == '\n') {
+                flushLine();
+            } else if (b != '\r') {
+                line.write(b);
+            }
+        }
+
+        private void flushLine() throws IOException {
+            handler.consumeLine(line.toString(StandardCharsets.UTF_8));
+            line.reset();
+        }
+
+        @Override
+        public synchronized void close() throws IOException {
+            if (line.size() > 0) {
+                flushLine();
+            }
+        }
+    }
+}
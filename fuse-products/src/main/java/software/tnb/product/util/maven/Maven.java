@@ -20,7 +20,6 @@ import org.apache.maven.settings.RepositoryPolicy;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.settings.io.xpp3.SettingsXpp3Writer;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
-import org.apache.maven.shared.invoker.DefaultInvoker;
 import org.apache.maven.shared.invoker.InvocationRequest;
 import org.apache.maven.shared.invoker.InvocationResult;
 import org.apache.maven.shared.invoker.Invoker;
@@ -42,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
@@ -52,23 +52,44 @@ import java.util.stream.Collectors;
  */
 public class Maven {
     private static final Logger LOG = LoggerFactory.getLogger(Maven.class);
-    protected static Invoker invoker;
-    protected static boolean initialized = false;
+    protected static volatile Invoker invoker;
+    // backend of the invoker created from the configuration, null when the invoker was set directly
+    protected static volatile MavenBackend backend;
+    protected static volatile boolean initialized = false;
 
     protected Maven() {
     }
 
     private static InvocationRequest newRequest() {
-        if (invoker == null) {
-            invoker = new DefaultInvoker();
-        }
         return new DefaultInvocationRequest();
     }
 
+    /**
+     * Gets the invoker, creating it on first use. The builds run concurrently, so the invoker is created only once.
+     *
+     * @return invoker
+     */
+    private static Invoker invoker() {
+        Invoker current = invoker;
+        if (current == null) {
+            synchronized (Maven.class) {
+                current = invoker;
+                if (current == null) {
+                    final MavenBackend selected = MavenBackend.fromConfiguration();
+                    LOG.debug("Using {} maven backend", selected.name().toLowerCase(Locale.ROOT));
+                    current = selected.createInvoker();
+                    backend = selected;
+                    invoker = current;
+                }
+            }
+        }
+        return current;
+    }
+
     /**
      * Maven invoker needs to have maven.home property set, so try to find it in multiple places.
      */
-    public static void setupMaven() {
+    public static synchronized void setupMaven() {
         if (initialized) {
             return;
         }
@@ -126,6 +147,14 @@ public class Maven {
      * @param buildRequest MavenRequest class instance
      */
     public static void invoke(BuildRequest buildRequest) {
+        if (BuildCache.isEnabled() && !buildRequest.getCachedArtifacts().isEmpty()) {
+            BuildCache.build(buildRequest, Maven::execute);
+        } else {
+            execute(buildRequest);
+        }
+    }
+
+    private static void execute(BuildRequest buildRequest) {
         InvocationResult result;
 
         File dir = buildRequest.getBaseDirectory();
@@ -192,8 +221,15 @@ public class Maven {
         String marker = buildRequest.getLogMarker() != null ? buildRequest.getLogMarker() : "[MARKER-MISSING]";
 
         LogStream logStream = new FileLogStream(file, marker);
+        final long start = System.currentTimeMillis();
         try {
-            result = invoker.execute(request);
+            result = invoker().execute(request);
+            final long duration = System.currentTimeMillis() - start;
+            LOG.debug("Maven invocation of {} took {} ms", goals, duration);
+            final MavenBackend used = backend;
+            if (used != null) {
+                BuildTimings.record(used, duration);
+            }
         } catch (MavenInvocationException e) {
             throw new RuntimeException("Error while executing maven: ", e);
         } finally {
@@ -0,0 +1,93 @@
+package software.tnb.product.util.maven;
+
+import software.tnb.common.config.TestConfiguration;
+
+import org.apache.maven.shared.invoker.DefaultInvoker;
+import org.apache.maven.shared.invoker.Invoker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Backend that executes the maven builds.
+ */
+public enum MavenBackend {
+    /**
+     * New maven process for each build.
+     */
+    FORK,
+    /**
+     * Builds are dispatched to the maven daemon (mvnd) that keeps the warm maven instances with the loaded plugins between the builds.
+     */
+    DAEMON,
+    /**
+     * Builds run inside the test JVM, maven is loaded once into an isolated class loader. The builds run one at a time, so this backend
+     * is not used for the parallel runs.
+     */
+    EMBEDDED;
+
+    private static final Logger LOG = LoggerFactory.getLogger(MavenBackend.class);
+
+    /**
+     * Gets the configured backend.
+     *
+     * @return backend
+     */
+    public static MavenBackend fromConfiguration() {
+        return select(TestConfiguration.mavenBackend(), TestConfiguration.parallel());
+    }
+
+    /**
+     * Selects the backend, the embedded backend is replaced by the fork backend in the parallel runs.
+     */
+    private static MavenBackend select(String name, boolean parallel) {
+        final MavenBackend backend;
+        try {
+            backend = valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown maven backend " + name + ", supported values are "
+                + Arrays.toString(values()).toLowerCase(Locale.ROOT));
+        }
+        if (backend == EMBEDDED && parallel) {
+            // the embedded maven takes over the JVM-wide output and system properties while it runs, so the builds can't overlap
+            LOG.warn("The embedded maven backend can't run the builds in parallel, using the fork backend instead");
+            return FORK;
+        }
+        return backend;
+    }
+
+    /**
+     * Creates the invoker for this backend.
+     *
+     * @return invoker
+     */
+    public Invoker createInvoker() {
+        switch (this) {
+            case FORK:
+                return new DefaultInvoker();
+            case DAEMON:
+                return new DefaultInvoker().setMavenExecutable(daemonExecutable());
+            case EMBEDDED:
+                return new EmbeddedInvoker();
+            default:
+                throw new IllegalArgumentException("Missing switch case implementation for a new maven backend");
+        }
+    }
+
+    private static File daemonExecutable() {
+        final File configured = new File(TestConfiguration.mavenDaemonExecutable());
+        if (configured.isAbsolute()) {
+            return configured;
+        }
+        // the invoker resolves relative executables against maven home, so find the daemon client on the path
+        return Arrays.stream(System.getenv("PATH").split(File.pathSeparator))
+            .map(dir -> new File(dir, configured.getPath()))
+            .filter(File::canExecute)
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("Unable to find " + configured + " on the PATH, set "
+                + TestConfiguration.MAVEN_DAEMON_EXECUTABLE + " to the path of the maven daemon client"));
+    }
+}
@@ -0,0 +1,168 @@
+package software.tnb.product.util.maven;
+
+import software.tnb.common.config.TestConfiguration;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.maven.model.Model;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cache of the generated application skeletons.
+ * <p>
+ * The skeletons created by the quarkus-maven-plugin or by the archetype differ only in the artifact id, so the skeleton is generated
+ * once for each combination of the product version, the extensions and the other generator inputs (the template key) and every
+ * integration then gets a copy of it with the artifact id replaced. The dependencies, plugins and sources of the integration are added
+ * to the copy afterwards, the same way as to a freshly generated project.
+ * <p>
+ * The templates are kept in the {@value #TEMPLATES_DIR} directory of the {@link TestConfiguration#appLocation()}, in a directory of the
+ * current JVM that is deleted when the JVM exits. A template is therefore never reused by a later run, which may use a changed SNAPSHOT
+ * platform or archetype. The cache is disabled by default and enabled by the {@link TestConfiguration#SCAFFOLD_CACHE} property.
+ */
+public final class ScaffoldCache {
+    public static final String PLACEHOLDER = "tnb-scaffold-template";
+
+    private static final Logger LOG = LoggerFactory.getLogger(ScaffoldCache.class);
+    private static final String TEMPLATES_DIR = ".scaffold-templates";
+    private static final String POM = "pom.xml";
+    private static final Map<String, Object> LOCKS = new ConcurrentHashMap<>();
+    private static final String RUN_ID = UUID.randomUUID().toString();
+    private static final Set<Path> RUN_DIRECTORIES = ConcurrentHashMap.newKeySet();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> RUN_DIRECTORIES.forEach(dir -> FileUtils.deleteQuietly(dir.toFile()))));
+    }
+
+    private ScaffoldCache() {
+    }
+
+    public static boolean isEnabled() {
+        return TestConfiguration.scaffoldCache();
+    }
+
+    /**
+     * Computes the template key from the inputs of the generator.
+     *
+     * @param inputs everything that influences the generated skeleton except its artifact id
+     * @return hex encoded key
+     */
+    public static String key(Object... inputs) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+        digest.update(("product=" + TestConfiguration.product().getValue()).getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        for (Object input : inputs) {
+            digest.update(String.valueOf(input).getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+        }
+        return HexFormat.of().formatHex(digest.digest(), 0, 16);
+    }
+
+    /**
+     * Creates the application skeleton in the application location from the template, the template is generated first if it doesn't
+     * exist yet.
+     *
+     * @param key template key
+     * @param name name of the application, used as the directory name and the artifact id
+     * @param generator generates the skeleton with the {@link #PLACEHOLDER} artifact id into the given directory, the skeleton is expected
+     * in the {@link #PLACEHOLDER} subdirectory
+     */
+    public static void create(String key, String name, Consumer<Path> generator) {
+        final Path runDirectory = TestConfiguration.appLocation().resolve(TEMPLATES_DIR).resolve(RUN_ID);
+        RUN_DIRECTORIES.add(runDirectory);
+        final Path template = runDirectory.resolve(key);
+        if (Files.isDirectory(template)) {
+            LOG.debug("Using application template {} for {}", key, name);
+        } else {
+            synchronized (LOCKS.computeIfAbsent(key, k -> new Object())) {
+                if (!Files.isDirectory(template)) {
+                    generate(template, generator);
+                }
+            }
+        }
+
+        final Path target = TestConfiguration.appLocation().resolve(name);
+        try {
+            copy(template, target, name);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to create application " + name + " from template " + template, e);
+        }
+
+        final File pom = target.resolve(POM).toFile();
+        final Model model = Maven.loadPom(pom);
+        model.setArtifactId(name);
+        if (model.getName() != null) {
+            model.setName(model.getName().replace(PLACEHOLDER, name));
+        }
+        Maven.writePom(pom, model);
+    }
+
+    private static void generate(Path template, Consumer<Path> generator) {
+        LOG.info("Generating application template {}", template.getFileName());
+        // generate into a temporary directory first, so that other threads never see an incomplete template
+        final Path tmp = template.resolveSibling(template.getFileName() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(tmp);
+            generator.accept(tmp);
+            final Path project = tmp.resolve(PLACEHOLDER);
+            if (!Files.isRegularFile(project.resolve(POM))) {
+                throw new RuntimeException("Application template was not generated in " + project);
+            }
+            Files.move(project, template, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            LOG.debug("Application template {} was already generated", template.getFileName());
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to generate application template " + template, e);
+        } finally {
+            FileUtils.deleteQuietly(tmp.toFile());
+        }
+    }
+
+    /**
+     * Copies the template keeping the file attributes (e.g. the executable maven wrapper) and replaces the placeholder in the text files
+     * other than the pom.
+     */
+    private static void copy(Path template, Path target, String name) throws IOException {
+        final List<Path> files;
+        try (Stream<Path> walk = Files.walk(template)) {
+            files = walk.collect(Collectors.toList());
+        }
+        for (Path source : files) {
+            final Path destination = target.resolve(template.relativize(source).toString());
+            if (Files.isDirectory(source)) {
+                Files.createDirectories(destination);
+                continue;
+            }
+            Files.copy(source, destination, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+            if (!POM.equals(source.getFileName().toString())) {
+                final String content = new String(Files.readAllBytes(destination), StandardCharsets.ISO_8859_1);
+                if (content.contains(PLACEHOLDER)) {
+                    Files.write(destination, content.replace(PLACEHOLDER, name).getBytes(StandardCharsets.ISO_8859_1));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package software.tnb.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.product.ProductType;
+import software.tnb.product.application.App;
+import software.tnb.product.integration.builder.AbstractIntegrationBuilder;
+import software.tnb.product.integration.builder.IntegrationBuilder;
+import software.tnb.product.parent.TestParent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+@Tag("unit")
+public class ProductTest extends TestParent {
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private final List<String> stopped = new CopyOnWriteArrayList<>();
+    private CountDownLatch building;
+    private TestProduct product;
+
+    @BeforeEach
+    public void createProduct() {
+        setProduct(ProductType.CAMEL_QUARKUS);
+        product = new TestProduct();
+    }
+
+    @AfterEach
+    public void clearParallelism() {
+        System.clearProperty(TestConfiguration.INTEGRATION_PARALLELISM);
+    }
+
+    @Test
+    public void shouldCreateIntegrationsInOrderByDefaultTest() {
+        assertThat(product.createIntegration(builder("a"), builder("b"), builder("c"))).containsOnlyKeys("a", "b", "c");
+
+        // each integration is ready before the next one is built
+        assertThat(events).containsExactly("create:a", "start:a", "create:b", "start:b", "create:c", "start:c");
+    }
+
+    @Test
+    public void shouldBuildIntegrationsConcurrentlyTest() {
+        System.setProperty(TestConfiguration.INTEGRATION_PARALLELISM, "4");
+        // each build waits until all builds are running, so this only passes when they run at the same time
+        building = new CountDownLatch(3);
+
+        assertThat(product.createIntegration(builder("a"), builder("b"), builder("c"))).containsOnlyKeys("a", "b", "c");
+        assertThat(product.getIntegrations().values()).allMatch(app -> ((TestApp) app).started);
+    }
+
+    @Test
+    public void shouldStopIntegrationsInReverseOrderTest() {
+        product.createIntegration(builder("a"), builder("b"), builder("c"));
+        assertThat(product.getIntegrations()).containsOnlyKeys("a", "b", "c");
+
+        product.removeIntegrations();
+        assertThat(stopped).containsExactly("c", "b", "a");
+        assertThat(product.getIntegrations()).isEmpty();
+    }
+
+    @Test
+    public void shouldRegisterSuccessfullyBuiltIntegrationsWhenOneFailsTest() {
+        System.setProperty(TestConfiguration.INTEGRATION_PARALLELISM, "4");
+        assertThatThrownBy(() -> product.createIntegration(builder("a"), builder("fail"), builder("c")))
+            .isInstanceOf(RuntimeException.class)
+            .hasMessageContaining("fail");
+
+        assertThat(product.getIntegrations()).containsOnlyKeys("a", "c");
+        assertThat(product.getIntegrations().values()).noneMatch(app -> ((TestApp) app).started);
+    }
+
+    @Test
+    public void shouldNotAllowDuplicateNamesTest() {
+        assertThatThrownBy(() -> product.createIntegration(builder("a"), builder("a")))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        product.createIntegration(builder("a"));
+        assertThatThrownBy(() -> product.createIntegration(builder("b"), builder("a")))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AbstractIntegrationBuilder<?> builder(String name) {
+        return new IntegrationBuilder(name);
+    }
+
+    private final class TestProduct extends Product {
+        @Override
+        protected App createIntegrationApp(AbstractIntegrationBuilder<?> integrationBuilder) {
+            if ("fail".equals(integrationBuilder.getIntegrationName())) {
+                throw new RuntimeException("Build of fail failed");
+            }
+            events.add("create:" + integrationBuilder.getIntegrationName());
+            if (building != null) {
+                building.countDown();
+                try {
+                    assertThat(building.await(10, TimeUnit.SECONDS)).isTrue();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return new TestApp(integrationBuilder);
+        }
+
+        @Override
+        public void setupProduct() {
+        }
+
+        @Override
+        public void teardownProduct() {
+        }
+
+        @Override
+        public void beforeAll(ExtensionContext context) {
+        }
+
+        @Override
+        public void afterAll(ExtensionContext context) {
+        }
+    }
+
+    private final class TestApp extends App {
+        private volatile boolean started;
+
+        private TestApp(AbstractIntegrationBuilder<?> integrationBuilder) {
+            super(integrationBuilder);
+        }
+
+        @Override
+        protected boolean shouldRun() {
+            return false;
+        }
+
+        @Override
+        public void start() {
+            events.add("start:" + getName());
+            started = true;
+        }
+
+        @Override
+        public void stop() {
+            stopped.add(getName());
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public boolean isFailed() {
+            return false;
+        }
+    }
+}
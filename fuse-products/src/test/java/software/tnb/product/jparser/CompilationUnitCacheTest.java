@@ -0,0 +1,82 @@
+package software.tnb.product.jparser;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.utils.IOUtils;
+import software.tnb.product.util.jparser.CompilationUnitCache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.github.javaparser.ast.CompilationUnit;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+@Tag("unit")
+public class CompilationUnitCacheTest {
+    @TempDir
+    private Path dir;
+
+    @AfterEach
+    public void clear() {
+        CompilationUnitCache.clear();
+    }
+
+    @Test
+    public void shouldReturnIndependentCopiesTest() {
+        final Path file = source(dir, "First");
+
+        final CompilationUnit first = CompilationUnitCache.get(file).get();
+        first.getClassByName("First").get().setName("Changed");
+
+        assertThat(CompilationUnitCache.get(file).get().getClassByName("First")).isPresent();
+    }
+
+    @Test
+    public void shouldParseChangedFileTest() throws Exception {
+        final Path file = source(dir, "First");
+        assertThat(CompilationUnitCache.get(file).get().getClassByName("First")).isPresent();
+
+        IOUtils.writeFile(file, "package com.test;\n\npublic class Second {\n}\n");
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 1000));
+
+        assertThat(CompilationUnitCache.get(file).get().getClassByName("Second")).isPresent();
+    }
+
+    @Test
+    public void shouldReturnEmptyForInvalidSourceTest() {
+        final Path file = dir.resolve("Invalid.java");
+        IOUtils.writeFile(file, "public class {");
+
+        assertThat(CompilationUnitCache.get(file)).isEmpty();
+        assertThat(CompilationUnitCache.get(dir.resolve("Missing.java"))).isEmpty();
+    }
+
+    @Test
+    public void shouldFindFileInFirstSourceRootTest() {
+        final Path main = dir.resolve("main");
+        final Path test = dir.resolve("test");
+        source(test.resolve("com/test"), "First");
+
+        assertThat(CompilationUnitCache.find(List.of(main, test), "com.test", "First.java")).isPresent();
+        assertThat(CompilationUnitCache.find(List.of(main), "com.test", "First.java")).isEmpty();
+    }
+
+    @Test
+    public void shouldKeepOrderOfFilesTest() {
+        final List<Path> files = List.of(source(dir, "C"), source(dir, "A"), source(dir, "B"));
+
+        assertThat(CompilationUnitCache.getAll(files)).map(cu -> cu.getType(0).getNameAsString()).containsExactly("C", "A", "B");
+    }
+
+    private static Path source(Path directory, String name) {
+        final Path file = directory.resolve(name + ".java");
+        IOUtils.writeFile(file, "package com.test;\n\npublic class " + name + " {\n}\n");
+        return file;
+    }
+}
@@ -0,0 +1,93 @@
+package software.tnb.product.junit.jira;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.utils.IOUtils;
+import software.tnb.product.parent.TestParent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Tag("unit")
+public class JiraStateResolverTest extends TestParent {
+    @TempDir
+    private Path dir;
+
+    private Path cacheFile;
+    private CountingProvider provider;
+
+    @BeforeEach
+    public void createProvider() {
+        cacheFile = dir.resolve("jira-states.properties");
+        final Path statesFile = dir.resolve("states.properties");
+        IOUtils.writeFile(statesFile, "TNB-1=Closed\nTNB-2=New\n");
+        provider = new CountingProvider(new FileJiraStateProvider(statesFile));
+    }
+
+    @Test
+    public void shouldFetchAllKeysAtOnceTest() {
+        final JiraStateResolver resolver = new JiraStateResolver(provider, null, Duration.ofMinutes(1));
+        resolver.prefetch(List.of("TNB-1", "TNB-2"));
+
+        assertThat(resolver.getState("TNB-1")).hasValue("closed");
+        assertThat(resolver.getState("TNB-2")).hasValue("new");
+        assertThat(provider.calls).containsExactly(Set.of("TNB-1", "TNB-2"));
+    }
+
+    @Test
+    public void shouldRememberUnknownStateTest() {
+        final JiraStateResolver resolver = new JiraStateResolver(provider, cacheFile, Duration.ofMinutes(1));
+
+        assertThat(resolver.getState("TNB-3")).isEmpty();
+        assertThat(resolver.getState("TNB-3")).isEmpty();
+        assertThat(provider.calls).hasSize(1);
+        assertThat(cacheFile).doesNotExist();
+    }
+
+    @Test
+    public void shouldUseDiskCacheTest() {
+        new JiraStateResolver(provider, cacheFile, Duration.ofMinutes(1)).prefetch(List.of("TNB-1", "TNB-2"));
+        assertThat(provider.calls).hasSize(1);
+
+        final JiraStateResolver resolver = new JiraStateResolver(provider, cacheFile, Duration.ofMinutes(1));
+        resolver.prefetch(List.of("TNB-1", "TNB-2"));
+        assertThat(resolver.getState("TNB-1")).hasValue("closed");
+        assertThat(provider.calls).hasSize(1);
+    }
+
+    @Test
+    public void shouldRefetchExpiredStateTest() {
+        final long fetched = System.currentTimeMillis() - Duration.ofMinutes(2).toMillis();
+        IOUtils.writeFile(cacheFile, "TNB-1=" + fetched + ",new\n");
+
+        final JiraStateResolver resolver = new JiraStateResolver(provider, cacheFile, Duration.ofMinutes(1));
+        assertThat(resolver.getState("TNB-1")).hasValue("closed");
+        assertThat(provider.calls).containsExactly(Set.of("TNB-1"));
+        assertThat(IOUtils.readFile(cacheFile)).contains(",closed");
+    }
+
+    private static final class CountingProvider implements JiraStateProvider {
+        private final JiraStateProvider delegate;
+        private final List<Set<String>> calls = new ArrayList<>();
+
+        private CountingProvider(JiraStateProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Map<String, String> getStates(Collection<String> keys) {
+            calls.add(Set.copyOf(keys));
+            return delegate.getStates(keys);
+        }
+    }
+}
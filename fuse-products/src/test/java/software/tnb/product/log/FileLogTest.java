@@ -0,0 +1,86 @@
+package software.tnb.product.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.utils.IOUtils;
+import software.tnb.product.parent.TestParent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+
+@Tag("unit")
+public class FileLogTest extends TestParent {
+    @TempDir
+    private Path dir;
+
+    private Path logFile;
+    private FileLog log;
+
+    @BeforeEach
+    public void createLog() {
+        logFile = dir.resolve("test.log");
+        log = new FileLog(logFile);
+    }
+
+    @Test
+    public void shouldNotFailWhenFileDoesNotExistTest() {
+        assertThat(log.contains("hello")).isFalse();
+    }
+
+    @Test
+    public void shouldFindAppendedContentTest() {
+        IOUtils.appendFile(logFile, "first line\n");
+        assertThat(log.contains("second")).isFalse();
+
+        IOUtils.appendFile(logFile, "second line\n");
+        assertThat(log.contains("second")).isTrue();
+        assertThat(log.contains("first")).isTrue();
+    }
+
+    @Test
+    public void shouldMatchRegexInAppendedContentTest() {
+        final Pattern started = Pattern.compile("(?m)^.*Apache Camel.*started in.*$");
+        IOUtils.appendFile(logFile, "Apache Camel 4.0.0 is starting\n");
+        assertThat(log.containsRegex(started)).isFalse();
+
+        IOUtils.appendFile(logFile, "\u001B[32mApache Camel 4.0.0 (camel-1) started in 1s\u001B[0m\n");
+        assertThat(log.containsRegex(started)).isTrue();
+        assertThat(log.containsRegex(".*started in 1s")).isTrue();
+    }
+
+    @Test
+    public void shouldMatchIncompleteLastLineTest() {
+        IOUtils.appendFile(logFile, "first line\npartial");
+        assertThat(log.contains("partial")).isTrue();
+
+        IOUtils.appendFile(logFile, " line\n");
+        assertThat(log.containsRegex("partial line")).isTrue();
+        assertThat(log.containsAfter("partial line", 1)).isTrue();
+        assertThat(log.containsAfter("partial line", 2)).isFalse();
+    }
+
+    @Test
+    public void shouldRespectSkippedLinesTest() {
+        IOUtils.appendFile(logFile, "message\nother\n");
+        assertThat(log.containsAfter("message", 1)).isFalse();
+
+        IOUtils.appendFile(logFile, "message\n");
+        assertThat(log.containsAfter("message", 1)).isTrue();
+        assertThat(log.containsAfter("message", 3)).isFalse();
+    }
+
+    @Test
+    public void shouldStartOverWhenFileIsTruncatedTest() {
+        IOUtils.appendFile(logFile, "some longer content\n");
+        assertThat(log.contains("longer")).isTrue();
+
+        IOUtils.writeFile(logFile, "new\n");
+        assertThat(log.contains("longer")).isFalse();
+        assertThat(log.contains("new")).isTrue();
+    }
+}
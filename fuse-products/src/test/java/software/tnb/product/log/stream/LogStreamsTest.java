@@ -0,0 +1,75 @@
+package software.tnb.product.log.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("unit")
+public class LogStreamsTest {
+    @TempDir
+    private Path dir;
+
+    @Test
+    public void shouldStreamAppendedLinesTest() throws Exception {
+        final Path file = dir.resolve("app.log");
+        Files.writeString(file, "first\r\nsecond\n");
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final LogStreams.TailedFile stream = LogStreams.tail(file, lines::add);
+
+        Files.writeString(file, "third\n", StandardOpenOption.APPEND);
+        waitFor(() -> lines.size() == 3);
+        stream.stop();
+
+        assertThat(stream.awaitStopped(Duration.ofSeconds(10))).isTrue();
+        assertThat(lines).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    public void shouldWaitForFileTest() throws Exception {
+        final Path file = dir.resolve("missing.log");
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final LogStreams.TailedFile stream = LogStreams.tail(file, lines::add);
+
+        Files.writeString(file, "created\n");
+        waitFor(() -> lines.size() == 1);
+        stream.stop();
+
+        assertThat(stream.awaitStopped(Duration.ofSeconds(10))).isTrue();
+        assertThat(lines).containsExactly("created");
+    }
+
+    @Test
+    public void shouldDeliverAllLinesAfterStopTest() throws Exception {
+        final Path file = dir.resolve("big.log");
+        final int count = LogStreams.QUEUE_CAPACITY * 3;
+        Files.writeString(file, IntStream.range(0, count).mapToObj(String::valueOf).collect(Collectors.joining("\n")));
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final LogStreams.TailedFile stream = LogStreams.tail(file, lines::add);
+        stream.stop();
+
+        assertThat(stream.awaitStopped(Duration.ofSeconds(30))).isTrue();
+        assertThat(lines).hasSize(count);
+        assertThat(lines.get(count - 1)).isEqualTo(String.valueOf(count - 1));
+        assertThat(LogStreams.report()).contains("lines in total");
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
@@ -0,0 +1,119 @@
+package software.tnb.product.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.product.ProductType;
+import software.tnb.common.utils.IOUtils;
+import software.tnb.product.parent.TestParent;
+import software.tnb.product.util.maven.BuildCache;
+import software.tnb.product.util.maven.BuildRequest;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Tag("unit")
+public class BuildCacheTest extends TestParent {
+    @TempDir
+    private Path dir;
+
+    private final AtomicInteger builds = new AtomicInteger();
+    private final BuildCache.Stats stats = new BuildCache.Stats();
+
+    // simulates the maven build
+    private final Consumer<BuildRequest> build = request -> {
+        builds.incrementAndGet();
+        final Path target = request.getBaseDirectory().toPath().resolve("target");
+        IOUtils.writeFile(target.resolve("app.jar"), "jar");
+        IOUtils.writeFile(target.resolve("quarkus-app").resolve("lib").resolve("dep.jar"), "dep");
+        IOUtils.writeFile(target.resolve("classes").resolve("App.class"), "class");
+    };
+
+    @BeforeEach
+    public void setup() {
+        setProduct(ProductType.CAMEL_QUARKUS);
+        System.setProperty(TestConfiguration.BUILD_CACHE_DIR, dir.resolve("cache").toString());
+        BuildCache.recordTo(stats);
+    }
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty(TestConfiguration.BUILD_CACHE_DIR);
+        BuildCache.recordTo(null);
+    }
+
+    @Test
+    public void shouldRestoreArtifactsOfIdenticalProjectTest() {
+        BuildCache.build(request(project("first", "from(\"direct:a\")")), build);
+        assertThat(builds).hasValue(1);
+
+        final Path second = project("second", "from(\"direct:a\")");
+        IOUtils.writeFile(second.resolve("target").resolve("stale.jar"), "stale");
+        BuildCache.build(request(second), build);
+
+        assertThat(builds).hasValue(1);
+        assertThat(second.resolve("target").resolve("app.jar")).hasContent("jar");
+        assertThat(second.resolve("target").resolve("quarkus-app").resolve("lib").resolve("dep.jar")).hasContent("dep");
+        assertThat(second.resolve("target").resolve("classes")).doesNotExist();
+        assertThat(second.resolve("target").resolve("stale.jar")).doesNotExist();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldBuildChangedProjectTest() {
+        BuildCache.build(request(project("first", "from(\"direct:a\")")), build);
+        BuildCache.build(request(project("second", "from(\"direct:b\")")), build);
+
+        assertThat(builds).hasValue(2);
+        assertThat(stats.hits()).isEqualTo(0);
+        assertThat(stats.misses()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldNotReuseBuildWithDifferentProfilesTest() {
+        BuildCache.build(request(project("first", "from(\"direct:a\")")), build);
+        BuildCache.build(new BuildRequest.Builder()
+            .withBaseDirectory(project("second", "from(\"direct:a\")"))
+            .withGoals("clean", "package")
+            .withProfiles("native")
+            .withCachedArtifacts("target/*.jar", "target/quarkus-app")
+            .withLogFile(dir.resolve("native.log"))
+            .build(), build);
+
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    public void shouldNotCacheBuildWithoutArtifactsTest() {
+        final Consumer<BuildRequest> noArtifacts = request -> builds.incrementAndGet();
+        BuildCache.build(request(project("first", "from(\"direct:a\")")), noArtifacts);
+        BuildCache.build(request(project("second", "from(\"direct:a\")")), noArtifacts);
+
+        assertThat(builds).hasValue(2);
+        assertThat(stats.hits()).isEqualTo(0);
+    }
+
+    private Path project(String name, String route) {
+        final Path project = dir.resolve(name);
+        IOUtils.writeFile(project.resolve("pom.xml"), "<project/>");
+        IOUtils.writeFile(project.resolve("src/main/java/com/test/MyRouteBuilder.java"), route);
+        return project;
+    }
+
+    private BuildRequest request(Path project) {
+        return new BuildRequest.Builder()
+            .withBaseDirectory(project)
+            .withGoals("clean", "package")
+            .withCachedArtifacts("target/*.jar", "target/quarkus-app")
+            .withLogFile(dir.resolve(project.getFileName() + "-build.log"))
+            .build();
+    }
+}
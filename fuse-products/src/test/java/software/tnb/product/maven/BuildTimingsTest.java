@@ -0,0 +1,66 @@
+package software.tnb.product.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.product.util.maven.BuildTimings;
+import software.tnb.product.util.maven.MavenBackend;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+@Tag("unit")
+public class BuildTimingsTest {
+    @BeforeEach
+    @AfterEach
+    public void reset() {
+        BuildTimings.reset();
+    }
+
+    @Test
+    public void shouldTrackFirstInvocationSeparatelyTest() {
+        BuildTimings.record(MavenBackend.DAEMON, 5000);
+        BuildTimings.record(MavenBackend.DAEMON, 1000);
+        BuildTimings.record(MavenBackend.DAEMON, 2000);
+
+        final BuildTimings.Timing timing = BuildTimings.timings().get(MavenBackend.DAEMON);
+        assertThat(timing.count()).isEqualTo(3);
+        assertThat(timing.firstMillis()).isEqualTo(5000);
+        assertThat(timing.totalMillis()).isEqualTo(8000);
+        assertThat(timing.maxMillis()).isEqualTo(5000);
+        assertThat(timing.warmAverageMillis()).isEqualTo(1500);
+    }
+
+    @Test
+    public void shouldNotHaveWarmAverageOfSingleInvocationTest() {
+        BuildTimings.record(MavenBackend.FORK, 3000);
+
+        assertThat(BuildTimings.timings().get(MavenBackend.FORK).warmAverageMillis()).isZero();
+    }
+
+    @Test
+    public void shouldKeepBackendsApartTest() {
+        BuildTimings.record(MavenBackend.FORK, 3000);
+        BuildTimings.record(MavenBackend.EMBEDDED, 1000);
+
+        final Map<MavenBackend, BuildTimings.Timing> timings = BuildTimings.timings();
+        assertThat(timings).containsOnlyKeys(MavenBackend.FORK, MavenBackend.EMBEDDED);
+        assertThat(timings.get(MavenBackend.FORK).totalMillis()).isEqualTo(3000);
+        assertThat(timings.get(MavenBackend.EMBEDDED).totalMillis()).isEqualTo(1000);
+        assertThat(BuildTimings.report()).contains("fork: count=1, total=3000ms").contains("embedded: count=1, total=1000ms");
+    }
+
+    @Test
+    public void shouldReturnSnapshotOfTimingsTest() {
+        BuildTimings.record(MavenBackend.FORK, 3000);
+        final BuildTimings.Timing snapshot = BuildTimings.timings().get(MavenBackend.FORK);
+
+        BuildTimings.record(MavenBackend.FORK, 1000);
+
+        assertThat(snapshot.count()).isEqualTo(1);
+        assertThat(BuildTimings.timings().get(MavenBackend.FORK).count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,88 @@
+package software.tnb.product.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.product.util.maven.EmbeddedInvoker;
+
+import org.apache.maven.shared.invoker.DefaultInvocationRequest;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.InvocationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+@Tag("unit")
+public class EmbeddedInvokerTest {
+    private static final String POM = """
+        <project xmlns="http://maven.apache.org/POM/4.0.0">
+            <modelVersion>4.0.0</modelVersion>
+            <groupId>software.tnb</groupId>
+            <artifactId>embedded-invoker-test</artifactId>
+            <version>1.0</version>
+            <packaging>pom</packaging>
+            <name>first-${first.value}-second-${second.value}</name>
+            <properties>
+                <first.value>unset</first.value>
+                <second.value>unset</second.value>
+            </properties>
+        </project>
+        """;
+
+    @TempDir
+    private Path dir;
+
+    private File mavenHome;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        final String home = System.getenv("MAVEN_HOME") != null ? System.getenv("MAVEN_HOME") : System.getenv("M2_HOME");
+        Assumptions.assumeTrue(home != null && new File(home, "lib").isDirectory(), "Maven installation is not available");
+        mavenHome = new File(home);
+        Files.writeString(dir.resolve("pom.xml"), POM);
+        System.setProperty("tnb.embedded.kept", "true");
+    }
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty("tnb.embedded.kept");
+    }
+
+    @Test
+    public void shouldNotLeakUserPropertiesToFollowingBuildsTest() throws Exception {
+        final Properties before = new Properties();
+        before.putAll(System.getProperties());
+
+        final Properties first = new Properties();
+        first.setProperty("first.value", "a");
+        assertThat(build(first)).anyMatch(line -> line.contains("first-a-second-unset"));
+        assertThat(System.getProperty("first.value")).isNull();
+
+        final Properties second = new Properties();
+        second.setProperty("second.value", "b");
+        assertThat(build(second)).anyMatch(line -> line.contains("first-unset-second-b"));
+        assertThat(System.getProperty("second.value")).isNull();
+
+        assertThat(System.getProperty("tnb.embedded.kept")).isEqualTo("true");
+        assertThat(System.getProperties()).isEqualTo(before);
+    }
+
+    private List<String> build(Properties properties) throws Exception {
+        final List<String> output = new ArrayList<>();
+        final InvocationRequest request = new DefaultInvocationRequest().setBaseDirectory(dir.toFile()).setGoals(List.of("validate"))
+            .setBatchMode(true).setOffline(true).setProperties(properties).setOutputHandler(output::add).setErrorHandler(output::add);
+        final InvocationResult result = new EmbeddedInvoker().setMavenHome(mavenHome).execute(request);
+        assertThat(result.getExitCode()).as(String.join("\n", output)).isZero();
+        return output;
+    }
+}
@@ -0,0 +1,83 @@
+package software.tnb.product.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.product.util.maven.EmbeddedInvoker;
+import software.tnb.product.util.maven.MavenBackend;
+
+import org.apache.maven.shared.invoker.DefaultInvocationRequest;
+import org.apache.maven.shared.invoker.InvocationRequest;
+import org.apache.maven.shared.invoker.MavenInvocationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+
+@Tag("unit")
+public class MavenBackendTest {
+    @TempDir
+    private Path dir;
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty(TestConfiguration.MAVEN_BACKEND);
+        System.clearProperty(TestConfiguration.PARALLEL);
+    }
+
+    @Test
+    public void shouldUseForkByDefaultTest() {
+        assertThat(MavenBackend.fromConfiguration()).isEqualTo(MavenBackend.FORK);
+    }
+
+    @Test
+    public void shouldSelectConfiguredBackendTest() {
+        System.setProperty(TestConfiguration.MAVEN_BACKEND, "Daemon");
+        assertThat(MavenBackend.fromConfiguration()).isEqualTo(MavenBackend.DAEMON);
+
+        System.setProperty(TestConfiguration.MAVEN_BACKEND, "embedded");
+        assertThat(MavenBackend.fromConfiguration()).isEqualTo(MavenBackend.EMBEDDED);
+    }
+
+    @Test
+    public void shouldRejectUnknownBackendTest() {
+        System.setProperty(TestConfiguration.MAVEN_BACKEND, "remote");
+        assertThatThrownBy(MavenBackend::fromConfiguration).isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("remote").hasMessageContaining("embedded");
+    }
+
+    @Test
+    public void shouldNotUseEmbeddedBackendInParallelTest() {
+        System.setProperty(TestConfiguration.MAVEN_BACKEND, "embedded");
+        System.setProperty(TestConfiguration.PARALLEL, "true");
+        assertThat(MavenBackend.fromConfiguration()).isEqualTo(MavenBackend.FORK);
+
+        System.setProperty(TestConfiguration.MAVEN_BACKEND, "daemon");
+        assertThat(MavenBackend.fromConfiguration()).isEqualTo(MavenBackend.DAEMON);
+    }
+
+    @Test
+    public void shouldRefuseRequestsThatNeedOwnProcessTest() {
+        final EmbeddedInvoker invoker = new EmbeddedInvoker();
+        invoker.setMavenHome(dir.toFile());
+
+        final InvocationRequest javaHome = request().setJavaHome(new File("/opt/jdk"));
+        final InvocationRequest environment = request().addShellEnvironment("KEY", "value");
+        final InvocationRequest timeout = request();
+        timeout.setTimeoutInSeconds(60);
+
+        for (InvocationRequest request : List.of(javaHome, environment, timeout)) {
+            assertThatThrownBy(() -> invoker.execute(request)).isInstanceOf(MavenInvocationException.class)
+                .hasMessageContaining("fork maven backend");
+        }
+    }
+
+    private InvocationRequest request() {
+        return new DefaultInvocationRequest().setBaseDirectory(dir.toFile()).setGoals(List.of("package"));
+    }
+}
@@ -0,0 +1,102 @@
+package software.tnb.product.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.product.ProductType;
+import software.tnb.common.utils.IOUtils;
+import software.tnb.product.parent.TestParent;
+import software.tnb.product.util.maven.Maven;
+import software.tnb.product.util.maven.ScaffoldCache;
+
+import org.apache.maven.model.Model;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Tag("unit")
+public class ScaffoldCacheTest extends TestParent {
+    @TempDir
+    private Path dir;
+
+    private final AtomicInteger generated = new AtomicInteger();
+
+    // simulates the quarkus:create goal
+    private final Consumer<Path> generator = base -> {
+        generated.incrementAndGet();
+        final Path project = base.resolve(ScaffoldCache.PLACEHOLDER);
+        final Model model = new Model();
+        model.setModelVersion("4.0.0");
+        model.setGroupId("com.test");
+        model.setArtifactId(ScaffoldCache.PLACEHOLDER);
+        model.setVersion("1.0.0-SNAPSHOT");
+        project.toFile().mkdirs();
+        Maven.writePom(project.resolve("pom.xml").toFile(), model);
+        IOUtils.writeFile(project.resolve("README.md"), "# " + ScaffoldCache.PLACEHOLDER);
+        IOUtils.writeFile(project.resolve("mvnw"), "#!/bin/sh");
+        project.resolve("mvnw").toFile().setExecutable(true);
+    };
+
+    @BeforeEach
+    public void setup() {
+        setProduct(ProductType.CAMEL_QUARKUS);
+        System.setProperty(TestConfiguration.APP_LOCATION, dir.toString());
+    }
+
+    @AfterEach
+    public void clear() {
+        System.clearProperty(TestConfiguration.APP_LOCATION);
+    }
+
+    @Test
+    public void shouldGenerateTemplateOnceTest() {
+        final String key = ScaffoldCache.key("quarkus", "3.0.0");
+        ScaffoldCache.create(key, "first", generator);
+        ScaffoldCache.create(key, "second", generator);
+
+        assertThat(generated).hasValue(1);
+        assertThat(Maven.loadPom(dir.resolve("first").resolve("pom.xml").toFile()).getArtifactId()).isEqualTo("first");
+        assertThat(Maven.loadPom(dir.resolve("second").resolve("pom.xml").toFile()).getArtifactId()).isEqualTo("second");
+        assertThat(dir.resolve("second").resolve("README.md")).hasContent("# second");
+        assertThat(dir.resolve("second").resolve("mvnw").toFile().canExecute()).isTrue();
+        assertThat(dir.resolve(ScaffoldCache.PLACEHOLDER)).doesNotExist();
+    }
+
+    @Test
+    public void shouldGenerateTemplateForDifferentKeyTest() {
+        ScaffoldCache.create(ScaffoldCache.key("quarkus", "3.0.0", ""), "first", generator);
+        ScaffoldCache.create(ScaffoldCache.key("quarkus", "3.0.0", "openshift"), "second", generator);
+
+        assertThat(generated).hasValue(2);
+    }
+
+    @Test
+    public void shouldBeDisabledByDefaultTest() {
+        assertThat(ScaffoldCache.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void shouldKeepTemplatesOfCurrentRunOnlyTest() throws Exception {
+        ScaffoldCache.create(ScaffoldCache.key("quarkus", "3.0.0"), "first", generator);
+
+        // one directory for this JVM, a later run never sees these templates
+        try (Stream<Path> runs = Files.list(dir.resolve(".scaffold-templates"))) {
+            assertThat(runs).hasSize(1);
+        }
+    }
+
+    @Test
+    public void shouldIncludeProductInKeyTest() {
+        final String quarkus = ScaffoldCache.key("3.0.0");
+        setProduct(ProductType.CAMEL_SPRINGBOOT);
+        assertThat(ScaffoldCache.key("3.0.0")).isNotEqualTo(quarkus);
+    }
+}
@@ -8,6 +8,7 @@ public final class TestMaven extends Maven {
     public static void setupDefaultMaven() {
         initialized = false;
         invoker = null;
+        backend = null;
         Maven.setupMaven();
     }
 
@@ -2,6 +2,7 @@ package software.tnb.common.account;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
+import software.tnb.common.account.loader.CachingCredentialsLoader;
 import software.tnb.common.account.loader.CredentialsLoader;
 import software.tnb.common.account.loader.DelegatingCredentialsLoader;
 import software.tnb.common.account.loader.VaultCredentialsLoader;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public final class AccountFactory {
     private static final Logger LOG = LoggerFactory.getLogger(AccountFactory.class);
@@ -43,13 +45,22 @@ public final class AccountFactory {
                     fail("Could not load credentials", e);
                 }
             }
-            return loader.get(getCredentialsIds(instance), accountClass);
+            final T account = loader.get(getCredentialsIds(instance), accountClass);
+            LOG.trace("Credentials loaders: {}", loader);
+            return account;
         } else {
             LOG.debug("Initialization of {}. No credentials loading needed.", accountClass.getSimpleName());
             return instance;
         }
     }
 
+    /**
+     * Creates the loader that tries all configured credentials sources in order. Each source is cached, so that every credentials id
+     * is loaded only once.
+     *
+     * @return credentials loader
+     * @throws Exception when any of the loaders can't be created
+     */
     public static CredentialsLoader defaultLoader() throws Exception {
         List<CredentialsLoader> availableLoaders = new ArrayList<>();
         if (TestConfiguration.vaultToken() != null) {
@@ -73,7 +84,7 @@ public final class AccountFactory {
         if (TestConfiguration.credentialsFile() != null) {
             availableLoaders.add(new YamlCredentialsLoader(new File(TestConfiguration.credentialsFile())));
         }
-        return new DelegatingCredentialsLoader(availableLoaders);
+        return new DelegatingCredentialsLoader(availableLoaders.stream().map(CachingCredentialsLoader::new).collect(Collectors.toList()));
     }
 
     public static void setCredentialsLoader(CredentialsLoader l) {
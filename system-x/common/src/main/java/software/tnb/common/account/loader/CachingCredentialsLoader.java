@@ -0,0 +1,85 @@
+package software.tnb.common.account.loader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Memoizes the credentials loaded by the delegate loader and keeps the statistics of the cache hits, misses and the time spent loading
+ * the credentials.
+ * <p>
+ * Only successfully loaded credentials (including credentials that don't exist in the delegate) are cached, the exceptions are propagated
+ * and the next invocation with the same id calls the delegate again.
+ */
+public class CachingCredentialsLoader extends CredentialsLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(CachingCredentialsLoader.class);
+
+    private final CredentialsLoader delegate;
+    // the value is optional, as the credentials that are not present in the delegate are cached as well
+    private final Map<String, Optional<Object>> cache = new ConcurrentHashMap<>();
+    // the cached credentials are always the same instances, so their json can be cached by identity
+    private final Map<Object, String> json = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+    private final AtomicLong loadTime = new AtomicLong();
+
+    public CachingCredentialsLoader(CredentialsLoader delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Object loadCredentials(String credentialsId) {
+        Optional<Object> credentials = cache.get(credentialsId);
+        if (credentials != null) {
+            hits.incrementAndGet();
+            return credentials.orElse(null);
+        }
+
+        misses.incrementAndGet();
+        final long start = System.currentTimeMillis();
+        try {
+            credentials = Optional.ofNullable(delegate.loadCredentials(credentialsId));
+        } finally {
+            final long duration = System.currentTimeMillis() - start;
+            loadTime.addAndGet(duration);
+            LOG.debug("Loading credentials {} using {} took {} ms", credentialsId, delegate.getClass().getSimpleName(), duration);
+        }
+        cache.put(credentialsId, credentials);
+        return credentials.orElse(null);
+    }
+
+    @Override
+    public String toJson(Object credentials) {
+        return json.computeIfAbsent(credentials, delegate::toJson);
+    }
+
+    public int getHits() {
+        return hits.get();
+    }
+
+    public int getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Gets the total time spent in the delegate loader.
+     *
+     * @return time in milliseconds
+     */
+    public long getLoadTime() {
+        return loadTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d hits, %d misses, %d ms loading", delegate.getClass().getSimpleName(), getHits(), getMisses(),
+            getLoadTime());
+    }
+}
@@ -2,14 +2,23 @@ package software.tnb.common.account.loader;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Tries to load credentials from supplied loaders in order of the supplied list
+ * <p>
+ * The credentials are converted to json by the loader that loaded them, so that the loader specific conversion (and the json memoized
+ * by {@link CachingCredentialsLoader}) is used.
  */
 public class DelegatingCredentialsLoader extends CredentialsLoader {
 
     private final List<CredentialsLoader> loaders;
+    // the loader that loaded the given credentials instance
+    private final Map<Object, CredentialsLoader> owners = Collections.synchronizedMap(new IdentityHashMap<>());
 
     public DelegatingCredentialsLoader(List<CredentialsLoader> loaders) {
         this.loaders = loaders;
@@ -19,7 +28,11 @@ public class DelegatingCredentialsLoader extends CredentialsLoader {
     public Object loadCredentials(String credentialsId) {
         for (CredentialsLoader loader : loaders) {
             try {
-                return loader.loadCredentials(credentialsId);
+                final Object credentials = loader.loadCredentials(credentialsId);
+                if (credentials != null) {
+                    owners.put(credentials, loader);
+                }
+                return credentials;
             } catch (Exception e) {
                 //thank you, next
             }
@@ -29,10 +42,19 @@ public class DelegatingCredentialsLoader extends CredentialsLoader {
 
     @Override
     public String toJson(Object credentials) {
+        final CredentialsLoader owner = owners.get(credentials);
+        if (owner != null) {
+            return owner.toJson(credentials);
+        }
         try {
             return mapper.writeValueAsString(credentials);
         } catch (JsonProcessingException e) {
             throw new RuntimeException("Unable to convert credentials to json", e);
         }
     }
+
+    @Override
+    public String toString() {
+        return loaders.stream().map(Object::toString).collect(Collectors.joining(", ", "[", "]"));
+    }
 }
@@ -2,6 +2,9 @@ package software.tnb.common.account.loader;
 
 import org.junit.jupiter.api.function.ThrowingSupplier;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import com.bettercloud.vault.Vault;
 import com.bettercloud.vault.VaultConfig;
 import com.bettercloud.vault.VaultException;
@@ -9,11 +12,27 @@ import com.bettercloud.vault.json.JsonObject;
 import com.bettercloud.vault.response.AuthResponse;
 import com.bettercloud.vault.response.LogicalResponse;
 
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads the credentials from Vault.
+ * <p>
+ * The auth token is reused until it is close to expiring. Renewable tokens are renewed in the background after two thirds of their
+ * lease duration, if the renewal fails, the next credentials lookup logs in again.
+ */
 public class VaultCredentialsLoader extends CredentialsLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(VaultCredentialsLoader.class);
+    // log in again when the token expires in less than this
+    private static final long EXPIRY_MARGIN_MILLIS = 30_000L;
+
     private final Vault vault;
     private final String pathPattern;
     private final VaultConfig config;
     private ThrowingSupplier<AuthResponse> authSupplier;
+    private long tokenExpiresAt = 0;
+    private ScheduledExecutorService renewer;
 
     private VaultCredentialsLoader(String address, String pathPattern) throws VaultException {
         config = new VaultConfig()
@@ -35,18 +54,49 @@ public class VaultCredentialsLoader extends CredentialsLoader {
         authSupplier = () -> vault.auth().loginByAppRole(roleId, secretId);
     }
 
-    private void refreshAuthToken() {
+    private synchronized void ensureAuthToken() {
+        if (System.currentTimeMillis() < tokenExpiresAt - EXPIRY_MARGIN_MILLIS) {
+            return;
+        }
+        LOG.debug("Logging in to vault");
         try {
-            config.token(authSupplier.get().getAuthClientToken()).build();
+            useToken(authSupplier.get());
         } catch (Throwable e) {
             throw new RuntimeException("Vault reauth failed", e);
         }
     }
 
+    private synchronized void renewAuthToken() {
+        try {
+            LOG.debug("Renewing vault token");
+            useToken(vault.auth().renewSelf());
+        } catch (Exception e) {
+            LOG.debug("Unable to renew vault token, will log in again on next use", e);
+            tokenExpiresAt = 0;
+        }
+    }
+
+    private void useToken(AuthResponse auth) throws VaultException {
+        config.token(auth.getAuthClientToken()).build();
+        final long lease = auth.getAuthLeaseDuration();
+        // zero lease means the token never expires
+        tokenExpiresAt = lease > 0 ? System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(lease) : Long.MAX_VALUE;
+        if (lease > 0 && auth.isAuthRenewable()) {
+            if (renewer == null) {
+                renewer = Executors.newSingleThreadScheduledExecutor(r -> {
+                    final Thread t = new Thread(r, "vault-token-renewer");
+                    t.setDaemon(true);
+                    return t;
+                });
+            }
+            renewer.schedule(this::renewAuthToken, lease * 2 / 3, TimeUnit.SECONDS);
+        }
+    }
+
     @Override
     public Object loadCredentials(String credentialsId) {
-        refreshAuthToken();
-        return get(String.format(pathPattern, credentialsId));
+        ensureAuthToken();
+        return get(String.format(pathPattern, credentialsId), true);
     }
 
     @Override
@@ -54,7 +104,7 @@ public class VaultCredentialsLoader extends CredentialsLoader {
         return credentials.toString();
     }
 
-    private JsonObject get(String path) {
+    private JsonObject get(String path, boolean retryWithNewToken) {
         final LogicalResponse response;
         try {
             response = vault.logical().read(path);
@@ -65,6 +115,13 @@ public class VaultCredentialsLoader extends CredentialsLoader {
             return response.getDataObject();
         } else if (response.getRestResponse().getStatus() == 404) {
             return null;
+        } else if (response.getRestResponse().getStatus() == 403 && retryWithNewToken) {
+            // the token was revoked or expired sooner than expected
+            synchronized (this) {
+                tokenExpiresAt = 0;
+            }
+            ensureAuthToken();
+            return get(path, false);
         } else {
             throw new RuntimeException("Unable to get credentials from vault, response code: " + response.getRestResponse().getStatus());
         }
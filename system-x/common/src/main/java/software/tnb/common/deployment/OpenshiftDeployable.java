@@ -7,6 +7,7 @@ import software.tnb.common.utils.WaitUtils;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -37,8 +38,7 @@ public interface OpenshiftDeployable extends Deployable {
 
     default List<PodResource> servicePods() {
         try {
-            return OpenshiftClient.get().pods().list().getItems().stream()
-                .filter(podSelector())
+            return OpenshiftClient.get().podCache().getPods(podSelector()).stream()
                 .map(p -> OpenshiftClient.get().pods().withName(p.getMetadata().getName()))
                 .collect(Collectors.toList());
         } catch (KubernetesClientException kce) {
@@ -49,13 +49,17 @@ public interface OpenshiftDeployable extends Deployable {
 
     Predicate<Pod> podSelector();
 
+    /**
+     * Creates the resource if it is not deployed and waits until it is ready.
+     * <p>
+     * The readiness is re-checked whenever a pod in the namespace changes, see {@link software.tnb.common.openshift.OpenshiftPodCache}.
+     */
     @Override
     default void deploy() {
-        final int retries = 60;
         if (!isDeployed()) {
             create();
         }
-        WaitUtils.waitFor(this::isReady, retries, waitTime() / retries,
+        OpenshiftClient.get().podCache().waitFor(this::isReady, Duration.ofMillis(waitTime()),
             "Waiting until the " + this.getClass().getSimpleName() + " resource is ready");
     }
 
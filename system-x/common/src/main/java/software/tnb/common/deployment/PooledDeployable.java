@@ -0,0 +1,21 @@
+package software.tnb.common.deployment;
+
+/**
+ * Local resource whose containers can be kept running in the {@link WarmPool} and reused by the following test runs.
+ * <p>
+ * The resource starts its containers using {@link WarmPool#start(PooledDeployable, org.testcontainers.containers.GenericContainer)} and
+ * releases them using {@link WarmPool#release(PooledDeployable, org.testcontainers.containers.GenericContainer)} in the undeploy method.
+ */
+public interface PooledDeployable extends Deployable {
+    /**
+     * Resets the state of the resource before its containers are returned to the pool - delete database tables, remove files, etc.
+     */
+    void cleanup();
+
+    @Override
+    default void restart() {
+        // the restart is expected to start new containers
+        WarmPool.getInstance().discard(this);
+        Deployable.super.restart();
+    }
+}
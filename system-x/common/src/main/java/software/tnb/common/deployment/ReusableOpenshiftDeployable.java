@@ -1,11 +1,13 @@
 package software.tnb.common.deployment;
 
-import software.tnb.common.utils.JUnitUtils;
+import software.tnb.common.service.ServiceRegistry;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 
 /**
  * Resource that is able to be reused between multiple tests to avoid multiple deploys/undeploys.
+ * <p>
+ * The deployments are reference-counted by the {@link ServiceRegistry}, the resource is undeployed after the last test class that uses it.
  */
 public interface ReusableOpenshiftDeployable extends OpenshiftDeployable {
     /**
@@ -15,16 +17,10 @@ public interface ReusableOpenshiftDeployable extends OpenshiftDeployable {
 
     default void beforeAll(ExtensionContext extensionContext) throws Exception {
         // Deploy does "deploy" (if it is not already deployed) + wait until it's ready
-        deploy();
-        openResources();
+        ServiceRegistry.getInstance().acquire(this);
     }
 
     default void afterAll(ExtensionContext extensionContext) throws Exception {
-        if (JUnitUtils.isExtensionStillNeeded(extensionContext, this.getClass())) {
-            cleanup();
-            closeResources();
-        } else {
-            OpenshiftDeployable.super.afterAll(extensionContext);
-        }
+        ServiceRegistry.getInstance().release(extensionContext, this, () -> OpenshiftDeployable.super.afterAll(extensionContext));
     }
 }
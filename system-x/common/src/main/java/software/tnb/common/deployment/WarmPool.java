@@ -0,0 +1,283 @@
+package software.tnb.common.deployment;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.service.ConfigurableService;
+import software.tnb.common.service.configuration.ServiceConfiguration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.TestcontainersConfiguration;
+
+import com.github.dockerjava.api.DockerClient;
+import com.github.dockerjava.api.model.Container;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of the local containers that are kept running between the test runs, enabled using the {@link TestConfiguration#LOCAL_POOL}
+ * property.
+ * <p>
+ * The pooled containers are started with the testcontainers reuse and labeled with the service class and the hash of the configuration,
+ * so the next test run with the same configuration reattaches to the running container instead of starting a new one. The wait strategy
+ * of the container is still applied, so only a healthy container is reused - if it doesn't become ready, it is removed and a new container
+ * is started. When the service is undeployed, its state is reset using {@link PooledDeployable#cleanup()} and the container is left
+ * running. The containers that were not used for {@link TestConfiguration#localPoolIdleTimeout()} are removed when the pool is used next
+ * time.
+ * <p>
+ * The testcontainers reuse must be enabled in the environment ({@code testcontainers.reuse.enable=true} in
+ * {@code ~/.testcontainers.properties} or the {@code TESTCONTAINERS_REUSE_ENABLE} environment variable), otherwise the containers are
+ * started and stopped as usual.
+ */
+public final class WarmPool {
+    public static final String SERVICE_LABEL = "tnb.pool.service";
+    public static final String HASH_LABEL = "tnb.pool.hash";
+
+    private static final Logger LOG = LoggerFactory.getLogger(WarmPool.class);
+    private static final WarmPool INSTANCE = new WarmPool();
+
+    // pooled containers started in this run and their configuration hashes
+    private final Map<GenericContainer<?>, String> containers = Collections.synchronizedMap(new IdentityHashMap<>());
+    // services whose containers should be stopped instead of being returned to the pool
+    private final Set<PooledDeployable> discarded = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private final AtomicInteger warmStarts = new AtomicInteger();
+    private final AtomicInteger coldStarts = new AtomicInteger();
+    private final AtomicLong savedMillis = new AtomicLong();
+    private WarmPoolState state;
+    private boolean warned;
+
+    private WarmPool() {
+    }
+
+    public static WarmPool getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Checks if the pool is enabled and the environment supports the container reuse.
+     *
+     * @return true if the containers are pooled
+     */
+    public synchronized boolean isEnabled() {
+        if (!TestConfiguration.localPool()) {
+            return false;
+        }
+        if (!TestcontainersConfiguration.getInstance().environmentSupportsReuse()) {
+            if (!warned) {
+                LOG.warn("Warm pool is enabled, but the testcontainers reuse is not enabled in the environment, set"
+                    + " 'testcontainers.reuse.enable=true' in ~/.testcontainers.properties to use the pool");
+                warned = true;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Starts the container of the given service, reattaching to the running pooled container with the same configuration if there is one.
+     * When the pool is disabled, the container is just started.
+     *
+     * @param service service that owns the container
+     * @param container container to start
+     * @param <T> container type
+     * @return started container
+     */
+    public <T extends GenericContainer<?>> T start(PooledDeployable service, T container) {
+        discarded.remove(service);
+        if (!isEnabled()) {
+            container.start();
+            return container;
+        }
+
+        final WarmPoolState poolState = state();
+        final String hash = hash(service, container);
+        container.withLabel(SERVICE_LABEL, service.getClass().getName());
+        container.withLabel(HASH_LABEL, hash);
+        container.withReuse(true);
+
+        final List<String> running = running(hash);
+        long start = System.nanoTime();
+        try {
+            container.start();
+        } catch (RuntimeException e) {
+            if (running.isEmpty()) {
+                throw e;
+            }
+            LOG.warn("Pooled {} container is not healthy, starting a new one", name(service), e);
+            container.stop();
+            running.forEach(WarmPool::remove);
+            running.clear();
+            start = System.nanoTime();
+            container.start();
+        }
+        final Duration startup = Duration.ofNanos(System.nanoTime() - start);
+
+        if (running.contains(container.getContainerId())) {
+            warmStarts.incrementAndGet();
+            final Duration saved = poolState.warmStart(hash, startup, Instant.now());
+            savedMillis.addAndGet(saved.toMillis());
+            LOG.info("Reused warm {} container {} in {} ms, saved {} ms", name(service), shortId(container), startup.toMillis(),
+                saved.toMillis());
+        } else {
+            coldStarts.incrementAndGet();
+            poolState.coldStart(hash, startup, Instant.now());
+            LOG.info("Started cold {} container {} in {} ms", name(service), shortId(container), startup.toMillis());
+        }
+        poolState.store();
+        containers.put(container, hash);
+        return container;
+    }
+
+    /**
+     * Releases the container of the given service. The pooled container is cleaned up using {@link PooledDeployable#cleanup()} and left
+     * running, all other containers (or the pooled containers that failed to clean up) are stopped.
+     *
+     * @param service service that owns the container
+     * @param container container to release
+     */
+    public void release(PooledDeployable service, GenericContainer<?> container) {
+        final String hash = containers.remove(container);
+        if (hash == null || discarded.contains(service) || container.getContainerId() == null) {
+            container.stop();
+            return;
+        }
+        try {
+            service.cleanup();
+        } catch (Exception e) {
+            LOG.warn("Unable to clean up {}, stopping the container", name(service), e);
+            container.stop();
+            state().remove(hash);
+            state().store();
+            return;
+        }
+        state().used(hash, Instant.now());
+        state().store();
+        LOG.info("{} container {} returned to the warm pool", name(service), shortId(container));
+    }
+
+    /**
+     * Marks the containers of the given service to be stopped on the next release instead of being returned to the pool.
+     *
+     * @param service service
+     */
+    public void discard(PooledDeployable service) {
+        discarded.add(service);
+    }
+
+    /**
+     * Returns the statistics of this run.
+     *
+     * @return statistics
+     */
+    public Stats stats() {
+        return new Stats(warmStarts.get(), coldStarts.get(), Duration.ofMillis(savedMillis.get()));
+    }
+
+    private synchronized WarmPoolState state() {
+        if (state == null) {
+            state = new WarmPoolState(TestConfiguration.localPoolStateFile());
+            evictIdle(state);
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> LOG.info("Warm pool: {}", stats())));
+        }
+        return state;
+    }
+
+    /**
+     * Removes the pooled containers that are not running or were not used for the idle timeout.
+     */
+    private static void evictIdle(WarmPoolState state) {
+        final Duration timeout = TestConfiguration.localPoolIdleTimeout();
+        final Instant now = Instant.now();
+        try {
+            for (Container c : client().listContainersCmd().withShowAll(true).withLabelFilter(List.of(HASH_LABEL)).exec()) {
+                final String hash = c.getLabels().get(HASH_LABEL);
+                if (!"running".equals(c.getState()) || state.isIdle(hash, Instant.ofEpochSecond(c.getCreated()), now, timeout)) {
+                    LOG.info("Evicting idle {} container {}", c.getLabels().get(SERVICE_LABEL), c.getId().substring(0, 12));
+                    remove(c.getId());
+                    state.remove(hash);
+                }
+            }
+            state.store();
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to evict idle pooled containers", e);
+        }
+    }
+
+    private static List<String> running(String hash) {
+        return client().listContainersCmd().withLabelFilter(Map.of(HASH_LABEL, hash)).withStatusFilter(List.of("running")).exec()
+            .stream().map(Container::getId).collect(Collectors.toList());
+    }
+
+    private static void remove(String id) {
+        try {
+            client().removeContainerCmd(id).withForce(true).withRemoveVolumes(true).exec();
+        } catch (RuntimeException e) {
+            LOG.debug("Unable to remove container {}", id, e);
+        }
+    }
+
+    private static DockerClient client() {
+        return DockerClientFactory.instance().client();
+    }
+
+    /**
+     * Computes the hash of the service class, its configuration and the container definition.
+     */
+    static String hash(Object service, GenericContainer<?> container) {
+        final StringBuilder sb = new StringBuilder(service.getClass().getName())
+            .append('\n').append(container.getDockerImageName())
+            .append('\n').append(new TreeMap<>(container.getEnvMap()))
+            .append('\n').append(container.getExposedPorts())
+            .append('\n').append(Arrays.toString(container.getCommandParts()));
+        if (service instanceof ConfigurableService<?, ?, ?, ?> configurable) {
+            final ServiceConfiguration configuration = configurable.getConfiguration();
+            if (configuration != null) {
+                sb.append('\n').append(new TreeMap<>(configuration.values()));
+            }
+        }
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("Unable to compute the configuration hash", e);
+        }
+    }
+
+    private static String name(PooledDeployable service) {
+        return service.getClass().getSimpleName();
+    }
+
+    private static String shortId(GenericContainer<?> container) {
+        return container.getContainerId().substring(0, 12);
+    }
+
+    /**
+     * Statistics of the pool in the current run.
+     *
+     * @param warmStarts number of containers reused from the pool
+     * @param coldStarts number of newly started containers
+     * @param saved startup time saved by the warm starts compared to the previous cold starts
+     */
+    public record Stats(int warmStarts, int coldStarts, Duration saved) {
+        @Override
+        public String toString() {
+            return String.format("%d warm starts, %d cold starts, saved %d s", warmStarts, coldStarts, saved.toSeconds());
+        }
+    }
+}
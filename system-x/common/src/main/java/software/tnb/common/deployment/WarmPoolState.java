@@ -0,0 +1,156 @@
+package software.tnb.common.deployment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * State of the {@link WarmPool} persisted between the test runs: for each configuration hash the time the container was last used and
+ * the time it took to start the container cold.
+ */
+final class WarmPoolState {
+    private static final Logger LOG = LoggerFactory.getLogger(WarmPoolState.class);
+
+    private final Path file;
+    private final Map<String, Entry> entries;
+    // hashes changed by this run, the rest of the file may be changed by other runs in the meantime
+    private final Set<String> changed = new HashSet<>();
+
+    WarmPoolState(Path file) {
+        this.file = file;
+        this.entries = read(file);
+    }
+
+    /**
+     * Records the cold start of the container.
+     *
+     * @param hash configuration hash
+     * @param startup startup time
+     * @param now current time
+     */
+    synchronized void coldStart(String hash, Duration startup, Instant now) {
+        put(hash, new Entry(now.toEpochMilli(), startup.toMillis()));
+    }
+
+    /**
+     * Records the warm start of the container.
+     *
+     * @param hash configuration hash
+     * @param startup time it took to reattach to the container
+     * @param now current time
+     * @return startup time saved compared to the last cold start
+     */
+    synchronized Duration warmStart(String hash, Duration startup, Instant now) {
+        final Entry entry = entries.get(hash);
+        final long coldStartup = entry == null ? 0 : entry.startup;
+        put(hash, new Entry(now.toEpochMilli(), coldStartup));
+        return Duration.ofMillis(Math.max(0, coldStartup - startup.toMillis()));
+    }
+
+    synchronized void used(String hash, Instant now) {
+        final Entry entry = entries.get(hash);
+        put(hash, new Entry(now.toEpochMilli(), entry == null ? 0 : entry.startup));
+    }
+
+    /**
+     * Checks if the container with given hash was not used for the given timeout.
+     *
+     * @param hash configuration hash
+     * @param created creation time of the container, used when the container was never used by any run
+     * @param now current time
+     * @param timeout idle timeout
+     * @return true if the container is idle
+     */
+    synchronized boolean isIdle(String hash, Instant created, Instant now, Duration timeout) {
+        final Entry entry = entries.get(hash);
+        final long lastUsed = entry == null ? created.toEpochMilli() : Math.max(entry.used, created.toEpochMilli());
+        return now.toEpochMilli() - lastUsed >= timeout.toMillis();
+    }
+
+    synchronized void remove(String hash) {
+        entries.remove(hash);
+        changed.add(hash);
+    }
+
+    /**
+     * Stores the changes made by this run to the state file.
+     */
+    synchronized void store() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        // merge with the current content, as the file may be shared by multiple test runs
+        final Map<String, Entry> current = read(file);
+        changed.forEach(hash -> {
+            if (entries.containsKey(hash)) {
+                current.put(hash, entries.get(hash));
+            } else {
+                current.remove(hash);
+            }
+        });
+        changed.clear();
+
+        final Properties properties = new Properties();
+        current.forEach((hash, entry) -> properties.setProperty(hash, entry.used + "," + entry.startup));
+        final Path tmp = file.resolveSibling(file.getFileName() + "-" + UUID.randomUUID() + ".tmp");
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            try (OutputStream os = Files.newOutputStream(tmp)) {
+                properties.store(os, "Warm pool state");
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOG.warn("Unable to store warm pool state to {}", file, e);
+            try {
+                Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+                // best effort
+            }
+        }
+    }
+
+    private void put(String hash, Entry entry) {
+        entries.put(hash, entry);
+        changed.add(hash);
+    }
+
+    private static Map<String, Entry> read(Path file) {
+        final Map<String, Entry> entries = new HashMap<>();
+        if (!Files.exists(file)) {
+            return entries;
+        }
+        final Properties properties = new Properties();
+        try (InputStream is = Files.newInputStream(file)) {
+            properties.load(is);
+        } catch (IOException e) {
+            LOG.warn("Unable to read warm pool state from {}", file, e);
+            return entries;
+        }
+        for (String hash : properties.stringPropertyNames()) {
+            final String[] parts = properties.getProperty(hash).split(",", 2);
+            try {
+                entries.put(hash, new Entry(Long.parseLong(parts[0]), Long.parseLong(parts[1])));
+            } catch (RuntimeException e) {
+                LOG.debug("Ignoring invalid warm pool entry {}", hash);
+            }
+        }
+        return entries;
+    }
+
+    private record Entry(long used, long startup) {
+    }
+}
@@ -2,6 +2,7 @@ package software.tnb.common.deployment;
 
 import software.tnb.common.config.OpenshiftConfiguration;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 
 import java.util.Map;
 import java.util.function.Predicate;
@@ -16,7 +17,7 @@ public interface WithName {
     String name();
 
     default Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of(OpenshiftConfiguration.openshiftDeploymentLabel(), name()));
+        return PodLabelSelector.of(Map.of(OpenshiftConfiguration.openshiftDeploymentLabel(), name()));
     }
 
     default boolean isDeployed() {
@@ -0,0 +1,202 @@
+package software.tnb.common.service;
+
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.deployment.ReusableOpenshiftDeployable;
+import software.tnb.common.service.configuration.ServiceConfiguration;
+import software.tnb.common.utils.JUnitUtils;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Reference-counted registry of the reusable services deployed in OpenShift.
+ * <p>
+ * The deployment is shared by all test classes that use the same service class with the same configuration. It is deployed by the first
+ * test class, reused by the following (and concurrently running) test classes and undeployed after the last test class that uses it
+ * finishes. The remaining test classes are found using the test plan (see
+ * {@link JUnitUtils#isExtensionStillNeeded(ExtensionContext, Predicate, String)}).
+ * <p>
+ * In parallel runs each test class has its own namespace, which is deleted after the test class, and the services are accessed through
+ * the client and the hostnames of that namespace. So the deployments are not shared there, each test class deploys and undeploys its own.
+ */
+public final class ServiceRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(ServiceRegistry.class);
+    private static final ServiceRegistry INSTANCE = new ServiceRegistry(() -> !TestConfiguration.parallel(),
+        (context, extension) -> JUnitUtils.isExtensionStillNeeded(context, extension, "reusable service"));
+
+    private final Map<Key, Entry> entries = new HashMap<>();
+    private final BooleanSupplier shared;
+    private final BiPredicate<ExtensionContext, Predicate<Object>> stillNeeded;
+
+    ServiceRegistry(BooleanSupplier shared, BiPredicate<ExtensionContext, Predicate<Object>> stillNeeded) {
+        this.shared = shared;
+        this.stillNeeded = stillNeeded;
+    }
+
+    public static ServiceRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the usage of the service by the current test class. If this service instance isn't used by another test class already,
+     * the service is deployed (if it isn't deployed yet) and the resources of the instance are opened. In parallel runs the service is
+     * always deployed for the current test class only.
+     *
+     * @param service service
+     */
+    public void acquire(ReusableOpenshiftDeployable service) {
+        if (!shared.getAsBoolean()) {
+            service.deploy();
+            service.openResources();
+            return;
+        }
+        final Entry entry = entry(key(service), true);
+        synchronized (entry) {
+            if (entry.instances.merge(service, 1, Integer::sum) == 1) {
+                // deploy does nothing if the service is already deployed, it just waits until it is ready
+                service.deploy();
+                entry.deployed = true;
+                service.openResources();
+            }
+            LOG.trace("{} acquired", service.getClass().getSimpleName());
+        }
+    }
+
+    /**
+     * Releases the usage of the service by the current test class.
+     * <p>
+     * If the service instance is still used by another running test class, nothing is done. If the deployment is used by another running
+     * test class, the resources of the instance are closed. If the deployment will be used by one of the following test classes, the service
+     * is cleaned up and the resources are closed. Otherwise (and always in parallel runs) the given undeploy action is invoked.
+     *
+     * @param extensionContext extension context of the current test class
+     * @param service service
+     * @param undeploy action that closes the resources and undeploys the service
+     * @throws Exception when the undeploy action fails
+     */
+    public void release(ExtensionContext extensionContext, ReusableOpenshiftDeployable service, Undeploy undeploy) throws Exception {
+        if (!shared.getAsBoolean()) {
+            undeploy.undeploy();
+            return;
+        }
+        final Key key = key(service);
+        final Entry entry = entry(key, false);
+        if (entry == null) {
+            // not acquired using the registry
+            undeploy.undeploy();
+            return;
+        }
+
+        try {
+            synchronized (entry) {
+                final int instanceUsers = entry.instances.merge(service, -1, Integer::sum);
+                if (instanceUsers > 0) {
+                    LOG.trace("{} is still used by another test class", service.getClass().getSimpleName());
+                    return;
+                }
+                entry.instances.remove(service);
+
+                if (otherUsers(entry) > 0) {
+                    LOG.debug("Shared {} is still used by another test class", service.getClass().getSimpleName());
+                    service.closeResources();
+                } else if (stillNeeded.test(extensionContext, matching(service))) {
+                    LOG.debug("Shared {} will be used in next tests, cleaning up", service.getClass().getSimpleName());
+                    service.cleanup();
+                    service.closeResources();
+                } else {
+                    LOG.debug("Last usage of shared {}, undeploying", service.getClass().getSimpleName());
+                    entry.deployed = false;
+                    undeploy.undeploy();
+                }
+            }
+        } finally {
+            synchronized (entries) {
+                if (--entry.users == 0 && !entry.deployed) {
+                    entries.remove(key, entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of test classes currently using the deployment of the given service.
+     *
+     * @param service service
+     * @return number of users
+     */
+    public int users(ReusableOpenshiftDeployable service) {
+        synchronized (entries) {
+            final Entry entry = entries.get(key(service));
+            return entry == null ? 0 : entry.users;
+        }
+    }
+
+    private int otherUsers(Entry entry) {
+        synchronized (entries) {
+            return entry.users - 1;
+        }
+    }
+
+    private Entry entry(Key key, boolean acquire) {
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (acquire) {
+                if (entry == null) {
+                    entry = new Entry();
+                    entries.put(key, entry);
+                }
+                entry.users++;
+            }
+            return entry;
+        }
+    }
+
+    private static Key key(ReusableOpenshiftDeployable service) {
+        return new Key(service.getClass(), configuration(service));
+    }
+
+    private static Map<String, Object> configuration(Object service) {
+        if (service instanceof ConfigurableService<?, ?, ?, ?>) {
+            final ServiceConfiguration configuration = ((ConfigurableService<?, ?, ?, ?>) service).getConfiguration();
+            return configuration == null ? null : configuration.values();
+        }
+        return null;
+    }
+
+    /**
+     * Matches the instances of the same service class with the same configuration.
+     */
+    private static Predicate<Object> matching(ReusableOpenshiftDeployable service) {
+        final Map<String, Object> configuration = configuration(service);
+        return extension -> service.getClass().isInstance(extension) && Objects.equals(configuration, configuration(extension));
+    }
+
+    /**
+     * Action that closes the resources and undeploys the service.
+     */
+    @FunctionalInterface
+    public interface Undeploy {
+        void undeploy() throws Exception;
+    }
+
+    private record Key(Class<?> serviceClass, Map<String, Object> configuration) {
+    }
+
+    private static final class Entry {
+        // number of test classes using the deployment, guarded by the entries map
+        private int users;
+        private boolean deployed;
+        // number of test classes using each service instance
+        private final Map<ReusableOpenshiftDeployable, Integer> instances = new IdentityHashMap<>();
+    }
+}
@@ -1,5 +1,6 @@
 package software.tnb.common.service.configuration;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -16,6 +17,15 @@ public class ServiceConfiguration {
         return value == null ? null : clazz.cast(value);
     }
 
+    /**
+     * Returns a snapshot of the configuration values.
+     *
+     * @return unmodifiable copy of the configuration values
+     */
+    public Map<String, Object> values() {
+        return Collections.unmodifiableMap(new HashMap<>(configuration));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
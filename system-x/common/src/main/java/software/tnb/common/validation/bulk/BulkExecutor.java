@@ -0,0 +1,138 @@
+package software.tnb.common.validation.bulk;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Splits the items into chunks and executes the batch operation for each chunk, optionally in parallel.
+ */
+public final class BulkExecutor {
+    private static final Logger LOG = LoggerFactory.getLogger(BulkExecutor.class);
+
+    private BulkExecutor() {
+    }
+
+    /**
+     * Executes the batch operation for each chunk of the items.
+     * <p>
+     * A batch that throws an exception is reported as failed as a whole, the remaining batches are still executed.
+     *
+     * @param operation name of the operation used in the logs and in the report
+     * @param items items to process
+     * @param chunkSize number of items in one batch
+     * @param parallelism number of batches executed concurrently
+     * @param batch batch operation
+     * @param <T> item type
+     * @return report
+     * @throws IllegalArgumentException when the chunk size or the parallelism is not positive
+     */
+    public static <T> BulkReport execute(String operation, List<T> items, int chunkSize, int parallelism, BatchOperation<T> batch) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, was " + parallelism);
+        }
+        final List<List<T>> chunks = new ArrayList<>();
+        for (int i = 0; i < items.size(); i += chunkSize) {
+            chunks.add(items.subList(i, Math.min(items.size(), i + chunkSize)));
+        }
+
+        final long start = System.nanoTime();
+        final List<BulkReport.Batch> batches = new ArrayList<>(chunks.size());
+        if (parallelism == 1 || chunks.size() <= 1) {
+            for (int i = 0; i < chunks.size(); i++) {
+                batches.add(executeBatch(operation, i, chunks.get(i), batch));
+            }
+        } else {
+            final AtomicInteger threadCount = new AtomicInteger();
+            final String prefix = Thread.currentThread().getName() + "-bulk-";
+            final ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()), r -> {
+                Thread t = new Thread(r, prefix + threadCount.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            });
+            try {
+                final List<Future<BulkReport.Batch>> futures = new ArrayList<>(chunks.size());
+                for (int i = 0; i < chunks.size(); i++) {
+                    final int index = i;
+                    futures.add(executor.submit(() -> executeBatch(operation, index, chunks.get(index), batch)));
+                }
+                for (Future<BulkReport.Batch> future : futures) {
+                    batches.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while executing " + operation, e);
+            } catch (ExecutionException e) {
+                // executeBatch doesn't throw
+                throw new RuntimeException("Unexpected failure of " + operation, e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        final BulkReport report = new BulkReport(operation, batches, Duration.ofNanos(System.nanoTime() - start));
+        if (report.isSuccessful()) {
+            LOG.debug("{}", report);
+        } else {
+            LOG.warn("{}", report);
+        }
+        return report;
+    }
+
+    /**
+     * Executes the batch operation for each chunk of the items using the given options.
+     *
+     * @param operation name of the operation used in the logs and in the report
+     * @param items items to process
+     * @param options bulk options
+     * @param maxChunkSize maximum number of items the service accepts in one request
+     * @param batch batch operation
+     * @param <T> item type
+     * @return report
+     */
+    public static <T> BulkReport execute(String operation, List<T> items, BulkOptions options, int maxChunkSize, BatchOperation<T> batch) {
+        return execute(operation, items, options.chunkSize(maxChunkSize), options.parallelism(), batch);
+    }
+
+    private static <T> BulkReport.Batch executeBatch(String operation, int index, List<T> items, BatchOperation<T> batch) {
+        final long start = System.nanoTime();
+        try {
+            final List<String> failures = batch.execute(items);
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+            LOG.trace("{}: batch {} with {} items took {} ms, {} failed", operation, index, items.size(), duration.toMillis(), failures.size());
+            return new BulkReport.Batch(index, items.size(), duration, List.copyOf(failures), null);
+        } catch (Exception e) {
+            LOG.debug("{}: batch {} with {} items failed", operation, index, items.size(), e);
+            return new BulkReport.Batch(index, items.size(), Duration.ofNanos(System.nanoTime() - start),
+                List.of("batch " + index + ": " + e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Operation executed for each chunk of the items.
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    public interface BatchOperation<T> {
+        /**
+         * Processes the chunk of the items.
+         *
+         * @param items items in the chunk
+         * @return descriptions of the items that failed, empty if all succeeded
+         * @throws Exception when the whole batch fails
+         */
+        List<String> execute(List<T> items) throws Exception;
+    }
+}
@@ -0,0 +1,62 @@
+package software.tnb.common.validation.bulk;
+
+/**
+ * Options of a bulk operation: how many items are sent in one request and how many requests run concurrently.
+ */
+public final class BulkOptions {
+    private final int chunkSize;
+    private final int parallelism;
+
+    private BulkOptions(int chunkSize, int parallelism) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive, was " + parallelism);
+        }
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Creates the options.
+     *
+     * @param chunkSize number of items in one request
+     * @param parallelism number of requests executed concurrently
+     * @return options
+     */
+    public static BulkOptions of(int chunkSize, int parallelism) {
+        return new BulkOptions(chunkSize, parallelism);
+    }
+
+    public BulkOptions withChunkSize(int chunkSize) {
+        return new BulkOptions(chunkSize, parallelism);
+    }
+
+    public BulkOptions withParallelism(int parallelism) {
+        return new BulkOptions(chunkSize, parallelism);
+    }
+
+    public int chunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the chunk size limited by the maximum number of items the service accepts in one request.
+     *
+     * @param max maximum number of items in one request
+     * @return chunk size
+     */
+    public int chunkSize(int max) {
+        return Math.min(chunkSize, max);
+    }
+
+    public int parallelism() {
+        return parallelism;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkOptions{chunkSize=" + chunkSize + ", parallelism=" + parallelism + "}";
+    }
+}
@@ -0,0 +1,79 @@
+package software.tnb.common.validation.bulk;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Result of a bulk operation with the timing and the failures of each batch.
+ *
+ * @param operation name of the operation
+ * @param batches results of the individual batches, in the order of the items
+ * @param duration total duration of the operation
+ */
+public record BulkReport(String operation, List<Batch> batches, Duration duration) {
+    /**
+     * Returns the number of items processed by the operation.
+     *
+     * @return number of items
+     */
+    public int items() {
+        return batches.stream().mapToInt(Batch::size).sum();
+    }
+
+    public int failed() {
+        return batches.stream().mapToInt(Batch::failed).sum();
+    }
+
+    public int succeeded() {
+        return items() - failed();
+    }
+
+    public boolean isSuccessful() {
+        return failed() == 0;
+    }
+
+    /**
+     * Returns the failures of all batches.
+     *
+     * @return list of failure descriptions
+     */
+    public List<String> failures() {
+        return batches.stream().flatMap(b -> b.failures().stream()).collect(Collectors.toList());
+    }
+
+    /**
+     * Throws an exception if any item failed.
+     *
+     * @return this report
+     */
+    public BulkReport assertSuccessful() {
+        if (!isSuccessful()) {
+            final List<String> failures = failures();
+            throw new RuntimeException(String.format("%s: %d of %d items failed, first failures: %s", operation, failed(), items(),
+                failures.subList(0, Math.min(10, failures.size()))));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d items in %d batches, %d failed, took %d ms", operation, items(), batches.size(), failed(),
+            duration.toMillis());
+    }
+
+    /**
+     * Result of a single batch.
+     *
+     * @param index index of the batch
+     * @param size number of items in the batch
+     * @param duration duration of the request(s) of the batch
+     * @param failures descriptions of the failed items, or of the error when the whole batch failed
+     * @param error error that failed the whole batch, null if the batch request succeeded
+     */
+    public record Batch(int index, int size, Duration duration, List<String> failures, Exception error) {
+        public int failed() {
+            return error == null ? failures.size() : size;
+        }
+    }
+}
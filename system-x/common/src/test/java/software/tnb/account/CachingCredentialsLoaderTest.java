@@ -0,0 +1,113 @@
+package software.tnb.account;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import software.tnb.account.util.TestAccountWithId;
+import software.tnb.common.account.loader.CachingCredentialsLoader;
+import software.tnb.common.account.loader.CredentialsLoader;
+import software.tnb.common.account.loader.DelegatingCredentialsLoader;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Tag("unit")
+public class CachingCredentialsLoaderTest {
+    @Test
+    public void shouldLoadCredentialsOnlyOnceTest() {
+        final CountingLoader delegate = new CountingLoader(Map.of("test", Map.of("username", "John", "password", "Secret")));
+        final CachingCredentialsLoader loader = new CachingCredentialsLoader(delegate);
+
+        for (int i = 0; i < 3; i++) {
+            final TestAccountWithId account = loader.get(List.of("test"), TestAccountWithId.class);
+            assertThat(account.getUsername()).isEqualTo("John");
+        }
+
+        assertThat(delegate.loaded).containsExactly("test");
+        assertThat(loader.getMisses()).isEqualTo(1);
+        assertThat(loader.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCacheMissingCredentialsTest() {
+        final CountingLoader delegate = new CountingLoader(Map.of());
+        final CachingCredentialsLoader loader = new CachingCredentialsLoader(delegate);
+
+        assertThat(loader.loadCredentials("missing")).isNull();
+        assertThat(loader.loadCredentials("missing")).isNull();
+        assertThat(delegate.loaded).containsExactly("missing");
+    }
+
+    @Test
+    public void shouldNotCacheFailuresTest() {
+        final CountingLoader delegate = new CountingLoader(null);
+        final CachingCredentialsLoader loader = new CachingCredentialsLoader(delegate);
+
+        assertThatThrownBy(() -> loader.loadCredentials("test")).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> loader.loadCredentials("test")).isInstanceOf(RuntimeException.class);
+        assertThat(delegate.loaded).containsExactly("test", "test");
+    }
+
+    @Test
+    public void shouldKeepLoadersOrderTest() {
+        final CountingLoader failing = new CountingLoader(null);
+        final CountingLoader first = new CountingLoader(Map.of("test", Map.of("username", "First")));
+        final CountingLoader second = new CountingLoader(Map.of("test", Map.of("username", "Second")));
+        final CredentialsLoader loader = new DelegatingCredentialsLoader(List.of(
+            new CachingCredentialsLoader(failing), new CachingCredentialsLoader(first), new CachingCredentialsLoader(second)));
+
+        assertThat(loader.get(List.of("test"), TestAccountWithId.class).getUsername()).isEqualTo("First");
+        assertThat(loader.get(List.of("test"), TestAccountWithId.class).getUsername()).isEqualTo("First");
+        assertThat(first.loaded).containsExactly("test");
+        assertThat(second.loaded).isEmpty();
+    }
+
+    @Test
+    public void shouldMemoizeJsonThroughDelegatingLoaderTest() {
+        final CountingLoader failing = new CountingLoader(null);
+        final CountingLoader delegate = new CountingLoader(Map.of("test", Map.of("username", "John", "password", "Secret")));
+        final CachingCredentialsLoader caching = new CachingCredentialsLoader(delegate);
+        final CredentialsLoader loader = new DelegatingCredentialsLoader(List.of(new CachingCredentialsLoader(failing), caching));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(loader.get(List.of("test"), TestAccountWithId.class).getUsername()).isEqualTo("John");
+        }
+
+        assertThat(delegate.converted).isEqualTo(1);
+        assertThat(failing.converted).isZero();
+    }
+
+    private static final class CountingLoader extends CredentialsLoader {
+        // null simulates a loader that fails
+        private final Map<String, ?> credentials;
+        private final List<String> loaded = new ArrayList<>();
+        private int converted;
+
+        private CountingLoader(Map<String, ?> credentials) {
+            this.credentials = credentials;
+        }
+
+        @Override
+        public Object loadCredentials(String credentialsId) {
+            loaded.add(credentialsId);
+            if (credentials == null) {
+                throw new RuntimeException("Loader not available");
+            }
+            return credentials.get(credentialsId);
+        }
+
+        @Override
+        public String toJson(Object credentials) {
+            converted++;
+            try {
+                return mapper.writeValueAsString(credentials);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+}
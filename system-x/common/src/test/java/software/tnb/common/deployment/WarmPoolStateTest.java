@@ -0,0 +1,72 @@
+package software.tnb.common.deployment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+@Tag("unit")
+public class WarmPoolStateTest {
+    private static final Instant NOW = Instant.parse("2024-01-01T10:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void shouldComputeSavedTimeFromColdStartTest() {
+        final WarmPoolState state = new WarmPoolState(dir.resolve("state.properties"));
+        state.coldStart("hash", Duration.ofSeconds(30), NOW);
+
+        assertThat(state.warmStart("hash", Duration.ofSeconds(2), NOW)).isEqualTo(Duration.ofSeconds(28));
+        // unknown cold start time
+        assertThat(state.warmStart("other", Duration.ofSeconds(2), NOW)).isZero();
+    }
+
+    @Test
+    public void shouldDetectIdleContainersTest() {
+        final WarmPoolState state = new WarmPoolState(dir.resolve("state.properties"));
+        final Instant created = NOW.minus(Duration.ofHours(5));
+        state.used("hash", NOW.minus(Duration.ofMinutes(30)));
+
+        assertThat(state.isIdle("hash", created, NOW, Duration.ofHours(1))).isFalse();
+        assertThat(state.isIdle("hash", created, NOW, Duration.ofMinutes(10))).isTrue();
+        // never used by any run
+        assertThat(state.isIdle("unknown", created, NOW, Duration.ofHours(1))).isTrue();
+        assertThat(state.isIdle("unknown", NOW, NOW, Duration.ofHours(1))).isFalse();
+    }
+
+    @Test
+    public void shouldMergeStateWithOtherRunsTest() {
+        final Path file = dir.resolve("state.properties");
+        final WarmPoolState first = new WarmPoolState(file);
+        final WarmPoolState second = new WarmPoolState(file);
+        first.coldStart("first", Duration.ofSeconds(10), NOW);
+        first.store();
+        second.coldStart("second", Duration.ofSeconds(20), NOW);
+        second.store();
+
+        final WarmPoolState loaded = new WarmPoolState(file);
+        assertThat(loaded.warmStart("first", Duration.ZERO, NOW)).isEqualTo(Duration.ofSeconds(10));
+        assertThat(loaded.warmStart("second", Duration.ZERO, NOW)).isEqualTo(Duration.ofSeconds(20));
+
+        loaded.remove("first");
+        loaded.store();
+        assertThat(new WarmPoolState(file).warmStart("first", Duration.ZERO, NOW)).isZero();
+    }
+
+    @Test
+    public void shouldIgnoreInvalidEntriesTest() throws Exception {
+        final Path file = dir.resolve("state.properties");
+        Files.writeString(file, "broken=abc\nvalid=" + NOW.toEpochMilli() + ",5000\n");
+
+        final WarmPoolState state = new WarmPoolState(file);
+        assertThat(state.warmStart("valid", Duration.ofSeconds(1), NOW)).isEqualTo(Duration.ofSeconds(4));
+        assertThat(state.warmStart("broken", Duration.ofSeconds(1), NOW)).isZero();
+    }
+}
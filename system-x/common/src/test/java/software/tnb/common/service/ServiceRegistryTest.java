@@ -0,0 +1,205 @@
+package software.tnb.common.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.account.NoAccount;
+import software.tnb.common.client.NoClient;
+import software.tnb.common.deployment.ReusableOpenshiftDeployable;
+import software.tnb.common.service.configuration.ServiceConfiguration;
+import software.tnb.common.validation.NoValidation;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import io.fabric8.kubernetes.api.model.Pod;
+
+@Tag("unit")
+public class ServiceRegistryTest {
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private volatile boolean shared = true;
+    private volatile boolean stillNeeded;
+    private final ServiceRegistry registry = new ServiceRegistry(() -> shared, (context, extension) -> stillNeeded);
+
+    @Test
+    public void shouldCleanupServiceUsedInFollowingClassesTest() throws Exception {
+        final TestService first = new TestService("first");
+        registry.acquire(first);
+        stillNeeded = true;
+        release(first);
+
+        final TestService second = new TestService("second");
+        registry.acquire(second);
+        stillNeeded = false;
+        release(second);
+
+        assertThat(events).containsExactly("first:create", "first:open", "first:cleanup", "first:close",
+            "second:open", "second:undeploy");
+        assertThat(registry.users(second)).isZero();
+    }
+
+    @Test
+    public void shouldNotCleanupServiceUsedByRunningClassTest() throws Exception {
+        final TestService first = new TestService("first");
+        final TestService second = new TestService("second");
+        registry.acquire(first);
+        registry.acquire(second);
+        assertThat(registry.users(first)).isEqualTo(2);
+
+        release(first);
+        release(second);
+
+        assertThat(events).containsExactly("first:create", "first:open", "second:open", "first:close", "second:undeploy");
+    }
+
+    @Test
+    public void shouldOpenSharedInstanceOnceTest() throws Exception {
+        final TestService service = new TestService("shared");
+        registry.acquire(service);
+        registry.acquire(service);
+
+        release(service);
+        assertThat(events).containsExactly("shared:create", "shared:open");
+
+        release(service);
+        assertThat(events).containsExactly("shared:create", "shared:open", "shared:undeploy");
+    }
+
+    @Test
+    public void shouldNotShareServiceWithDifferentConfigurationTest() throws Exception {
+        final TestService first = new TestService("first");
+        final TestService second = new TestService("second");
+        second.getConfiguration().replicas(2);
+        registry.acquire(first);
+        registry.acquire(second);
+
+        assertThat(registry.users(first)).isEqualTo(1);
+        assertThat(registry.users(second)).isEqualTo(1);
+        release(first);
+        release(second);
+        assertThat(events).contains("first:undeploy", "second:undeploy");
+    }
+
+    @Test
+    public void shouldDeployServicePerClassInParallelRunsTest() throws Exception {
+        shared = false;
+        final TestService first = new TestService("first");
+        final TestService second = new TestService("second");
+        final CountDownLatch bothAcquired = new CountDownLatch(2);
+        final CountDownLatch checked = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // each test class runs in its own thread (and namespace), like in the parallel runs
+            final Future<Void> firstClass = executor.submit(testClass(first, bothAcquired, checked));
+            final Future<Void> secondClass = executor.submit(testClass(second, bothAcquired, checked));
+            assertThat(bothAcquired.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(events).contains("first:open", "second:open");
+            assertThat(registry.users(first)).isZero();
+
+            stillNeeded = true;
+            checked.countDown();
+            firstClass.get(10, TimeUnit.SECONDS);
+            secondClass.get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // the namespace of each class is deleted after the class, so nothing is kept for the following classes
+        assertThat(events).contains("first:undeploy", "second:undeploy").doesNotContain("first:cleanup", "second:cleanup");
+    }
+
+    private Callable<Void> testClass(TestService service, CountDownLatch bothAcquired, CountDownLatch checked) {
+        return () -> {
+            registry.acquire(service);
+            bothAcquired.countDown();
+            assertThat(checked.await(10, TimeUnit.SECONDS)).isTrue();
+            release(service);
+            return null;
+        };
+    }
+
+    private void release(TestService service) throws Exception {
+        registry.release(null, service, service::undeploy);
+    }
+
+    public static class TestServiceConfiguration extends ServiceConfiguration {
+        public TestServiceConfiguration replicas(int replicas) {
+            set("replicas", replicas);
+            return this;
+        }
+    }
+
+    private final class TestService extends ConfigurableService<NoAccount, NoClient, NoValidation, TestServiceConfiguration>
+        implements ReusableOpenshiftDeployable {
+        private final String name;
+        private boolean open;
+
+        private TestService(String name) {
+            this.name = name;
+        }
+
+        @Override
+        protected void defaultConfiguration() {
+            getConfiguration().replicas(1);
+        }
+
+        @Override
+        public void deploy() {
+            if (!isDeployed()) {
+                create();
+            }
+        }
+
+        @Override
+        public void create() {
+            event("create");
+        }
+
+        @Override
+        public boolean isDeployed() {
+            return events.stream().anyMatch(e -> e.endsWith(":create")) && events.stream().noneMatch(e -> e.endsWith(":undeploy"));
+        }
+
+        @Override
+        public Predicate<Pod> podSelector() {
+            return p -> false;
+        }
+
+        @Override
+        public void undeploy() {
+            event("undeploy");
+        }
+
+        @Override
+        public void openResources() {
+            open = true;
+            event("open");
+        }
+
+        @Override
+        public void closeResources() {
+            if (open) {
+                open = false;
+                event("close");
+            }
+        }
+
+        @Override
+        public void cleanup() {
+            event("cleanup");
+        }
+
+        private void event(String event) {
+            events.add(name + ":" + event);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package software.tnb.common.validation.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("unit")
+public class BulkExecutorTest {
+    private static final List<Integer> ITEMS = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    @Test
+    public void shouldSplitItemsIntoChunksTest() {
+        final List<List<Integer>> chunks = new ArrayList<>();
+        final BulkReport report = BulkExecutor.execute("test", ITEMS, 4, 1, batch -> {
+            chunks.add(List.copyOf(batch));
+            return List.of();
+        });
+
+        assertThat(chunks).containsExactly(List.of(0, 1, 2, 3), List.of(4, 5, 6, 7), List.of(8, 9));
+        assertThat(report.batches()).extracting(BulkReport.Batch::size).containsExactly(4, 4, 2);
+        assertThat(report.items()).isEqualTo(10);
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.assertSuccessful()).isSameAs(report);
+    }
+
+    @Test
+    public void shouldLimitChunkSizeTest() {
+        final BulkReport report = BulkExecutor.execute("test", ITEMS, BulkOptions.of(100, 1), 3, batch -> List.of());
+        assertThat(report.batches()).hasSize(4);
+    }
+
+    @Test
+    public void shouldExecuteBatchesInParallelTest() {
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final BulkReport report = BulkExecutor.execute("test", ITEMS, 1, 4, batch -> {
+            threads.add(Thread.currentThread().getName());
+            return List.of();
+        });
+
+        assertThat(threads).hasSize(10).allMatch(name -> name.contains("-bulk-"));
+        // the report keeps the order of the batches
+        assertThat(report.batches()).extracting(BulkReport.Batch::index).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+    }
+
+    @Test
+    public void shouldReportFailuresTest() {
+        final BulkReport report = BulkExecutor.execute("test", ITEMS, 5, 2, batch -> {
+            if (batch.contains(0)) {
+                return List.of("item 0: invalid");
+            }
+            throw new IllegalStateException("unavailable");
+        });
+
+        assertThat(report.failed()).isEqualTo(6);
+        assertThat(report.succeeded()).isEqualTo(4);
+        assertThat(report.batches().get(0).error()).isNull();
+        assertThat(report.batches().get(1).error()).isInstanceOf(IllegalStateException.class);
+        assertThat(report.failures()).containsExactly("item 0: invalid", "batch 1: unavailable");
+        assertThatThrownBy(report::assertSuccessful).hasMessageContaining("6 of 10 items failed");
+    }
+
+    @Test
+    public void shouldRejectInvalidOptionsTest() {
+        assertThatThrownBy(() -> BulkOptions.of(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BulkOptions.of(1, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(BulkOptions.of(10, 1).withParallelism(3).withChunkSize(5).chunkSize(3)).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldRejectInvalidChunkSizeAndParallelismTest() {
+        assertThatThrownBy(() -> BulkExecutor.execute("test", ITEMS, 0, 1, batch -> List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BulkExecutor.execute("test", ITEMS, -1, 1, batch -> List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BulkExecutor.execute("test", ITEMS, 1, 0, batch -> List.of())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BulkExecutor.execute("test", ITEMS, BulkOptions.of(10, 1), 0, batch -> List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,23 +1,26 @@
 package software.tnb.aws.common.resource.local;
 
 import software.tnb.aws.common.service.LocalStack;
-import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
+import software.tnb.common.deployment.WarmPool;
+import software.tnb.common.utils.HTTPUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.auto.service.AutoService;
 
+import okhttp3.RequestBody;
+
 @AutoService(LocalStack.class)
-public class LocalLocalStack extends LocalStack implements Deployable {
+public class LocalLocalStack extends LocalStack implements PooledDeployable {
     private static final Logger LOG = LoggerFactory.getLogger(LocalLocalStack.class);
     private LocalStackContainer container;
 
     @Override
     public void deploy() {
         LOG.info("Starting LocalStack container");
-        container = new LocalStackContainer(image(), PORT);
-        container.start();
+        container = WarmPool.getInstance().start(this, new LocalStackContainer(image(), PORT));
         LOG.info("LocalStack container started");
     }
 
@@ -25,7 +28,17 @@ public class LocalLocalStack extends LocalStack implements Deployable {
     public void undeploy() {
         if (container != null) {
             LOG.info("Stopping LocalStack container");
-            container.stop();
+            WarmPool.getInstance().release(this, container);
+        }
+    }
+
+    @Override
+    public void cleanup() {
+        // resets the state of all aws services
+        final HTTPUtils.Response response = HTTPUtils.getInstance()
+            .post(serviceUrl() + "/_localstack/state/reset", RequestBody.create(new byte[0]));
+        if (!response.isSuccessful()) {
+            throw new RuntimeException("Unable to reset LocalStack state: " + response.getResponseCode() + " " + response.getBody());
         }
     }
 
@@ -5,7 +5,6 @@ import software.tnb.aws.common.client.AWSClient;
 import software.tnb.aws.common.service.configuration.AWSConfiguration;
 import software.tnb.common.account.AccountFactory;
 import software.tnb.common.service.ConfigurableService;
-import software.tnb.common.service.ServiceFactory;
 import software.tnb.common.util.ReflectionUtil;
 import software.tnb.common.validation.Validation;
 
@@ -39,16 +38,24 @@ public abstract class AWSService<A extends AWSAccount, C extends SdkClient, V ex
     protected C client() {
         if (client == null) {
             Class<C> clientClass = (Class<C>) ReflectionUtil.getGenericTypesOf(AWSService.class, this.getClass())[1];
-            client = AWSClient.createDefaultClient(account(), clientClass, getConfiguration().isLocalstack() ? localStack.clientUrl() : null);
+            client = AWSClient.createDefaultClient(account(), clientClass, localStackUrl());
         }
         return client;
     }
 
+    /**
+     * Gets the URL that the clients should use.
+     *
+     * @return localstack url or null if localstack is not used
+     */
+    protected String localStackUrl() {
+        return getConfiguration().isLocalstack() ? localStack.clientUrl() : null;
+    }
+
     @Override
     public void beforeAll(ExtensionContext extensionContext) throws Exception {
         if (getConfiguration().isLocalstack()) {
-            localStack = ServiceFactory.create(LocalStack.class);
-            localStack.beforeAll(extensionContext);
+            localStack = SharedLocalStack.acquire(extensionContext);
         }
     }
 
@@ -60,7 +67,8 @@ public abstract class AWSService<A extends AWSAccount, C extends SdkClient, V ex
         }
 
         if (localStack != null) {
-            localStack.afterAll(extensionContext);
+            SharedLocalStack.release(extensionContext);
+            localStack = null;
         }
     }
 
@@ -0,0 +1,82 @@
+package software.tnb.aws.common.service;
+
+import software.tnb.common.config.OpenshiftConfiguration;
+import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.service.ServiceFactory;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reference-counted LocalStack instance shared by all AWS services.
+ * <p>
+ * The first AWS service that uses LocalStack deploys it, all other AWS services reuse the same instance and the instance is undeployed
+ * when the last AWS service releases it. In OpenShift, each namespace (in parallel runs each test class has its own) has its own instance.
+ */
+public final class SharedLocalStack {
+    private static final Logger LOG = LoggerFactory.getLogger(SharedLocalStack.class);
+    private static final Map<String, SharedLocalStack> INSTANCES = new HashMap<>();
+
+    private final LocalStack localStack;
+    private int references = 0;
+
+    private SharedLocalStack(LocalStack localStack) {
+        this.localStack = localStack;
+    }
+
+    /**
+     * Returns the shared LocalStack instance, deploying it if this is the first reference.
+     *
+     * @param extensionContext extension context
+     * @return localstack instance
+     * @throws Exception when the deployment fails
+     */
+    public static LocalStack acquire(ExtensionContext extensionContext) throws Exception {
+        synchronized (INSTANCES) {
+            final String key = key();
+            SharedLocalStack shared = INSTANCES.get(key);
+            if (shared == null) {
+                LOG.debug("Creating shared LocalStack instance");
+                final LocalStack localStack = ServiceFactory.create(LocalStack.class);
+                localStack.beforeAll(extensionContext);
+                shared = new SharedLocalStack(localStack);
+                INSTANCES.put(key, shared);
+            }
+            shared.references++;
+            LOG.trace("Shared LocalStack acquired, references: {}", shared.references);
+            return shared.localStack;
+        }
+    }
+
+    /**
+     * Releases the reference to the shared LocalStack instance and undeploys it if this was the last reference.
+     *
+     * @param extensionContext extension context
+     * @throws Exception when the undeployment fails
+     */
+    public static void release(ExtensionContext extensionContext) throws Exception {
+        synchronized (INSTANCES) {
+            final String key = key();
+            final SharedLocalStack shared = INSTANCES.get(key);
+            if (shared == null) {
+                return;
+            }
+            shared.references--;
+            LOG.trace("Shared LocalStack released, references: {}", shared.references);
+            if (shared.references == 0) {
+                LOG.debug("Last reference to shared LocalStack released, undeploying");
+                INSTANCES.remove(key);
+                shared.localStack.afterAll(extensionContext);
+            }
+        }
+    }
+
+    private static String key() {
+        return OpenshiftConfiguration.isOpenshift() ? OpenshiftClient.get().getNamespace() : "local";
+    }
+}
@@ -20,8 +20,7 @@ public class DynamoDB extends AWSService<AWSAccount, DynamoDbClient, DynamoDBVal
     public void beforeAll(ExtensionContext extensionContext) throws Exception {
         super.beforeAll(extensionContext);
         LOG.debug("Creating new DynamoDB validation");
-        streamsClient = AWSClient.createDefaultClient(account(), DynamoDbStreamsClient.class,
-            getConfiguration().isLocalstack() ? localStack.clientUrl() : null);
+        streamsClient = AWSClient.createDefaultClient(account(), DynamoDbStreamsClient.class, localStackUrl());
         validation = new DynamoDBValidation(client(), streamsClient);
     }
 
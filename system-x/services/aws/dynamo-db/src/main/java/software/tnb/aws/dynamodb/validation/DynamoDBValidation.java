@@ -1,7 +1,11 @@
 package software.tnb.aws.dynamodb.validation;
 
+import software.tnb.common.utils.Backoff;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,11 +26,16 @@ import software.amazon.awssdk.services.dynamodb.model.ProvisionedThroughput;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
 import software.amazon.awssdk.services.dynamodb.model.StreamViewType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 
 public class DynamoDBValidation implements Validation {
     private static final Logger LOG = LoggerFactory.getLogger(DynamoDBValidation.class);
     private static final String TABLE_NAME_PATTERN = "[a-zA-Z0-9.\\-_]{3,255}";
+    // maximum number of items in one BatchWriteItem request
+    private static final int MAX_BATCH_WRITE_ITEMS = 25;
+    private static final int MAX_UNPROCESSED_RETRIES = 5;
+    private static final BulkOptions DEFAULT_BULK_OPTIONS = BulkOptions.of(MAX_BATCH_WRITE_ITEMS, 1);
 
     private final DynamoDbClient client;
     private final DynamoDbStreamsClient streamsClient;
@@ -77,16 +86,45 @@ public class DynamoDBValidation implements Validation {
     }
 
     public void insert(String tableName, Map<String, String> record) {
-        Map<String, AttributeValue> input =
-            record.entrySet().stream().collect(Collectors.toMap(
-                Map.Entry::getKey,
-                entry -> AttributeValue.builder().s(entry.getValue()).build())
-            );
-
-        client.putItem(PutItemRequest.builder().item(input).tableName(tableName).build());
+        client.putItem(PutItemRequest.builder().item(stringMapToItem(record)).tableName(tableName).build());
         LOG.debug("Created item {} in table {}", record, tableName);
     }
 
+    public BulkReport insertAll(String tableName, List<Map<String, String>> records) {
+        return insertAll(tableName, records, DEFAULT_BULK_OPTIONS);
+    }
+
+    /**
+     * Inserts the records using the BatchWriteItem requests (with at most 25 items each). The items that are not processed by DynamoDB
+     * (for example because of the throttling) are retried with a backoff and reported as failed if they can't be written.
+     *
+     * @param tableName table name
+     * @param records records to insert
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport insertAll(String tableName, List<Map<String, String>> records, BulkOptions options) {
+        LOG.info("Inserting {} items into DynamoDB table {}", records.size(), tableName);
+        return BulkExecutor.execute("DynamoDB batch write to " + tableName, records, options, MAX_BATCH_WRITE_ITEMS, batch -> {
+            List<WriteRequest> requests = batch.stream()
+                .map(r -> WriteRequest.builder().putRequest(p -> p.item(stringMapToItem(r))).build())
+                .collect(Collectors.toList());
+            final Backoff backoff = new Backoff(50, 2000);
+            for (int attempt = 0; ; attempt++) {
+                final Map<String, List<WriteRequest>> pending = Map.of(tableName, requests);
+                requests = client.batchWriteItem(b -> b.requestItems(pending)).unprocessedItems().getOrDefault(tableName, List.of());
+                if (requests.isEmpty()) {
+                    return List.of();
+                }
+                if (attempt == MAX_UNPROCESSED_RETRIES) {
+                    return requests.stream().map(r -> "unprocessed item " + itemToStringMap(r.putRequest().item())).collect(Collectors.toList());
+                }
+                LOG.debug("{} items were not processed by DynamoDB, retrying", requests.size());
+                Thread.sleep(backoff.nextDelay());
+            }
+        });
+    }
+
     public Map<String, String> getItem(String tableName, String key, String keyVal) {
         Map<String, AttributeValue> keyToGet = Collections.singletonMap(key, AttributeValue.builder().s(keyVal).build());
         return itemToStringMap(client.getItem(b -> b.tableName(tableName).key(keyToGet)).item());
@@ -96,6 +134,13 @@ public class DynamoDBValidation implements Validation {
         return client.scan(b -> b.tableName(tableName)).items().stream().map(this::itemToStringMap).collect(Collectors.toList());
     }
 
+    private Map<String, AttributeValue> stringMapToItem(Map<String, String> record) {
+        return record.entrySet().stream().collect(Collectors.toMap(
+            Map.Entry::getKey,
+            entry -> AttributeValue.builder().s(entry.getValue()).build())
+        );
+    }
+
     private Map<String, String> itemToStringMap(Map<String, AttributeValue> item) {
         return item.entrySet().stream().collect(Collectors.toMap(
             Map.Entry::getKey,
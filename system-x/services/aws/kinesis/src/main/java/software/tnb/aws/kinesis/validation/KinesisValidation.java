@@ -1,21 +1,44 @@
 package software.tnb.aws.kinesis.validation;
 
+import software.tnb.common.config.TestConfiguration;
+import software.tnb.common.utils.Backoff;
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import software.amazon.awssdk.core.SdkBytes;
 import software.amazon.awssdk.services.kinesis.KinesisClient;
 import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.ListShardsResponse;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsRequestEntry;
+import software.amazon.awssdk.services.kinesis.model.PutRecordsResultEntry;
+import software.amazon.awssdk.services.kinesis.model.Record;
 import software.amazon.awssdk.services.kinesis.model.Shard;
 import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
 
 public class KinesisValidation implements Validation {
     private static final Logger LOG = LoggerFactory.getLogger(KinesisValidation.class);
 
+    // maximum number of records in one PutRecords request
+    private static final int MAX_PUT_RECORDS = 500;
+    private static final int MAX_FAILED_RETRIES = 5;
+    private static final BulkOptions DEFAULT_BULK_OPTIONS = BulkOptions.of(MAX_PUT_RECORDS, 1);
+
     private final KinesisClient client;
 
     public KinesisValidation(KinesisClient client) {
@@ -23,8 +46,12 @@ public class KinesisValidation implements Validation {
     }
 
     public void createDataStream(String name) {
-        LOG.info("Creating Kinesis data stream {}", name);
-        client.createStream(b -> b.streamName(name).shardCount(1));
+        createDataStream(name, 1);
+    }
+
+    public void createDataStream(String name, int shards) {
+        LOG.info("Creating Kinesis data stream {} with {} shard(s)", name, shards);
+        client.createStream(b -> b.streamName(name).shardCount(shards));
         waitForDataStream(name);
     }
 
@@ -43,6 +70,131 @@ public class KinesisValidation implements Validation {
         client.putRecord(b -> b.streamName(stream).partitionKey(partitionKey).data(SdkBytes.fromUtf8String(message)));
     }
 
+    /**
+     * Sends the messages using the PutRecords requests (with at most 500 records each), the records that are not processed (for example
+     * because of the throttling) are retried with a backoff and reported as failed if they can't be written.
+     *
+     * @param stream stream name
+     * @param messages messages
+     * @param partitionKey function that computes the partition key of the message
+     * @return bulk report
+     */
+    public BulkReport sendMessages(String stream, List<String> messages, Function<String, String> partitionKey) {
+        return sendMessages(stream, messages, partitionKey, DEFAULT_BULK_OPTIONS);
+    }
+
+    /**
+     * Sends the messages using the PutRecords requests (with at most 500 records each), the records that are not processed (for example
+     * because of the throttling) are retried with a backoff and reported as failed if they can't be written.
+     *
+     * @param stream stream name
+     * @param messages messages
+     * @param partitionKey function that computes the partition key of the message
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport sendMessages(String stream, List<String> messages, Function<String, String> partitionKey, BulkOptions options) {
+        LOG.debug("Sending {} records to Kinesis data stream {}", messages.size(), stream);
+        return BulkExecutor.execute("Kinesis put records to " + stream, messages, options, MAX_PUT_RECORDS, batch -> {
+            List<PutRecordsRequestEntry> entries = batch.stream()
+                .map(m -> PutRecordsRequestEntry.builder().partitionKey(partitionKey.apply(m)).data(SdkBytes.fromUtf8String(m)).build())
+                .collect(Collectors.toList());
+            final Backoff backoff = new Backoff(50, 2000);
+            for (int attempt = 0; ; attempt++) {
+                final List<PutRecordsRequestEntry> pending = entries;
+                final List<PutRecordsResultEntry> results = client.putRecords(b -> b.streamName(stream).records(pending)).records();
+                final List<PutRecordsRequestEntry> failed = new ArrayList<>();
+                final List<String> errors = new ArrayList<>();
+                for (int i = 0; i < results.size(); i++) {
+                    if (results.get(i).errorCode() != null) {
+                        failed.add(pending.get(i));
+                        errors.add(results.get(i).errorCode() + ": " + results.get(i).errorMessage());
+                    }
+                }
+                if (failed.isEmpty()) {
+                    return List.of();
+                }
+                if (attempt == MAX_FAILED_RETRIES) {
+                    return errors;
+                }
+                LOG.debug("{} records were not processed by Kinesis, retrying", failed.size());
+                entries = failed;
+                Thread.sleep(backoff.nextDelay());
+            }
+        });
+    }
+
+    /**
+     * Lists all shards of the stream.
+     *
+     * @param stream stream name
+     * @return shards
+     */
+    public List<Shard> listShards(String stream) {
+        final List<Shard> shards = new ArrayList<>();
+        ListShardsResponse response = client.listShards(b -> b.streamName(stream));
+        shards.addAll(response.shards());
+        while (response.nextToken() != null) {
+            final String token = response.nextToken();
+            // the stream name must not be set together with the next token
+            response = client.listShards(b -> b.nextToken(token));
+            shards.addAll(response.shards());
+        }
+        return shards;
+    }
+
+    /**
+     * Reads all records from all shards of the stream, following the shard iterators until each shard is caught up.
+     *
+     * @param stream stream name
+     * @return report with the records
+     */
+    public StreamReadReport readStream(String stream) {
+        return readStream(stream, ShardIteratorType.TRIM_HORIZON, 0, TestConfiguration.testWaitTime());
+    }
+
+    /**
+     * Reads the records from all shards of the stream, the shards are read concurrently. Each shard is read until it is caught up (the
+     * response is empty and the iterator age is zero) and at least the given number of records was read from all shards, or until the
+     * timeout.
+     *
+     * @param stream stream name
+     * @param startType where to start reading the shards, TRIM_HORIZON or LATEST
+     * @param minRecords minimal number of records to read, 0 to stop as soon as the shards are caught up
+     * @param timeout timeout
+     * @return report with the records
+     */
+    public StreamReadReport readStream(String stream, ShardIteratorType startType, int minRecords, Duration timeout) {
+        final List<Shard> shards = listShards(stream);
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        final AtomicInteger total = new AtomicInteger();
+        final List<ShardReader> readers = shards.stream()
+            .map(s -> new ShardReader(client, stream, s, startType, total, minRecords, deadline)).collect(Collectors.toList());
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, shards.size()), r -> {
+            final Thread t = new Thread(r, "kinesis-reader-" + stream);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            final List<StreamReadReport.ShardStats> stats = new ArrayList<>();
+            for (Future<StreamReadReport.ShardStats> future : executor.invokeAll(readers)) {
+                stats.add(future.get());
+            }
+            final List<Record> records = readers.stream().flatMap(r -> r.records().stream()).collect(Collectors.toList());
+            final StreamReadReport report = new StreamReadReport(stream, records, stats, Duration.ofNanos(System.nanoTime() - start));
+            LOG.debug("{}", report);
+            return report;
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to read Kinesis data stream " + stream, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while reading Kinesis data stream " + stream, e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     public GetRecordsResponse getRecords(String streamName) {
         return getRecords(streamName, 25);
     }
@@ -56,7 +208,7 @@ public class KinesisValidation implements Validation {
                 .shardIteratorType(ShardIteratorType.AT_SEQUENCE_NUMBER)
             ).shardIterator()
         ).toList();
-        // The stream has only one shard, so use only that shard
+        // only the first shard is read, use readStream for streams with more shards
         return getRecords(maxNumberOfRecords, initialShardIterators.get(0));
     }
 
@@ -0,0 +1,94 @@
+package software.tnb.aws.kinesis.validation;
+
+import software.tnb.common.utils.Backoff;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import software.amazon.awssdk.services.kinesis.KinesisClient;
+import software.amazon.awssdk.services.kinesis.model.GetRecordsResponse;
+import software.amazon.awssdk.services.kinesis.model.ProvisionedThroughputExceededException;
+import software.amazon.awssdk.services.kinesis.model.Record;
+import software.amazon.awssdk.services.kinesis.model.Shard;
+import software.amazon.awssdk.services.kinesis.model.ShardIteratorType;
+
+/**
+ * Follows the iterators of one shard until the shard is caught up (the response is empty and the iterator age is zero), the shard is
+ * closed, or the deadline is reached.
+ */
+final class ShardReader implements Callable<StreamReadReport.ShardStats> {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardReader.class);
+    // a shard supports up to 5 GetRecords calls per second
+    private static final long IDLE_DELAY = 200L;
+
+    private final KinesisClient client;
+    private final String stream;
+    private final Shard shard;
+    private final ShardIteratorType startType;
+    private final AtomicInteger total;
+    private final int minRecords;
+    private final long deadline;
+    private final List<Record> records = new ArrayList<>();
+
+    ShardReader(KinesisClient client, String stream, Shard shard, ShardIteratorType startType, AtomicInteger total, int minRecords,
+        long deadline) {
+        this.client = client;
+        this.stream = stream;
+        this.shard = shard;
+        this.startType = startType;
+        this.total = total;
+        this.minRecords = minRecords;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public StreamReadReport.ShardStats call() throws InterruptedException {
+        final long start = System.nanoTime();
+        String iterator = client.getShardIterator(b -> b.streamName(stream).shardId(shard.shardId()).shardIteratorType(startType))
+            .shardIterator();
+        final Backoff backoff = new Backoff(IDLE_DELAY, 5000L);
+        long bytes = 0;
+        int requests = 0;
+        long behind = 0;
+        long maxBehind = 0;
+        boolean caughtUp = false;
+        while (iterator != null && System.nanoTime() < deadline) {
+            final String current = iterator;
+            final GetRecordsResponse response;
+            try {
+                response = client.getRecords(b -> b.shardIterator(current));
+            } catch (ProvisionedThroughputExceededException e) {
+                LOG.debug("Throughput of shard {} exceeded, backing off", shard.shardId());
+                Thread.sleep(backoff.nextDelay());
+                continue;
+            }
+            requests++;
+            records.addAll(response.records());
+            bytes += response.records().stream().mapToLong(r -> r.data().asByteArrayUnsafe().length).sum();
+            total.addAndGet(response.records().size());
+            behind = response.millisBehindLatest() == null ? 0 : response.millisBehindLatest();
+            maxBehind = Math.max(maxBehind, behind);
+            iterator = response.nextShardIterator();
+
+            caughtUp = iterator == null || response.records().isEmpty() && behind == 0;
+            if (caughtUp && total.get() >= minRecords) {
+                break;
+            }
+            if (response.records().isEmpty()) {
+                Thread.sleep(IDLE_DELAY);
+            }
+        }
+        return new StreamReadReport.ShardStats(shard.shardId(), records.size(), bytes, requests, Duration.ofNanos(System.nanoTime() - start),
+            behind, maxBehind, caughtUp);
+    }
+
+    List<Record> records() {
+        return records;
+    }
+}
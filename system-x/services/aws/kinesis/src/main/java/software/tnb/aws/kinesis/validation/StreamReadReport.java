@@ -0,0 +1,73 @@
+package software.tnb.aws.kinesis.validation;
+
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import software.amazon.awssdk.services.kinesis.model.Record;
+
+/**
+ * Result of reading all shards of a Kinesis data stream.
+ *
+ * @param stream stream name
+ * @param records records of all shards, ordered by shard and sequence number
+ * @param shards statistics of the individual shards
+ * @param duration duration of the read
+ */
+public record StreamReadReport(String stream, List<Record> records, List<ShardStats> shards, Duration duration) {
+    public double recordsPerSecond() {
+        return RateUtils.perSecond(records.size(), duration);
+    }
+
+    /**
+     * Returns the maximum iterator age observed on any shard.
+     *
+     * @return lag in milliseconds
+     */
+    public long maxMillisBehindLatest() {
+        return shards.stream().mapToLong(ShardStats::maxMillisBehindLatest).max().orElse(0);
+    }
+
+    /**
+     * Returns true if all shards were read until the tip of the stream.
+     *
+     * @return true if all shards caught up
+     */
+    public boolean caughtUp() {
+        return shards.stream().allMatch(ShardStats::caughtUp);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder(String.format("Read %d records from %d shards of %s in %d ms, %.1f records/s%n",
+            records.size(), shards.size(), stream, duration.toMillis(), recordsPerSecond()));
+        shards.forEach(s -> sb.append("  ").append(s).append(System.lineSeparator()));
+        return sb.toString();
+    }
+
+    /**
+     * Statistics of reading one shard.
+     *
+     * @param shardId shard id
+     * @param records number of records
+     * @param bytes number of bytes
+     * @param requests number of GetRecords requests
+     * @param duration duration of reading the shard
+     * @param millisBehindLatest iterator age of the last response
+     * @param maxMillisBehindLatest maximum iterator age of all responses
+     * @param caughtUp true if the shard was read until its tip (or until the end of a closed shard)
+     */
+    public record ShardStats(String shardId, int records, long bytes, int requests, Duration duration, long millisBehindLatest,
+        long maxMillisBehindLatest, boolean caughtUp) {
+        public double recordsPerSecond() {
+            return RateUtils.perSecond(records, duration);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d records, %d bytes, %d requests, %.1f records/s, behind latest %d ms (max %d ms)%s", shardId, records,
+                bytes, requests, recordsPerSecond(), millisBehindLatest, maxMillisBehindLatest, caughtUp ? "" : ", not caught up");
+        }
+    }
+}
@@ -23,8 +23,7 @@ public class Redshift extends AWSService<RedshiftAccount, RedshiftDataClient, Re
     public void beforeAll(ExtensionContext extensionContext) throws Exception {
         super.beforeAll(extensionContext);
         LOG.debug("Creating new AWS Redshift validation");
-        redshiftClient = AWSClient.createDefaultClient(account(), RedshiftClient.class,
-            getConfiguration().isLocalstack() ? localStack.clientUrl() : null);
+        redshiftClient = AWSClient.createDefaultClient(account(), RedshiftClient.class, localStackUrl());
         validation = new RedshiftValidation(redshiftClient, client(), account());
         resumeCluster();
     }
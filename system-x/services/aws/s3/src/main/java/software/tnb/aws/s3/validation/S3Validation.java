@@ -1,30 +1,56 @@
 package software.tnb.aws.s3.validation;
 
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
 import software.amazon.awssdk.services.s3.model.ExpirationStatus;
 import software.amazon.awssdk.services.s3.model.GetObjectAttributesResponse;
 import software.amazon.awssdk.services.s3.model.LifecycleRule;
 import software.amazon.awssdk.services.s3.model.LifecycleRuleFilter;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
 import software.amazon.awssdk.services.s3.model.ObjectAttributes;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.model.S3Object;
 
 public class S3Validation implements Validation {
 
     private static final Logger LOG = LoggerFactory.getLogger(S3Validation.class);
+    // maximum number of keys in one DeleteObjects request
+    private static final int MAX_DELETE_OBJECTS = 1000;
+    private static final BulkOptions DEFAULT_BULK_OPTIONS = BulkOptions.of(MAX_DELETE_OBJECTS, 4);
+    // minimal size of all parts except the last one
+    private static final long MIN_PART_SIZE = 5 * 1024 * 1024;
+    private static final long DEFAULT_PART_SIZE = 8 * 1024 * 1024;
 
     private final S3Client client;
 
@@ -53,26 +79,209 @@ public class S3Validation implements Validation {
 
     public void deleteS3BucketContent(String name) {
         LOG.debug("Deleting all content of S3 bucket {}", name);
-        client.listObjectsV2(b -> b.bucket(name)).contents().forEach(c -> client.deleteObject(b -> b.bucket(name).key(c.key())));
+        deleteFiles(name, listKeysInBucket(name)).assertSuccessful();
+    }
+
+    public BulkReport deleteFiles(String bucketName, List<String> keys) {
+        return deleteFiles(bucketName, keys, DEFAULT_BULK_OPTIONS);
+    }
+
+    /**
+     * Deletes the objects using the DeleteObjects requests (with at most 1000 keys each).
+     *
+     * @param bucketName bucket name
+     * @param keys keys to delete
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport deleteFiles(String bucketName, List<String> keys, BulkOptions options) {
+        return BulkExecutor.execute("S3 delete from " + bucketName, keys, options, MAX_DELETE_OBJECTS, batch -> {
+            final List<ObjectIdentifier> objects = batch.stream().map(k -> ObjectIdentifier.builder().key(k).build()).collect(Collectors.toList());
+            final DeleteObjectsResponse response = client.deleteObjects(b -> b.bucket(bucketName).delete(d -> d.objects(objects).quiet(true)));
+            return response.errors().stream().map(e -> e.key() + ": " + e.code() + " " + e.message()).collect(Collectors.toList());
+        });
     }
 
     public List<String> listKeysInBucket(String bucketName) {
-        return client.listObjects(b -> b.bucket(bucketName)).contents().stream().map(S3Object::key).collect(Collectors.toList());
+        return listObjects(bucketName, null).map(S3Object::key).collect(Collectors.toList());
+    }
+
+    /**
+     * Lists the objects in the bucket, the listing pages are fetched lazily as the stream is consumed.
+     *
+     * @param bucketName bucket name
+     * @param prefix key prefix, may be null
+     * @return stream of objects
+     */
+    public Stream<S3Object> listObjects(String bucketName, String prefix) {
+        return client.listObjectsV2Paginator(b -> b.bucket(bucketName).prefix(prefix)).contents().stream();
     }
 
     public boolean bucketExists(String bucketName) {
-        return client.listBuckets().buckets().stream().anyMatch(b -> bucketName.equals(b.name()));
+        try {
+            client.headBucket(b -> b.bucket(bucketName));
+            return true;
+        } catch (NoSuchBucketException e) {
+            return false;
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
     }
 
     public String readFileFromBucket(String bucketName, String key) {
+        return client.getObjectAsBytes(b -> b.bucket(bucketName).key(key)).asUtf8String();
+    }
+
+    /**
+     * Opens the object for reading, the content is streamed from S3 as the stream is read. The caller must close the stream.
+     *
+     * @param bucketName bucket name
+     * @param key object key
+     * @return object content
+     */
+    public InputStream openFile(String bucketName, String key) {
+        return client.getObject(b -> b.bucket(bucketName).key(key));
+    }
+
+    /**
+     * Downloads the object to the file, the file is overwritten if it exists.
+     *
+     * @param bucketName bucket name
+     * @param key object key
+     * @param target target file
+     * @return transfer report
+     */
+    public TransferReport downloadFile(String bucketName, String key, Path target) {
+        final long start = System.nanoTime();
+        try (InputStream in = openFile(bucketName, key)) {
+            final long bytes = Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+            final TransferReport report = new TransferReport("Download", bucketName, key, bytes, 1, Duration.ofNanos(System.nanoTime() - start));
+            LOG.debug("{}", report);
+            return report;
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to download " + key + " from bucket " + bucketName + " to " + target, e);
+        }
+    }
+
+    /**
+     * Uploads the file using the multipart upload with the default part size (8 MiB) and 4 concurrent part uploads.
+     *
+     * @param bucketName bucket name
+     * @param key object key
+     * @param file file to upload
+     * @return transfer report
+     */
+    public TransferReport uploadMultipart(String bucketName, String key, Path file) {
+        return uploadMultipart(bucketName, key, file, DEFAULT_PART_SIZE, 4);
+    }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    /**
+     * Uploads the file using the multipart upload, the parts are read from the file and uploaded concurrently. If any part fails, the
+     * upload is aborted.
+     *
+     * @param bucketName bucket name
+     * @param key object key
+     * @param file file to upload
+     * @param partSize part size in bytes, at least 5 MiB
+     * @param parallelism number of parts uploaded concurrently
+     * @return transfer report
+     */
+    public TransferReport uploadMultipart(String bucketName, String key, Path file, long partSize, int parallelism) {
+        checkPartSize(partSize);
+        final long start = System.nanoTime();
+        final long size;
         try {
-            client.getObject(b -> b.bucket(bucketName).key(key)).transferTo(outputStream);
+            size = Files.size(file);
         } catch (IOException e) {
-            throw new RuntimeException("Unable to transfer object contents", e);
+            throw new RuntimeException("Unable to get the size of " + file, e);
+        }
+        final int parts = (int) Math.max(1, (size + partSize - 1) / partSize);
+        final String uploadId = client.createMultipartUpload(b -> b.bucket(bucketName).key(key)).uploadId();
+        final Map<Integer, String> etags = new ConcurrentHashMap<>();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final List<Integer> partNumbers = IntStream.rangeClosed(1, parts).boxed().collect(Collectors.toList());
+            final BulkReport report = BulkExecutor.execute("S3 multipart upload of " + key, partNumbers, 1, parallelism, batch -> {
+                final int partNumber = batch.get(0);
+                final long offset = (partNumber - 1) * partSize;
+                final ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(partSize, size - offset));
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of file " + file);
+                    }
+                }
+                etags.put(partNumber, uploadPart(bucketName, key, uploadId, partNumber, buffer.array()));
+                return List.of();
+            });
+            report.assertSuccessful();
+        } catch (IOException | RuntimeException e) {
+            abortUpload(bucketName, key, uploadId);
+            throw new RuntimeException("Unable to upload " + file + " to bucket " + bucketName, e);
+        }
+        return completeUpload(bucketName, key, uploadId, etags, size, start);
+    }
+
+    /**
+     * Uploads the content of the stream using the multipart upload, at most one part is held in memory.
+     *
+     * @param bucketName bucket name
+     * @param key object key
+     * @param content content to upload, not closed by this method
+     * @param partSize part size in bytes, at least 5 MiB
+     * @return transfer report
+     */
+    public TransferReport uploadMultipart(String bucketName, String key, InputStream content, long partSize) {
+        checkPartSize(partSize);
+        final long start = System.nanoTime();
+        final String uploadId = client.createMultipartUpload(b -> b.bucket(bucketName).key(key)).uploadId();
+        final Map<Integer, String> etags = new HashMap<>();
+        long size = 0;
+        try {
+            int partNumber = 1;
+            byte[] part = content.readNBytes((int) partSize);
+            // an empty object is uploaded as one empty part
+            do {
+                etags.put(partNumber, uploadPart(bucketName, key, uploadId, partNumber, part));
+                size += part.length;
+                partNumber++;
+                part = content.readNBytes((int) partSize);
+            } while (part.length > 0);
+        } catch (IOException | RuntimeException e) {
+            abortUpload(bucketName, key, uploadId);
+            throw new RuntimeException("Unable to upload " + key + " to bucket " + bucketName, e);
+        }
+        return completeUpload(bucketName, key, uploadId, etags, size, start);
+    }
+
+    private static void checkPartSize(long partSize) {
+        if (partSize < MIN_PART_SIZE || partSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Part size must be between 5 MiB and 2 GiB, was " + partSize);
+        }
+    }
+
+    private String uploadPart(String bucketName, String key, String uploadId, int partNumber, byte[] content) {
+        return client.uploadPart(b -> b.bucket(bucketName).key(key).uploadId(uploadId).partNumber(partNumber), RequestBody.fromBytes(content))
+            .eTag();
+    }
+
+    private TransferReport completeUpload(String bucketName, String key, String uploadId, Map<Integer, String> etags, long size, long start) {
+        final List<CompletedPart> parts = new TreeMap<>(etags).entrySet().stream()
+            .map(e -> CompletedPart.builder().partNumber(e.getKey()).eTag(e.getValue()).build())
+            .collect(Collectors.toList());
+        client.completeMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId).multipartUpload(u -> u.parts(parts)));
+        final TransferReport report = new TransferReport("Upload", bucketName, key, size, parts.size(), Duration.ofNanos(System.nanoTime() - start));
+        LOG.debug("{}", report);
+        return report;
+    }
+
+    private void abortUpload(String bucketName, String key, String uploadId) {
+        try {
+            client.abortMultipartUpload(b -> b.bucket(bucketName).key(key).uploadId(uploadId));
+        } catch (RuntimeException e) {
+            LOG.warn("Unable to abort multipart upload of {} to bucket {}", key, bucketName, e);
         }
-        return outputStream.toString();
     }
 
     public GetObjectAttributesResponse getFileAttributesFromBucket(String bucketName, String key) {
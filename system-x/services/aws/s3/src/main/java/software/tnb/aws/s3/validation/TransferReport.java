@@ -0,0 +1,29 @@
+package software.tnb.aws.s3.validation;
+
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+
+/**
+ * Result of an object upload or download.
+ *
+ * @param operation operation name
+ * @param bucket bucket name
+ * @param key object key
+ * @param bytes number of transferred bytes
+ * @param parts number of parts (1 for transfers that are not multipart)
+ * @param duration duration of the transfer
+ */
+public record TransferReport(String operation, String bucket, String key, long bytes, int parts, Duration duration) {
+    private static final double MIB = 1024 * 1024;
+
+    public double bytesPerSecond() {
+        return RateUtils.perSecond(bytes, duration);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s/%s: %.2f MiB in %d part(s) in %d ms, %.2f MiB/s", operation, bucket, key, bytes / MIB, parts,
+            duration.toMillis(), bytesPerSecond() / MIB);
+    }
+}
@@ -0,0 +1,116 @@
+package software.tnb.aws.sqs.validation;
+
+import software.tnb.common.config.TestConfiguration;
+
+import java.time.Duration;
+import java.util.Collection;
+
+/**
+ * Options of receiving the messages from a SQS queue.
+ */
+public class ReceiveOptions {
+    // maximum values allowed by SQS
+    private static final int MAX_WAIT_TIME_SECONDS = 20;
+
+    private int receivers = 1;
+    private int waitTimeSeconds = 10;
+    private Integer visibilityTimeout;
+    private Collection<String> attributeNames;
+    private boolean delete;
+    private Duration timeout = TestConfiguration.testWaitTime();
+
+    public static ReceiveOptions defaults() {
+        return new ReceiveOptions();
+    }
+
+    /**
+     * Sets the number of threads receiving the messages concurrently.
+     *
+     * @param receivers number of receivers
+     * @return this
+     */
+    public ReceiveOptions receivers(int receivers) {
+        if (receivers < 1) {
+            throw new IllegalArgumentException("Number of receivers must be positive");
+        }
+        this.receivers = receivers;
+        return this;
+    }
+
+    /**
+     * Sets the long polling wait time of one receive request.
+     *
+     * @param waitTimeSeconds wait time in seconds, 0 - 20
+     * @return this
+     */
+    public ReceiveOptions waitTimeSeconds(int waitTimeSeconds) {
+        if (waitTimeSeconds < 0 || waitTimeSeconds > MAX_WAIT_TIME_SECONDS) {
+            throw new IllegalArgumentException("Wait time must be between 0 and " + MAX_WAIT_TIME_SECONDS + " seconds");
+        }
+        this.waitTimeSeconds = waitTimeSeconds;
+        return this;
+    }
+
+    /**
+     * Sets the visibility timeout of the received messages, the queue default is used if not set.
+     *
+     * @param visibilityTimeout visibility timeout in seconds
+     * @return this
+     */
+    public ReceiveOptions visibilityTimeout(int visibilityTimeout) {
+        this.visibilityTimeout = visibilityTimeout;
+        return this;
+    }
+
+    public ReceiveOptions attributeNames(Collection<String> attributeNames) {
+        this.attributeNames = attributeNames;
+        return this;
+    }
+
+    /**
+     * Deletes the received messages from the queue (using batch delete requests), so that they are not received again after the visibility
+     * timeout expires.
+     *
+     * @param delete true to delete the received messages
+     * @return this
+     */
+    public ReceiveOptions delete(boolean delete) {
+        this.delete = delete;
+        return this;
+    }
+
+    /**
+     * Sets the maximum time to wait for all messages.
+     *
+     * @param timeout timeout
+     * @return this
+     */
+    public ReceiveOptions timeout(Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public int receivers() {
+        return receivers;
+    }
+
+    public int waitTimeSeconds() {
+        return waitTimeSeconds;
+    }
+
+    public Integer visibilityTimeout() {
+        return visibilityTimeout;
+    }
+
+    public Collection<String> attributeNames() {
+        return attributeNames;
+    }
+
+    public boolean delete() {
+        return delete;
+    }
+
+    public Duration timeout() {
+        return timeout;
+    }
+}
@@ -0,0 +1,29 @@
+package software.tnb.aws.sqs.validation;
+
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * Result of receiving the messages from a SQS queue.
+ *
+ * @param queue queue name
+ * @param messages distinct received messages, in the order they were received
+ * @param duplicates number of messages received more than once
+ * @param requests number of receive requests
+ * @param duration duration of the receive
+ */
+public record ReceiveReport(String queue, List<Message> messages, int duplicates, int requests, Duration duration) {
+    public double messagesPerSecond() {
+        return RateUtils.perSecond(messages.size(), duration);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Received %d messages (%d duplicates) from %s in %d ms using %d requests, %.1f msg/s", messages.size(), duplicates,
+            queue, duration.toMillis(), requests, messagesPerSecond());
+    }
+}
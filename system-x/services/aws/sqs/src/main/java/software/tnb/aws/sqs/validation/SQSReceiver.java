@@ -0,0 +1,139 @@
+package software.tnb.aws.sqs.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * Receives the messages from a queue with long polling using several concurrent receivers. The messages are deduplicated by their id, as
+ * the same message can be received again (with a different receipt handle) when its visibility timeout expires.
+ */
+final class SQSReceiver {
+    private static final Logger LOG = LoggerFactory.getLogger(SQSReceiver.class);
+    // maximum number of messages in one receive or delete batch request
+    static final int MAX_BATCH_SIZE = 10;
+
+    private final SqsClient client;
+    private final String queue;
+    private final String queueUrl;
+    private final ReceiveOptions options;
+
+    private final Map<String, Message> messages = new LinkedHashMap<>();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private final AtomicInteger requests = new AtomicInteger();
+
+    SQSReceiver(SqsClient client, String queue, String queueUrl, ReceiveOptions options) {
+        this.client = client;
+        this.queue = queue;
+        this.queueUrl = queueUrl;
+        this.options = options;
+    }
+
+    /**
+     * Receives the given number of distinct messages, or less if they are not received until the timeout.
+     *
+     * @param count number of messages
+     * @return report
+     */
+    ReceiveReport receive(int count) {
+        final long start = System.nanoTime();
+        final long deadline = start + options.timeout().toNanos();
+        final ExecutorService executor = Executors.newFixedThreadPool(options.receivers(), r -> {
+            final Thread t = new Thread(r, "sqs-receiver-" + queue);
+            t.setDaemon(true);
+            return t;
+        });
+        try {
+            final List<Future<?>> receivers = IntStream.range(0, options.receivers())
+                .mapToObj(i -> executor.submit(() -> receiveLoop(count, deadline))).collect(Collectors.toList());
+            for (Future<?> receiver : receivers) {
+                receiver.get();
+            }
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to receive messages from queue " + queue, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while receiving messages from queue " + queue, e);
+        } finally {
+            executor.shutdownNow();
+        }
+        synchronized (messages) {
+            return new ReceiveReport(queue, List.copyOf(messages.values()), duplicates.get(), requests.get(),
+                Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private void receiveLoop(int count, long deadline) {
+        while (size() < count && !Thread.currentThread().isInterrupted()) {
+            final long remaining = TimeUnit.NANOSECONDS.toSeconds(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                return;
+            }
+            final int waitTime = (int) Math.min(options.waitTimeSeconds(), remaining);
+            final List<Message> received = client.receiveMessage(b -> b.queueUrl(queueUrl).maxNumberOfMessages(MAX_BATCH_SIZE)
+                .waitTimeSeconds(waitTime).visibilityTimeout(options.visibilityTimeout())
+                .attributeNamesWithStrings(options.attributeNames())).messages();
+            requests.incrementAndGet();
+
+            // messages over the requested count are not deleted, so that they become visible again
+            final List<Message> accepted = new ArrayList<>(received.size());
+            synchronized (messages) {
+                for (Message message : received) {
+                    if (messages.containsKey(message.messageId())) {
+                        duplicates.incrementAndGet();
+                        accepted.add(message);
+                    } else if (messages.size() < count) {
+                        messages.put(message.messageId(), message);
+                        accepted.add(message);
+                    }
+                }
+            }
+            if (options.delete() && !accepted.isEmpty()) {
+                final List<String> failed = delete(client, queueUrl, accepted);
+                if (!failed.isEmpty()) {
+                    LOG.warn("Unable to delete {} messages from queue {}: {}", failed.size(), queue, failed);
+                }
+            }
+        }
+    }
+
+    private int size() {
+        synchronized (messages) {
+            return messages.size();
+        }
+    }
+
+    /**
+     * Deletes the messages using one batch request.
+     *
+     * @param client sqs client
+     * @param queueUrl queue url
+     * @param batch at most 10 messages
+     * @return descriptions of the messages that failed to be deleted
+     */
+    static List<String> delete(SqsClient client, String queueUrl, List<Message> batch) {
+        final List<DeleteMessageBatchRequestEntry> entries = IntStream.range(0, batch.size())
+            .mapToObj(i -> DeleteMessageBatchRequestEntry.builder().id(String.valueOf(i)).receiptHandle(batch.get(i).receiptHandle()).build())
+            .collect(Collectors.toList());
+        return client.deleteMessageBatch(b -> b.queueUrl(queueUrl).entries(entries)).failed().stream()
+            .map(f -> batch.get(Integer.parseInt(f.id())).messageId() + ": " + f.message())
+            .collect(Collectors.toList());
+    }
+}
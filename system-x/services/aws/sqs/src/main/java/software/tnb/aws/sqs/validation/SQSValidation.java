@@ -1,27 +1,39 @@
 package software.tnb.aws.sqs.validation;
 
 import software.tnb.aws.sqs.account.SQSAccount;
+import software.tnb.common.exception.TimeoutException;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import software.amazon.awssdk.services.sqs.SqsClient;
 import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.PurgeQueueInProgressException;
 import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
 import software.amazon.awssdk.services.sqs.model.QueueDoesNotExistException;
+import software.amazon.awssdk.services.sqs.model.SendMessageBatchRequestEntry;
 
 public class SQSValidation implements Validation {
     private static final Logger LOG = LoggerFactory.getLogger(SQSValidation.class);
 
+    private static final BulkOptions DEFAULT_BULK_OPTIONS = BulkOptions.of(SQSReceiver.MAX_BATCH_SIZE, 4);
+    // the messages sent before the purge can be delivered until this long after the purge started
+    private static final long PURGE_WINDOW = 60_000L;
+    private static final int EMPTY_RECEIVES = 3;
+
     private final SqsClient client;
     private final SQSAccount account;
 
@@ -88,24 +100,84 @@ public class SQSValidation implements Validation {
         client.sendMessage(b -> b.queueUrl(account.queueUrlPrefix() + queue).messageBody(message));
     }
 
+    /**
+     * Sends the messages using the SendMessageBatch requests (with at most 10 messages each).
+     *
+     * @param queue queue name
+     * @param messages message bodies
+     * @return bulk report
+     */
+    public BulkReport sendMessages(String queue, List<String> messages) {
+        return sendMessages(queue, messages, DEFAULT_BULK_OPTIONS);
+    }
+
+    /**
+     * Sends the messages using the SendMessageBatch requests (with at most 10 messages each).
+     *
+     * @param queue queue name
+     * @param messages message bodies
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport sendMessages(String queue, List<String> messages, BulkOptions options) {
+        LOG.debug("Sending {} messages to queue {}", messages.size(), queue);
+        final String queueUrl = account.queueUrlPrefix() + queue;
+        return BulkExecutor.execute("SQS send to " + queue, messages, options, SQSReceiver.MAX_BATCH_SIZE, batch -> {
+            final List<SendMessageBatchRequestEntry> entries = IntStream.range(0, batch.size())
+                .mapToObj(i -> SendMessageBatchRequestEntry.builder().id(String.valueOf(i)).messageBody(batch.get(i)).build())
+                .collect(Collectors.toList());
+            return client.sendMessageBatch(b -> b.queueUrl(queueUrl).entries(entries)).failed().stream()
+                .map(f -> "message " + f.id() + ": " + f.message()).collect(Collectors.toList());
+        });
+    }
+
     public List<Message> getMessages(String queue, int count) {
         return getMessages(queue, null, count);
     }
 
+    /**
+     * Receives the given number of distinct messages, the messages are not deleted from the queue.
+     *
+     * @param queue queue name
+     * @param attributeNames attribute names to return with the messages
+     * @param count number of messages
+     * @return messages
+     * @throws TimeoutException if the messages are not received in the test wait time
+     */
     public List<Message> getMessages(String queue, Collection<String> attributeNames, int count) {
-        return WaitUtils.withTimeout(() -> {
-            List<Message> messages = new ArrayList<>();
-            while (messages.size() != count) {
-                List<Message> current = client.receiveMessage(b -> b.queueUrl(account.queueUrlPrefix() + queue)
-                        .attributeNamesWithStrings(attributeNames).maxNumberOfMessages(10)).messages();
-                for (Message m : current) {
-                    if (!messages.contains(m)) {
-                        messages.add(m);
-                    }
-                }
-            }
-            return messages;
-        });
+        final ReceiveReport report = receive(queue, count, ReceiveOptions.defaults().attributeNames(attributeNames));
+        if (report.messages().size() < count) {
+            throw new TimeoutException("Received only " + report.messages().size() + " of " + count + " messages from queue " + queue);
+        }
+        return report.messages();
+    }
+
+    /**
+     * Receives the given number of distinct messages with long polling.
+     *
+     * @param queue queue name
+     * @param count number of messages
+     * @param options receive options
+     * @return report with the received messages, fewer than requested if they were not received until the timeout
+     */
+    public ReceiveReport receive(String queue, int count, ReceiveOptions options) {
+        final ReceiveReport report = new SQSReceiver(client, queue, account.queueUrlPrefix() + queue, options).receive(count);
+        LOG.debug("{}", report);
+        return report;
+    }
+
+    /**
+     * Deletes the messages using the DeleteMessageBatch requests (with at most 10 messages each).
+     *
+     * @param queue queue name
+     * @param messages messages to delete
+     * @return bulk report
+     */
+    public BulkReport deleteMessages(String queue, List<Message> messages) {
+        LOG.debug("Deleting {} messages from queue {}", messages.size(), queue);
+        final String queueUrl = account.queueUrlPrefix() + queue;
+        return BulkExecutor.execute("SQS delete from " + queue, messages, DEFAULT_BULK_OPTIONS, SQSReceiver.MAX_BATCH_SIZE,
+            batch -> SQSReceiver.delete(client, queueUrl, batch));
     }
 
     public void deleteMessage(String queue, String receiptHandle) {
@@ -126,13 +198,53 @@ public class SQSValidation implements Validation {
             .attributes().get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES));
     }
 
+    /**
+     * Purges the queue and waits until the purge is done.
+     * <p>
+     * The message counters of the queue are eventually consistent and the messages sent before the purge can still be delivered for up
+     * to {@value #PURGE_WINDOW} ms after the purge started, even when the counters already report no messages. So the counters are only
+     * the first signal, afterwards the queue is received from (and the received messages, which were all sent before the purge, are
+     * deleted) until it stays empty for {@value #EMPTY_RECEIVES} long polls or the purge window ends. The queue must not be sent to while
+     * it is purged.
+     *
+     * @param queue queue name
+     */
     public void purgeQueue(String queue) {
         LOG.debug("Purging SQS queue {}", queue);
+        final String queueUrl = account.queueUrlPrefix() + queue;
+        final long purgeEnd = System.currentTimeMillis() + PURGE_WINDOW;
         try {
-            client.purgeQueue(b -> b.queueUrl(account.queueUrlPrefix() + queue));
-            //The message deletion process takes up to 60 seconds. We recommend waiting for 60 seconds regardless of your queue's size.
-            WaitUtils.sleep(60000L);
-        } catch (QueueDoesNotExistException ignored) {
+            client.purgeQueue(b -> b.queueUrl(queueUrl));
+        } catch (QueueDoesNotExistException e) {
+            return;
+        } catch (PurgeQueueInProgressException e) {
+            LOG.debug("Purge of queue {} is already in progress", queue);
         }
+        WaitUtils.waitFor(() -> approximateMessages(queueUrl) == 0, 60, 1000L, "Waiting until the queue " + queue + " is empty");
+
+        int emptyReceives = 0;
+        int deleted = 0;
+        while (emptyReceives < EMPTY_RECEIVES && System.currentTimeMillis() < purgeEnd) {
+            final List<Message> messages = client.receiveMessage(b -> b.queueUrl(queueUrl).maxNumberOfMessages(SQSReceiver.MAX_BATCH_SIZE)
+                .waitTimeSeconds(1)).messages();
+            if (messages.isEmpty()) {
+                emptyReceives++;
+            } else {
+                emptyReceives = 0;
+                SQSReceiver.delete(client, queueUrl, messages);
+                deleted += messages.size();
+            }
+        }
+        if (deleted > 0) {
+            LOG.debug("Deleted {} messages delivered from queue {} after the purge", deleted, queue);
+        }
+    }
+
+    private int approximateMessages(String queueUrl) {
+        final Map<QueueAttributeName, String> attributes = client.getQueueAttributes(b -> b.queueUrl(queueUrl)
+            .attributeNames(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES, QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE))
+            .attributes();
+        return Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES))
+            + Integer.parseInt(attributes.get(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE));
     }
 }
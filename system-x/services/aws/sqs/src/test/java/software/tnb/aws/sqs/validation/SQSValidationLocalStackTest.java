@@ -0,0 +1,81 @@
+package software.tnb.aws.sqs.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.aws.common.client.AWSClient;
+import software.tnb.aws.common.resource.local.LocalStackContainer;
+import software.tnb.aws.sqs.account.SQSAccount;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.Message;
+
+/**
+ * Runs the validation against the LocalStack container, needs docker.
+ */
+@Tag("integration")
+public class SQSValidationLocalStackTest {
+    private static final int PORT = 4566;
+
+    private static LocalStackContainer container;
+    private static SqsClient client;
+    private static SQSValidation validation;
+
+    @BeforeAll
+    public static void startLocalStack() {
+        container = new LocalStackContainer("quay.io/fuse_qe/localstack:2.3", PORT);
+        container.start();
+
+        final SQSAccount account = new SQSAccount();
+        account.setAccess_key("test");
+        account.setSecret_key("test");
+        account.setRegion("us-east-1");
+        account.setAccount_id("000000000000");
+        account.setQueueUrlPrefix(String.format("https://sqs.%s.amazonaws.com/%s/", account.region(), account.accountId()));
+        account.setQueueArnPrefix(String.format("arn:aws:sqs:%s:%s:", account.region(), account.accountId()));
+        client = AWSClient.createDefaultClient(account, SqsClient.class,
+            String.format("http://%s:%d", container.getHost(), container.getPort()));
+        validation = new SQSValidation(client, account);
+    }
+
+    @AfterAll
+    public static void stopLocalStack() {
+        if (client != null) {
+            client.close();
+        }
+        if (container != null) {
+            container.stop();
+        }
+    }
+
+    @Test
+    public void shouldReceiveOnlyMessagesSentAfterPurgeTest() {
+        final String queue = "purged";
+        validation.createQueue(queue);
+        final List<String> before = IntStream.range(0, 25).mapToObj(i -> "before-" + i).collect(Collectors.toList());
+        assertThat(validation.sendMessages(queue, before).isSuccessful()).isTrue();
+
+        validation.purgeQueue(queue);
+        assertThat(validation.getQueueSize(queue)).isZero();
+
+        validation.sendMessage(queue, "after");
+        final List<Message> received = validation.receive(queue, 2, ReceiveOptions.defaults()
+            .waitTimeSeconds(1).timeout(Duration.ofSeconds(5))).messages();
+        assertThat(received).extracting(Message::body).containsExactly("after");
+    }
+
+    @Test
+    public void shouldIgnorePurgeOfMissingQueueTest() {
+        validation.purgeQueue("missing");
+        assertThat(validation.queueExists("missing")).isFalse();
+    }
+}
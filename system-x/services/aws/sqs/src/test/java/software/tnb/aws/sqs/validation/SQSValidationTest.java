@@ -0,0 +1,104 @@
+package software.tnb.aws.sqs.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.aws.sqs.account.SQSAccount;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequest;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchRequestEntry;
+import software.amazon.awssdk.services.sqs.model.DeleteMessageBatchResponse;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesRequest;
+import software.amazon.awssdk.services.sqs.model.GetQueueAttributesResponse;
+import software.amazon.awssdk.services.sqs.model.Message;
+import software.amazon.awssdk.services.sqs.model.PurgeQueueRequest;
+import software.amazon.awssdk.services.sqs.model.PurgeQueueResponse;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageRequest;
+import software.amazon.awssdk.services.sqs.model.ReceiveMessageResponse;
+
+@Tag("unit")
+public class SQSValidationTest {
+    private final Deque<List<Message>> deliveries = new ArrayDeque<>();
+    private final List<String> deleted = new ArrayList<>();
+    private int receives;
+    private SQSValidation validation;
+
+    @BeforeEach
+    public void createValidation() {
+        final SQSAccount account = new SQSAccount();
+        account.setQueueUrlPrefix("https://sqs.us-east-1.amazonaws.com/000000000000/");
+        validation = new SQSValidation(new PurgedQueueClient(), account);
+    }
+
+    @Test
+    public void shouldDeleteMessagesDeliveredAfterCountersReportEmptyQueueTest() {
+        // the counters already report no messages, but two messages sent before the purge are still delivered
+        deliveries.add(List.of(message("1"), message("2")));
+        deliveries.add(List.of());
+        deliveries.add(List.of(message("3")));
+
+        validation.purgeQueue("queue");
+
+        assertThat(deleted).containsExactly("1", "2", "3");
+        // the queue has to stay empty for three receives after the last delivered message
+        assertThat(receives).isEqualTo(6);
+    }
+
+    @Test
+    public void shouldCheckEmptyQueueWithReceivesTest() {
+        validation.purgeQueue("queue");
+
+        assertThat(deleted).isEmpty();
+        assertThat(receives).isEqualTo(3);
+    }
+
+    private static Message message(String id) {
+        return Message.builder().messageId(id).receiptHandle(id).body("message " + id).build();
+    }
+
+    private final class PurgedQueueClient implements SqsClient {
+        @Override
+        public PurgeQueueResponse purgeQueue(PurgeQueueRequest request) {
+            return PurgeQueueResponse.builder().build();
+        }
+
+        @Override
+        public GetQueueAttributesResponse getQueueAttributes(GetQueueAttributesRequest request) {
+            return GetQueueAttributesResponse.builder().attributes(Map.of(QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES, "0",
+                QueueAttributeName.APPROXIMATE_NUMBER_OF_MESSAGES_NOT_VISIBLE, "0")).build();
+        }
+
+        @Override
+        public ReceiveMessageResponse receiveMessage(ReceiveMessageRequest request) {
+            receives++;
+            final List<Message> messages = deliveries.poll();
+            return ReceiveMessageResponse.builder().messages(messages == null ? List.of() : messages).build();
+        }
+
+        @Override
+        public DeleteMessageBatchResponse deleteMessageBatch(DeleteMessageBatchRequest request) {
+            request.entries().stream().map(DeleteMessageBatchRequestEntry::receiptHandle).forEach(deleted::add);
+            return DeleteMessageBatchResponse.builder().build();
+        }
+
+        @Override
+        public String serviceName() {
+            return SERVICE_NAME;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
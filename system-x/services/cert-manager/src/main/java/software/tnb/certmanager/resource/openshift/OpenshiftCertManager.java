@@ -5,6 +5,7 @@ import software.tnb.common.deployment.ReusableOpenshiftDeployable;
 import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 
 import org.slf4j.Logger;
@@ -68,7 +69,7 @@ public class OpenshiftCertManager extends CertManager implements ReusableOpenshi
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("name", "cert-manager-operator"));
+        return PodLabelSelector.of(Map.of("name", "cert-manager-operator"));
     }
 
     @Override
@@ -1,6 +1,8 @@
 package software.tnb.db.common.local;
 
 import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
+import software.tnb.common.deployment.WarmPool;
 import software.tnb.db.common.service.SQL;
 
 import org.slf4j.Logger;
@@ -24,13 +26,21 @@ public class LocalDB implements Deployable {
     @Override
     public void deploy() {
         LOG.info("Starting " + sqlService.name() + " container");
-        container.start();
+        if (sqlService instanceof PooledDeployable pooled) {
+            WarmPool.getInstance().start(pooled, container);
+        } else {
+            container.start();
+        }
         LOG.info(sqlService.name() + " container started");
     }
 
     @Override
     public void undeploy() {
-        container.stop();
+        if (sqlService instanceof PooledDeployable pooled) {
+            WarmPool.getInstance().release(pooled, container);
+        } else {
+            container.stop();
+        }
     }
 
     public void restart(Runnable onContainerStopped) {
@@ -38,6 +48,10 @@ public class LocalDB implements Deployable {
             .withRepository("tempimg")
             .withTag("localdb").exec();
         int mappedPort = getPort();
+        if (sqlService instanceof PooledDeployable pooled) {
+            // the restarted container uses the committed image, so it can't be returned to the pool
+            WarmPool.getInstance().discard(pooled);
+        }
 
         container.stop();
 
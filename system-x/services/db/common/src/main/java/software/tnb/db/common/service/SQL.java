@@ -47,6 +47,16 @@ public abstract class SQL extends Service<SQLAccount, NoClient, SQLValidation> i
         return validation;
     }
 
+    /**
+     * Closes the connection pool of the validation, a new validation is created on the next access.
+     */
+    protected void closeValidation() {
+        if (validation != null) {
+            validation.close();
+            validation = null;
+        }
+    }
+
     /**
      * Override this method in case the default replace doesn't work for the given type of database
      *
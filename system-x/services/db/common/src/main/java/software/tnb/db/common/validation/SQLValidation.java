@@ -3,15 +3,72 @@ package software.tnb.db.common.validation;
 import software.tnb.common.validation.Validation;
 import software.tnb.db.common.account.SQLAccount;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetProvider;
+
+import java.io.Closeable;
 import java.sql.Connection;
-import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Validation for SQL databases.
+ * <p>
+ * The connections are taken from a connection pool that is created on first use and closed in {@link #close()} (the services close
+ * the validation in their closeResources method).
+ */
+public class SQLValidation implements Validation, Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(SQLValidation.class);
+    private static final int MAX_POOL_SIZE = 5;
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+    private static final int DEFAULT_FETCH_SIZE = 1000;
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    // driver specific properties that enable prepared statement caching and batch rewriting
+    private static final Map<String, Map<String, String>> DRIVER_PROPERTIES = Map.of(
+        "jdbc:mysql:", Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250",
+            "prepStmtCacheSqlLimit", "2048",
+            "rewriteBatchedStatements", "true",
+            "useCursorFetch", "true"
+        ),
+        "jdbc:mariadb:", Map.of(
+            "cachePrepStmts", "true",
+            "prepStmtCacheSize", "250"
+        ),
+        "jdbc:postgresql:", Map.of(
+            "reWriteBatchedInserts", "true"
+        ),
+        "jdbc:sqlserver:", Map.of(
+            "disableStatementPooling", "false",
+            "statementPoolingCacheSize", "250"
+        )
+    );
 
-public class SQLValidation implements Validation {
     private final String jdbcConnectionUrl;
     private final SQLAccount account;
+    private HikariDataSource dataSource;
 
     public SQLValidation(String jdbcConnectionUrl, SQLAccount account) {
         this.jdbcConnectionUrl = jdbcConnectionUrl;
@@ -19,26 +76,249 @@ public class SQLValidation implements Validation {
     }
 
     public boolean execute(String sql) {
-        try (Connection conn = DriverManager.getConnection(jdbcConnectionUrl, account.username(), account.password())) {
-            return conn.createStatement().execute(sql);
+        try (Connection conn = getConnection(); Statement statement = conn.createStatement()) {
+            return statement.execute(sql);
         } catch (SQLException e) {
             throw new RuntimeException("Unable to execute query", e);
         }
     }
 
+    /**
+     * Executes the query and returns the result. The result is fully read into memory, so it can be used after the connection
+     * is returned to the pool.
+     *
+     * @param sql query
+     * @return disconnected result set
+     */
     public ResultSet executeQuery(String sql) {
-        try (Connection conn = DriverManager.getConnection(jdbcConnectionUrl, account.username(), account.password())) {
-            return conn.createStatement().executeQuery(sql);
+        try (Connection conn = getConnection(); Statement statement = conn.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            CachedRowSet result = RowSetProvider.newFactory().createCachedRowSet();
+            result.populate(rs);
+            return result;
         } catch (SQLException e) {
             throw new RuntimeException("Unable to execute query", e);
         }
     }
 
     public void checkQueryResult(String sql, Consumer<ResultSet> check) {
-        try (Connection conn = DriverManager.getConnection(jdbcConnectionUrl, account.username(), account.password())) {
-            check.accept(conn.createStatement().executeQuery(sql));
+        try (Connection conn = getConnection(); Statement statement = conn.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            check.accept(rs);
+        } catch (SQLException e) {
+            throw new RuntimeException("Unable to execute query", e);
+        }
+    }
+
+    /**
+     * Executes the prepared statement for each item in batches of {@value #DEFAULT_BATCH_SIZE} items.
+     *
+     * @param sql sql with parameter placeholders, for example "INSERT INTO t(id, name) VALUES (?, ?)"
+     * @param items items
+     * @param binder sets the statement parameters for given item
+     * @param <T> item type
+     * @return number of affected rows
+     */
+    public <T> int batchUpdate(String sql, Collection<T> items, ParameterBinder<T> binder) {
+        return batchUpdate(sql, items, binder, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Executes the prepared statement for each item in batches of given size. Each batch is committed in a separate transaction.
+     *
+     * @param sql sql with parameter placeholders, for example "INSERT INTO t(id, name) VALUES (?, ?)"
+     * @param items items
+     * @param binder sets the statement parameters for given item
+     * @param batchSize number of items in one batch
+     * @param <T> item type
+     * @return number of affected rows
+     */
+    public <T> int batchUpdate(String sql, Collection<T> items, ParameterBinder<T> binder, int batchSize) {
+        int affected = 0;
+        long start = System.currentTimeMillis();
+        try (Connection conn = getConnection(); PreparedStatement statement = conn.prepareStatement(sql)) {
+            conn.setAutoCommit(false);
+            try {
+                int inBatch = 0;
+                for (T item : items) {
+                    binder.bind(statement, item);
+                    statement.addBatch();
+                    if (++inBatch == batchSize) {
+                        affected += executeBatch(conn, statement);
+                        inBatch = 0;
+                    }
+                }
+                if (inBatch > 0) {
+                    affected += executeBatch(conn, statement);
+                }
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("Unable to execute batch", e);
+        }
+        LOG.debug("Batch of {} items executed in {} ms", items.size(), System.currentTimeMillis() - start);
+        return affected;
+    }
+
+    /**
+     * Executes the query and maps all rows using the given mapper.
+     *
+     * @param sql query with parameter placeholders
+     * @param mapper row mapper
+     * @param params query parameters
+     * @param <T> row type
+     * @return list of mapped rows
+     */
+    public <T> List<T> query(String sql, RowMapper<T> mapper, Object... params) {
+        try (Stream<T> rows = stream(sql, mapper, params)) {
+            return rows.collect(ArrayList::new, ArrayList::add, ArrayList::addAll);
+        }
+    }
+
+    /**
+     * Executes the query and returns a lazily populated stream of the mapped rows, the rows are fetched from the database while the stream
+     * is consumed.
+     * <p>
+     * The stream holds a connection from the pool, so it must be closed (for example using try-with-resources).
+     *
+     * @param sql query with parameter placeholders
+     * @param mapper row mapper
+     * @param params query parameters
+     * @param <T> row type
+     * @return stream of mapped rows
+     */
+    public <T> Stream<T> stream(String sql, RowMapper<T> mapper, Object... params) {
+        Connection conn = null;
+        PreparedStatement statement = null;
+        ResultSet rs = null;
+        try {
+            conn = getConnection();
+            // some drivers (for example postgresql) use the fetch size only outside of auto-commit mode
+            conn.setAutoCommit(false);
+            statement = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(DEFAULT_FETCH_SIZE);
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            rs = statement.executeQuery();
         } catch (SQLException e) {
+            closeAll(rs, statement, conn);
             throw new RuntimeException("Unable to execute query", e);
         }
+
+        final Connection connection = conn;
+        final PreparedStatement ps = statement;
+        final ResultSet resultSet = rs;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(new Iterator<T>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (hasNext == null) {
+                    try {
+                        hasNext = resultSet.next();
+                    } catch (SQLException e) {
+                        throw new RuntimeException("Unable to read next row", e);
+                    }
+                }
+                return hasNext;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = null;
+                try {
+                    return mapper.map(resultSet);
+                } catch (SQLException e) {
+                    throw new RuntimeException("Unable to map row", e);
+                }
+            }
+        }, Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> closeAll(resultSet, ps, connection));
+    }
+
+    /**
+     * Closes the connection pool.
+     */
+    @Override
+    public synchronized void close() {
+        if (dataSource != null) {
+            LOG.debug("Closing SQL connection pool for {}", jdbcConnectionUrl);
+            dataSource.close();
+            dataSource = null;
+        }
+    }
+
+    private synchronized Connection getConnection() throws SQLException {
+        // obtain the connection while holding the monitor, so that close() can't close the pool between dataSource() and getConnection()
+        // and fail the call with "HikariDataSource has been closed", close() waits for the pending call instead
+        return dataSource().getConnection();
+    }
+
+    private synchronized HikariDataSource dataSource() {
+        if (dataSource == null) {
+            LOG.debug("Creating SQL connection pool for {}", jdbcConnectionUrl);
+            HikariConfig config = new HikariConfig();
+            config.setJdbcUrl(jdbcConnectionUrl);
+            config.setUsername(account.username());
+            config.setPassword(account.password());
+            config.setMaximumPoolSize(MAX_POOL_SIZE);
+            config.setMinimumIdle(0);
+            // don't fail when the database is not accepting connections yet, the connection is obtained later
+            config.setInitializationFailTimeout(-1);
+            // the pool name is used in the thread names and the metrics, keep it unique when the services share the username
+            config.setPoolName("tnb-sql-" + account.username() + "-" + POOL_COUNTER.incrementAndGet());
+            DRIVER_PROPERTIES.entrySet().stream()
+                .filter(e -> jdbcConnectionUrl.startsWith(e.getKey()))
+                .forEach(e -> e.getValue().forEach(config::addDataSourceProperty));
+            dataSource = new HikariDataSource(config);
+        }
+        return dataSource;
+    }
+
+    private static int executeBatch(Connection conn, PreparedStatement statement) throws SQLException {
+        int affected = 0;
+        for (int count : statement.executeBatch()) {
+            // some drivers return SUCCESS_NO_INFO (-2) for rewritten batches
+            affected += Math.max(count, 0);
+        }
+        conn.commit();
+        return affected;
+    }
+
+    private static void closeAll(AutoCloseable... closeables) {
+        for (AutoCloseable closeable : closeables) {
+            if (closeable != null) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    LOG.warn("Unable to close {}", closeable, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Maps the current row of the result set.
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface RowMapper<T> {
+        T map(ResultSet rs) throws SQLException;
+    }
+
+    /**
+     * Sets the parameters of the prepared statement for given item.
+     *
+     * @param <T> item type
+     */
+    @FunctionalInterface
+    public interface ParameterBinder<T> {
+        void bind(PreparedStatement statement, T item) throws SQLException;
     }
 }
@@ -0,0 +1,161 @@
+package software.tnb.db.common.validation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.db.common.account.SQLAccount;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Tag("unit")
+public class SQLValidationTest {
+    private static final Pattern POOL_NAME = Pattern.compile("tnb-sql-sa-\\d+");
+    private static final int THREADS = 4;
+    private static final int QUERIES_PER_THREAD = 200;
+
+    private String url;
+    private SQLValidation validation;
+
+    @BeforeEach
+    public void setUp() {
+        url = "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        validation = new SQLValidation(url, account());
+        validation.execute("CREATE TABLE items(id INT PRIMARY KEY, name VARCHAR(50))");
+    }
+
+    @AfterEach
+    public void tearDown() {
+        validation.execute("DROP ALL OBJECTS");
+        validation.close();
+    }
+
+    @Test
+    public void shouldInsertInBatchesTest() {
+        final List<Integer> ids = IntStream.range(0, 25).boxed().collect(Collectors.toList());
+
+        final int affected = validation.batchUpdate("INSERT INTO items(id, name) VALUES (?, ?)", ids, (statement, id) -> {
+            statement.setInt(1, id);
+            statement.setString(2, "item-" + id);
+        }, 10);
+
+        assertThat(affected).isEqualTo(25);
+        assertThat(validation.query("SELECT COUNT(*) FROM items", rs -> rs.getInt(1))).containsExactly(25);
+    }
+
+    @Test
+    public void shouldStreamRowsTest() {
+        insert(100);
+
+        try (Stream<String> names = validation.stream("SELECT name FROM items WHERE id >= ? ORDER BY id", rs -> rs.getString(1), 95)) {
+            assertThat(names).containsExactly("item-95", "item-96", "item-97", "item-98", "item-99");
+        }
+    }
+
+    @Test
+    public void shouldCloseConnectionsTest() {
+        insert(1);
+        final SQLValidation other = new SQLValidation(url, account());
+        try {
+            final int before = sessions(other);
+
+            validation.close();
+
+            assertThat(sessions(other)).isLessThan(before);
+            // the pool is created again on the next access
+            assertThat(validation.query("SELECT COUNT(*) FROM items", rs -> rs.getInt(1))).containsExactly(1);
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void shouldUseUniquePoolNamesTest() {
+        final SQLValidation other = new SQLValidation(url, account());
+        try {
+            insert(1);
+            other.query("SELECT COUNT(*) FROM items", rs -> rs.getInt(1));
+
+            // hikari names its threads after the pool
+            final Set<String> pools = Thread.getAllStackTraces().keySet().stream().map(Thread::getName)
+                .map(POOL_NAME::matcher).filter(Matcher::find).map(Matcher::group)
+                .collect(Collectors.toSet());
+            assertThat(pools).hasSizeGreaterThanOrEqualTo(2);
+        } finally {
+            other.close();
+        }
+    }
+
+    @Test
+    public void shouldQueryWhilePoolIsClosedConcurrentlyTest() throws Exception {
+        insert(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            final List<Future<?>> queries = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                queries.add(executor.submit(() -> {
+                    for (int i = 0; i < QUERIES_PER_THREAD; i++) {
+                        assertThat(validation.query("SELECT COUNT(*) FROM items", rs -> rs.getInt(1))).containsExactly(1);
+                    }
+                    return null;
+                }));
+            }
+            while (queries.stream().anyMatch(query -> !query.isDone())) {
+                validation.close();
+                Thread.sleep(5L);
+            }
+            // fails with "HikariDataSource has been closed" when the query obtains the pool just before it is closed
+            for (Future<?> query : queries) {
+                query.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void insert(int count) {
+        validation.batchUpdate("INSERT INTO items(id, name) VALUES (?, ?)", IntStream.range(0, count).boxed().collect(Collectors.toList()),
+            (statement, id) -> {
+                statement.setInt(1, id);
+                statement.setString(2, "item-" + id);
+            });
+    }
+
+    private static int sessions(SQLValidation validation) {
+        return validation.query("SELECT COUNT(*) FROM INFORMATION_SCHEMA.SESSIONS", rs -> rs.getInt(1)).get(0);
+    }
+
+    private static SQLAccount account() {
+        return new SQLAccount() {
+            @Override
+            public String username() {
+                return "sa";
+            }
+
+            @Override
+            public String password() {
+                return "";
+            }
+
+            @Override
+            public String database() {
+                return "test";
+            }
+        };
+    }
+}
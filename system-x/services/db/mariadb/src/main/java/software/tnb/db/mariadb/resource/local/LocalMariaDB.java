@@ -1,6 +1,6 @@
 package software.tnb.db.mariadb.resource.local;
 
-import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
 import software.tnb.db.common.local.LocalDB;
 import software.tnb.db.mariadb.service.MariaDB;
 
@@ -9,7 +9,7 @@ import org.testcontainers.containers.wait.strategy.Wait;
 import com.google.auto.service.AutoService;
 
 @AutoService(MariaDB.class)
-public class LocalMariaDB extends MariaDB implements Deployable {
+public class LocalMariaDB extends MariaDB implements PooledDeployable {
     private final LocalDB localDb = new LocalDB(this, PORT, Wait.forLogMessage(".*ready for connections.*", 2));
 
     @Override
@@ -32,6 +32,14 @@ public class LocalMariaDB extends MariaDB implements Deployable {
         localDb.undeploy();
     }
 
+    @Override
+    public void cleanup() {
+        validation().execute("DROP DATABASE " + account().database());
+        validation().execute("CREATE DATABASE " + account().database());
+        // the pooled connections use the dropped database
+        closeValidation();
+    }
+
     @Override
     public void openResources() {
         localDb.openResources();
@@ -40,7 +48,7 @@ public class LocalMariaDB extends MariaDB implements Deployable {
     @Override
     public void closeResources() {
         localDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
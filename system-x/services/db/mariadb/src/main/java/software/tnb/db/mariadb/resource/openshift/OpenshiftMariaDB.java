@@ -34,7 +34,7 @@ public class OpenshiftMariaDB extends MariaDB implements OpenshiftDeployable, Wi
     @Override
     public void closeResources() {
         openshiftDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
@@ -1,6 +1,9 @@
 package software.tnb.db.mongodb.validation;
 
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 import software.tnb.db.mongodb.account.MongoDBAccount;
 
 import org.bson.Document;
@@ -8,19 +11,24 @@ import org.bson.conversions.Bson;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
 import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.model.WriteModel;
 import com.mongodb.client.result.DeleteResult;
 import com.mongodb.client.result.UpdateResult;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 public class MongoDBValidation implements Validation {
     private static final Logger LOG = LoggerFactory.getLogger(MongoDBValidation.class);
+    private static final BulkOptions DEFAULT_BULK_OPTIONS = BulkOptions.of(1000, 1);
 
     private final MongoClient client;
     private final MongoDBAccount account;
@@ -38,11 +46,60 @@ public class MongoDBValidation implements Validation {
     }
 
     public List<String> createDocuments(String collectionName, Document... documents) {
-        List<String> ids = new ArrayList<>();
-        for (Document document : documents) {
-            ids.add(createDocument(collectionName, document));
-        }
-        return ids;
+        createDocuments(collectionName, Arrays.asList(documents)).assertSuccessful();
+        // Insert mutates the original objects
+        return Arrays.stream(documents).map(d -> d.get("_id").toString()).collect(Collectors.toList());
+    }
+
+    public BulkReport createDocuments(String collectionName, List<Document> documents) {
+        return createDocuments(collectionName, documents, DEFAULT_BULK_OPTIONS);
+    }
+
+    /**
+     * Inserts the documents using unordered insertMany requests, so a failed document doesn't prevent the rest of the batch from being
+     * inserted.
+     *
+     * @param collectionName collection name
+     * @param documents documents to insert
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport createDocuments(String collectionName, List<Document> documents, BulkOptions options) {
+        LOG.info("Publishing {} documents into a collection named {}", documents.size(), collectionName);
+        final MongoCollection<Document> collection = client.getDatabase(account.database()).getCollection(collectionName);
+        return BulkExecutor.execute("MongoDB insert into " + collectionName, documents, options, Integer.MAX_VALUE, batch -> {
+            try {
+                collection.insertMany(batch, new InsertManyOptions().ordered(false));
+                return List.of();
+            } catch (MongoBulkWriteException e) {
+                return writeErrors(e);
+            }
+        });
+    }
+
+    /**
+     * Executes the write operations (inserts, updates, replaces and deletes) using unordered bulkWrite requests.
+     *
+     * @param collectionName collection name
+     * @param operations write operations
+     * @param options bulk options
+     * @return bulk report
+     */
+    public BulkReport bulkWrite(String collectionName, List<WriteModel<Document>> operations, BulkOptions options) {
+        LOG.info("Executing {} write operations in a collection named {}", operations.size(), collectionName);
+        final MongoCollection<Document> collection = client.getDatabase(account.database()).getCollection(collectionName);
+        return BulkExecutor.execute("MongoDB bulk write to " + collectionName, operations, options, Integer.MAX_VALUE, batch -> {
+            try {
+                collection.bulkWrite(batch, new BulkWriteOptions().ordered(false));
+                return List.of();
+            } catch (MongoBulkWriteException e) {
+                return writeErrors(e);
+            }
+        });
+    }
+
+    private static List<String> writeErrors(MongoBulkWriteException e) {
+        return e.getWriteErrors().stream().map(error -> "operation " + error.getIndex() + ": " + error.getMessage()).collect(Collectors.toList());
     }
 
     public List<Document> getDocuments(String collectionName) {
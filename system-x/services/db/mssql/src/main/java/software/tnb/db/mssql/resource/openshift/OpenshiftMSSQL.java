@@ -34,7 +34,7 @@ public class OpenshiftMSSQL extends MSSQL implements OpenshiftDeployable, WithNa
     @Override
     public void closeResources() {
         openshiftDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
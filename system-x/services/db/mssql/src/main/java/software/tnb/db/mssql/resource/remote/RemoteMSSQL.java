@@ -23,5 +23,6 @@ public class RemoteMSSQL extends MSSQL implements RemoteService {
 
     @Override
     public void closeResources() {
+        closeValidation();
     }
 }
@@ -1,6 +1,6 @@
 package software.tnb.db.mysql.resource.local;
 
-import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
 import software.tnb.db.common.local.LocalDB;
 import software.tnb.db.mysql.service.MySQL;
 
@@ -9,7 +9,7 @@ import org.testcontainers.containers.wait.strategy.Wait;
 import com.google.auto.service.AutoService;
 
 @AutoService(MySQL.class)
-public class LocalMySQL extends MySQL implements Deployable {
+public class LocalMySQL extends MySQL implements PooledDeployable {
     private final LocalDB localDb = new LocalDB(this, PORT, Wait.forLogMessage(".*ready for connections.* port: " + PORT + ".*", 1));
 
     @Override
@@ -37,6 +37,14 @@ public class LocalMySQL extends MySQL implements Deployable {
         localDb.undeploy();
     }
 
+    @Override
+    public void cleanup() {
+        validation().execute("DROP DATABASE " + account().database());
+        validation().execute("CREATE DATABASE " + account().database());
+        // the pooled connections use the dropped database
+        closeValidation();
+    }
+
     @Override
     public void openResources() {
         localDb.openResources();
@@ -45,7 +53,7 @@ public class LocalMySQL extends MySQL implements Deployable {
     @Override
     public void closeResources() {
         localDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
@@ -34,7 +34,7 @@ public class OpenshiftMySQL extends MySQL implements OpenshiftDeployable, WithNa
     @Override
     public void closeResources() {
         openshiftDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
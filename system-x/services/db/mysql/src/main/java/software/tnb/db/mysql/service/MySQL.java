@@ -45,7 +45,20 @@ public abstract class MySQL extends SQL {
     }
 
     public SQLValidation newRootValidation() {
-        rootValidation = null;
+        closeRootValidation();
         return rootValidation();
     }
+
+    @Override
+    protected void closeValidation() {
+        super.closeValidation();
+        closeRootValidation();
+    }
+
+    private void closeRootValidation() {
+        if (rootValidation != null) {
+            rootValidation.close();
+            rootValidation = null;
+        }
+    }
 }
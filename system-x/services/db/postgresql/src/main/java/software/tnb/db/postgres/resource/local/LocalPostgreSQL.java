@@ -1,6 +1,6 @@
 package software.tnb.db.postgres.resource.local;
 
-import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
 import software.tnb.db.common.local.LocalDB;
 import software.tnb.db.postgres.service.PostgreSQL;
 
@@ -9,7 +9,7 @@ import org.testcontainers.containers.wait.strategy.Wait;
 import com.google.auto.service.AutoService;
 
 @AutoService(PostgreSQL.class)
-public class LocalPostgreSQL extends PostgreSQL implements Deployable {
+public class LocalPostgreSQL extends PostgreSQL implements PooledDeployable {
     private final LocalDB localDb = new LocalDB(this, PORT,
         Wait.forSuccessfulCommand("[ $(cat /var/lib/pgsql/data/userdata/log/*.log | grep \"ready to accept\" | wc -l) -eq 2 ]"));
 
@@ -33,6 +33,13 @@ public class LocalPostgreSQL extends PostgreSQL implements Deployable {
         localDb.undeploy();
     }
 
+    @Override
+    public void cleanup() {
+        // drops all tables, sequences, etc. created by the test user
+        validation().execute("DROP OWNED BY CURRENT_USER CASCADE");
+        closeValidation();
+    }
+
     @Override
     public void openResources() {
         localDb.openResources();
@@ -41,7 +48,7 @@ public class LocalPostgreSQL extends PostgreSQL implements Deployable {
     @Override
     public void closeResources() {
         localDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
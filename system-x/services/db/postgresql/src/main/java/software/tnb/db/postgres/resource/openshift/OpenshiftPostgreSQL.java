@@ -34,7 +34,7 @@ public class OpenshiftPostgreSQL extends PostgreSQL implements OpenshiftDeployab
     @Override
     public void closeResources() {
         openshiftDb.closeResources();
-        validation = null;
+        closeValidation();
     }
 
     @Override
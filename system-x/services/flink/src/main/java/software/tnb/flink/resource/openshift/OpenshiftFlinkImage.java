@@ -5,6 +5,7 @@ import software.tnb.common.deployment.OpenshiftDeployable;
 import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithName;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.HTTPUtils;
 import software.tnb.common.utils.WaitUtils;
 
@@ -277,7 +278,7 @@ public class OpenshiftFlinkImage extends OpenshiftFlink implements OpenshiftDepl
     }
 
     private Predicate<Pod> podSelector(String selector) {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("component", selector));
+        return PodLabelSelector.of(Map.of("component", selector));
     }
 
     private boolean isReady(String pod) {
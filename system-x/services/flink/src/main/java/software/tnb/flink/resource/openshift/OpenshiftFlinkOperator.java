@@ -6,6 +6,7 @@ import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithName;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.HTTPUtils;
 import software.tnb.common.utils.WaitUtils;
 
@@ -104,9 +105,9 @@ public class OpenshiftFlinkOperator extends OpenshiftFlink implements OpenshiftD
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app", name()))
-            && (OpenshiftClient.get().hasLabels(p, Map.of("component", "jobmanager"))
-            || OpenshiftClient.get().hasLabels(p, Map.of("component", "taskmanager")));
+        return PodLabelSelector.of(Map.of("app", name()))
+            .and(p -> OpenshiftClient.get().hasLabels(p, Map.of("component", "jobmanager"))
+                || OpenshiftClient.get().hasLabels(p, Map.of("component", "taskmanager")));
     }
 
     @Override
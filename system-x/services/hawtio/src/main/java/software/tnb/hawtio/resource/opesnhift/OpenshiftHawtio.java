@@ -4,6 +4,7 @@ import software.tnb.common.deployment.ReusableOpenshiftDeployable;
 import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.hawtio.client.openshift.OpenshiftHawtioClient;
 import software.tnb.hawtio.service.Hawtio;
@@ -83,7 +84,7 @@ public class OpenshiftHawtio extends Hawtio implements ReusableOpenshiftDeployab
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app", "hawtio", "deployment", APP_NAME));
+        return PodLabelSelector.of(Map.of("app", "hawtio", "deployment", APP_NAME));
     }
 
     @Override
@@ -1,6 +1,7 @@
 package software.tnb.http.resource.local;
 
-import software.tnb.common.deployment.Deployable;
+import software.tnb.common.deployment.PooledDeployable;
+import software.tnb.common.deployment.WarmPool;
 import software.tnb.http.service.HTTP;
 
 import org.slf4j.Logger;
@@ -9,15 +10,14 @@ import org.slf4j.LoggerFactory;
 import com.google.auto.service.AutoService;
 
 @AutoService(HTTP.class)
-public class LocalHTTP extends HTTP implements Deployable {
+public class LocalHTTP extends HTTP implements PooledDeployable {
     private static final Logger LOG = LoggerFactory.getLogger(HTTP.class);
     private HTTPContainer container;
 
     @Override
     public void deploy() {
         LOG.info("Starting Http container");
-        container = new HTTPContainer(image());
-        container.start();
+        container = WarmPool.getInstance().start(this, new HTTPContainer(image()));
         LOG.info("Http container started");
     }
 
@@ -25,10 +25,15 @@ public class LocalHTTP extends HTTP implements Deployable {
     public void undeploy() {
         if (container != null) {
             LOG.info("Stopping Http container");
-            container.stop();
+            WarmPool.getInstance().release(this, container);
         }
     }
 
+    @Override
+    public void cleanup() {
+        // the http server is stateless
+    }
+
     @Override
     public void openResources() {
 
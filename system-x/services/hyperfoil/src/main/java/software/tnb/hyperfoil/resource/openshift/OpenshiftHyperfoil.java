@@ -5,6 +5,7 @@ import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.hyperfoil.service.Hyperfoil;
 import software.tnb.hyperfoil.service.HyperfoilConfiguration;
@@ -83,7 +84,7 @@ public class OpenshiftHyperfoil extends Hyperfoil implements ReusableOpenshiftDe
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app", APP_NAME));
+        return PodLabelSelector.of(Map.of("app", APP_NAME));
     }
 
     @Override
@@ -5,6 +5,7 @@ import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.jaeger.client.JaegerClient;
 import software.tnb.jaeger.client.UnauthenticatedJaegerClient;
 import software.tnb.jaeger.service.Jaeger;
@@ -70,7 +71,7 @@ public class OpenshiftJaeger extends Jaeger implements OpenshiftDeployable, With
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app", "jaeger", "app.kubernetes.io/name", JAEGER_INSTANCE_NAME));
+        return PodLabelSelector.of(Map.of("app", "jaeger", "app.kubernetes.io/name", JAEGER_INSTANCE_NAME));
     }
 
     @Override
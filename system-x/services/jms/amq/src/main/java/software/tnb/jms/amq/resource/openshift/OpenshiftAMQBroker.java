@@ -8,6 +8,7 @@ import software.tnb.common.deployment.WithInClusterHostname;
 import software.tnb.common.deployment.WithName;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.jms.amq.resource.openshift.generated.ActiveMQArtemis;
 import software.tnb.jms.amq.resource.openshift.generated.ActiveMQArtemisList;
@@ -68,7 +69,7 @@ public class OpenshiftAMQBroker extends AMQBroker implements OpenshiftDeployable
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("ActiveMQArtemis", name()));
+        return PodLabelSelector.of(Map.of("ActiveMQArtemis", name()));
     }
 
     @Override
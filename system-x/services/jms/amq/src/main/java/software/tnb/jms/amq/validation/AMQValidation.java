@@ -6,6 +6,7 @@ import software.tnb.jms.client.JMSClientManager;
 import software.tnb.jms.client.JMSQueueClient;
 import software.tnb.jms.client.JMSTopicClient;
 import software.tnb.jms.client.MQTT5TopicClient;
+import software.tnb.jms.client.MQTTProbe;
 import software.tnb.jms.client.MQTTTopicClient;
 
 import java.util.UUID;
@@ -55,6 +56,25 @@ public class AMQValidation implements Validation {
         return client().mqtt5(mqttUrl, account.username(), account.password(), clientId, topic);
     }
 
+    /**
+     * Returns the probe that measures the mqtt throughput and latency, the probe uses one connection for all topics.
+     *
+     * @return mqtt probe
+     */
+    public MQTTProbe mqttProbe() {
+        return client().mqttProbe(mqttUrl, account.username(), account.password());
+    }
+
+    /**
+     * Returns the probe that measures the mqtt throughput and latency with the given max in-flight messages of its connection.
+     *
+     * @param maxInflight maximum in-flight messages, caps the window of the probe runs
+     * @return mqtt probe
+     */
+    public MQTTProbe mqttProbe(int maxInflight) {
+        return client().mqttProbe(mqttUrl, account.username(), account.password(), maxInflight);
+    }
+
     public void close() {
         if (client != null) {
             client.close();
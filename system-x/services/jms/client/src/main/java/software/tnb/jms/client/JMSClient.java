@@ -5,11 +5,15 @@ import software.tnb.jms.DestinationType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.Serializable;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import jakarta.jms.BytesMessage;
 import jakarta.jms.Destination;
 import jakarta.jms.JMSException;
+import jakarta.jms.MapMessage;
 import jakarta.jms.Message;
 import jakarta.jms.MessageProducer;
 import jakarta.jms.Session;
@@ -22,25 +26,46 @@ public abstract class JMSClient implements BasicJMSOperations<Message> {
     protected final Destination destination;
     protected final String destinationName;
     protected final MessageProducer producer;
+    protected final MessageRate sendRate = new MessageRate();
+
+    private final DestinationType type;
+    private final Supplier<Session> transactedSessionFactory;
+    private Session transactedSession;
+    private MessageProducer transactedProducer;
 
     public JMSClient(Session session, DestinationType type, String destinationName) {
+        this(session, null, type, destinationName);
+    }
+
+    /**
+     * Creates the client.
+     *
+     * @param session session used for sending and receiving the messages
+     * @param transactedSessionFactory factory of the transacted session used for batch sends, created on first use, may be null
+     * @param type destination type
+     * @param destinationName destination name
+     */
+    public JMSClient(Session session, Supplier<Session> transactedSessionFactory, DestinationType type, String destinationName) {
         this.session = session;
+        this.transactedSessionFactory = transactedSessionFactory;
+        this.type = type;
         this.destinationName = destinationName;
         try {
-            switch (type) {
-                case QUEUE:
-                    destination = session.createQueue(destinationName);
-                    break;
-                case TOPIC:
-                    destination = session.createTopic(destinationName);
-                    break;
-                default:
-                    throw new IllegalArgumentException("Missing switch case implementation for a new destination type");
-            }
+            destination = createDestination(session);
             this.producer = session.createProducer(destination);
         } catch (JMSException e) {
-            e.printStackTrace();
-            throw new RuntimeException(e);
+            throw new RuntimeException("Unable to create producer for destination " + destinationName, e);
+        }
+    }
+
+    private Destination createDestination(Session s) throws JMSException {
+        switch (type) {
+            case QUEUE:
+                return s.createQueue(destinationName);
+            case TOPIC:
+                return s.createTopic(destinationName);
+            default:
+                throw new IllegalArgumentException("Missing switch case implementation for a new destination type");
         }
     }
 
@@ -49,27 +74,160 @@ public abstract class JMSClient implements BasicJMSOperations<Message> {
     }
 
     public void send(String message, Map<String, String> properties) {
-        StringBuilder logMsg = new StringBuilder("Producing message ").append(message).append(" to destination ").append(destinationName);
+        LOG.debug("Producing message {} to destination {}{}", message, destinationName, properties == null ? "" : " with properties " + properties);
+        send(s -> s.createTextMessage(message), properties);
+    }
+
+    /**
+     * Sends the bytes as a {@link BytesMessage}.
+     *
+     * @param message message body
+     */
+    public void sendBytes(byte[] message) {
+        LOG.debug("Producing bytes message ({} bytes) to destination {}", message.length, destinationName);
+        send(s -> createMessage(s, message), null);
+    }
+
+    /**
+     * Sends the map as a {@link MapMessage}.
+     *
+     * @param message message body, the values must be primitive types, strings or byte arrays
+     */
+    public void sendMap(Map<String, Object> message) {
+        LOG.debug("Producing map message {} to destination {}", message, destinationName);
+        send(s -> createMessage(s, message), null);
+    }
+
+    /**
+     * Sends the object as an {@link jakarta.jms.ObjectMessage}.
+     *
+     * @param message message body
+     */
+    public void sendObject(Serializable message) {
+        LOG.debug("Producing object message {} to destination {}", message, destinationName);
+        send(s -> s.createObjectMessage(message), null);
+    }
+
+    private synchronized void send(MessageFactory factory, Map<String, String> properties) {
         try {
-            TextMessage textMessage = session.createTextMessage(message);
-            if (properties != null) {
-                logMsg.append(" with properties: ");
-                properties.forEach((key, value) -> {
-                    logMsg.append("[").append(key).append("=").append(value).append("] ");
-                    try {
-                        textMessage.setStringProperty(key, value);
-                    } catch (JMSException e) {
-                        throw new RuntimeException("Exception occurred during string property set.", e);
-                    }
-                });
-            }
-            LOG.debug(logMsg.substring(0, logMsg.length() - 1));
-            producer.send(textMessage);
+            final Message message = factory.create(session);
+            setProperties(message, properties);
+            producer.send(message);
+            sendRate.record();
         } catch (JMSException e) {
             throw new RuntimeException("Unable to produce message:", e);
         }
     }
 
+    /**
+     * Sends all messages in transactions of the given size, a failed transaction is rolled back and the exception is rethrown.
+     * <p>
+     * The message bodies are converted based on their type: strings to text messages, byte arrays to bytes messages, maps to map messages
+     * and other serializable objects to object messages.
+     * <p>
+     * When the client was created without a transacted session factory, the messages are sent one by one.
+     *
+     * @param messages message bodies
+     * @param batchSize number of messages in one transaction
+     * @return number of sent messages
+     */
+    public synchronized int sendBatch(List<?> messages, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        LOG.debug("Producing {} messages to destination {} in batches of {}", messages.size(), destinationName, batchSize);
+        final Session s = transactedSession();
+        final MessageProducer p = s == session ? producer : transactedProducer;
+        int sent = 0;
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            final List<?> batch = messages.subList(from, Math.min(messages.size(), from + batchSize));
+            try {
+                for (Object body : batch) {
+                    p.send(createMessage(s, body));
+                }
+                if (s.getTransacted()) {
+                    s.commit();
+                }
+                sent += batch.size();
+                sendRate.record(batch.size());
+            } catch (JMSException | RuntimeException e) {
+                rollback(s);
+                throw new RuntimeException("Unable to send batch of " + batch.size() + " messages to " + destinationName + ", " + sent
+                    + " messages were sent", e);
+            }
+        }
+        return sent;
+    }
+
+    private Session transactedSession() {
+        if (transactedSessionFactory == null) {
+            return session;
+        }
+        if (transactedSession == null) {
+            try {
+                transactedSession = transactedSessionFactory.get();
+                transactedProducer = transactedSession.createProducer(createDestination(transactedSession));
+            } catch (JMSException e) {
+                throw new RuntimeException("Unable to create transacted producer for destination " + destinationName, e);
+            }
+        }
+        return transactedSession;
+    }
+
+    private void rollback(Session s) {
+        try {
+            if (s.getTransacted()) {
+                s.rollback();
+            }
+        } catch (JMSException e) {
+            LOG.warn("Unable to rollback the transaction", e);
+        }
+    }
+
+    private static Message createMessage(Session s, Object body) throws JMSException {
+        if (body instanceof String) {
+            return s.createTextMessage((String) body);
+        } else if (body instanceof byte[]) {
+            final BytesMessage message = s.createBytesMessage();
+            message.writeBytes((byte[]) body);
+            return message;
+        } else if (body instanceof Map) {
+            final MapMessage message = s.createMapMessage();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) body).entrySet()) {
+                message.setObject(entry.getKey().toString(), entry.getValue());
+            }
+            return message;
+        } else if (body instanceof Serializable) {
+            return s.createObjectMessage((Serializable) body);
+        } else {
+            throw new IllegalArgumentException("Unable to create message from " + (body == null ? "null" : body.getClass()));
+        }
+    }
+
+    private static void setProperties(Message message, Map<String, String> properties) throws JMSException {
+        if (properties != null) {
+            for (Map.Entry<String, String> property : properties.entrySet()) {
+                message.setStringProperty(property.getKey(), property.getValue());
+            }
+        }
+    }
+
+    /**
+     * Returns the send rate of this client.
+     *
+     * @return send rate
+     */
+    public MessageRate sendRate() {
+        return sendRate;
+    }
+
+    /**
+     * Returns the receive rate of this client.
+     *
+     * @return receive rate
+     */
+    public abstract MessageRate receiveRate();
+
     public String receive() {
         return getBody(receiveMessage());
     }
@@ -84,6 +242,34 @@ public abstract class JMSClient implements BasicJMSOperations<Message> {
 
     public abstract Message receiveMessage(long timeout);
 
+    /**
+     * Receives up to the given number of messages.
+     *
+     * @param count number of messages
+     * @param timeout timeout in milliseconds for all messages
+     * @return received messages, fewer than requested if they didn't arrive in the given time
+     */
+    public abstract List<Message> receiveMessages(int count, long timeout);
+
+    /**
+     * Returns the body of the message as the given type (using {@link Message#getBody(Class)}).
+     *
+     * @param message message
+     * @param type body type
+     * @param <T> body type
+     * @return message body or null if the message is null
+     */
+    public <T> T getBody(Message message, Class<T> type) {
+        if (message == null) {
+            return null;
+        }
+        try {
+            return message.getBody(type);
+        } catch (JMSException e) {
+            throw new RuntimeException("Unable to get the body of the message as " + type.getName(), e);
+        }
+    }
+
     public String getBody(Message message) {
         if (message == null) {
             return null;
@@ -109,4 +295,22 @@ public abstract class JMSClient implements BasicJMSOperations<Message> {
             throw new IllegalArgumentException("Not handled conversion to string for message class " + message.getClass());
         }
     }
+
+    public void close() {
+        try {
+            producer.close();
+            if (transactedSession != null) {
+                transactedProducer.close();
+                transactedSession.close();
+            }
+            session.close();
+        } catch (Exception e) {
+            LOG.warn("Unable to close producer/session:", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface MessageFactory {
+        Message create(Session messageSession) throws JMSException;
+    }
 }
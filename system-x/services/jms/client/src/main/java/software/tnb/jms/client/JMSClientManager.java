@@ -1,7 +1,8 @@
 package software.tnb.jms.client;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.jms.Connection;
 import jakarta.jms.JMSException;
@@ -9,21 +10,23 @@ import jakarta.jms.Session;
 
 public class JMSClientManager {
     private final Connection connection;
-    private final Map<String, JMSQueueClient> queueClients = new HashMap<>();
-    private final Map<String, JMSTopicClient> topicClients = new HashMap<>();
-    private final Map<String, MQTTTopicClient> mqttTopicClients = new HashMap<>();
-    private final Map<String, MQTT5TopicClient> mqtt5TopicClients = new HashMap<>();
+    private final Map<String, JMSQueueClient> queueClients = new ConcurrentHashMap<>();
+    private final Map<String, JMSTopicClient> topicClients = new ConcurrentHashMap<>();
+    private final Map<String, MQTTTopicClient> mqttTopicClients = new ConcurrentHashMap<>();
+    private final Map<String, MQTT5TopicClient> mqtt5TopicClients = new ConcurrentHashMap<>();
+    private final Map<String, MQTTProbe> mqttProbes = new ConcurrentHashMap<>();
 
     public JMSClientManager(Connection connection) {
         this.connection = connection;
     }
 
     public JMSQueueClient queue(String queueName) {
-        return queueClients.computeIfAbsent(queueName, v -> new JMSQueueClient(newSession(), queueName));
+        return queueClients.computeIfAbsent(queueName, v -> new JMSQueueClient(newSession(), this::newTransactedSession,
+            this::newSession, queueName));
     }
 
     public JMSTopicClient topic(String topicName) {
-        return topicClients.computeIfAbsent(topicName, v -> new JMSTopicClient(newSession(), topicName));
+        return topicClients.computeIfAbsent(topicName, v -> new JMSTopicClient(newSession(), this::newTransactedSession, topicName));
     }
 
     public MQTTTopicClient mqtt(String url, String username, String password, String clientId, String topicName) {
@@ -34,6 +37,35 @@ public class JMSClientManager {
         return mqtt5TopicClients.computeIfAbsent(topicName, v -> new MQTT5TopicClient(url, username, password, clientId, topicName));
     }
 
+    /**
+     * Returns the mqtt probe for the broker and user with the default max in-flight messages, the probe shares one connection for all topics.
+     *
+     * @param url broker url
+     * @param username username
+     * @param password password
+     * @return mqtt probe
+     */
+    public MQTTProbe mqttProbe(String url, String username, String password) {
+        return mqttProbe(url, username, password, MQTTProbe.DEFAULT_MAX_INFLIGHT);
+    }
+
+    /**
+     * Returns the mqtt probe for the broker and user, the probe shares one connection for all topics.
+     *
+     * @param url broker url
+     * @param username username
+     * @param password password
+     * @param maxInflight maximum in-flight messages of the probe connection, caps the window of all its runs
+     * @return mqtt probe
+     */
+    public MQTTProbe mqttProbe(String url, String username, String password, int maxInflight) {
+        if (maxInflight <= 0) {
+            throw new IllegalArgumentException("Max in-flight messages must be positive");
+        }
+        return mqttProbes.computeIfAbsent(url + "|" + username + "|" + maxInflight,
+            v -> new MQTTProbe(url, username, password, UUID.randomUUID().toString(), maxInflight));
+    }
+
     private Session newSession() {
         try {
             return connection.createSession(Session.AUTO_ACKNOWLEDGE);
@@ -42,6 +74,14 @@ public class JMSClientManager {
         }
     }
 
+    private Session newTransactedSession() {
+        try {
+            return connection.createSession(Session.SESSION_TRANSACTED);
+        } catch (JMSException e) {
+            throw new RuntimeException("Unable to create new transacted session:", e);
+        }
+    }
+
     public void close() {
         queueClients.values().forEach(JMSQueueClient::close);
         queueClients.clear();
@@ -49,5 +89,7 @@ public class JMSClientManager {
         topicClients.clear();
         mqttTopicClients.values().forEach(MQTTTopicClient::close);
         mqtt5TopicClients.values().forEach(MQTT5TopicClient::close);
+        mqttProbes.values().forEach(MQTTProbe::close);
+        mqttProbes.clear();
     }
 }
@@ -5,33 +5,146 @@ import software.tnb.jms.DestinationType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 import jakarta.jms.MessageConsumer;
 import jakarta.jms.Session;
 
+/**
+ * Client of a queue.
+ * <p>
+ * A JMS session may be used only by one thread at a time, so when the client gets a receive session factory, the receives use their own
+ * session and a blocking receive doesn't hold up the sends. Otherwise the receives share the session and the monitor with the sends.
+ */
 public class JMSQueueClient extends JMSClient {
     private static final Logger LOG = LoggerFactory.getLogger(JMSQueueClient.class);
 
+    private final MessageRate receiveRate = new MessageRate();
+    private final Supplier<Session> receiveSessionFactory;
+    private final Object receiveLock;
+    private Session receiveSession;
+    private MessageConsumer consumer;
+
     public JMSQueueClient(Session session, String queueName) {
-        super(session, DestinationType.QUEUE, queueName);
+        this(session, null, null, queueName);
+    }
+
+    public JMSQueueClient(Session session, Supplier<Session> transactedSessionFactory, String queueName) {
+        this(session, transactedSessionFactory, null, queueName);
+    }
+
+    /**
+     * Creates the client.
+     *
+     * @param session session used for sending the messages
+     * @param transactedSessionFactory factory of the transacted session used for batch sends, created on first use, may be null
+     * @param receiveSessionFactory factory of the session used for receiving the messages, created on first use, may be null
+     * @param queueName queue name
+     */
+    public JMSQueueClient(Session session, Supplier<Session> transactedSessionFactory, Supplier<Session> receiveSessionFactory,
+        String queueName) {
+        super(session, transactedSessionFactory, DestinationType.QUEUE, queueName);
+        this.receiveSessionFactory = receiveSessionFactory;
+        this.receiveLock = receiveSessionFactory == null ? this : new Object();
+    }
+
+    /**
+     * Returns the consumer of the queue, creating it on first use. The consumer is reused by all receives, so that the broker can
+     * prefetch the messages.
+     *
+     * @return consumer
+     */
+    private MessageConsumer consumer() throws JMSException {
+        if (consumer == null) {
+            if (receiveSession == null) {
+                receiveSession = receiveSessionFactory == null ? session : receiveSessionFactory.get();
+            }
+            consumer = receiveSession.createConsumer(destination);
+        }
+        return consumer;
     }
 
     @Override
     public Message receiveMessage(long timeout) {
-        try (MessageConsumer consumer = session.createConsumer(destination)) {
-            return consumer.receive(timeout);
-        } catch (JMSException e) {
-            throw new RuntimeException("Unable to receive queue message:", e);
+        synchronized (receiveLock) {
+            try {
+                final Message message = consumer().receive(timeout);
+                if (message != null) {
+                    receiveRate.record();
+                }
+                return message;
+            } catch (JMSException e) {
+                throw new RuntimeException("Unable to receive queue message:", e);
+            }
         }
     }
 
+    @Override
+    public List<Message> receiveMessages(int count, long timeout) {
+        final List<Message> messages = new ArrayList<>(count);
+        final long deadline = System.currentTimeMillis() + timeout;
+        synchronized (receiveLock) {
+            try {
+                while (messages.size() < count) {
+                    final long remaining = deadline - System.currentTimeMillis();
+                    // receive(0) would block indefinitely
+                    final Message message = remaining > 0 ? consumer().receive(remaining) : consumer().receiveNoWait();
+                    if (message == null) {
+                        break;
+                    }
+                    messages.add(message);
+                    receiveRate.record();
+                }
+            } catch (JMSException e) {
+                throw new RuntimeException("Unable to receive queue messages:", e);
+            }
+        }
+        return messages;
+    }
+
+    /**
+     * Closes the consumer of the queue, so that the messages prefetched by it are delivered to the other consumers (for example the
+     * integration under test). The next receive creates a new consumer.
+     */
+    public void stopReceiving() {
+        synchronized (receiveLock) {
+            closeConsumer();
+        }
+    }
+
+    private void closeConsumer() {
+        if (consumer != null) {
+            try {
+                consumer.close();
+            } catch (JMSException e) {
+                LOG.warn("Unable to close queue consumer", e);
+            }
+            consumer = null;
+        }
+    }
+
+    @Override
+    public MessageRate receiveRate() {
+        return receiveRate;
+    }
+
+    @Override
     public void close() {
-        try {
-            producer.close();
-            session.close();
-        } catch (Exception e) {
-            LOG.warn("Unable to close producer/session:", e);
+        synchronized (receiveLock) {
+            closeConsumer();
+            if (receiveSession != null && receiveSession != session) {
+                try {
+                    receiveSession.close();
+                } catch (JMSException e) {
+                    LOG.warn("Unable to close receive session", e);
+                }
+            }
+            receiveSession = null;
         }
+        super.close();
     }
 }
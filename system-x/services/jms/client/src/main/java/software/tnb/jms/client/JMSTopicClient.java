@@ -7,6 +7,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.jms.JMSException;
@@ -24,8 +25,15 @@ public class JMSTopicClient extends JMSClient implements TopicClient {
         super(session, DestinationType.TOPIC, topicName);
     }
 
+    public JMSTopicClient(Session session, Supplier<Session> transactedSessionFactory, String topicName) {
+        super(session, transactedSessionFactory, DestinationType.TOPIC, topicName);
+    }
+
     @Override
-    public void subscribe() {
+    public synchronized void subscribe() {
+        if (consumer != null) {
+            return;
+        }
         try {
             consumer = session.createConsumer(destination);
             consumer.setMessageListener(listener);
@@ -40,19 +48,40 @@ public class JMSTopicClient extends JMSClient implements TopicClient {
         return listener.next(timeout);
     }
 
+    @Override
+    public List<Message> receiveMessages(int count, long timeout) {
+        return listener.next(count, timeout);
+    }
+
+    /**
+     * Waits until the given number of messages was received since the subscription.
+     *
+     * @param count number of messages
+     * @param timeout timeout in milliseconds
+     * @return true if the messages were received in the given time, false otherwise
+     */
+    public boolean awaitMessages(int count, long timeout) {
+        return listener.await(count, timeout);
+    }
+
     public List<String> receiveAll() {
         return listener.getMessages().stream().map(this::getBody).collect(Collectors.toList());
     }
 
+    @Override
+    public MessageRate receiveRate() {
+        return listener.rate();
+    }
+
+    @Override
     public void close() {
         try {
-            producer.close();
-            session.close();
             if (consumer != null) {
                 consumer.close();
             }
         } catch (Exception e) {
-            LOG.warn("Unable to close topic client", e);
+            LOG.warn("Unable to close topic consumer", e);
         }
+        super.close();
     }
 }
@@ -0,0 +1,240 @@
+package software.tnb.jms.client;
+
+import software.tnb.common.utils.LatencyStats;
+
+import org.eclipse.paho.client.mqttv3.IMqttActionListener;
+import org.eclipse.paho.client.mqttv3.IMqttToken;
+import org.eclipse.paho.client.mqttv3.MqttAsyncClient;
+import org.eclipse.paho.client.mqttv3.MqttConnectOptions;
+import org.eclipse.paho.client.mqttv3.MqttException;
+import org.eclipse.paho.client.mqttv3.MqttMessage;
+import org.eclipse.paho.client.mqttv3.persist.MemoryPersistence;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput, the publish-to-receive latency and the message loss of a MQTT broker (or of an integration that forwards the
+ * messages from one topic to another).
+ * <p>
+ * The probe uses one asynchronous connection for all topics and runs, the messages are published with an in-flight window - at most the
+ * given number of messages is waiting for the acknowledgement from the broker at any time. Each payload contains the id of the run, the
+ * sequence number and the {@link System#nanoTime()} of the publish, so the latency is precise as long as the messages are received by the
+ * same probe.
+ */
+public class MQTTProbe implements AutoCloseable {
+    public static final int DEFAULT_MAX_INFLIGHT = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(MQTTProbe.class);
+    // run id + sequence number + timestamp
+    private static final int PAYLOAD_HEADER_SIZE = Long.BYTES * 2 + Integer.BYTES;
+    private static final long CONNECT_TIMEOUT = 30000L;
+
+    private final MqttAsyncClient client;
+    // paho fails the publish when the number of in-flight messages exceeds maxInflight, so all runs share its permits
+    private final Semaphore inflight;
+    private final int maxInflight;
+    private final Map<Long, Run> runs = new ConcurrentHashMap<>();
+    private final Set<String> subscriptions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Creates the probe and connects to the broker.
+     *
+     * @param url broker url
+     * @param username username
+     * @param password password
+     * @param clientId client id
+     * @param maxInflight maximum in-flight messages of the connection, an upper bound for the window of all concurrent runs
+     */
+    public MQTTProbe(String url, String username, String password, String clientId, int maxInflight) {
+        this.maxInflight = maxInflight;
+        this.inflight = new Semaphore(maxInflight);
+        try {
+            final MqttConnectOptions options = MQTTTopicClient.connectOptions(url, username, password);
+            options.setMaxInflight(maxInflight);
+            client = new MqttAsyncClient(url, clientId, new MemoryPersistence());
+            client.connect(options).waitForCompletion(CONNECT_TIMEOUT);
+        } catch (MqttException e) {
+            throw new RuntimeException("Unable to create mqtt probe client", e);
+        }
+    }
+
+    /**
+     * Publishes the messages to the topic and receives them back from the same topic.
+     *
+     * @param topic topic name
+     * @param options run options
+     * @return report
+     */
+    public MQTTProbeReport run(String topic, MQTTProbeOptions options) {
+        return run(topic, topic, options);
+    }
+
+    /**
+     * Publishes the messages to one topic and receives them from another.
+     *
+     * @param publishTopic topic to publish the messages to
+     * @param receiveTopic topic to receive the messages from
+     * @param options run options
+     * @return report
+     */
+    public MQTTProbeReport run(String publishTopic, String receiveTopic, MQTTProbeOptions options) {
+        subscribe(receiveTopic, options.qos());
+
+        final long id = ThreadLocalRandom.current().nextLong();
+        final Run run = new Run(options.messages());
+        runs.put(id, run);
+        try {
+            LOG.debug("Publishing to mqtt topic {} with {}", publishTopic, options);
+            final int windowSize = Math.min(options.window(), maxInflight);
+            if (windowSize < options.window()) {
+                LOG.debug("Window {} is larger than the max in-flight messages of the connection, using {}", options.window(), windowSize);
+            }
+            final Semaphore window = new Semaphore(windowSize);
+            final AtomicInteger published = new AtomicInteger();
+            final AtomicInteger failed = new AtomicInteger();
+            final IMqttActionListener callback = new IMqttActionListener() {
+                @Override
+                public void onSuccess(IMqttToken token) {
+                    published.incrementAndGet();
+                    inflight.release();
+                    window.release();
+                }
+
+                @Override
+                public void onFailure(IMqttToken token, Throwable e) {
+                    LOG.debug("Unable to publish mqtt message", e);
+                    failed.incrementAndGet();
+                    inflight.release();
+                    window.release();
+                }
+            };
+
+            final long start = System.nanoTime();
+            for (int seq = 0; seq < options.messages(); seq++) {
+                window.acquireUninterruptibly();
+                inflight.acquireUninterruptibly();
+                try {
+                    client.publish(publishTopic, payload(id, seq, options.payloadSize()), options.qos(), false, null, callback);
+                } catch (MqttException e) {
+                    LOG.debug("Unable to publish mqtt message", e);
+                    failed.incrementAndGet();
+                    inflight.release();
+                    window.release();
+                }
+            }
+            if (!window.tryAcquire(windowSize, options.drainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.warn("Not all messages published to {} were acknowledged in {}", publishTopic, options.drainTimeout());
+            }
+            final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+
+            if (!run.remaining.await(options.drainTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                LOG.debug("Not all messages were received from {} in {}", receiveTopic, options.drainTimeout());
+            }
+            return new MQTTProbeReport(publishTopic, receiveTopic, options, published.get(), failed.get(), run.received(),
+                run.duplicates.get(), duration, run.latency.snapshot());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for mqtt messages", e);
+        } finally {
+            runs.remove(id);
+        }
+    }
+
+    private void subscribe(String topic, int qos) {
+        if (subscriptions.contains(topic)) {
+            return;
+        }
+        synchronized (subscriptions) {
+            if (subscriptions.contains(topic)) {
+                return;
+            }
+            try {
+                client.subscribe(topic, qos, (t, message) -> onMessage(message)).waitForCompletion(CONNECT_TIMEOUT);
+                subscriptions.add(topic);
+            } catch (MqttException e) {
+                throw new RuntimeException("Unable to subscribe to mqtt topic " + topic, e);
+            }
+        }
+    }
+
+    private void onMessage(MqttMessage message) {
+        final long now = System.nanoTime();
+        final ByteBuffer payload = ByteBuffer.wrap(message.getPayload());
+        if (payload.remaining() < PAYLOAD_HEADER_SIZE) {
+            return;
+        }
+        final Run run = runs.get(payload.getLong());
+        if (run != null) {
+            run.received(payload.getInt(), now - payload.getLong());
+        }
+    }
+
+    private static byte[] payload(long id, int seq, int size) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.max(PAYLOAD_HEADER_SIZE, size));
+        buffer.putLong(id).putInt(seq).putLong(System.nanoTime());
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) ('a' + buffer.position() % 26));
+        }
+        return buffer.array();
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (client.isConnected()) {
+                client.disconnect().waitForCompletion(CONNECT_TIMEOUT);
+            }
+            client.close();
+        } catch (MqttException e) {
+            LOG.warn("Unable to close mqtt probe client", e);
+        }
+    }
+
+    /**
+     * State of one run.
+     */
+    private static final class Run {
+        private final BitSet seen;
+        private final int messages;
+        private final CountDownLatch remaining;
+        private final AtomicInteger duplicates = new AtomicInteger();
+        private final LatencyStats latency = new LatencyStats();
+
+        Run(int messages) {
+            this.messages = messages;
+            this.seen = new BitSet(messages);
+            this.remaining = new CountDownLatch(messages);
+        }
+
+        void received(int seq, long latencyNanos) {
+            if (seq < 0 || seq >= messages) {
+                return;
+            }
+            synchronized (seen) {
+                if (seen.get(seq)) {
+                    duplicates.incrementAndGet();
+                    return;
+                }
+                seen.set(seq);
+            }
+            latency.record(latencyNanos);
+            remaining.countDown();
+        }
+
+        int received() {
+            return messages - (int) remaining.getCount();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package software.tnb.jms.client;
+
+import java.time.Duration;
+
+/**
+ * Options of a {@link MQTTProbe} run.
+ */
+public class MQTTProbeOptions {
+    private int messages = 1000;
+    private int qos = 1;
+    private int window = 100;
+    private int payloadSize = 64;
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    public static MQTTProbeOptions defaults() {
+        return new MQTTProbeOptions();
+    }
+
+    public MQTTProbeOptions messages(int messages) {
+        this.messages = messages;
+        return this;
+    }
+
+    /**
+     * Sets the quality of service used for publishing and subscribing.
+     *
+     * @param qos 0, 1 or 2
+     * @return this
+     */
+    public MQTTProbeOptions qos(int qos) {
+        if (qos < 0 || qos > 2) {
+            throw new IllegalArgumentException("QoS must be 0, 1 or 2");
+        }
+        this.qos = qos;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of messages that were published, but not yet acknowledged by the broker. The window is capped at the max
+     * in-flight messages of the probe connection, which is also shared with the concurrent runs.
+     *
+     * @param window in-flight window
+     * @return this
+     */
+    public MQTTProbeOptions window(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.window = window;
+        return this;
+    }
+
+    /**
+     * Sets the size of the payload, at least 24 bytes are used for the run id, the sequence number and the timestamp.
+     *
+     * @param payloadSize payload size in bytes
+     * @return this
+     */
+    public MQTTProbeOptions payloadSize(int payloadSize) {
+        this.payloadSize = payloadSize;
+        return this;
+    }
+
+    /**
+     * Sets how long to wait for the messages after all of them were published.
+     *
+     * @param drainTimeout timeout
+     * @return this
+     */
+    public MQTTProbeOptions drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    public int messages() {
+        return messages;
+    }
+
+    public int qos() {
+        return qos;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    public int payloadSize() {
+        return payloadSize;
+    }
+
+    public Duration drainTimeout() {
+        return drainTimeout;
+    }
+
+    @Override
+    public String toString() {
+        return "messages=" + messages + ", qos=" + qos + ", window=" + window + ", payloadSize=" + payloadSize;
+    }
+}
@@ -0,0 +1,52 @@
+package software.tnb.jms.client;
+
+import software.tnb.common.utils.LatencyStats;
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+
+/**
+ * Result of a {@link MQTTProbe} run.
+ *
+ * @param publishTopic topic the messages were published to
+ * @param receiveTopic topic the messages were received from
+ * @param options run options
+ * @param published number of messages acknowledged by the broker
+ * @param failed number of messages that failed to be published
+ * @param received number of distinct messages received
+ * @param duplicates number of messages received more than once
+ * @param duration duration of the publish phase
+ * @param latency publish-to-receive latency
+ */
+public record MQTTProbeReport(String publishTopic, String receiveTopic, MQTTProbeOptions options, int published, int failed, int received,
+    int duplicates, Duration duration, LatencyStats.Latency latency) {
+
+    /**
+     * Returns the number of published messages that were not received.
+     *
+     * @return number of lost messages
+     */
+    public int lost() {
+        return Math.max(0, published - received);
+    }
+
+    public double publishRate() {
+        return RateUtils.perSecond(published, duration);
+    }
+
+    /**
+     * Throws an exception if some messages failed to be published or were lost.
+     */
+    public void assertNoLoss() {
+        if (failed > 0 || lost() > 0) {
+            throw new IllegalStateException(this.toString());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MQTT %s -> %s (%s): %d published (%d failed) in %d ms, %.1f msg/s, %d received, %d lost, %d duplicates, "
+            + "latency %s", publishTopic, receiveTopic, options, published, failed, duration.toMillis(), publishRate(), received, lost(),
+            duplicates, latency);
+    }
+}
@@ -18,27 +18,29 @@ public class MQTTTopicClient extends MQTTKeepAlive implements BasicJMSOperations
         try {
             this.topicName = topicName;
             client = new MqttClient(url, clientId);
-
-            MqttConnectOptions options = new MqttConnectOptions();
-            options.setAutomaticReconnect(true);
-            options.setCleanSession(true);
-            options.setKeepAliveInterval(300);
-            options.setConnectionTimeout(10);
-            options.setUserName(username);
-            options.setPassword(password.toCharArray());
-            if (url.startsWith("ssl://")) {
-                options.setSocketFactory(HTTPUtils.trustAllSslClient().sslSocketFactory());
-                options.setSSLHostnameVerifier((hostname, session) -> true);
-                options.setHttpsHostnameVerificationEnabled(false);
-            }
-
-            client.connect(options);
+            client.connect(connectOptions(url, username, password));
             startKeepAlive(client);
         } catch (Exception e) {
             throw new RuntimeException("Unable to create mqtt client instance", e);
         }
     }
 
+    static MqttConnectOptions connectOptions(String url, String username, String password) {
+        MqttConnectOptions options = new MqttConnectOptions();
+        options.setAutomaticReconnect(true);
+        options.setCleanSession(true);
+        options.setKeepAliveInterval(300);
+        options.setConnectionTimeout(10);
+        options.setUserName(username);
+        options.setPassword(password.toCharArray());
+        if (url.startsWith("ssl://")) {
+            options.setSocketFactory(HTTPUtils.trustAllSslClient().sslSocketFactory());
+            options.setSSLHostnameVerifier((hostname, session) -> true);
+            options.setHttpsHostnameVerificationEnabled(false);
+        }
+        return options;
+    }
+
     public void send(String message) {
         try {
             client.publish(topicName, new MqttMessage(message.getBytes()));
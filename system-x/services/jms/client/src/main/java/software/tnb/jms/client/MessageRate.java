@@ -0,0 +1,68 @@
+package software.tnb.jms.client;
+
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+
+/**
+ * Thread-safe counter of sent or received messages that computes the rate between the first and the last recorded message.
+ */
+public class MessageRate {
+    private long count;
+    private long first = -1;
+    private long last;
+
+    /**
+     * Records a single message.
+     */
+    public void record() {
+        record(1);
+    }
+
+    /**
+     * Records the given number of messages.
+     *
+     * @param messages number of messages
+     */
+    public synchronized void record(int messages) {
+        final long now = System.nanoTime();
+        if (first < 0) {
+            first = now;
+        }
+        last = now;
+        count += messages;
+    }
+
+    public synchronized long count() {
+        return count;
+    }
+
+    /**
+     * Returns the time between the first and the last recorded message.
+     *
+     * @return elapsed time
+     */
+    public synchronized Duration elapsed() {
+        return first < 0 ? Duration.ZERO : Duration.ofNanos(last - first);
+    }
+
+    /**
+     * Returns the rate in messages per second, 0 if there are not enough messages to compute the rate.
+     *
+     * @return messages per second
+     */
+    public synchronized double perSecond() {
+        return first < 0 ? 0 : RateUtils.perSecond(count, last - first);
+    }
+
+    public synchronized void reset() {
+        count = 0;
+        first = -1;
+        last = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d messages, %.1f msg/s", count(), perSecond());
+    }
+}
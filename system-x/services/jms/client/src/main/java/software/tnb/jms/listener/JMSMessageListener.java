@@ -7,6 +7,6 @@ public class JMSMessageListener extends software.tnb.jms.listener.MessageListene
 
     @Override
     public void onMessage(Message message) {
-        messages.add(message);
+        add(message);
     }
 }
@@ -6,6 +6,6 @@ import org.eclipse.paho.client.mqttv3.MqttMessage;
 public class MQTTMessageListener extends MessageListener<MqttMessage> implements IMqttMessageListener {
     @Override
     public void messageArrived(String topic, MqttMessage message) throws Exception {
-        messages.add(message);
+        add(message);
     }
 }
@@ -1,29 +1,132 @@
 package software.tnb.jms.listener;
 
-import software.tnb.common.exception.TimeoutException;
-import software.tnb.common.utils.WaitUtils;
+import software.tnb.jms.client.MessageRate;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
+/**
+ * Buffer of the messages received by a subscription.
+ * <p>
+ * The messages are added from the thread of the messaging client and read by the test thread, the readers block until the messages arrive
+ * instead of polling.
+ *
+ * @param <T> message type
+ */
 public class MessageListener<T> {
-    protected final List<T> messages = new ArrayList<>();
+    private final List<T> messages = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition arrived = lock.newCondition();
+    private final MessageRate rate = new MessageRate();
     private int index = 0;
-    private boolean isSubscribed = false;
+    private volatile boolean isSubscribed = false;
 
+    /**
+     * Adds the received message to the buffer and wakes up the waiting readers.
+     *
+     * @param message message
+     */
+    protected void add(T message) {
+        lock.lock();
+        try {
+            messages.add(message);
+            rate.record();
+            arrived.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the next message that wasn't read yet.
+     *
+     * @param timeout timeout in milliseconds
+     * @return message or null if no message arrived in the given time
+     */
     public T next(long timeout) {
+        final List<T> next = next(1, timeout);
+        return next.isEmpty() ? null : next.get(0);
+    }
+
+    /**
+     * Waits until the given number of messages that weren't read yet is available and returns them.
+     *
+     * @param count number of messages
+     * @param timeout timeout in milliseconds
+     * @return the messages, fewer than requested if they didn't arrive in the given time
+     */
+    public List<T> next(int count, long timeout) {
         checkSubscribe();
+        lock.lock();
         try {
-            WaitUtils.waitFor(() -> index < messages.size(), 30, timeout / 30, "Waiting until a next message arrives");
-        } catch (TimeoutException e) {
-            return null;
+            awaitSize(index + count, timeout);
+            final int end = Math.min(messages.size(), index + count);
+            final List<T> next = new ArrayList<>(messages.subList(index, end));
+            index = end;
+            return next;
+        } finally {
+            lock.unlock();
         }
-        return messages.get(index++);
     }
 
+    /**
+     * Waits until the given number of messages was received in total.
+     *
+     * @param count number of messages
+     * @param timeout timeout in milliseconds
+     * @return true if the messages were received in the given time, false otherwise
+     */
+    public boolean await(int count, long timeout) {
+        checkSubscribe();
+        lock.lock();
+        try {
+            return awaitSize(count, timeout);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean awaitSize(int size, long timeout) {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(timeout);
+        try {
+            while (messages.size() < size) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = arrived.awaitNanos(remaining);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return messages.size() >= size;
+        }
+    }
+
+    /**
+     * Returns a snapshot of all messages received so far.
+     *
+     * @return messages
+     */
     public List<T> getMessages() {
         checkSubscribe();
-        return messages;
+        lock.lock();
+        try {
+            return new ArrayList<>(messages);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the receive rate of the subscription.
+     *
+     * @return receive rate
+     */
+    public MessageRate rate() {
+        return rate;
     }
 
     public void setSubscribed(boolean subscribed) {
@@ -0,0 +1,120 @@
+package software.tnb.jms.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@Tag("unit")
+public class MessageListenerTest {
+    private static final int THREADS = 8;
+    private static final int MESSAGES_PER_THREAD = 1000;
+
+    private final MessageListener<Integer> listener = new MessageListener<>();
+
+    @BeforeEach
+    public void subscribe() {
+        listener.setSubscribed(true);
+    }
+
+    @Test
+    public void shouldNotLoseMessagesAddedConcurrentlyTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            // the reader takes the messages while they are added
+            final Future<List<Integer>> reader = executor.submit(() -> {
+                final List<Integer> read = new ArrayList<>();
+                while (read.size() < THREADS * MESSAGES_PER_THREAD) {
+                    final List<Integer> next = listener.next(100, 10_000L);
+                    if (next.isEmpty()) {
+                        break;
+                    }
+                    read.addAll(next);
+                }
+                return read;
+            });
+            final List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                final int offset = thread * MESSAGES_PER_THREAD;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    IntStream.range(offset, offset + MESSAGES_PER_THREAD).forEach(listener::add);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+
+            assertThat(listener.await(THREADS * MESSAGES_PER_THREAD, 1000L)).isTrue();
+            assertThat(reader.get(10, TimeUnit.SECONDS)).hasSize(THREADS * MESSAGES_PER_THREAD).doesNotHaveDuplicates()
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, THREADS * MESSAGES_PER_THREAD).boxed().toList());
+            assertThat(listener.getMessages()).hasSize(THREADS * MESSAGES_PER_THREAD);
+            assertThat(listener.rate().count()).isEqualTo(THREADS * MESSAGES_PER_THREAD);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldReturnAvailableMessagesAfterTimeoutTest() {
+        listener.add(1);
+        listener.add(2);
+
+        final long start = System.nanoTime();
+        final List<Integer> next = listener.next(5, 300L);
+        final long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(next).containsExactly(1, 2);
+        assertThat(elapsed).isBetween(250L, 5000L);
+        assertThat(listener.next(200L)).isNull();
+    }
+
+    @Test
+    public void shouldWakeUpReaderWhenMessageArrivesTest() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Integer> next = executor.submit(() -> listener.next(10_000L));
+            Thread.sleep(100L);
+            final long start = System.nanoTime();
+            listener.add(42);
+
+            assertThat(next.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5000L);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldAwaitTotalNumberOfMessagesTest() {
+        listener.add(1);
+        assertThat(listener.next(100L)).isEqualTo(1);
+
+        // await counts all received messages, including the ones already read
+        assertThat(listener.await(1, 100L)).isTrue();
+        assertThat(listener.await(2, 200L)).isFalse();
+        listener.add(2);
+        assertThat(listener.await(2, 100L)).isTrue();
+    }
+
+    @Test
+    public void shouldRequireSubscriptionTest() {
+        listener.setSubscribed(false);
+        assertThatThrownBy(() -> listener.next(100L)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> listener.await(1, 100L)).isInstanceOf(IllegalStateException.class);
+    }
+}
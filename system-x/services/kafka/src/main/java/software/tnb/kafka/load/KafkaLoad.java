@@ -0,0 +1,354 @@
+package software.tnb.kafka.load;
+
+import software.tnb.common.utils.LatencyStats;
+import software.tnb.kafka.service.Kafka;
+import software.tnb.kafka.validation.ProducerOptions;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Generates a sustained load on a kafka topic and measures the throughput, the latencies and the lag of a consumer group.
+ * <p>
+ * Each record carries a sequence number and the time it was created (epoch microseconds) both in the payload and in the
+ * {@value #TIMESTAMP_HEADER} header, so that the end-to-end latency can be measured also on a topic the records are forwarded to by the
+ * integration under test:
+ * <pre>
+ * LoadReport report = new KafkaLoad(kafka).topic("in").partitions(6).rate(1000).duration(Duration.ofMinutes(1))
+ *     .measureLatency("out").sampleLag("my-integration-group").run();
+ * </pre>
+ * The topic is created through the service ({@link Kafka#createTopic(String, int, int)}) - on OpenShift the topic stays managed by the
+ * operator - and the harness waits using the admin client until the partitions are available.
+ */
+public class KafkaLoad {
+    public static final String TIMESTAMP_HEADER = "tnb-load-timestamp";
+
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaLoad.class);
+    // sequence number + timestamp
+    private static final int PAYLOAD_HEADER_SIZE = Long.BYTES * 2;
+
+    private final Kafka kafka;
+    private String topic;
+    private int partitions = 1;
+    private int replicas = 1;
+    private int rate = 100;
+    private Duration duration = Duration.ofSeconds(30);
+    private int payloadSize = 256;
+    private ProducerOptions producerOptions = ProducerOptions.defaults();
+    private String latencyTopic;
+    private String lagGroup;
+    private String lagTopic;
+    private Duration sampleInterval = Duration.ofSeconds(1);
+    private Duration drainTimeout = Duration.ofSeconds(30);
+
+    public KafkaLoad(Kafka kafka) {
+        this.kafka = kafka;
+    }
+
+    public KafkaLoad topic(String topic) {
+        this.topic = topic;
+        return this;
+    }
+
+    public KafkaLoad partitions(int partitions) {
+        this.partitions = partitions;
+        return this;
+    }
+
+    public KafkaLoad replicas(int replicas) {
+        this.replicas = replicas;
+        return this;
+    }
+
+    /**
+     * Sets the target rate.
+     *
+     * @param rate messages per second
+     * @return this
+     */
+    public KafkaLoad rate(int rate) {
+        this.rate = rate;
+        return this;
+    }
+
+    public KafkaLoad duration(Duration duration) {
+        this.duration = duration;
+        return this;
+    }
+
+    /**
+     * Sets the size of the payload, at least 16 bytes are used for the sequence number and the timestamp.
+     *
+     * @param payloadSize payload size in bytes
+     * @return this
+     */
+    public KafkaLoad payloadSize(int payloadSize) {
+        this.payloadSize = payloadSize;
+        return this;
+    }
+
+    public KafkaLoad producerOptions(ProducerOptions producerOptions) {
+        this.producerOptions = producerOptions;
+        return this;
+    }
+
+    /**
+     * Measures the end-to-end latency of the records arriving to the given topic, use the load topic to measure the latency of the broker
+     * itself.
+     *
+     * @param topic topic to consume
+     * @return this
+     */
+    public KafkaLoad measureLatency(String topic) {
+        this.latencyTopic = topic;
+        return this;
+    }
+
+    /**
+     * Samples the lag of the consumer group on the load topic.
+     *
+     * @param group consumer group id
+     * @return this
+     */
+    public KafkaLoad sampleLag(String group) {
+        return sampleLag(group, null);
+    }
+
+    /**
+     * Samples the lag of the consumer group on the given topic.
+     *
+     * @param group consumer group id
+     * @param topic topic name, the load topic if null
+     * @return this
+     */
+    public KafkaLoad sampleLag(String group, String topic) {
+        this.lagGroup = group;
+        this.lagTopic = topic;
+        return this;
+    }
+
+    public KafkaLoad sampleInterval(Duration sampleInterval) {
+        this.sampleInterval = sampleInterval;
+        return this;
+    }
+
+    /**
+     * Sets how long to wait after the produce phase for the latency consumer to receive all records and for the lag to drop to zero.
+     *
+     * @param drainTimeout timeout
+     * @return this
+     */
+    public KafkaLoad drainTimeout(Duration drainTimeout) {
+        this.drainTimeout = drainTimeout;
+        return this;
+    }
+
+    /**
+     * Runs the load.
+     *
+     * @return report
+     */
+    public LoadReport run() {
+        if (topic == null) {
+            throw new IllegalArgumentException("Topic must be set");
+        }
+        kafka.createTopic(topic, partitions, replicas);
+        kafka.clients().awaitTopic(topic, partitions, Duration.ofMinutes(2));
+
+        final LatencyStats ackLatency = new LatencyStats();
+        final AtomicLong produced = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        final AtomicLong bytes = new AtomicLong();
+
+        final LatencyProbe probe = latencyTopic == null ? null : new LatencyProbe(latencyTopic);
+        final LagSampler sampler = lagGroup == null ? null
+            : new LagSampler(kafka.clients().admin(), lagGroup, lagTopic == null ? topic : lagTopic);
+        try {
+            if (probe != null) {
+                probe.start();
+            }
+            if (sampler != null) {
+                sampler.start(sampleInterval);
+            }
+
+            LOG.info("Producing {} msg/s to topic {} for {}", rate, topic, duration);
+            final KafkaProducer<byte[], byte[]> producer = kafka.clients().producer(producerOptions);
+            final long total = Math.round(rate * (double) duration.toNanos() / TimeUnit.SECONDS.toNanos(1));
+            final long intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, rate);
+            final long start = System.nanoTime();
+            for (long seq = 0; seq < total; seq++) {
+                final long scheduled = start + seq * intervalNanos;
+                final long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                final long now = epochMicros();
+                final byte[] payload = payload(seq, now);
+                final ProducerRecord<byte[], byte[]> record = new ProducerRecord<>(topic, payload);
+                record.headers().add(TIMESTAMP_HEADER, Long.toString(now).getBytes(StandardCharsets.UTF_8));
+                final long sent = System.nanoTime();
+                producer.send(record, (metadata, e) -> {
+                    if (e == null) {
+                        ackLatency.record(System.nanoTime() - sent);
+                        produced.incrementAndGet();
+                        bytes.addAndGet(payload.length);
+                    } else {
+                        failed.incrementAndGet();
+                        LOG.debug("Unable to send record to topic {}", topic, e);
+                    }
+                });
+            }
+            producer.flush();
+            final Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+            LOG.info("Produced {} records to topic {} in {} ms", produced.get(), topic, elapsed.toMillis());
+
+            drain(probe, sampler, produced.get());
+            return new LoadReport(topic, rate, produced.get(), failed.get(), bytes.get(), elapsed, ackLatency.snapshot(),
+                probe == null ? 0 : probe.received(), probe == null ? new LatencyStats().snapshot() : probe.latency().snapshot(),
+                sampler == null ? List.of() : sampler.samples());
+        } finally {
+            if (sampler != null) {
+                sampler.close();
+            }
+            if (probe != null) {
+                probe.close();
+            }
+        }
+    }
+
+    private void drain(LatencyProbe probe, LagSampler sampler, long expected) {
+        final long deadline = System.nanoTime() + drainTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            final boolean probeDone = probe == null || probe.received() >= expected;
+            final boolean lagDone = sampler == null || sampler.samples().stream().reduce((a, b) -> b).map(s -> s.lag() == 0).orElse(false);
+            if (probeDone && lagDone) {
+                return;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(Math.min(500, sampleInterval.toMillis())));
+        }
+        LOG.warn("Load on topic {} was not drained in {}", topic, drainTimeout);
+    }
+
+    private byte[] payload(long seq, long timestamp) {
+        final ByteBuffer buffer = ByteBuffer.allocate(Math.max(PAYLOAD_HEADER_SIZE, payloadSize));
+        buffer.putLong(seq).putLong(timestamp);
+        while (buffer.hasRemaining()) {
+            buffer.put((byte) ('a' + buffer.position() % 26));
+        }
+        return buffer.array();
+    }
+
+    private static long epochMicros() {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, Instant.now());
+    }
+
+    /**
+     * Gets the time the record was created by the load harness, from the {@value #TIMESTAMP_HEADER} header or from the record timestamp if
+     * the header was not propagated.
+     *
+     * @param record consumed record
+     * @return creation time in epoch microseconds
+     */
+    public static long timestampMicros(ConsumerRecord<?, ?> record) {
+        final Header header = record.headers().lastHeader(TIMESTAMP_HEADER);
+        if (header != null) {
+            try {
+                return Long.parseLong(new String(header.value(), StandardCharsets.UTF_8));
+            } catch (NumberFormatException e) {
+                LOG.trace("Invalid {} header value", TIMESTAMP_HEADER);
+            }
+        }
+        return TimeUnit.MILLISECONDS.toMicros(record.timestamp());
+    }
+
+    /**
+     * Consumes the latency topic from its end in the background and records the end-to-end latency of each record.
+     */
+    private final class LatencyProbe implements AutoCloseable {
+        private final String probeTopic;
+        private final LatencyStats latency = new LatencyStats();
+        private final AtomicLong received = new AtomicLong();
+        private final AtomicBoolean running = new AtomicBoolean(true);
+        private final KafkaConsumer<byte[], byte[]> consumer;
+        private Thread thread;
+
+        LatencyProbe(String probeTopic) {
+            this.probeTopic = probeTopic;
+            this.consumer = kafka.clients().createConsumer();
+        }
+
+        void start() {
+            // the output topic may be created only by the integration, wait for at least one partition
+            kafka.clients().awaitTopic(probeTopic, 1, Duration.ofMinutes(2));
+            final List<TopicPartition> assignment = consumer.partitionsFor(probeTopic).stream()
+                .map(p -> new TopicPartition(probeTopic, p.partition())).collect(Collectors.toList());
+            consumer.assign(assignment);
+            consumer.seekToEnd(assignment);
+            // resolve the positions now, so that records produced from now on are not skipped
+            assignment.forEach(consumer::position);
+
+            thread = new Thread(() -> {
+                try {
+                    while (running.get()) {
+                        final ConsumerRecords<byte[], byte[]> records = consumer.poll(Duration.ofMillis(200));
+                        final long now = epochMicros();
+                        for (ConsumerRecord<byte[], byte[]> record : records) {
+                            latency.record(TimeUnit.MICROSECONDS.toNanos(Math.max(0, now - timestampMicros(record))));
+                            received.incrementAndGet();
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    if (running.get()) {
+                        LOG.warn("Latency consumer of topic {} failed", probeTopic, e);
+                    }
+                } finally {
+                    consumer.close();
+                }
+            }, "kafka-load-latency-" + probeTopic);
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        long received() {
+            return received.get();
+        }
+
+        LatencyStats latency() {
+            return latency;
+        }
+
+        @Override
+        public void close() {
+            running.set(false);
+            if (thread == null) {
+                consumer.close();
+                return;
+            }
+            consumer.wakeup();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package software.tnb.kafka.load;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Periodically samples the lag of a consumer group on a topic - the difference between the end offsets of the partitions and the offsets
+ * committed by the group.
+ */
+public class LagSampler implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(LagSampler.class);
+
+    private final Admin admin;
+    private final String group;
+    private final String topic;
+    private final List<LagSample> samples = Collections.synchronizedList(new ArrayList<>());
+    private ScheduledExecutorService executor;
+
+    public LagSampler(Admin admin, String group, String topic) {
+        this.admin = admin;
+        this.group = group;
+        this.topic = topic;
+    }
+
+    /**
+     * Starts sampling the lag in the background.
+     *
+     * @param interval sampling interval
+     */
+    public synchronized void start(Duration interval) {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "lag-sampler-" + group);
+            t.setDaemon(true);
+            return t;
+        });
+        executor.scheduleAtFixedRate(() -> {
+            try {
+                samples.add(sample());
+            } catch (RuntimeException e) {
+                LOG.debug("Unable to sample the lag of group {}", group, e);
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Samples the current lag.
+     *
+     * @return lag sample
+     */
+    public LagSample sample() {
+        try {
+            final Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(group).partitionsToOffsetAndMetadata().get();
+            final List<TopicPartition> partitions = admin.describeTopics(List.of(topic)).allTopicNames().get().get(topic).partitions().stream()
+                .map(p -> new TopicPartition(topic, p.partition())).collect(Collectors.toList());
+            final Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = admin.listOffsets(
+                partitions.stream().collect(Collectors.toMap(Function.identity(), p -> OffsetSpec.latest()))).all().get();
+
+            final Map<Integer, Long> lag = new TreeMap<>();
+            for (TopicPartition partition : partitions) {
+                final OffsetAndMetadata offset = committed.get(partition);
+                final long end = endOffsets.get(partition).offset();
+                lag.put(partition.partition(), Math.max(0, end - (offset == null ? 0 : offset.offset())));
+            }
+            return new LagSample(Instant.now(), lag.values().stream().mapToLong(Long::longValue).sum(), lag);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Unable to get the offsets of group " + group, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while getting the offsets of group " + group, e);
+        }
+    }
+
+    public List<LagSample> samples() {
+        synchronized (samples) {
+            return List.copyOf(samples);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Lag of the consumer group at a point in time.
+     *
+     * @param time time of the sample
+     * @param lag total lag
+     * @param partitions lag of each partition
+     */
+    public record LagSample(Instant time, long lag, Map<Integer, Long> partitions) {
+    }
+}
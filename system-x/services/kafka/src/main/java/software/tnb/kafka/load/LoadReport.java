@@ -0,0 +1,72 @@
+package software.tnb.kafka.load;
+
+import software.tnb.common.utils.LatencyStats;
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a {@link KafkaLoad} run.
+ *
+ * @param topic topic the load was produced to
+ * @param targetRate requested rate in messages per second
+ * @param produced number of acknowledged records
+ * @param failed number of records that failed to be sent
+ * @param bytes number of bytes produced
+ * @param duration duration of the produce phase
+ * @param ackLatency latency between the send and the acknowledgement from the broker
+ * @param consumed number of records received by the latency consumer
+ * @param endToEndLatency latency between the payload timestamp and the receiving of the record by the latency consumer
+ * @param lag consumer group lag samples
+ */
+public record LoadReport(String topic, int targetRate, long produced, long failed, long bytes, Duration duration,
+    LatencyStats.Latency ackLatency, long consumed, LatencyStats.Latency endToEndLatency, List<LagSampler.LagSample> lag) {
+
+    public double recordsPerSecond() {
+        return RateUtils.perSecond(produced, duration);
+    }
+
+    public double bytesPerSecond() {
+        return RateUtils.perSecond(bytes, duration);
+    }
+
+    public long maxLag() {
+        return lag.stream().mapToLong(LagSampler.LagSample::lag).max().orElse(0);
+    }
+
+    public long finalLag() {
+        return lag.isEmpty() ? 0 : lag.get(lag.size() - 1).lag();
+    }
+
+    /**
+     * Throws an exception if some records failed to be sent or the achieved rate is lower than the given fraction of the target rate.
+     *
+     * @param minRateRatio minimal ratio between the achieved and the target rate, e.g. 0.9
+     */
+    public void assertSuccessful(double minRateRatio) {
+        if (failed > 0) {
+            throw new IllegalStateException(failed + " of " + (produced + failed) + " records failed to be sent to topic " + topic);
+        }
+        if (targetRate > 0 && recordsPerSecond() < targetRate * minRateRatio) {
+            throw new IllegalStateException(String.format("Achieved rate %.1f msg/s is lower than %.0f%% of the target rate %d msg/s",
+                recordsPerSecond(), minRateRatio * 100, targetRate));
+        }
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Load on %s: %d records (%d failed) in %d ms, %.1f msg/s (target %d msg/s), %.1f KiB/s%n", topic, produced,
+            failed, duration.toMillis(), recordsPerSecond(), targetRate, bytesPerSecond() / 1024));
+        sb.append("  ack latency: ").append(ackLatency).append(System.lineSeparator());
+        if (endToEndLatency.count() > 0) {
+            sb.append("  end-to-end latency (").append(consumed).append(" records): ").append(endToEndLatency).append(System.lineSeparator());
+        }
+        if (!lag.isEmpty()) {
+            sb.append("  consumer lag: max ").append(maxLag()).append(", final ").append(finalLag()).append(" (").append(lag.size())
+                .append(" samples)").append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+}
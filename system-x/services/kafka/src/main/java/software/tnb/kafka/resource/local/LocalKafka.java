@@ -29,7 +29,8 @@ public class LocalKafka extends Kafka implements Deployable, WithDockerImage {
 
     @Override
     public void createTopic(String name, int partitions, int replicas) {
-        // no-op
+        // there is only one broker
+        clients().createTopic(name, partitions, 1);
     }
 
     @Override
@@ -5,6 +5,7 @@ import software.tnb.common.deployment.ReusableOpenshiftDeployable;
 import software.tnb.common.deployment.WithName;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.kafka.service.Kafka;
 
@@ -61,7 +62,7 @@ public class OpenshiftKafka extends Kafka implements ReusableOpenshiftDeployable
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("strimzi.io/name", name() + "-kafka"));
+        return PodLabelSelector.of(Map.of("strimzi.io/name", name() + "-kafka"));
     }
 
     @Override
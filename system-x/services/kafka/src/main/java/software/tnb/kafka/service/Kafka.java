@@ -3,24 +3,26 @@ package software.tnb.kafka.service;
 import software.tnb.common.client.NoClient;
 import software.tnb.common.service.Service;
 import software.tnb.kafka.account.KafkaAccount;
+import software.tnb.kafka.validation.KafkaClients;
 import software.tnb.kafka.validation.KafkaValidation;
+import software.tnb.kafka.validation.serde.JsonSerde;
 
 import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.ByteArrayDeserializer;
-import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Properties;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class Kafka extends Service<KafkaAccount, NoClient, KafkaValidation<?>> {
-    protected Map<Class<?>, KafkaValidation> validations;
+    // validations by the value class or the serde, see validationKey(Serde)
+    protected Map<Object, KafkaValidation<?>> validations;
+    protected KafkaClients clients;
     protected Properties props = defaultClientProperties();
 
     public abstract String bootstrapServers();
@@ -33,28 +35,69 @@ public abstract class Kafka extends Service<KafkaAccount, NoClient, KafkaValidat
 
     public abstract void createTopic(String name, int partitions, int replicas);
 
+    /**
+     * Gets the validation for the given value class. String and byte[] values are written as they are, other classes are serialized
+     * to JSON.
+     *
+     * @param clazz value class
+     * @param <T> value type
+     * @return validation
+     */
+    @SuppressWarnings("unchecked")
     public <T> KafkaValidation<T> validation(Class<T> clazz) {
-        if (!validations.containsKey(clazz)) {
-            validations.put(clazz, createValidation(clazz));
-        }
-        return validations.get(clazz);
+        return (KafkaValidation<T>) validations.computeIfAbsent(clazz, c -> new KafkaValidation<>(clients(), serde(clazz)));
+    }
+
+    /**
+     * Gets the validation that uses the given serde for the values.
+     * <p>
+     * The validations (and their consumers) are shared by the equal serdes - the built-in kafka serdes of the same class, the
+     * {@link JsonSerde}s of the same type and the {@link software.tnb.kafka.validation.serde.SchemaRegistrySerde}s with the same schema
+     * and delegate. Other serdes are compared by identity, so the same instance should be passed to get the same validation.
+     *
+     * @param serde value serde
+     * @param <T> value type
+     * @return validation
+     */
+    @SuppressWarnings("unchecked")
+    public <T> KafkaValidation<T> validation(Serde<T> serde) {
+        return (KafkaValidation<T>) validations.computeIfAbsent(validationKey(serde), s -> new KafkaValidation<>(clients(), serde));
     }
 
     public KafkaValidation<String> validation() {
         return validation(String.class);
     }
 
-    private <T> KafkaValidation<T> createValidation(Class<T> clazz) {
-        if (clazz.isInstance(new byte[0])) {
-            props.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class.getName());
-            props.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class.getName());
-        } else if (clazz.isInstance("")) {
-            props.setProperty(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class.getName());
-            props.setProperty(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class.getName());
+    private static Object validationKey(Serde<?> serde) {
+        if (serde instanceof Serdes.WrapperSerde && serde.getClass() != Serdes.WrapperSerde.class) {
+            // the built-in serdes are stateless and a new instance is created by every Serdes.String() etc. call
+            return serde.getClass();
+        }
+        return serde;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Serde<T> serde(Class<T> clazz) {
+        if (clazz == byte[].class) {
+            return (Serde<T>) Serdes.ByteArray();
+        } else if (clazz == String.class) {
+            return (Serde<T>) Serdes.String();
         } else {
-            throw new IllegalArgumentException("Unsupported class type passed to validation() method: " + clazz.getName());
+            return new JsonSerde<>(clazz);
         }
-        return new KafkaValidation<>(new KafkaProducer<>(props), new KafkaConsumer<>(props));
+    }
+
+    /**
+     * Gets the clients shared by all validations, created with the current connection properties. The validations are created from
+     * concurrent tests, so only one instance is ever created until the resources are closed.
+     *
+     * @return kafka clients
+     */
+    public synchronized KafkaClients clients() {
+        if (clients == null) {
+            clients = new KafkaClients(props);
+        }
+        return clients;
     }
 
     protected Properties defaultClientProperties() {
@@ -67,16 +110,21 @@ public abstract class Kafka extends Service<KafkaAccount, NoClient, KafkaValidat
     }
 
     public void openResources() {
-        validations = new HashMap<>();
+        validations = new ConcurrentHashMap<>();
     }
 
     public void closeResources() {
         if (validations != null) {
-            validations.values().forEach(validation -> {
-                validation.closeProducer();
-                validation.closeConsumer();
-            });
+            validations.values().forEach(KafkaValidation::closeConsumer);
             validations = null;
         }
+        closeClients();
+    }
+
+    private synchronized void closeClients() {
+        if (clients != null) {
+            clients.close();
+            clients = null;
+        }
     }
 }
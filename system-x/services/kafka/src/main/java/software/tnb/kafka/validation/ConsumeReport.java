@@ -0,0 +1,38 @@
+package software.tnb.kafka.validation;
+
+import software.tnb.common.utils.LatencyStats;
+import software.tnb.common.utils.RateUtils;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a consume call.
+ *
+ * @param topic topic name
+ * @param records consumed records, empty when the records were only streamed to a handler
+ * @param count number of consumed records
+ * @param bytes serialized size of the consumed records
+ * @param duration duration of the consume call
+ * @param endToEndLatency latency between the record timestamp and the time it was consumed
+ * @param completed true if the expected number of records was consumed or the stop condition was met before the timeout
+ * @param <T> value type
+ */
+public record ConsumeReport<T>(String topic, List<ConsumerRecord<String, T>> records, int count, long bytes, Duration duration,
+                               LatencyStats.Latency endToEndLatency, boolean completed) {
+    public double recordsPerSecond() {
+        return RateUtils.perSecond(count, duration);
+    }
+
+    public double bytesPerSecond() {
+        return RateUtils.perSecond(bytes, duration);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Consumed %d records (%d bytes) from topic %s in %d ms: %.0f records/s, end-to-end latency %s", count, bytes,
+            topic, duration.toMillis(), recordsPerSecond(), endToEndLatency);
+    }
+}
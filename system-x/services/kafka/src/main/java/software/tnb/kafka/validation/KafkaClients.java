@@ -0,0 +1,170 @@
+package software.tnb.kafka.validation;
+
+import software.tnb.common.utils.WaitUtils;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.admin.TopicDescription;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.common.errors.TopicExistsException;
+import org.apache.kafka.common.errors.UnknownTopicOrPartitionException;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Kafka clients shared by all validations of one Kafka service.
+ * <p>
+ * The validations serialize the keys and values themselves, so the clients work with raw bytes and one producer (which is thread-safe)
+ * is shared by all validations with the same producer options, regardless of the value type.
+ */
+public class KafkaClients implements Closeable {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaClients.class);
+
+    private final Properties properties;
+    private final Map<Properties, KafkaProducer<byte[], byte[]>> producers = new HashMap<>();
+    private Admin admin;
+
+    /**
+     * Creates the clients.
+     *
+     * @param properties connection properties of the kafka cluster
+     */
+    public KafkaClients(Properties properties) {
+        this.properties = new Properties();
+        this.properties.putAll(properties);
+    }
+
+    /**
+     * Returns the shared producer for the given options, creating it when it doesn't exist yet.
+     *
+     * @param options producer options
+     * @return producer
+     */
+    public synchronized KafkaProducer<byte[], byte[]> producer(ProducerOptions options) {
+        return producers.computeIfAbsent(options.properties(), overrides -> {
+            LOG.debug("Creating kafka producer with {}", options);
+            final Properties producerProperties = new Properties();
+            producerProperties.putAll(properties);
+            producerProperties.putAll(overrides);
+            return new KafkaProducer<>(producerProperties, new ByteArraySerializer(), new ByteArraySerializer());
+        });
+    }
+
+    /**
+     * Creates a new consumer with an unique group id and disabled auto commit. The consumer is owned (and closed) by the caller.
+     *
+     * @return consumer
+     */
+    public KafkaConsumer<byte[], byte[]> createConsumer() {
+        final Properties consumerProperties = new Properties();
+        consumerProperties.putAll(properties);
+        consumerProperties.setProperty(ConsumerConfig.GROUP_ID_CONFIG, UUID.randomUUID().toString());
+        consumerProperties.setProperty(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+        return new KafkaConsumer<>(consumerProperties, new ByteArrayDeserializer(), new ByteArrayDeserializer());
+    }
+
+    /**
+     * Returns the shared admin client, creating it when it doesn't exist yet.
+     *
+     * @return admin client
+     */
+    public synchronized Admin admin() {
+        if (admin == null) {
+            // only the connection and security properties, the admin client warns about the producer and consumer ones
+            final Properties adminProperties = new Properties();
+            properties.forEach((name, value) -> {
+                if (AdminClientConfig.configNames().contains(name)) {
+                    adminProperties.put(name, value);
+                }
+            });
+            admin = Admin.create(adminProperties);
+        }
+        return admin;
+    }
+
+    /**
+     * Creates the topic with the given number of partitions using the admin client (does nothing if the topic already exists) and waits
+     * until it is available.
+     *
+     * @param name topic name
+     * @param partitions number of partitions
+     * @param replicas replication factor
+     */
+    public void createTopic(String name, int partitions, int replicas) {
+        try {
+            admin().createTopics(List.of(new NewTopic(name, partitions, (short) replicas))).all().get();
+            LOG.debug("Created topic {} with {} partitions", name, partitions);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof TopicExistsException)) {
+                throw new RuntimeException("Unable to create topic " + name, e.getCause());
+            }
+            LOG.debug("Topic {} already exists", name);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while creating topic " + name, e);
+        }
+        awaitTopic(name, partitions, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Waits until the topic has at least the given number of partitions.
+     *
+     * @param name topic name
+     * @param partitions number of partitions
+     * @param timeout timeout
+     */
+    public void awaitTopic(String name, int partitions, Duration timeout) {
+        WaitUtils.waitFor(() -> partitions(name) >= partitions, (int) Math.max(1, timeout.toSeconds()), 1000L,
+            "Waiting until topic " + name + " has " + partitions + " partitions");
+    }
+
+    private int partitions(String name) {
+        try {
+            final TopicDescription description = admin().describeTopics(List.of(name)).allTopicNames().get().get(name);
+            return description == null ? 0 : description.partitions().size();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UnknownTopicOrPartitionException) {
+                return 0;
+            }
+            throw new RuntimeException("Unable to describe topic " + name, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while describing topic " + name, e);
+        }
+    }
+
+    /**
+     * Returns a copy of the connection properties.
+     *
+     * @return properties
+     */
+    public Properties properties() {
+        final Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+
+    @Override
+    public synchronized void close() {
+        producers.values().forEach(KafkaProducer::close);
+        producers.clear();
+        if (admin != null) {
+            admin.close();
+            admin = null;
+        }
+    }
+}
@@ -1,41 +1,90 @@
 package software.tnb.kafka.validation;
 
+import software.tnb.common.utils.LatencyStats;
 import software.tnb.common.validation.Validation;
 
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
-import org.apache.kafka.clients.producer.Callback;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
 import org.apache.kafka.common.header.internals.RecordHeader;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
+/**
+ * Produces and consumes the records with values of the given type.
+ * <p>
+ * The values are serialized using the serde of the validation and sent using the producers shared by all validations of the service
+ * (see {@link KafkaClients}). The consume methods assign all partitions of the topic and read them from the beginning, polling until the
+ * expected number of records is read, the stop condition is met or the timeout expires.
+ *
+ * @param <T> value type
+ */
 public class KafkaValidation<T> implements Validation {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaValidation.class);
-    private final KafkaProducer<String, T> producer;
-    private final KafkaConsumer<String, T> consumer;
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(500);
+    private static final int MAX_REPORTED_FAILURES = 10;
 
-    public KafkaValidation(KafkaProducer<String, T> producer, KafkaConsumer<String, T> consumer) {
-        this.producer = producer;
-        this.consumer = consumer;
+    private final KafkaClients clients;
+    private final Serializer<T> serializer;
+    private final Deserializer<T> deserializer;
+    private final StringSerializer keySerializer = new StringSerializer();
+    private final StringDeserializer keyDeserializer = new StringDeserializer();
+    private KafkaConsumer<byte[], byte[]> consumer;
+
+    public KafkaValidation(KafkaClients clients, Serde<T> serde) {
+        this.clients = clients;
+        this.serializer = serde.serializer();
+        this.deserializer = serde.deserializer();
+    }
+
+    /**
+     * Waits until all records sent by the default producer are sent. The producer is shared by all validations of the service, so it
+     * also waits for the records sent by the other validations, and it is closed together with the service.
+     */
+    public void flushProducer() {
+        producer().flush();
     }
 
+    /**
+     * Deprecated.
+     * @deprecated the producer is shared by all validations and closed together with the service, use {@link #flushProducer()}
+     */
+    @Deprecated
     public void closeProducer() {
-        producer.close();
+        flushProducer();
     }
 
-    public void closeConsumer() {
-        consumer.close();
+    public synchronized void closeConsumer() {
+        if (consumer != null) {
+            consumer.close();
+            consumer = null;
+        }
     }
 
     public void produce(String topic, T message) {
@@ -43,39 +92,11 @@ public class KafkaValidation<T> implements Validation {
     }
 
     public void produce(String topic, T message, List<Header> headers) {
-        StringBuilder log = new StringBuilder("Producing message \"").append(message).append("\"");
-        if (headers != null && !headers.isEmpty()) {
-            log.append(" with headers: ");
-            log.append(headers.stream().map(h -> h.key() + "=" + new String(h.value())).collect(Collectors.joining(", ")));
-        }
-        log.append(" to topic \"").append(topic).append("\"");
-        LOG.debug(log.toString());
-        producer.send(new ProducerRecord<String, T>(topic, null, null, message, headers));
+        send(topic, null, null, null, message, headers);
     }
 
     public void produce(String topic, Integer partition, Long timestamp, T message, List<Header> headers) {
-        StringBuilder log = new StringBuilder("Producing message \"").append(message).append("\"");
-        if (headers != null && !headers.isEmpty()) {
-            log.append(" with headers: ");
-            log.append(headers.stream().map(h -> h.key() + "=" + new String(h.value())).collect(Collectors.joining(", ")));
-        }
-        log.append(" to topic \"").append(topic).append("\"");
-        producer.send(new ProducerRecord(topic, partition, timestamp, Long.toString(timestamp), message, headers), new Callback() {
-            public void onCompletion(RecordMetadata recordMetadata, Exception e) {
-                // executes every time a record is successfully sent or an exception is thrown
-                if (e == null) {
-                    // the record was successfully sent
-                    LOG.debug("Received new metadata. \n"
-                        + "Topic:" + recordMetadata.topic() + "\n"
-                        + "Partition: " + recordMetadata.partition() + "\n"
-                        + "Offset: " + recordMetadata.offset() + "\n"
-                        + "Timestamp: " + recordMetadata.timestamp());
-                } else {
-                    LOG.debug("Error while producing", e);
-                }
-            }
-        });
-        LOG.debug(log.toString());
+        send(topic, partition, timestamp, Long.toString(timestamp), message, headers);
     }
 
     public void produce(String topic, T message, Map<String, String> headers) {
@@ -83,9 +104,219 @@ public class KafkaValidation<T> implements Validation {
             .map(e -> new RecordHeader(e.getKey(), e.getValue().getBytes())).collect(Collectors.toList()));
     }
 
+    private void send(String topic, Integer partition, Long timestamp, String key, T message, List<Header> headers) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Producing message \"{}\"{} to topic \"{}\"", message, headers == null || headers.isEmpty() ? ""
+                : " with headers: " + headers.stream().map(h -> h.key() + "=" + new String(h.value())).collect(Collectors.joining(", ")), topic);
+        }
+        producer().send(record(topic, partition, timestamp, key, message, headers), (metadata, e) -> {
+            if (e == null) {
+                LOG.trace("Record sent to partition {} of topic {} with offset {}", metadata.partition(), metadata.topic(), metadata.offset());
+            } else {
+                LOG.debug("Error while producing", e);
+            }
+        });
+    }
+
+    public ProduceReport produceAll(String topic, List<T> messages) {
+        return produceAll(topic, messages, ProducerOptions.defaults());
+    }
+
+    /**
+     * Sends all messages using the producer with the given options and waits until all of them are acknowledged.
+     *
+     * @param topic topic name
+     * @param messages messages to send
+     * @param options producer options
+     * @return report with the throughput and the acknowledgment latency
+     */
+    public ProduceReport produceAll(String topic, List<T> messages, ProducerOptions options) {
+        final KafkaProducer<byte[], byte[]> producer = clients.producer(options);
+        final LatencyStats ackLatency = new LatencyStats();
+        final AtomicInteger failed = new AtomicInteger();
+        final List<String> failures = Collections.synchronizedList(new ArrayList<>());
+        final List<Future<RecordMetadata>> futures = new ArrayList<>(messages.size());
+        long bytes = 0;
+
+        final long start = System.nanoTime();
+        for (T message : messages) {
+            final ProducerRecord<byte[], byte[]> record = record(topic, null, null, null, message, null);
+            bytes += record.value() == null ? 0 : record.value().length;
+            final long sent = System.nanoTime();
+            futures.add(producer.send(record, (metadata, e) -> {
+                ackLatency.record(System.nanoTime() - sent);
+                if (e != null && failed.incrementAndGet() <= MAX_REPORTED_FAILURES) {
+                    failures.add(e.toString());
+                }
+            }));
+        }
+        producer.flush();
+        for (Future<RecordMetadata> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                // already counted in the callback
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for the records to be acknowledged", e);
+            }
+        }
+
+        final ProduceReport report = new ProduceReport(topic, messages.size(), failed.get(), bytes, Duration.ofNanos(System.nanoTime() - start),
+            ackLatency.snapshot(), List.copyOf(failures));
+        LOG.info("{}", report);
+        return report;
+    }
+
+    /**
+     * Consumes the records that are currently in the topic. When the topic is empty, waits up to 30 seconds for the first records.
+     *
+     * @param topic topic name
+     * @return list of records
+     */
     public List<ConsumerRecord<String, T>> consume(String topic) {
-        consumer.subscribe(Collections.singletonList(topic));
-        consumer.seekToBeginning(consumer.assignment());
-        return StreamSupport.stream(consumer.poll(Duration.ofSeconds(30)).records(topic).spliterator(), false).collect(Collectors.toList());
+        // make sure the records produced by this validation are sent
+        producer().flush();
+        final ConsumeReport<T> report = poll(topic, DEFAULT_TIMEOUT, true, r -> false, true);
+        LOG.debug("{}", report);
+        return report.records();
+    }
+
+    /**
+     * Consumes the records from the beginning of the topic until the given number of records is read or the timeout expires.
+     *
+     * @param topic topic name
+     * @param count expected number of records
+     * @param timeout timeout
+     * @return report with the consumed records, the throughput and the end-to-end latency
+     */
+    public ConsumeReport<T> consume(String topic, int count, Duration timeout) {
+        final AtomicInteger consumed = new AtomicInteger();
+        return report(poll(topic, timeout, true, r -> consumed.incrementAndGet() >= count, false));
+    }
+
+    /**
+     * Consumes the records from the beginning of the topic until a record matching the condition is read or the timeout expires.
+     *
+     * @param topic topic name
+     * @param condition stop condition
+     * @param timeout timeout
+     * @return report with the consumed records (including the matching record), the throughput and the end-to-end latency
+     */
+    public ConsumeReport<T> consumeUntil(String topic, Predicate<ConsumerRecord<String, T>> condition, Duration timeout) {
+        return report(poll(topic, timeout, true, condition, false));
+    }
+
+    /**
+     * Passes the records from the beginning of the topic to the handler until a record matching the condition is read or the timeout
+     * expires. The records are not kept in memory, so this can be used to process a large number of records.
+     *
+     * @param topic topic name
+     * @param handler record handler
+     * @param stopCondition stop condition
+     * @param timeout timeout
+     * @return report with the throughput and the end-to-end latency, without the records
+     */
+    public ConsumeReport<T> stream(String topic, Consumer<ConsumerRecord<String, T>> handler, Predicate<ConsumerRecord<String, T>> stopCondition,
+        Duration timeout) {
+        return report(poll(topic, timeout, false, r -> {
+            handler.accept(r);
+            return stopCondition.test(r);
+        }, false));
+    }
+
+    private ConsumeReport<T> report(ConsumeReport<T> report) {
+        LOG.info("{}", report);
+        return report;
+    }
+
+    private synchronized ConsumeReport<T> poll(String topic, Duration timeout, boolean retain, Predicate<ConsumerRecord<String, T>> stop,
+        boolean untilEnd) {
+        final long start = System.nanoTime();
+        final long deadline = start + timeout.toNanos();
+        final KafkaConsumer<byte[], byte[]> c = consumer();
+        final List<TopicPartition> partitions = partitions(c, topic, deadline);
+        c.assign(partitions);
+        c.seekToBeginning(partitions);
+        final Map<TopicPartition, Long> endOffsets = untilEnd ? c.endOffsets(partitions) : Map.of();
+        // when the topic is empty, wait for the first records
+        final boolean waitForRecords = untilEnd && c.beginningOffsets(partitions).equals(endOffsets);
+
+        final List<ConsumerRecord<String, T>> records = new ArrayList<>();
+        final LatencyStats latency = new LatencyStats();
+        int count = 0;
+        long bytes = 0;
+        boolean completed = false;
+        polling:
+        while (!partitions.isEmpty() && System.nanoTime() < deadline) {
+            if (untilEnd && !waitForRecords && endOffsets.entrySet().stream().allMatch(e -> c.position(e.getKey()) >= e.getValue())) {
+                completed = true;
+                break;
+            }
+            final long remaining = Math.max(1, deadline - System.nanoTime());
+            for (ConsumerRecord<byte[], byte[]> raw : c.poll(Duration.ofNanos(Math.min(POLL_INTERVAL.toNanos(), remaining)))) {
+                final ConsumerRecord<String, T> record = deserialize(raw);
+                count++;
+                bytes += Math.max(0, raw.serializedKeySize()) + Math.max(0, raw.serializedValueSize());
+                if (raw.timestampType() == TimestampType.CREATE_TIME) {
+                    latency.record(Duration.ofMillis(System.currentTimeMillis() - raw.timestamp()));
+                }
+                if (retain) {
+                    records.add(record);
+                }
+                if (stop.test(record)) {
+                    completed = true;
+                    break polling;
+                }
+            }
+            if (waitForRecords && count > 0) {
+                completed = true;
+                break;
+            }
+        }
+        c.assign(List.of());
+        return new ConsumeReport<>(topic, records, count, bytes, Duration.ofNanos(System.nanoTime() - start), latency.snapshot(), completed);
+    }
+
+    private static List<TopicPartition> partitions(KafkaConsumer<byte[], byte[]> consumer, String topic, long deadline) {
+        while (true) {
+            final List<PartitionInfo> partitions = consumer.partitionsFor(topic, Duration.ofNanos(Math.max(1, deadline - System.nanoTime())));
+            if (partitions != null && !partitions.isEmpty()) {
+                return partitions.stream().map(p -> new TopicPartition(p.topic(), p.partition())).collect(Collectors.toList());
+            }
+            if (System.nanoTime() >= deadline) {
+                LOG.warn("Topic {} doesn't exist", topic);
+                return List.of();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for topic " + topic, e);
+            }
+        }
+    }
+
+    private ProducerRecord<byte[], byte[]> record(String topic, Integer partition, Long timestamp, String key, T message, List<Header> headers) {
+        final Headers recordHeaders = new RecordHeaders(headers == null ? List.of() : headers);
+        return new ProducerRecord<>(topic, partition, timestamp, key == null ? null : keySerializer.serialize(topic, key),
+            serializer.serialize(topic, recordHeaders, message), recordHeaders);
+    }
+
+    private ConsumerRecord<String, T> deserialize(ConsumerRecord<byte[], byte[]> raw) {
+        return new ConsumerRecord<>(raw.topic(), raw.partition(), raw.offset(), raw.timestamp(), raw.timestampType(), raw.serializedKeySize(),
+            raw.serializedValueSize(), raw.key() == null ? null : keyDeserializer.deserialize(raw.topic(), raw.key()),
+            deserializer.deserialize(raw.topic(), raw.headers(), raw.value()), raw.headers(), raw.leaderEpoch());
+    }
+
+    private KafkaProducer<byte[], byte[]> producer() {
+        return clients.producer(ProducerOptions.defaults());
+    }
+
+    private KafkaConsumer<byte[], byte[]> consumer() {
+        if (consumer == null) {
+            consumer = clients.createConsumer();
+        }
+        return consumer;
     }
 }
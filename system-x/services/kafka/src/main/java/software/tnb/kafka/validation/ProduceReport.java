@@ -0,0 +1,51 @@
+package software.tnb.kafka.validation;
+
+import software.tnb.common.utils.LatencyStats;
+import software.tnb.common.utils.RateUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of a batched produce.
+ *
+ * @param topic topic name
+ * @param records number of records sent
+ * @param failed number of records that were not acknowledged
+ * @param bytes serialized size of the records
+ * @param duration time from sending the first record until all records were acknowledged
+ * @param ackLatency latency between sending a record and receiving its acknowledgment
+ * @param failures descriptions of the first failures
+ */
+public record ProduceReport(String topic, int records, int failed, long bytes, Duration duration, LatencyStats.Latency ackLatency,
+                            List<String> failures) {
+    public double recordsPerSecond() {
+        return RateUtils.perSecond(records, duration);
+    }
+
+    public double bytesPerSecond() {
+        return RateUtils.perSecond(bytes, duration);
+    }
+
+    public boolean isSuccessful() {
+        return failed == 0;
+    }
+
+    /**
+     * Throws an exception if any record was not acknowledged.
+     *
+     * @return this report
+     */
+    public ProduceReport assertSuccessful() {
+        if (!isSuccessful()) {
+            throw new RuntimeException(String.format("%d of %d records were not produced to topic %s: %s", failed, records, topic, failures));
+        }
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Produced %d records (%d failed, %d bytes) to topic %s in %d ms: %.0f records/s, ack latency %s", records, failed,
+            bytes, topic, duration.toMillis(), recordsPerSecond(), ackLatency);
+    }
+}
@@ -0,0 +1,86 @@
+package software.tnb.kafka.validation;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+
+import java.util.Properties;
+
+/**
+ * Producer tuning used for the batched produce. The options that are not set use the kafka client defaults.
+ * <p>
+ * Each distinct combination of the options uses its own shared producer, see {@link KafkaClients#producer(ProducerOptions)}.
+ */
+public class ProducerOptions {
+    private final Properties properties = new Properties();
+
+    public static ProducerOptions defaults() {
+        return new ProducerOptions();
+    }
+
+    /**
+     * Sets the number of acknowledgments the leader must receive, "all" waits for all in-sync replicas.
+     *
+     * @param acks acks value (0, 1 or all)
+     * @return this
+     */
+    public ProducerOptions acks(String acks) {
+        return set(ProducerConfig.ACKS_CONFIG, acks);
+    }
+
+    /**
+     * Sets how long the producer waits for more records before sending a batch.
+     *
+     * @param lingerMs linger in milliseconds
+     * @return this
+     */
+    public ProducerOptions lingerMs(int lingerMs) {
+        return set(ProducerConfig.LINGER_MS_CONFIG, Integer.toString(lingerMs));
+    }
+
+    /**
+     * Sets the maximum size of a batch sent to one partition.
+     *
+     * @param batchSize batch size in bytes
+     * @return this
+     */
+    public ProducerOptions batchSize(int batchSize) {
+        return set(ProducerConfig.BATCH_SIZE_CONFIG, Integer.toString(batchSize));
+    }
+
+    /**
+     * Sets the compression of the batches.
+     *
+     * @param compression compression type (none, gzip, snappy, lz4, zstd)
+     * @return this
+     */
+    public ProducerOptions compression(String compression) {
+        return set(ProducerConfig.COMPRESSION_TYPE_CONFIG, compression);
+    }
+
+    /**
+     * Sets any other producer property.
+     *
+     * @param key property key
+     * @param value property value
+     * @return this
+     */
+    public ProducerOptions set(String key, String value) {
+        properties.setProperty(key, value);
+        return this;
+    }
+
+    /**
+     * Returns a copy of the producer properties.
+     *
+     * @return properties
+     */
+    public Properties properties() {
+        final Properties copy = new Properties();
+        copy.putAll(properties);
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "ProducerOptions" + properties;
+    }
+}
@@ -0,0 +1,74 @@
+package software.tnb.kafka.validation.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.Objects;
+
+/**
+ * Serializes the values as JSON using jackson. The serdes of the same type are equal.
+ *
+ * @param <T> value type
+ */
+public class JsonSerde<T> implements Serde<T> {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final Class<T> type;
+
+    public JsonSerde(Class<T> type) {
+        this.type = type;
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            try {
+                return MAPPER.writeValueAsBytes(data);
+            } catch (IOException e) {
+                throw new SerializationException("Unable to serialize " + type.getName() + " to JSON", e);
+            }
+        };
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            try {
+                return MAPPER.readValue(data, type);
+            } catch (IOException e) {
+                throw new SerializationException("Unable to deserialize " + type.getName() + " from JSON", e);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        return type.equals(((JsonSerde<?>) o).type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getClass(), type);
+    }
+}
@@ -0,0 +1,75 @@
+package software.tnb.kafka.validation.serde;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory stand-in for a schema registry.
+ * <p>
+ * The schemas are registered under subjects (by default {@code <topic>-value}) and each distinct schema gets a global id, the same schema
+ * registered again gets the same id. The registry is shared by all serdes in the JVM unless a serde is created with its own instance.
+ */
+public class LocalSchemaRegistry {
+    private static final LocalSchemaRegistry INSTANCE = new LocalSchemaRegistry();
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final List<String> schemas = new ArrayList<>();
+    private final Map<String, List<Integer>> subjects = new HashMap<>();
+
+    public static LocalSchemaRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Registers the schema under the subject.
+     *
+     * @param subject subject name
+     * @param schema schema definition
+     * @return schema id
+     */
+    public synchronized int register(String subject, String schema) {
+        final int id = ids.computeIfAbsent(schema, s -> {
+            schemas.add(s);
+            return schemas.size();
+        });
+        final List<Integer> versions = subjects.computeIfAbsent(subject, s -> new ArrayList<>());
+        if (!versions.contains(id)) {
+            versions.add(id);
+        }
+        return id;
+    }
+
+    /**
+     * Gets the schema by its id.
+     *
+     * @param id schema id
+     * @return schema definition or empty optional if there is no such schema
+     */
+    public synchronized Optional<String> schema(int id) {
+        return id > 0 && id <= schemas.size() ? Optional.of(schemas.get(id - 1)) : Optional.empty();
+    }
+
+    /**
+     * Gets the id of the latest schema registered under the subject.
+     *
+     * @param subject subject name
+     * @return schema id or empty optional if there is no schema registered under the subject
+     */
+    public synchronized Optional<Integer> latest(String subject) {
+        final List<Integer> versions = subjects.get(subject);
+        return versions == null ? Optional.empty() : Optional.of(versions.get(versions.size() - 1));
+    }
+
+    /**
+     * Gets the ids of all schemas registered under the subject, in the order of registration.
+     *
+     * @param subject subject name
+     * @return schema ids
+     */
+    public synchronized List<Integer> versions(String subject) {
+        return List.copyOf(subjects.getOrDefault(subject, List.of()));
+    }
+}
@@ -0,0 +1,153 @@
+package software.tnb.kafka.validation.serde;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Serde that registers the schema of the values in the {@link LocalSchemaRegistry} and prefixes the payload with the schema id, using the
+ * same framing as the Confluent serializers (magic byte 0 followed by the 4-byte schema id).
+ * <p>
+ * The payload itself is written by the delegate, so any format can be used - JSON ({@link #json(Class)}), or Avro/Protobuf with the
+ * functions of the generated classes, e.g. {@code SchemaRegistrySerde.of(schema, MyMessage::toByteArray, MyMessage::parseFrom)}.
+ * <p>
+ * The serdes with the same schema, equal delegates and the same registry are equal.
+ *
+ * @param <T> value type
+ */
+public class SchemaRegistrySerde<T> implements Serde<T> {
+    private static final byte MAGIC_BYTE = 0;
+    private static final int HEADER_SIZE = 5;
+
+    private final String schema;
+    private final Serde<T> delegate;
+    private final LocalSchemaRegistry registry;
+
+    public SchemaRegistrySerde(String schema, Serde<T> delegate) {
+        this(schema, delegate, LocalSchemaRegistry.getInstance());
+    }
+
+    public SchemaRegistrySerde(String schema, Serde<T> delegate, LocalSchemaRegistry registry) {
+        this.schema = schema;
+        this.delegate = delegate;
+        this.registry = registry;
+    }
+
+    /**
+     * Creates a serde that writes the values as JSON, the schema is identified by the class name.
+     *
+     * @param type value class
+     * @param <T> value type
+     * @return serde
+     */
+    public static <T> SchemaRegistrySerde<T> json(Class<T> type) {
+        return new SchemaRegistrySerde<>("{\"type\":\"object\",\"title\":\"" + type.getName() + "\"}", new JsonSerde<>(type));
+    }
+
+    /**
+     * Creates a serde that writes the values using the given functions.
+     *
+     * @param schema schema definition
+     * @param writer function that serializes the value
+     * @param parser function that deserializes the value
+     * @param <T> value type
+     * @return serde
+     */
+    public static <T> SchemaRegistrySerde<T> of(String schema, BytesWriter<T> writer, BytesParser<T> parser) {
+        final Serializer<T> serializer = (topic, data) -> {
+            try {
+                return data == null ? null : writer.write(data);
+            } catch (Exception e) {
+                throw new SerializationException("Unable to serialize value", e);
+            }
+        };
+        final Deserializer<T> deserializer = (topic, data) -> {
+            try {
+                return data == null ? null : parser.parse(data);
+            } catch (Exception e) {
+                throw new SerializationException("Unable to deserialize value", e);
+            }
+        };
+        return new SchemaRegistrySerde<>(schema, Serdes.serdeFrom(serializer, deserializer));
+    }
+
+    public static String subject(String topic) {
+        return topic + "-value";
+    }
+
+    @Override
+    public Serializer<T> serializer() {
+        final Serializer<T> serializer = delegate.serializer();
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            final int id = registry.register(subject(topic), schema);
+            final byte[] payload = serializer.serialize(topic, data);
+            return ByteBuffer.allocate(HEADER_SIZE + payload.length).put(MAGIC_BYTE).putInt(id).put(payload).array();
+        };
+    }
+
+    @Override
+    public Deserializer<T> deserializer() {
+        final Deserializer<T> deserializer = delegate.deserializer();
+        return (topic, data) -> {
+            if (data == null) {
+                return null;
+            }
+            final ByteBuffer buffer = ByteBuffer.wrap(data);
+            if (data.length < HEADER_SIZE || buffer.get() != MAGIC_BYTE) {
+                throw new SerializationException("Unknown magic byte, the value was not written using the schema registry serde");
+            }
+            final int id = buffer.getInt();
+            if (registry.schema(id).isEmpty()) {
+                throw new SerializationException("Schema with id " + id + " is not registered");
+            }
+            final byte[] payload = new byte[buffer.remaining()];
+            buffer.get(payload);
+            return deserializer.deserialize(topic, payload);
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final SchemaRegistrySerde<?> other = (SchemaRegistrySerde<?>) o;
+        return schema.equals(other.schema) && delegate.equals(other.delegate) && registry == other.registry;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(schema, delegate, System.identityHashCode(registry));
+    }
+
+    /**
+     * Serializes the value.
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    public interface BytesWriter<T> {
+        byte[] write(T value) throws Exception;
+    }
+
+    /**
+     * Deserializes the value.
+     *
+     * @param <T> value type
+     */
+    @FunctionalInterface
+    public interface BytesParser<T> {
+        T parse(byte[] bytes) throws Exception;
+    }
+}
@@ -0,0 +1,63 @@
+package software.tnb.kafka.resource.local;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.common.service.ServiceFactory;
+import software.tnb.kafka.validation.ConsumeReport;
+import software.tnb.kafka.validation.KafkaValidation;
+import software.tnb.kafka.validation.ProduceReport;
+import software.tnb.kafka.validation.ProducerOptions;
+import software.tnb.kafka.validation.serde.SchemaRegistrySerde;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Runs the validation against the kafka container, needs docker.
+ */
+@Tag("integration")
+public class LocalKafkaTest {
+    @RegisterExtension
+    public static LocalKafka kafka = ServiceFactory.create(LocalKafka.class);
+
+    @Test
+    public void shouldProduceAndConsumeStringsTest() {
+        final String topic = "strings";
+        kafka.createTopic(topic, 3, 1);
+        final KafkaValidation<String> validation = kafka.validation();
+        final List<String> messages = IntStream.range(0, 100).mapToObj(i -> "message-" + i).collect(Collectors.toList());
+
+        final ProduceReport produced = validation.produceAll(topic, messages, ProducerOptions.defaults());
+        assertThat(produced.isSuccessful()).isTrue();
+
+        final ConsumeReport<String> consumed = validation.consume(topic, messages.size(), Duration.ofSeconds(30));
+        assertThat(consumed.completed()).isTrue();
+        assertThat(consumed.records().stream().map(ConsumerRecord::value)).containsExactlyInAnyOrderElementsOf(messages);
+        assertThat(validation.consume(topic)).hasSize(messages.size());
+    }
+
+    @Test
+    public void shouldProduceAndConsumeWithSchemaRegistryTest() {
+        final String topic = "orders";
+        kafka.createTopic(topic);
+        @SuppressWarnings("rawtypes")
+        final KafkaValidation<Map> validation = kafka.validation(SchemaRegistrySerde.json(Map.class));
+
+        validation.produce(topic, Map.of("id", "o-1"));
+        validation.produce(topic, Map.of("id", "o-2"));
+        validation.flushProducer();
+
+        final ConsumeReport<Map> consumed = validation.consumeUntil(topic, r -> "o-2".equals(r.value().get("id")), Duration.ofSeconds(30));
+        assertThat(consumed.completed()).isTrue();
+        assertThat(consumed.records()).extracting(r -> r.value().get("id")).containsExactly("o-1", "o-2");
+        assertThat(kafka.validation(SchemaRegistrySerde.json(Map.class))).isSameAs(validation);
+    }
+}
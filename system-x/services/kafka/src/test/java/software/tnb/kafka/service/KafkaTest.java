@@ -0,0 +1,120 @@
+package software.tnb.kafka.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import software.tnb.kafka.validation.KafkaClients;
+import software.tnb.kafka.validation.KafkaValidation;
+import software.tnb.kafka.validation.serde.JsonSerde;
+import software.tnb.kafka.validation.serde.SchemaRegistrySerde;
+
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Tag("unit")
+public class KafkaTest {
+    private final Kafka kafka = new Kafka() {
+        @Override
+        public String bootstrapServers() {
+            return "localhost:9092";
+        }
+
+        @Override
+        public String bootstrapSSLServers() {
+            return bootstrapServers();
+        }
+
+        @Override
+        public void createTopic(String name, int partitions, int replicas) {
+        }
+
+        @Override
+        public void beforeAll(ExtensionContext context) {
+        }
+
+        @Override
+        public void afterAll(ExtensionContext context) {
+        }
+    };
+
+    @BeforeEach
+    public void open() {
+        kafka.openResources();
+    }
+
+    @AfterEach
+    public void close() {
+        kafka.closeResources();
+    }
+
+    @Test
+    public void shouldShareValidationOfEqualSerdesTest() {
+        assertThat(kafka.validation(Serdes.String())).isSameAs(kafka.validation(Serdes.String()));
+        assertThat(kafka.validation(new JsonSerde<>(Map.class))).isSameAs(kafka.validation(new JsonSerde<>(Map.class)));
+        assertThat(kafka.validation(SchemaRegistrySerde.json(Map.class))).isSameAs(kafka.validation(SchemaRegistrySerde.json(Map.class)));
+        assertThat(kafka.validations).hasSize(3);
+    }
+
+    @Test
+    public void shouldNotShareValidationOfDifferentSerdesTest() {
+        assertThat(kafka.validation(new JsonSerde<>(Map.class))).isNotSameAs(kafka.validation(new JsonSerde<>(List.class)));
+        assertThat(kafka.validation(Serdes.String())).isNotSameAs(kafka.validation(Serdes.ByteArray()));
+        // serdes built from functions can't be compared, only the same instance shares the validation
+        final Serde<String> custom = Serdes.serdeFrom(Serdes.String().serializer(), Serdes.String().deserializer());
+        assertThat(kafka.validation(custom)).isSameAs(kafka.validation(custom))
+            .isNotSameAs(kafka.validation(Serdes.serdeFrom(Serdes.String().serializer(), Serdes.String().deserializer())));
+    }
+
+    @Test
+    public void shouldCreateOneValidationForConcurrentCallersTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<KafkaValidation<?>>> calls = IntStream.range(0, 64)
+                .mapToObj(i -> (Callable<KafkaValidation<?>>) () -> i % 2 == 0 ? kafka.validation(Map.class)
+                    : kafka.validation(new JsonSerde<>(List.class)))
+                .collect(Collectors.toList());
+            final Set<KafkaValidation<?>> created = executor.invokeAll(calls).stream().map(KafkaTest::result).collect(Collectors.toSet());
+
+            assertThat(created).hasSize(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldCreateOneClientsInstanceForConcurrentCallersTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Callable<KafkaClients>> calls = IntStream.range(0, 64)
+                .mapToObj(i -> (Callable<KafkaClients>) kafka::clients)
+                .collect(Collectors.toList());
+            final Set<KafkaClients> created = executor.invokeAll(calls).stream().map(KafkaTest::result).collect(Collectors.toSet());
+
+            assertThat(created).containsExactly(kafka.clients);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static <T> T result(Future<T> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package software.tnb.kafka.validation.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+@Tag("unit")
+public class JsonSerdeTest {
+    private static final String TOPIC = "orders";
+
+    @Test
+    public void shouldSerializeToJsonAndBackTest() {
+        final JsonSerde<Order> serde = new JsonSerde<>(Order.class);
+
+        final byte[] json = serde.serializer().serialize(TOPIC, new Order("o-1", 3));
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo("{\"id\":\"o-1\",\"quantity\":3}");
+        final Order order = serde.deserializer().deserialize(TOPIC, json);
+        assertThat(order.id).isEqualTo("o-1");
+        assertThat(order.quantity).isEqualTo(3);
+    }
+
+    @Test
+    public void shouldPassNullsTest() {
+        final JsonSerde<Order> serde = new JsonSerde<>(Order.class);
+
+        assertThat(serde.serializer().serialize(TOPIC, null)).isNull();
+        assertThat(serde.deserializer().deserialize(TOPIC, null)).isNull();
+    }
+
+    @Test
+    public void shouldFailOnInvalidJsonTest() {
+        final JsonSerde<Order> serde = new JsonSerde<>(Order.class);
+
+        assertThatThrownBy(() -> serde.deserializer().deserialize(TOPIC, "not json".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(SerializationException.class).hasMessageContaining(Order.class.getName());
+    }
+
+    @Test
+    public void shouldBeEqualForSameTypeTest() {
+        assertThat(new JsonSerde<>(Order.class)).isEqualTo(new JsonSerde<>(Order.class)).hasSameHashCodeAs(new JsonSerde<>(Order.class));
+        assertThat(new JsonSerde<>(Order.class)).isNotEqualTo(new JsonSerde<>(Map.class));
+    }
+
+    public static class Order {
+        public String id;
+        public int quantity;
+
+        public Order() {
+        }
+
+        public Order(String id, int quantity) {
+            this.id = id;
+            this.quantity = quantity;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package software.tnb.kafka.validation.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+public class LocalSchemaRegistryTest {
+    private final LocalSchemaRegistry registry = new LocalSchemaRegistry();
+
+    @Test
+    public void shouldReuseIdOfSameSchemaTest() {
+        final int id = registry.register("a-value", "schema-1");
+
+        assertThat(registry.register("a-value", "schema-1")).isEqualTo(id);
+        assertThat(registry.register("b-value", "schema-1")).isEqualTo(id);
+        assertThat(registry.register("a-value", "schema-2")).isNotEqualTo(id);
+    }
+
+    @Test
+    public void shouldTrackVersionsOfSubjectTest() {
+        final int first = registry.register("a-value", "schema-1");
+        final int second = registry.register("a-value", "schema-2");
+        registry.register("a-value", "schema-1");
+
+        assertThat(registry.versions("a-value")).containsExactly(first, second);
+        assertThat(registry.latest("a-value")).contains(second);
+        assertThat(registry.schema(second)).contains("schema-2");
+    }
+
+    @Test
+    public void shouldReturnEmptyForUnknownTest() {
+        registry.register("a-value", "schema-1");
+
+        assertThat(registry.latest("b-value")).isEmpty();
+        assertThat(registry.versions("b-value")).isEmpty();
+        assertThat(registry.schema(0)).isEmpty();
+        assertThat(registry.schema(2)).isEmpty();
+    }
+}
@@ -0,0 +1,95 @@
+package software.tnb.kafka.validation.serde;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serdes;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+@Tag("unit")
+public class SchemaRegistrySerdeTest {
+    private static final String TOPIC = "orders";
+
+    private final LocalSchemaRegistry registry = new LocalSchemaRegistry();
+
+    @Test
+    public void shouldFramePayloadWithSchemaIdTest() {
+        final SchemaRegistrySerde<String> serde = new SchemaRegistrySerde<>("string-schema", Serdes.String(), registry);
+
+        final byte[] data = serde.serializer().serialize(TOPIC, "hello");
+
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        assertThat(buffer.get()).isZero();
+        final int id = buffer.getInt();
+        assertThat(registry.latest(SchemaRegistrySerde.subject(TOPIC))).contains(id);
+        assertThat(registry.schema(id)).contains("string-schema");
+        assertThat(new String(Arrays.copyOfRange(data, 5, data.length), StandardCharsets.UTF_8)).isEqualTo("hello");
+        assertThat(serde.deserializer().deserialize(TOPIC, data)).isEqualTo("hello");
+    }
+
+    @Test
+    public void shouldWriteWithCustomFunctionsTest() {
+        final SchemaRegistrySerde<Integer> serde = SchemaRegistrySerde.of("int-schema",
+            value -> ByteBuffer.allocate(Integer.BYTES).putInt(value).array(), bytes -> ByteBuffer.wrap(bytes).getInt());
+
+        final byte[] data = serde.serializer().serialize(TOPIC, 42);
+
+        assertThat(data).hasSize(5 + Integer.BYTES);
+        assertThat(serde.deserializer().deserialize(TOPIC, data)).isEqualTo(42);
+    }
+
+    @Test
+    public void shouldRoundTripJsonTest() {
+        final SchemaRegistrySerde<JsonSerdeTest.Order> serde = SchemaRegistrySerde.json(JsonSerdeTest.Order.class);
+
+        final JsonSerdeTest.Order order = serde.deserializer().deserialize(TOPIC,
+            serde.serializer().serialize(TOPIC, new JsonSerdeTest.Order("o-1", 2)));
+
+        assertThat(order.id).isEqualTo("o-1");
+        assertThat(order.quantity).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRejectPayloadWithoutFramingTest() {
+        final SchemaRegistrySerde<String> serde = new SchemaRegistrySerde<>("string-schema", Serdes.String(), registry);
+
+        assertThatThrownBy(() -> serde.deserializer().deserialize(TOPIC, "plain".getBytes(StandardCharsets.UTF_8)))
+            .isInstanceOf(SerializationException.class).hasMessageContaining("magic byte");
+        assertThatThrownBy(() -> serde.deserializer().deserialize(TOPIC, new byte[] {0, 1}))
+            .isInstanceOf(SerializationException.class).hasMessageContaining("magic byte");
+    }
+
+    @Test
+    public void shouldRejectUnknownSchemaTest() {
+        final byte[] data = new SchemaRegistrySerde<>("string-schema", Serdes.String(), new LocalSchemaRegistry()).serializer()
+            .serialize(TOPIC, "hello");
+        final SchemaRegistrySerde<String> serde = new SchemaRegistrySerde<>("string-schema", Serdes.String(), registry);
+
+        assertThatThrownBy(() -> serde.deserializer().deserialize(TOPIC, data)).isInstanceOf(SerializationException.class)
+            .hasMessageContaining("is not registered");
+    }
+
+    @Test
+    public void shouldPassNullsTest() {
+        final SchemaRegistrySerde<String> serde = new SchemaRegistrySerde<>("string-schema", Serdes.String(), registry);
+
+        assertThat(serde.serializer().serialize(TOPIC, null)).isNull();
+        assertThat(serde.deserializer().deserialize(TOPIC, null)).isNull();
+        assertThat(registry.versions(SchemaRegistrySerde.subject(TOPIC))).isEmpty();
+    }
+
+    @Test
+    public void shouldBeEqualForSameConfigurationTest() {
+        assertThat(SchemaRegistrySerde.json(JsonSerdeTest.Order.class)).isEqualTo(SchemaRegistrySerde.json(JsonSerdeTest.Order.class))
+            .hasSameHashCodeAs(SchemaRegistrySerde.json(JsonSerdeTest.Order.class));
+        final JsonSerde<String> delegate = new JsonSerde<>(String.class);
+        assertThat(new SchemaRegistrySerde<>("schema", delegate, registry)).isNotEqualTo(new SchemaRegistrySerde<>("schema", delegate))
+            .isNotEqualTo(new SchemaRegistrySerde<>("other", delegate, registry));
+    }
+}
@@ -4,6 +4,7 @@ import software.tnb.common.deployment.OpenshiftDeployable;
 import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.opentelemetry.service.OpenTelemetryCollector;
 
 import org.slf4j.Logger;
@@ -66,7 +67,7 @@ public class OpenshiftOpenTelemetryCollector extends OpenTelemetryCollector impl
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app.kubernetes.io/component", "opentelemetry-collector"
+        return PodLabelSelector.of(Map.of("app.kubernetes.io/component", "opentelemetry-collector"
             , "app.kubernetes.io/name", OTEL_INSTANCE_NAME + "-collector"));
     }
 
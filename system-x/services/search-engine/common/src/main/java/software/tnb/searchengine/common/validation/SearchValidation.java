@@ -1,6 +1,8 @@
 package software.tnb.searchengine.common.validation;
 
 import software.tnb.common.validation.Validation;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 
 import java.util.List;
 
@@ -14,6 +16,20 @@ public interface SearchValidation extends Validation {
 
     Object insert(String index, Object content);
 
+    default BulkReport bulkInsert(String index, List<?> documents) {
+        return bulkInsert(index, documents, BulkOptions.of(500, 1));
+    }
+
+    /**
+     * Indexes the documents using the _bulk API.
+     *
+     * @param index index name
+     * @param documents documents to index
+     * @param options bulk options
+     * @return bulk report
+     */
+    BulkReport bulkInsert(String index, List<?> documents, BulkOptions options);
+
     List<String> getIndices();
 
     boolean indexExists(String index);
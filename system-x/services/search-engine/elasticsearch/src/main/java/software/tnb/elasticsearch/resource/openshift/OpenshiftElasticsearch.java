@@ -6,6 +6,7 @@ import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithInClusterHostname;
 import software.tnb.common.deployment.WithOperatorHub;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.elasticsearch.service.Elasticsearch;
 import software.tnb.searchengine.common.account.SearchAccount;
@@ -80,7 +81,7 @@ public class OpenshiftElasticsearch extends Elasticsearch implements ReusableOpe
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("elasticsearch.k8s.elastic.co/cluster-name", clusterName()));
+        return PodLabelSelector.of(Map.of("elasticsearch.k8s.elastic.co/cluster-name", clusterName()));
     }
 
     @Override
@@ -2,6 +2,9 @@ package software.tnb.elasticsearch.validation;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 import software.tnb.searchengine.common.validation.SearchValidation;
 
 import org.slf4j.Logger;
@@ -15,6 +18,8 @@ import java.util.stream.Collectors;
 
 import co.elastic.clients.elasticsearch.ElasticsearchClient;
 import co.elastic.clients.elasticsearch._types.ElasticsearchException;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
 import co.elastic.clients.elasticsearch.core.SearchRequest;
@@ -80,6 +85,22 @@ public class ElasticsearchValidation implements SearchValidation {
         return null;
     }
 
+    @Override
+    public BulkReport bulkInsert(String index, List<?> documents, BulkOptions options) {
+        LOG.debug("Indexing {} documents into index {}", documents.size(), index);
+        final List<Object> items = new ArrayList<>(documents);
+        return BulkExecutor.execute("Elasticsearch bulk index to " + index, items, options, Integer.MAX_VALUE, batch -> {
+            final BulkRequest.Builder request = new BulkRequest.Builder();
+            batch.forEach(document -> request.operations(op -> op.index(i -> i.index(index).document(document))));
+            final BulkResponse response = client.bulk(request.build());
+            if (!response.errors()) {
+                return List.of();
+            }
+            return response.items().stream().filter(item -> item.error() != null)
+                .map(item -> "document " + item.id() + ": " + item.error().reason()).collect(Collectors.toList());
+        });
+    }
+
     @Override
     public List<String> getIndices() {
         try {
@@ -2,10 +2,15 @@ package software.tnb.opensearch.validation;
 
 import static org.junit.jupiter.api.Assertions.fail;
 
+import software.tnb.common.validation.bulk.BulkExecutor;
+import software.tnb.common.validation.bulk.BulkOptions;
+import software.tnb.common.validation.bulk.BulkReport;
 import software.tnb.searchengine.common.validation.SearchValidation;
 
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
 import org.opensearch.client.opensearch.core.SearchRequest;
@@ -80,6 +85,22 @@ public class OpensearchValidation implements SearchValidation {
         return null;
     }
 
+    @Override
+    public BulkReport bulkInsert(String index, List<?> documents, BulkOptions options) {
+        LOG.debug("Indexing {} documents into index {}", documents.size(), index);
+        final List<Object> items = new ArrayList<>(documents);
+        return BulkExecutor.execute("Opensearch bulk index to " + index, items, options, Integer.MAX_VALUE, batch -> {
+            final BulkRequest.Builder request = new BulkRequest.Builder();
+            batch.forEach(document -> request.operations(op -> op.index(i -> i.index(index).document(document))));
+            final BulkResponse response = client.bulk(request.build());
+            if (!response.errors()) {
+                return List.of();
+            }
+            return response.items().stream().filter(item -> item.error() != null)
+                .map(item -> "document " + item.id() + ": " + item.error().reason()).collect(Collectors.toList());
+        });
+    }
+
     @Override
     public List<String> getIndices() {
         try {
@@ -6,6 +6,7 @@ import software.tnb.common.deployment.WithCustomResource;
 import software.tnb.common.deployment.WithExternalHostname;
 import software.tnb.common.deployment.WithName;
 import software.tnb.common.openshift.OpenshiftClient;
+import software.tnb.common.openshift.PodLabelSelector;
 import software.tnb.common.utils.HTTPUtils;
 import software.tnb.common.utils.WaitUtils;
 import software.tnb.splunk.account.SplunkAccount;
@@ -187,7 +188,7 @@ public class OpenshiftSplunk extends Splunk implements OpenshiftDeployable, With
 
     @Override
     public Predicate<Pod> podSelector() {
-        return p -> OpenshiftClient.get().hasLabels(p, Map.of("app.kubernetes.io/instance", "splunk-" + name() + "-standalone"));
+        return PodLabelSelector.of(Map.of("app.kubernetes.io/instance", "splunk-" + name() + "-standalone"));
     }
 
     @Override